@@ -0,0 +1,14 @@
+package yys.safewalk.application.event;
+
+/**
+ * 메모리 인덱스/캐시의 원천이 되는 데이터셋
+ */
+public enum Dataset {
+    ACCIDENT_HOTSPOTS,
+    TOURIST_SPOTS,
+    VISITOR_BOOM,
+    RISK_AREAS,
+    ACCIDENT_STATICS,
+    LEGAL_DONGS,
+    EMD_DATA
+}
@@ -0,0 +1,57 @@
+package yys.safewalk.application.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 데이터셋 변경 이벤트 발행. 트랜잭션 안이면 커밋 후 한 번만 발행해
+ * 리스너가 커밋된 데이터로 다시 적재하게 한다.
+ * 변경 이벤트의 리스너가 모두 돌아오면 이어서 DatasetReloadedEvent 를 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatasetChangePublisher {
+
+    private static final Object PENDING_KEY = DatasetChangePublisher.class.getName() + ".PENDING";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @SuppressWarnings("unchecked")
+    public void publish(Dataset dataset) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fire(dataset);
+            return;
+        }
+
+        Set<Dataset> pending = (Set<Dataset>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<Dataset> datasets = EnumSet.noneOf(Dataset.class);
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, datasets);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    datasets.forEach(changed -> fire(changed));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = datasets;
+        }
+        pending.add(dataset);
+    }
+
+    // 이벤트 발행은 동기이므로 두 번째 발행 시점에는 모든 재적재 리스너가 끝나 있다
+    private void fire(Dataset dataset) {
+        eventPublisher.publishEvent(new DatasetChangedEvent(dataset));
+        eventPublisher.publishEvent(new DatasetReloadedEvent(dataset));
+    }
+}
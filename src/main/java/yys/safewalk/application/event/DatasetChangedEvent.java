@@ -0,0 +1,23 @@
+package yys.safewalk.application.event;
+
+/**
+ * 데이터셋이 갱신(임포트, 지오코딩 등)되었음을 알리는 이벤트.
+ * 해당 데이터셋으로 만든 메모리 인덱스는 이 이벤트를 받아 다시 적재한다.
+ */
+public record DatasetChangedEvent(Dataset dataset) {
+
+    public DatasetChangedEvent {
+        if (dataset == null) {
+            throw new IllegalArgumentException("데이터셋은 필수입니다");
+        }
+    }
+
+    public boolean affects(Dataset... datasets) {
+        for (Dataset candidate : datasets) {
+            if (candidate == dataset) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
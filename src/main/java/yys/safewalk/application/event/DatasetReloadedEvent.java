@@ -0,0 +1,8 @@
+package yys.safewalk.application.event;
+
+/**
+ * 데이터셋 변경 이벤트의 동기 리스너(메모리 인덱스 재적재, 캐시 비우기)가 모두 끝났음을 알리는 이벤트.
+ * DatasetChangePublisher 가 DatasetChangedEvent 발행이 돌아온 직후 발행하므로 리스너 순서에 의존하지 않는다.
+ */
+public record DatasetReloadedEvent(Dataset dataset) {
+}
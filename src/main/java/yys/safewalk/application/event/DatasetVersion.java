@@ -0,0 +1,47 @@
+package yys.safewalk.application.event;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 데이터셋 버전. 임포트/지오코딩 등으로 데이터셋이 바뀔 때마다 올라간다.
+ *
+ * 재기동 사이에 데이터가 바뀌었을 수 있으므로 기동 시각을 함께 사용한다.
+ * 메모리 인덱스 재적재와 캐시 비우기가 끝난 뒤 버전이 바뀌도록 DatasetChangedEvent 가 아니라
+ * 그 리스너가 모두 돌아온 뒤 발행되는 DatasetReloadedEvent 를 받는다.
+ * 백그라운드에서 다시 계산하는 리스너는 {@link #deferUntil} 로 등록한 작업이 끝날 때까지 기다린다.
+ */
+@Component
+public class DatasetVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final Set<CompletableFuture<?>> rebuilds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(DatasetReloadedEvent.class)
+    public void onDatasetReloaded(DatasetReloadedEvent event) {
+        CompletableFuture.allOf(rebuilds.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> version.incrementAndGet());
+    }
+
+    /**
+     * 진행 중인 비동기 재적재 등록. 이후 변경 이벤트의 버전 증가는 이 작업이 끝난 뒤에 반영된다.
+     * DatasetChangedEvent 리스너 안에서 호출해야 같은 변경의 버전 증가에 포함된다.
+     */
+    public void deferUntil(CompletableFuture<?> rebuild) {
+        rebuilds.add(rebuild);
+        rebuild.whenComplete((ignored, error) -> rebuilds.remove(rebuild));
+    }
+
+    /**
+     * 현재 버전 토큰 (기동 시각-변경 횟수)
+     */
+    public String current() {
+        return epoch + "-" + version.get();
+    }
+}
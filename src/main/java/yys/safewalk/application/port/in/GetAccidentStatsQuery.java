@@ -0,0 +1,18 @@
+package yys.safewalk.application.port.in;
+
+import java.util.List;
+
+public record GetAccidentStatsQuery(
+        Integer yearFrom,
+        Integer yearTo,
+        List<String> sidoCodes,
+        List<String> accidentTypes
+) {
+    public GetAccidentStatsQuery {
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            throw new IllegalArgumentException("시작 연도는 종료 연도보다 클 수 없습니다");
+        }
+        sidoCodes = sidoCodes != null ? List.copyOf(sidoCodes) : List.of();
+        accidentTypes = accidentTypes != null ? List.copyOf(accidentTypes) : List.of();
+    }
+}
@@ -0,0 +1,17 @@
+package yys.safewalk.application.port.in;
+
+public record GetCrowdRiskQuery(
+        String sidoName,
+        int limit
+) {
+    public static final int MAX_LIMIT = 100;
+
+    public GetCrowdRiskQuery {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_LIMIT + " 범위여야 합니다");
+        }
+        if (sidoName != null && sidoName.isBlank()) {
+            sidoName = null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package yys.safewalk.application.port.in;
+
+import java.util.List;
+
+/**
+ * 여러 법정동 코드 일괄 조회. 코드는 8자리로 정규화하고 입력 순서(중복 포함)를 유지한다
+ */
+public record GetEmdBatchQuery(List<String> emdCodes) {
+
+    public static final int MAX_CODES = 500;
+
+    public GetEmdBatchQuery {
+        if (emdCodes == null || emdCodes.isEmpty()) {
+            throw new IllegalArgumentException("조회할 법정동 코드가 필요합니다");
+        }
+        if (emdCodes.size() > MAX_CODES) {
+            throw new IllegalArgumentException("법정동 코드는 최대 " + MAX_CODES + "개까지 조회할 수 있습니다");
+        }
+        emdCodes = emdCodes.stream()
+                .map(GetEmdBatchQuery::normalize)
+                .toList();
+    }
+
+    // 8자리 또는 "00" 으로 끝나는 10자리 코드를 8자리로
+    private static String normalize(String code) {
+        String trimmed = code == null ? "" : code.trim();
+        if (!trimmed.matches("\\d{8}(00)?")) {
+            throw new IllegalArgumentException("법정동 코드는 8자리 숫자여야 합니다: " + code);
+        }
+        return trimmed.substring(0, 8);
+    }
+}
@@ -0,0 +1,22 @@
+package yys.safewalk.application.port.in;
+
+import java.util.regex.Pattern;
+
+public record GetEmdBoundariesQuery(
+        String sidoCode,
+        int zoom
+) {
+    public static final int MAX_ZOOM = 22;
+
+    // 시도별 경계 캐시 키가 되므로 숫자 4자리만 허용
+    private static final Pattern SIDO_CODE = Pattern.compile("\\d{4}");
+
+    public GetEmdBoundariesQuery {
+        if (sidoCode == null || !SIDO_CODE.matcher(sidoCode).matches()) {
+            throw new IllegalArgumentException("시도 코드는 4자리 숫자여야 합니다");
+        }
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 0 ~ " + MAX_ZOOM + " 범위여야 합니다");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package yys.safewalk.application.port.in;
+
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.spatial.DensityPyramid;
+
+/**
+ * level 이 null 이면 뷰포트 셀 수가 maxCells 를 넘지 않는 가장 세밀한 레벨을 사용
+ */
+public record GetHeatmapQuery(
+        Coordinate swLatLng,
+        Coordinate neLatLng,
+        Integer level
+) {
+    public static final int MAX_CELLS = 4096;
+
+    public GetHeatmapQuery {
+        if (swLatLng == null || neLatLng == null) {
+            throw new IllegalArgumentException("좌표는 필수입니다");
+        }
+        if (swLatLng.latitude().compareTo(neLatLng.latitude()) >= 0 ||
+                swLatLng.longitude().compareTo(neLatLng.longitude()) >= 0) {
+            throw new IllegalArgumentException("잘못된 좌표 범위입니다");
+        }
+        if (level != null && (level < 0 || level > DensityPyramid.MAX_LEVEL)) {
+            throw new IllegalArgumentException("level 은 0 ~ " + DensityPyramid.MAX_LEVEL + " 범위여야 합니다");
+        }
+    }
+}
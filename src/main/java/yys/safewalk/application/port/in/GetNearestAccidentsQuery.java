@@ -0,0 +1,26 @@
+package yys.safewalk.application.port.in;
+
+import yys.safewalk.domain.model.Coordinate;
+
+/**
+ * maxDistanceMeters 가 null 이면 거리 제한 없이 가장 가까운 k 개를 찾는다
+ */
+public record GetNearestAccidentsQuery(
+        Coordinate point,
+        int k,
+        Integer maxDistanceMeters
+) {
+    public static final int MAX_K = 100;
+
+    public GetNearestAccidentsQuery {
+        if (point == null || point.latitude() == null || point.longitude() == null) {
+            throw new IllegalArgumentException("좌표는 필수입니다");
+        }
+        if (k < 1 || k > MAX_K) {
+            throw new IllegalArgumentException("k 는 1 ~ " + MAX_K + " 범위여야 합니다");
+        }
+        if (maxDistanceMeters != null && maxDistanceMeters <= 0) {
+            throw new IllegalArgumentException("maxDistance 는 0 보다 커야 합니다");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package yys.safewalk.application.port.in;
+
+import yys.safewalk.domain.model.Coordinate;
+
+public record GetRiskAreasAtPointQuery(
+        Coordinate point,
+        Integer yearCode,
+        int bufferMeters
+) {
+    public static final int MAX_BUFFER_METERS = 2000;
+
+    public GetRiskAreasAtPointQuery {
+        if (point == null || point.latitude() == null || point.longitude() == null) {
+            throw new IllegalArgumentException("좌표는 필수입니다");
+        }
+        if (bufferMeters < 0 || bufferMeters > MAX_BUFFER_METERS) {
+            throw new IllegalArgumentException("buffer 는 0 ~ " + MAX_BUFFER_METERS + "m 범위여야 합니다");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package yys.safewalk.application.port.in;
+
+import yys.safewalk.domain.model.Coordinate;
+
+import java.util.List;
+
+public record GetRiskAreasOnRouteQuery(
+        List<Coordinate> route,
+        Integer yearCode,
+        int bufferMeters
+) {
+    public static final int MAX_ROUTE_POINTS = 1000;
+
+    public GetRiskAreasOnRouteQuery {
+        if (route == null || route.isEmpty()) {
+            throw new IllegalArgumentException("경로 좌표는 최소 1개 이상이어야 합니다");
+        }
+        if (route.size() > MAX_ROUTE_POINTS) {
+            throw new IllegalArgumentException("경로 좌표는 최대 " + MAX_ROUTE_POINTS + "개까지 가능합니다");
+        }
+        if (route.stream().anyMatch(c -> c == null || c.latitude() == null || c.longitude() == null)) {
+            throw new IllegalArgumentException("경로에 잘못된 좌표가 포함되어 있습니다");
+        }
+        if (bufferMeters < 0 || bufferMeters > GetRiskAreasAtPointQuery.MAX_BUFFER_METERS) {
+            throw new IllegalArgumentException("buffer 는 0 ~ " + GetRiskAreasAtPointQuery.MAX_BUFFER_METERS + "m 범위여야 합니다");
+        }
+        route = List.copyOf(route);
+    }
+}
@@ -0,0 +1,46 @@
+package yys.safewalk.application.port.in;
+
+import yys.safewalk.domain.model.SyncLayer;
+import yys.safewalk.domain.model.SyncWatermark;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * since 워터마크 이후 layers 의 변경을 레이어당 최대 limit 건 조회
+ */
+public record GetSyncChangesQuery(
+        SyncWatermark since,
+        Set<SyncLayer> layers,
+        int limit
+) {
+    public static final int MAX_LIMIT = 2000;
+
+    public GetSyncChangesQuery {
+        if (since == null) {
+            throw new IllegalArgumentException("워터마크는 필수입니다");
+        }
+        if (layers == null || layers.isEmpty()) {
+            throw new IllegalArgumentException("동기화 레이어를 하나 이상 지정해야 합니다");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_LIMIT + " 범위여야 합니다");
+        }
+    }
+
+    /**
+     * since 가 비어 있으면 처음부터, layers 가 비어 있으면 전체 레이어
+     */
+    public static GetSyncChangesQuery of(String since, String layers, int limit) {
+        Set<SyncLayer> parsed = EnumSet.allOf(SyncLayer.class);
+        if (layers != null && !layers.isBlank()) {
+            parsed = EnumSet.noneOf(SyncLayer.class);
+            for (String name : layers.split(",")) {
+                if (!name.isBlank()) {
+                    parsed.add(SyncLayer.fromWireName(name.trim()));
+                }
+            }
+        }
+        return new GetSyncChangesQuery(SyncWatermark.decode(since), parsed, limit);
+    }
+}
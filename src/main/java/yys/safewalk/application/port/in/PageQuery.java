@@ -0,0 +1,28 @@
+package yys.safewalk.application.port.in;
+
+import yys.safewalk.domain.model.PageCursor;
+
+/**
+ * 키셋 페이지 요청. after 가 null 이면 첫 페이지
+ */
+public record PageQuery(PageCursor after, int limit) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public PageQuery {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_LIMIT + " 사이여야 합니다");
+        }
+    }
+
+    /**
+     * cursor 와 limit 이 모두 없으면 페이지 조회가 아니므로 null
+     */
+    public static PageQuery of(String cursor, Integer limit) {
+        if ((cursor == null || cursor.isBlank()) && limit == null) {
+            return null;
+        }
+        return new PageQuery(PageCursor.decode(cursor), limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,29 @@
+package yys.safewalk.application.port.in;
+
+import yys.safewalk.domain.model.Coordinate;
+
+import java.util.List;
+
+public record ScoreRouteQuery(
+        List<Coordinate> route,
+        int bufferMeters
+) {
+    public static final int MAX_ROUTE_POINTS = 1000;
+    public static final int MAX_BUFFER_METERS = 500;
+
+    public ScoreRouteQuery {
+        if (route == null || route.size() < 2) {
+            throw new IllegalArgumentException("경로 좌표는 최소 2개 이상이어야 합니다");
+        }
+        if (route.size() > MAX_ROUTE_POINTS) {
+            throw new IllegalArgumentException("경로 좌표는 최대 " + MAX_ROUTE_POINTS + "개까지 가능합니다");
+        }
+        if (route.stream().anyMatch(c -> c == null || c.latitude() == null || c.longitude() == null)) {
+            throw new IllegalArgumentException("경로에 잘못된 좌표가 포함되어 있습니다");
+        }
+        if (bufferMeters < 1 || bufferMeters > MAX_BUFFER_METERS) {
+            throw new IllegalArgumentException("buffer 는 1 ~ " + MAX_BUFFER_METERS + "m 범위여야 합니다");
+        }
+        route = List.copyOf(route);
+    }
+}
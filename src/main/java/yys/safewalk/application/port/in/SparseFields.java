@@ -0,0 +1,42 @@
+package yys.safewalk.application.port.in;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * ?fields= 파라미터 해석. 응답 필드는 enum 으로 정의하고 wireName 은 JSON 속성 이름과 같다
+ */
+public final class SparseFields {
+
+    public interface Field {
+        String wireName();
+    }
+
+    private SparseFields() {
+    }
+
+    /**
+     * 쉼표로 구분한 필드 이름을 enum 집합으로 변환. 생략하거나 비어 있으면 전체 필드
+     */
+    public static <E extends Enum<E> & Field> Set<E> parse(String fields, Class<E> type) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(type);
+        }
+        EnumSet<E> selected = EnumSet.noneOf(type);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(type.getEnumConstants())
+                    .filter(field -> field.wireName().equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 필드입니다: " + trimmed)));
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("fields 에 하나 이상의 필드가 필요합니다");
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,10 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record AccidentStatsDimensionsResponse(
+        List<Integer> years,
+        Map<String, String> sidos,
+        List<String> accidentTypes
+) {}
@@ -0,0 +1,26 @@
+package yys.safewalk.application.port.in.dto;
+
+public record AccidentStatsMetricsResponse(
+        long accidentCount,
+        long deathCount,
+        long injuryCount,
+        Violations violations,
+        AccidentKinds accidentKinds
+) {
+    public record Violations(
+            long speeding,
+            long centerLine,
+            long signal,
+            long unsafeDistance,
+            long unsafeDriving,
+            long pedestrianProtection,
+            long other
+    ) {}
+
+    public record AccidentKinds(
+            long vehiclePedestrian,
+            long vehicleVehicle,
+            long singleVehicle,
+            long railroadCrossing
+    ) {}
+}
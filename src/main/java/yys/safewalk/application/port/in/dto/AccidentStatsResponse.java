@@ -0,0 +1,29 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record AccidentStatsResponse(
+        Integer yearFrom,
+        Integer yearTo,
+        List<String> sidoCodes,
+        List<String> accidentTypes,
+        AccidentStatsMetricsResponse total,
+        List<YearStats> years
+) {
+    public record YearStats(
+            int year,
+            AccidentStatsMetricsResponse metrics,
+            YearOverYear yearOverYear
+    ) {}
+
+    /**
+     * 전년 대비 증감. 전년 데이터가 없으면 null
+     */
+    public record YearOverYear(
+            long accidentCountDelta,
+            long deathCountDelta,
+            long injuryCountDelta,
+            BigDecimal accidentCountChangeRate
+    ) {}
+}
@@ -0,0 +1,17 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.math.BigDecimal;
+
+public record CrowdRiskResponse(
+        int rank,
+        String sidoName,
+        String sigunguName,
+        String administrativeDong,
+        BigDecimal visitorCount,
+        BigDecimal growthRate,
+        String baseYearMonth,
+        int accidentCount,
+        int casualtyCount,
+        int deathCount,
+        BigDecimal score
+) {}
@@ -0,0 +1,12 @@
+package yys.safewalk.application.port.in.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "법정동 일괄 조회 요청")
+public record EmdBatchRequest(
+        @Schema(description = "법정동 코드 목록 (최대 500개)", example = "[\"11110101\", \"11140118\"]")
+        List<String> codes
+) {
+}
@@ -0,0 +1,48 @@
+package yys.safewalk.application.port.in.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "법정동 일괄 조회 응답. items 는 요청 순서와 같다")
+public record EmdBatchResponse(
+        List<Item> items
+) {
+    @Schema(description = "요청 코드별 결과. 없는 코드는 found=false, summary=null")
+    public record Item(
+            @Schema(description = "법정동 코드 (8자리)", example = "11110101")
+            String code,
+
+            @Schema(description = "조회 성공 여부", example = "true")
+            boolean found,
+
+            Summary summary
+    ) {
+    }
+
+    @Schema(description = "법정동 요약")
+    public record Summary(
+            @Schema(description = "시도명", example = "서울특별시")
+            String sido,
+
+            @Schema(description = "시군구명", example = "종로구")
+            String sigungu,
+
+            @Schema(description = "읍면동명", example = "청운동")
+            String eupMyeonDong,
+
+            @Schema(description = "위도", example = "37.586")
+            BigDecimal latitude,
+
+            @Schema(description = "경도", example = "126.973")
+            BigDecimal longitude,
+
+            @Schema(description = "사고다발지점 사고 건수 합계 (일반 + 고령자)", example = "12")
+            int totalAccident,
+
+            @Schema(description = "위험도 (기준 미적재 시 null)", example = "중위험")
+            String riskTier
+    ) {
+    }
+}
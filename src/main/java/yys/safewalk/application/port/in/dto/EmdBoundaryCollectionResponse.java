@@ -0,0 +1,31 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.util.List;
+
+/**
+ * GeoJSON FeatureCollection. zoom 은 실제로 적용한 단순화 레벨
+ */
+public record EmdBoundaryCollectionResponse(
+        String type,
+        int zoom,
+        List<Feature> features
+) {
+    public record Feature(
+            String type,
+            Properties properties,
+            Geometry geometry
+    ) {}
+
+    public record Properties(
+            String emdCode,
+            String name
+    ) {}
+
+    /**
+     * MultiPolygon 좌표: 폴리곤 -> 링 -> [경도, 위도]
+     */
+    public record Geometry(
+            String type,
+            List<List<List<double[]>>> coordinates
+    ) {}
+}
@@ -0,0 +1,26 @@
+package yys.safewalk.application.port.in.dto;
+
+import yys.safewalk.application.port.in.SparseFields;
+
+/**
+ * EmdInBoundsResponse 의 필드. ?fields= 로 일부만 요청할 때 사용
+ */
+public enum EmdField implements SparseFields.Field {
+    NAME("name"),
+    TOTAL_ACCIDENT("totalAccident"),
+    EMD_CD("EMD_CD"),
+    LATITUDE("latitude"),
+    LONGITUDE("longitude"),
+    RISK_TIER("riskTier");
+
+    private final String wireName;
+
+    EmdField(String wireName) {
+        this.wireName = wireName;
+    }
+
+    @Override
+    public String wireName() {
+        return wireName;
+    }
+}
@@ -7,5 +7,6 @@ public record EmdInBoundsResponse(
         Integer totalAccident,
         String EMD_CD,
         BigDecimal latitude,
-        BigDecimal longitude
+        BigDecimal longitude,
+        String riskTier
 ) {}
\ No newline at end of file
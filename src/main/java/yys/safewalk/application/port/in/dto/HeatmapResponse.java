@@ -0,0 +1,21 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record HeatmapResponse(
+        int level,
+        BigDecimal cellHeight,
+        BigDecimal cellWidth,
+        int maxAccidentCount,
+        List<Cell> cells
+) {
+    public record Cell(
+            int row,
+            int col,
+            BigDecimal latitude,
+            BigDecimal longitude,
+            int accidentCount,
+            int casualtyCount
+    ) {}
+}
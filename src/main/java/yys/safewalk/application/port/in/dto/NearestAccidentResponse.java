@@ -0,0 +1,14 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.math.BigDecimal;
+
+public record NearestAccidentResponse(
+        String id,
+        String type,
+        String location,
+        Integer accidentCount,
+        CasualtiesResponse casualties,
+        PointResponse point,
+        BigDecimal distanceMeters
+) {
+}
@@ -0,0 +1,16 @@
+package yys.safewalk.application.port.in.dto;
+
+public record RiskAreaResponse(
+        Long id,
+        Integer yearCode,
+        String sigunguCode,
+        String sigunguName,
+        String riskAreaName,
+        String riskAreaCode,
+        Integer totalAccidentCount,
+        Integer totalDeathCount,
+        Integer totalSeriousInjuryCount,
+        Integer totalMinorInjuryCount,
+        String accidentAnalysisType,
+        PointResponse center
+) {}
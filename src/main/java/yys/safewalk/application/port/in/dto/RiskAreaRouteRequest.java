@@ -0,0 +1,24 @@
+package yys.safewalk.application.port.in.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record RiskAreaRouteRequest(
+        @NotEmpty(message = "경로 좌표는 필수입니다")
+        List<@Valid @NotNull LatLng> route,
+
+        Integer year,
+
+        Integer buffer
+) {
+    public record LatLng(
+            @NotNull(message = "위도는 필수입니다")
+            Double latitude,
+
+            @NotNull(message = "경도는 필수입니다")
+            Double longitude
+    ) {}
+}
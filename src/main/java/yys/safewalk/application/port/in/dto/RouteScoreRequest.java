@@ -0,0 +1,23 @@
+package yys.safewalk.application.port.in.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record RouteScoreRequest(
+        @NotNull(message = "경로 좌표는 필수입니다")
+        @Size(min = 2, message = "경로 좌표는 최소 2개 이상이어야 합니다")
+        List<@Valid @NotNull LatLng> route,
+
+        Integer buffer
+) {
+    public record LatLng(
+            @NotNull(message = "위도는 필수입니다")
+            Double latitude,
+
+            @NotNull(message = "경도는 필수입니다")
+            Double longitude
+    ) {}
+}
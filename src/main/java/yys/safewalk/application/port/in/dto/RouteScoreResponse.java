@@ -0,0 +1,30 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record RouteScoreResponse(
+        int bufferMeters,
+        RiskSummary total,
+        List<SegmentScore> segments,
+        List<AccidentDetailResponse> hotspots
+) {
+    /**
+     * 경로 전체 합계는 여러 구간에 걸친 지점을 한 번만 센다
+     */
+    public record RiskSummary(
+            BigDecimal lengthMeters,
+            int hotspotCount,
+            int accidentCount,
+            int casualtyCount,
+            int deathCount,
+            BigDecimal accidentsPerKm
+    ) {}
+
+    public record SegmentScore(
+            int index,
+            PointResponse from,
+            PointResponse to,
+            RiskSummary risk
+    ) {}
+}
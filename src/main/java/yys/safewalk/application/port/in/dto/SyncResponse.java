@@ -0,0 +1,26 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 델타 동기화 응답
+ *
+ * 레이어마다 같은 키는 한 번만 나타나며, 클라이언트는 deletes 를 먼저 지운 뒤 upserts 를 반영한다.
+ * hasMore 가 true 면 watermark 로 바로 다시 요청해 나머지를 받는다.
+ */
+public record SyncResponse(
+        String watermark,
+        boolean hasMore,
+        Map<String, LayerChanges> layers
+) {
+    public record LayerChanges(
+            List<Upsert> upserts,
+            List<String> deletes
+    ) {}
+
+    public record Upsert(
+            String key,
+            Object item
+    ) {}
+}
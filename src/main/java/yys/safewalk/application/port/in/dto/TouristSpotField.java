@@ -0,0 +1,26 @@
+package yys.safewalk.application.port.in.dto;
+
+import yys.safewalk.application.port.in.SparseFields;
+
+/**
+ * TouristSpotResponse 의 필드. ?fields= 로 일부만 요청할 때 사용
+ */
+public enum TouristSpotField implements SparseFields.Field {
+    ID("id"),
+    SPOT_NAME("spot_name"),
+    SIDO_NAME("sido_name"),
+    SIGUNGU_NAME("sigungu_name"),
+    CATEGORY("category"),
+    COORDINATE("Coordinate");
+
+    private final String wireName;
+
+    TouristSpotField(String wireName) {
+        this.wireName = wireName;
+    }
+
+    @Override
+    public String wireName() {
+        return wireName;
+    }
+}
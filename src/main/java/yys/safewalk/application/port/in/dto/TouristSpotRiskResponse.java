@@ -0,0 +1,17 @@
+package yys.safewalk.application.port.in.dto;
+
+import java.util.List;
+
+public record TouristSpotRiskResponse(
+        String spotId,
+        String name,
+        List<RadiusRisk> radii
+) {
+    public record RadiusRisk(
+            int radiusKm,
+            int hotspotCount,
+            int accidentCount,
+            int casualtyCount,
+            int deathCount
+    ) {}
+}
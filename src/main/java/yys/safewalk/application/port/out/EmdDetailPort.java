@@ -2,8 +2,15 @@ package yys.safewalk.application.port.out;
 
 import yys.safewalk.domain.model.EmdDetail;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface EmdDetailPort {
     Optional<EmdDetail> findByEmdCode(String emdCode);
-}
\ No newline at end of file
+
+    /**
+     * 여러 법정동 상세를 테이블별 IN 쿼리 한 번씩으로 조회. 요청한 코드를 키로, 없는 코드는 담지 않는다
+     */
+    Map<String, EmdDetail> findByEmdCodes(Collection<String> emdCodes);
+}
@@ -2,9 +2,37 @@ package yys.safewalk.application.port.out;
 
 import yys.safewalk.domain.model.Coordinate;
 import yys.safewalk.domain.model.Emd;
+import yys.safewalk.domain.model.KeysetPage;
+import yys.safewalk.domain.model.PageCursor;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EmdRepository {
     List<Emd> findEmdInBounds(Coordinate swCoordinate, Coordinate neCoordinate);
     List<Emd> findBySidoCode(String sidoCode);
+
+    /**
+     * withAccidentCounts 가 false 면 법정동별 사고 건수 조회를 생략하고 totalAccident 를 null 로 둔다
+     */
+    default List<Emd> findEmdInBounds(Coordinate swCoordinate, Coordinate neCoordinate, boolean withAccidentCounts) {
+        return findEmdInBounds(swCoordinate, neCoordinate);
+    }
+
+    /**
+     * 코드 순 키셋 페이지 조회. after 가 null 이면 첫 페이지
+     */
+    KeysetPage<Emd> findBySidoCode(String sidoCode, PageCursor after, int limit);
+
+    KeysetPage<Emd> findEmdInBounds(Coordinate swCoordinate, Coordinate neCoordinate, PageCursor after, int limit);
+
+    /**
+     * 결과를 한 건씩 action 에 전달. 스트리밍 구현은 호출 측 트랜잭션 안에서 실행해야 한다
+     */
+    default void forEachEmdInBounds(Coordinate swCoordinate, Coordinate neCoordinate, Consumer<Emd> action) {
+        findEmdInBounds(swCoordinate, neCoordinate).forEach(action);
+    }
+
+    default void forEachBySidoCode(String sidoCode, Consumer<Emd> action) {
+        findBySidoCode(sidoCode).forEach(action);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.model.AccidentStatsCube;
+
+public interface LoadAccidentStatsPort {
+    /**
+     * 현재 적재된 통계 큐브. 적재 전이면 빈 큐브
+     */
+    AccidentStatsCube loadCube();
+}
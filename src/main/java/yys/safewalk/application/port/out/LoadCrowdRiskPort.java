@@ -0,0 +1,12 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.model.CrowdRiskNeighborhood;
+
+import java.util.List;
+
+public interface LoadCrowdRiskPort {
+    /**
+     * 위험 점수 상위 지역. sidoName 이 null 이면 전국
+     */
+    List<CrowdRiskNeighborhood> findTop(String sidoName, int limit);
+}
@@ -0,0 +1,19 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.model.EmdBoundary;
+
+import java.util.List;
+
+public interface LoadEmdBoundaryPort {
+
+    /**
+     * 단순화 결과를 미리 만들어 두는 줌 범위. 범위 밖 줌은 가까운 끝 레벨로 맞춘다
+     */
+    int MIN_ZOOM = 6;
+    int MAX_ZOOM = 16;
+
+    /**
+     * 시도 코드(앞 4자리)에 속한 읍면동 경계를 줌 레벨에 맞게 단순화해 반환
+     */
+    List<EmdBoundary> findBySidoCode(String sidoCode, int zoom);
+}
@@ -0,0 +1,13 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.model.EmdSummary;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface LoadEmdSummaryPort {
+    /**
+     * 8자리 법정동 코드별 요약. 없는 코드는 결과에 포함하지 않는다
+     */
+    Map<String, EmdSummary> findByEmdCodes(Collection<String> emdCodes);
+}
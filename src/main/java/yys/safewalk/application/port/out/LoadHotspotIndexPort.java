@@ -0,0 +1,10 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.spatial.HotspotIndex;
+
+public interface LoadHotspotIndexPort {
+    /**
+     * 현재 적재된 사고다발지점 인덱스. 적재 전이면 빈 인덱스
+     */
+    HotspotIndex currentIndex();
+}
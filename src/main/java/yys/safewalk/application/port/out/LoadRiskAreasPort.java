@@ -0,0 +1,18 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.RiskArea;
+
+import java.util.List;
+
+public interface LoadRiskAreasPort {
+    /**
+     * 지점을 포함하거나 bufferMeters 이내에 있는 위험지역. yearCode 가 null 이면 전체 연도
+     */
+    List<RiskArea> findContaining(Coordinate point, Integer yearCode, int bufferMeters);
+
+    /**
+     * 경로(좌표 순서대로 이은 선)와 만나거나 bufferMeters 이내에 있는 위험지역
+     */
+    List<RiskArea> findAlongRoute(List<Coordinate> route, Integer yearCode, int bufferMeters);
+}
@@ -0,0 +1,12 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.model.RiskTierCriteria;
+
+import java.util.Optional;
+
+public interface LoadRiskTierCriteriaPort {
+    /**
+     * 법정동 코드가 속한 지역의 위험도 기준. 표본이 작은 시군구는 시도 기준을 사용한다
+     */
+    Optional<RiskTierCriteria> findCriteria(String emdCode);
+}
@@ -0,0 +1,30 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.LegalDong;
+import yys.safewalk.domain.model.PopularTouristSpots;
+import yys.safewalk.domain.model.SyncChange;
+import yys.safewalk.domain.model.SyncCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 레이어별 변경(갱신 + 삭제)을 after 위치 이후, until 시각 이하에서 SyncCursor 순서로 최대 limit 건 조회
+ */
+public interface LoadSyncChangesPort {
+
+    List<SyncChange<AccidentDetail>> findPedestrianHotspotChanges(SyncCursor after, LocalDateTime until, int limit);
+
+    List<SyncChange<AccidentDetail>> findElderlyHotspotChanges(SyncCursor after, LocalDateTime until, int limit);
+
+    List<SyncChange<PopularTouristSpots>> findTouristSpotChanges(SyncCursor after, LocalDateTime until, int limit);
+
+    List<SyncChange<LegalDong>> findLegalDongChanges(SyncCursor after, LocalDateTime until, int limit);
+
+    /**
+     * 아직 커밋되지 않은 쓰기 트랜잭션 중 가장 오래된 것의 시작 시각 (없거나 확인할 수 없으면 empty)
+     */
+    Optional<LocalDateTime> findOldestOpenWriteStart();
+}
@@ -0,0 +1,21 @@
+package yys.safewalk.application.port.out;
+
+import yys.safewalk.domain.model.TouristSpotRiskProfile;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public interface LoadTouristSpotRiskPort {
+
+    /**
+     * 미리 계산한 반경 (km)
+     */
+    int[] RADII_KM = {1, 3, 5, 10};
+
+    Optional<TouristSpotRiskProfile> findRiskProfile(String touristSpotId);
+
+    /**
+     * 관광지 반경 내 사고 건수. 계산 전이거나 좌표가 없는 관광지면 empty
+     */
+    OptionalInt accidentCount(String touristSpotId, int radiusKm);
+}
@@ -0,0 +1,42 @@
+package yys.safewalk.application.service;
+
+import yys.safewalk.application.port.in.dto.AccidentDetailResponse;
+import yys.safewalk.application.port.in.dto.CasualtiesResponse;
+import yys.safewalk.application.port.in.dto.PointResponse;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Casualties;
+import yys.safewalk.domain.model.Coordinate;
+
+/**
+ * AccidentDetail 을 응답 DTO 로 옮기는 공통 매핑
+ *
+ * 읍면동 상세, 경로 위험도, 최근접 사고, 델타 동기화가 같은 사고다발지점 응답 형태를 쓴다.
+ */
+final class AccidentResponseMapper {
+
+    private AccidentResponseMapper() {
+    }
+
+    static AccidentDetailResponse toResponse(AccidentDetail accident) {
+        return new AccidentDetailResponse(
+                accident.getId(),
+                accident.getLocation(),
+                accident.getAccidentCount(),
+                toResponse(accident.getCasualties()),
+                toResponse(accident.getPoint())
+        );
+    }
+
+    static CasualtiesResponse toResponse(Casualties casualties) {
+        return new CasualtiesResponse(
+                casualties.getTotal(),
+                casualties.getDead(),
+                casualties.getSevere(),
+                casualties.getMinor()
+        );
+    }
+
+    static PointResponse toResponse(Coordinate point) {
+        return new PointResponse(point.latitude(), point.longitude());
+    }
+}
@@ -0,0 +1,108 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.GetAccidentStatsQuery;
+import yys.safewalk.application.port.in.dto.AccidentStatsDimensionsResponse;
+import yys.safewalk.application.port.in.dto.AccidentStatsMetricsResponse;
+import yys.safewalk.application.port.in.dto.AccidentStatsResponse;
+import yys.safewalk.application.port.out.LoadAccidentStatsPort;
+import yys.safewalk.application.usecase.GetAccidentStatsUseCase;
+import yys.safewalk.domain.model.AccidentStatsCube;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static yys.safewalk.domain.model.AccidentStatsCube.Metric.*;
+
+@Service
+@RequiredArgsConstructor
+public class AccidentStatsService implements GetAccidentStatsUseCase {
+
+    private final LoadAccidentStatsPort loadAccidentStatsPort;
+
+    @Override
+    public AccidentStatsResponse getStats(GetAccidentStatsQuery query) {
+        AccidentStatsCube cube = loadAccidentStatsPort.loadCube();
+        int[] cubeYears = cube.years();
+        if (cubeYears.length == 0) {
+            return new AccidentStatsResponse(query.yearFrom(), query.yearTo(), query.sidoCodes(),
+                    query.accidentTypes(), toMetrics(new long[AccidentStatsCube.METRIC_COUNT]), List.of());
+        }
+
+        int from = query.yearFrom() != null ? query.yearFrom() : cubeYears[0];
+        int to = query.yearTo() != null ? query.yearTo() : cubeYears[cubeYears.length - 1];
+
+        long[] total = new long[AccidentStatsCube.METRIC_COUNT];
+        List<AccidentStatsResponse.YearStats> years = new ArrayList<>();
+        for (int year : cubeYears) {
+            if (year < from || year > to) {
+                continue;
+            }
+            long[] current = cube.sum(year, query.sidoCodes(), query.accidentTypes());
+            for (int m = 0; m < total.length; m++) {
+                total[m] += current[m];
+            }
+
+            AccidentStatsResponse.YearOverYear yearOverYear = null;
+            if (cube.hasYear(year - 1)) {
+                long[] previous = cube.sum(year - 1, query.sidoCodes(), query.accidentTypes());
+                yearOverYear = toYearOverYear(current, previous);
+            }
+            years.add(new AccidentStatsResponse.YearStats(year, toMetrics(current), yearOverYear));
+        }
+
+        return new AccidentStatsResponse(from, to, query.sidoCodes(), query.accidentTypes(),
+                toMetrics(total), years);
+    }
+
+    @Override
+    public AccidentStatsDimensionsResponse getDimensions() {
+        AccidentStatsCube cube = loadAccidentStatsPort.loadCube();
+        return new AccidentStatsDimensionsResponse(
+                Arrays.stream(cube.years()).boxed().toList(),
+                cube.sidos(),
+                cube.accidentTypes()
+        );
+    }
+
+    private AccidentStatsResponse.YearOverYear toYearOverYear(long[] current, long[] previous) {
+        long accidentDelta = current[ACCIDENT_COUNT.ordinal()] - previous[ACCIDENT_COUNT.ordinal()];
+        BigDecimal changeRate = previous[ACCIDENT_COUNT.ordinal()] == 0 ? null
+                : BigDecimal.valueOf(accidentDelta * 100.0 / previous[ACCIDENT_COUNT.ordinal()])
+                        .setScale(2, RoundingMode.HALF_UP);
+
+        return new AccidentStatsResponse.YearOverYear(
+                accidentDelta,
+                current[DEATH_COUNT.ordinal()] - previous[DEATH_COUNT.ordinal()],
+                current[INJURY_COUNT.ordinal()] - previous[INJURY_COUNT.ordinal()],
+                changeRate
+        );
+    }
+
+    private AccidentStatsMetricsResponse toMetrics(long[] v) {
+        return new AccidentStatsMetricsResponse(
+                v[ACCIDENT_COUNT.ordinal()],
+                v[DEATH_COUNT.ordinal()],
+                v[INJURY_COUNT.ordinal()],
+                new AccidentStatsMetricsResponse.Violations(
+                        v[SPEEDING.ordinal()],
+                        v[CENTER_LINE_VIOLATION.ordinal()],
+                        v[SIGNAL_VIOLATION.ordinal()],
+                        v[UNSAFE_DISTANCE.ordinal()],
+                        v[UNSAFE_DRIVING.ordinal()],
+                        v[PEDESTRIAN_PROTECTION_VIOLATION.ordinal()],
+                        v[OTHER_VIOLATION.ordinal()]
+                ),
+                new AccidentStatsMetricsResponse.AccidentKinds(
+                        v[VEHICLE_PEDESTRIAN.ordinal()],
+                        v[VEHICLE_VEHICLE.ordinal()],
+                        v[SINGLE_VEHICLE.ordinal()],
+                        v[RAILROAD_CROSSING.ordinal()]
+                )
+        );
+    }
+}
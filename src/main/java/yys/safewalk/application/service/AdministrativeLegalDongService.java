@@ -5,12 +5,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import yys.safewalk.application.port.in.PageQuery;
 import yys.safewalk.application.port.in.dto.EmdResponse;
 import yys.safewalk.application.port.in.dto.EmdSearchRequest;
+import yys.safewalk.domain.model.KeysetPage;
+import yys.safewalk.domain.model.PageCursor;
 import yys.safewalk.entity.AdministrativeLegalDongs;
 import yys.safewalk.infrastructure.adapter.out.persistence.AdministrativeLegalDongsRepository;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,23 +27,35 @@ public class AdministrativeLegalDongService {
     private final AdministrativeLegalDongsRepository repository;
 
     public List<EmdResponse> searchRealtime(String query, int limit) {
+        return searchRealtime(query, new PageQuery(null, limit)).items();
+    }
+
+    /**
+     * (읍면동명, id) 키셋 페이지 조회. 첫 페이지도 OFFSET 없이 limit 만 건다
+     */
+    public KeysetPage<EmdResponse> searchRealtime(String query, PageQuery page) {
         validateRealtimeQuery(query);
 
-        log.debug("Searching realtime for query: {}, limit: {}", query, limit);
+        log.debug("Searching realtime for query: {}, limit: {}", query, page.limit());
 
-        List<AdministrativeLegalDongs> results = repository.findByEupMyeonDongStartingWith(
-                query, PageRequest.of(0, limit));
+        PageCursor after = page.after();
+        PageRequest limit = PageRequest.of(0, page.limit());
+        List<AdministrativeLegalDongs> results = after == null
+                ? repository.findByEupMyeonDongStartingWith(query, limit)
+                : repository.findByEupMyeonDongStartingWithAfter(query, after.key(), after.id(), limit);
 
-        return results.stream()
+        PageCursor next = null;
+        if (results.size() >= page.limit()) {
+            AdministrativeLegalDongs last = results.get(results.size() - 1);
+            next = new PageCursor(last.getEupMyeonDong(), last.getId());
+        }
+
+        // 8자리 코드 중복 시 먼저 나온 것을 유지 (정렬 순서 유지)
+        Map<String, EmdResponse> distinct = new LinkedHashMap<>();
+        results.stream()
                 .map(this::toEmdResponse)
-                .collect(Collectors.toMap(
-                        EmdResponse::code,  // 8자리 코드를 키로 사용
-                        response -> response,  // 값은 EmdResponse 그대로
-                        (existing, replacement) -> existing  // 중복 시 기존 값 유지
-                ))
-                .values()
-                .stream()
-                .toList();
+                .forEach(response -> distinct.putIfAbsent(response.code(), response));
+        return new KeysetPage<>(List.copyOf(distinct.values()), next);
     }
 
     public List<EmdResponse> search(EmdSearchRequest request) {
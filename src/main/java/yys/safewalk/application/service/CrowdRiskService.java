@@ -0,0 +1,45 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.GetCrowdRiskQuery;
+import yys.safewalk.application.port.in.dto.CrowdRiskResponse;
+import yys.safewalk.application.port.out.LoadCrowdRiskPort;
+import yys.safewalk.application.usecase.GetCrowdRiskUseCase;
+import yys.safewalk.domain.model.CrowdRiskNeighborhood;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CrowdRiskService implements GetCrowdRiskUseCase {
+
+    private final LoadCrowdRiskPort loadCrowdRiskPort;
+
+    @Override
+    public List<CrowdRiskResponse> getCrowdRiskRanking(GetCrowdRiskQuery query) {
+        List<CrowdRiskNeighborhood> top = loadCrowdRiskPort.findTop(query.sidoName(), query.limit());
+
+        List<CrowdRiskResponse> responses = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            CrowdRiskNeighborhood n = top.get(i);
+            responses.add(new CrowdRiskResponse(
+                    i + 1,
+                    n.sidoName(),
+                    n.sigunguName(),
+                    n.administrativeDong(),
+                    n.visitorCount(),
+                    n.growthRate(),
+                    n.baseYearMonth(),
+                    n.accidentCount(),
+                    n.casualtyCount(),
+                    n.deathCount(),
+                    BigDecimal.valueOf(n.score()).setScale(2, RoundingMode.HALF_UP)
+            ));
+        }
+        return responses;
+    }
+}
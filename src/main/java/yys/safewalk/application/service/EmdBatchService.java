@@ -0,0 +1,54 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.GetEmdBatchQuery;
+import yys.safewalk.application.port.in.dto.EmdBatchResponse;
+import yys.safewalk.application.port.out.LoadEmdSummaryPort;
+import yys.safewalk.application.port.out.LoadRiskTierCriteriaPort;
+import yys.safewalk.application.usecase.GetEmdBatchUseCase;
+import yys.safewalk.domain.model.EmdSummary;
+import yys.safewalk.domain.model.RiskTier;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * 중복을 제거한 코드 집합으로 한 번에 조회한 뒤 요청 순서대로 결과를 채운다
+ */
+@Service
+@RequiredArgsConstructor
+public class EmdBatchService implements GetEmdBatchUseCase {
+
+    private final LoadEmdSummaryPort loadEmdSummaryPort;
+    private final LoadRiskTierCriteriaPort riskTierCriteriaPort;
+
+    @Override
+    public EmdBatchResponse getEmdBatch(GetEmdBatchQuery query) {
+        Map<String, EmdSummary> summaries = loadEmdSummaryPort.findByEmdCodes(new LinkedHashSet<>(query.emdCodes()));
+
+        return new EmdBatchResponse(query.emdCodes().stream()
+                .map(code -> {
+                    EmdSummary summary = summaries.get(code);
+                    return summary == null
+                            ? new EmdBatchResponse.Item(code, false, null)
+                            : new EmdBatchResponse.Item(code, true, toSummary(summary));
+                })
+                .toList());
+    }
+
+    private EmdBatchResponse.Summary toSummary(EmdSummary summary) {
+        return new EmdBatchResponse.Summary(
+                summary.sido(),
+                summary.sigungu(),
+                summary.eupMyeonDong(),
+                summary.center().latitude(),
+                summary.center().longitude(),
+                summary.totalAccident(),
+                riskTierCriteriaPort.findCriteria(summary.emdCode())
+                        .map(criteria -> criteria.classify(summary.totalAccident()))
+                        .map(RiskTier::getLabel)
+                        .orElse(null)
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.GetEmdBoundariesQuery;
+import yys.safewalk.application.port.in.dto.EmdBoundaryCollectionResponse;
+import yys.safewalk.application.port.out.LoadEmdBoundaryPort;
+import yys.safewalk.application.usecase.GetEmdBoundariesUseCase;
+import yys.safewalk.domain.model.EmdBoundary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class EmdBoundaryService implements GetEmdBoundariesUseCase {
+
+    // 소수점 6자리 (약 0.1m) 로 반올림해 응답 크기를 줄인다
+    private static final double COORDINATE_SCALE = 1e6;
+
+    private final LoadEmdBoundaryPort loadEmdBoundaryPort;
+
+    @Override
+    public EmdBoundaryCollectionResponse getEmdBoundaries(GetEmdBoundariesQuery query) {
+        int zoom = Math.max(LoadEmdBoundaryPort.MIN_ZOOM, Math.min(LoadEmdBoundaryPort.MAX_ZOOM, query.zoom()));
+
+        List<EmdBoundaryCollectionResponse.Feature> features = loadEmdBoundaryPort
+                .findBySidoCode(query.sidoCode(), zoom).stream()
+                .map(this::toFeature)
+                .toList();
+        return new EmdBoundaryCollectionResponse("FeatureCollection", zoom, features);
+    }
+
+    private EmdBoundaryCollectionResponse.Feature toFeature(EmdBoundary boundary) {
+        List<List<List<double[]>>> coordinates = new ArrayList<>(boundary.polygons().size());
+        for (double[][] polygon : boundary.polygons()) {
+            List<List<double[]>> rings = new ArrayList<>(polygon.length);
+            for (double[] ring : polygon) {
+                List<double[]> points = new ArrayList<>(ring.length / 2);
+                for (int i = 0; i < ring.length; i += 2) {
+                    points.add(new double[]{round(ring[i]), round(ring[i + 1])});
+                }
+                rings.add(points);
+            }
+            coordinates.add(rings);
+        }
+
+        return new EmdBoundaryCollectionResponse.Feature(
+                "Feature",
+                new EmdBoundaryCollectionResponse.Properties(boundary.emdCode(), boundary.name()),
+                new EmdBoundaryCollectionResponse.Geometry("MultiPolygon", coordinates)
+        );
+    }
+
+    private double round(double value) {
+        return Math.round(value * COORDINATE_SCALE) / COORDINATE_SCALE;
+    }
+}
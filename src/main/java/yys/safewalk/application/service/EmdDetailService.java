@@ -8,7 +8,9 @@ import yys.safewalk.application.port.out.EmdDetailPort;
 import yys.safewalk.application.usecase.GetEmdDetailUseCase;
 import yys.safewalk.domain.model.EmdDetail;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,26 +32,24 @@ public class EmdDetailService implements GetEmdDetailUseCase {
         return mapToResponse(emdDetail);
     }
 
+    @Override
+    public List<EmdDetailResponse> getEmdDetails(List<String> emdCodes) {
+        Map<String, EmdDetail> emdDetails = emdDetailPort.findByEmdCodes(emdCodes);
+
+        List<EmdDetailResponse> responses = new ArrayList<>(emdCodes.size());
+        for (String emdCode : emdCodes) {
+            EmdDetail emdDetail = emdDetails.get(emdCode);
+            responses.add(emdDetail != null ? mapToResponse(emdDetail) : null);
+        }
+        return responses;
+    }
+
     private EmdDetailResponse mapToResponse(EmdDetail emdDetail) {
         List<AccidentDetailResponse> accidentResponses = null;
 
         if (emdDetail.getAccidents() != null) {
             accidentResponses = emdDetail.getAccidents().stream()
-                    .map(accident -> new AccidentDetailResponse(
-                            accident.getId(),
-                            accident.getLocation(),
-                            accident.getAccidentCount(),
-                            new CasualtiesResponse(
-                                    accident.getCasualties().getTotal(),
-                                    accident.getCasualties().getDead(),
-                                    accident.getCasualties().getSevere(),
-                                    accident.getCasualties().getMinor()
-                            ),
-                            new PointResponse(
-                                    accident.getPoint().latitude(),
-                                    accident.getPoint().longitude()
-                            )
-                    ))
+                    .map(AccidentResponseMapper::toResponse)
                     .collect(Collectors.toList());
         }
 
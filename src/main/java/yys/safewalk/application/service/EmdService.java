@@ -5,27 +5,38 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yys.safewalk.application.port.in.GetEmdBySidoCodeQuery;
 import yys.safewalk.application.port.in.GetEmdInBoundsQuery;
+import yys.safewalk.application.port.in.PageQuery;
+import yys.safewalk.application.port.in.dto.EmdField;
 import yys.safewalk.application.port.in.dto.EmdInBoundsResponse;
 import yys.safewalk.application.port.out.EmdRepository;
+import yys.safewalk.application.port.out.LoadRiskTierCriteriaPort;
 import yys.safewalk.application.usecase.GetEmdUseCase;
 import yys.safewalk.domain.model.Emd;
 import yys.safewalk.domain.model.Coordinate;
-import yys.safewalk.infrastructure.adapter.out.persistence.AdministrativeLegalDongsAdapter;
+import yys.safewalk.domain.model.KeysetPage;
+import yys.safewalk.domain.model.PageCursor;
+import yys.safewalk.domain.model.RiskTier;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EmdService implements GetEmdUseCase {
 
-    private final AdministrativeLegalDongsAdapter administrativeLegalDongsAdapter; // AdministrativeLegalDongsAdapter 주입됨
+    private final EmdRepository emdRepository;
+    private final LoadRiskTierCriteriaPort riskTierCriteriaPort;
 
     @Override
     @Transactional(readOnly = true)
     public List<EmdInBoundsResponse> getEmdInBounds(GetEmdInBoundsQuery query) {
-        // AdministrativeLegalDongsAdapter를 통해 좌표 범위 내 법정동 조회
-        List<Emd> emds = administrativeLegalDongsAdapter.findEmdInBounds(
+        // 좌표 범위 내 법정동 조회
+        List<Emd> emds = emdRepository.findEmdInBounds(
                 query.swLatLng(), 
                 query.neLatLng()
         );
@@ -42,11 +53,30 @@ public class EmdService implements GetEmdUseCase {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEmdInBounds(GetEmdInBoundsQuery query, Set<EmdField> fields) {
+        // 사고 건수와 위험도가 필요 없으면 법정동별 사고 건수 쿼리를 생략
+        boolean withAccidentCounts = fields.contains(EmdField.TOTAL_ACCIDENT) || fields.contains(EmdField.RISK_TIER);
+        List<Emd> emds = emdRepository.findEmdInBounds(
+                query.swLatLng(),
+                query.neLatLng(),
+                withAccidentCounts
+        );
+
+        Set<String> seen = new HashSet<>();
+        return emds.stream()
+                .map(this::mapToEmdInBoundsResponse)
+                .filter(response -> seen.add(response.EMD_CD()))
+                .map(response -> toSparseResponse(response, fields))
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<EmdInBoundsResponse> getEmdBySidoCode(GetEmdBySidoCodeQuery query) {
-        // AdministrativeLegalDongsAdapter를 통해 시도별 법정동 조회
-        List<Emd> emds = administrativeLegalDongsAdapter.findBySidoCode(query.sidoCode());
+        // 시도별 법정동 조회
+        List<Emd> emds = emdRepository.findBySidoCode(query.sidoCode());
 
         return emds.stream()
                 .map(this::mapToEmdInBoundsResponse)
@@ -60,6 +90,56 @@ public class EmdService implements GetEmdUseCase {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<EmdInBoundsResponse> getEmdBySidoCode(GetEmdBySidoCodeQuery query, PageQuery page) {
+        return distinctPage(emdRepository.findBySidoCode(
+                query.sidoCode(), page.after(), page.limit()), page.after());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<EmdInBoundsResponse> getEmdInBounds(GetEmdInBoundsQuery query, PageQuery page) {
+        return distinctPage(emdRepository.findEmdInBounds(
+                query.swLatLng(), query.neLatLng(), page.after(), page.limit()), page.after());
+    }
+
+    // 코드 순이므로 같은 8자리 코드는 이어서 나온다. 이전 페이지 마지막 코드와 같으면 이미 보낸 것
+    private KeysetPage<EmdInBoundsResponse> distinctPage(KeysetPage<Emd> emds, PageCursor after) {
+        Set<String> seen = new HashSet<>();
+        if (after != null && after.key().length() >= 8) {
+            seen.add(after.key().substring(0, 8));
+        }
+        KeysetPage<EmdInBoundsResponse> responses = emds.map(this::mapToEmdInBoundsResponse);
+        return new KeysetPage<>(responses.items().stream()
+                .filter(response -> seen.add(response.EMD_CD()))
+                .toList(), responses.next());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamEmdInBounds(GetEmdInBoundsQuery query, Consumer<EmdInBoundsResponse> action) {
+        emdRepository.forEachEmdInBounds(query.swLatLng(), query.neLatLng(),
+                distinctByCode(action));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamEmdBySidoCode(GetEmdBySidoCodeQuery query, Consumer<EmdInBoundsResponse> action) {
+        emdRepository.forEachBySidoCode(query.sidoCode(), distinctByCode(action));
+    }
+
+    // 응답 대신 8자리 코드만 기억해 중복 시 먼저 나온 것을 유지
+    private Consumer<Emd> distinctByCode(Consumer<EmdInBoundsResponse> action) {
+        Set<String> seen = new HashSet<>();
+        return emd -> {
+            EmdInBoundsResponse response = mapToEmdInBoundsResponse(emd);
+            if (seen.add(response.EMD_CD())) {
+                action.accept(response);
+            }
+        };
+    }
+
     private EmdInBoundsResponse mapToEmdInBoundsResponse(Emd emd) {
         // 코드를 8자리로 자르기 (10자리 -> 8자리)
         String responseCode = emd.getEmdCd();
@@ -72,7 +152,32 @@ public class EmdService implements GetEmdUseCase {
                 emd.getTotalAccident(),
                 responseCode,  // 8자리로 잘린 코드 사용
                 emd.getCenterPoint().latitude(),
-                emd.getCenterPoint().longitude()
+                emd.getCenterPoint().longitude(),
+                classifyRiskTier(emd)
         );
     }
+
+    private Map<String, Object> toSparseResponse(EmdInBoundsResponse response, Set<EmdField> fields) {
+        Map<String, Object> sparse = new LinkedHashMap<>();
+        for (EmdField field : fields) {
+            sparse.put(field.wireName(), switch (field) {
+                case NAME -> response.name();
+                case TOTAL_ACCIDENT -> response.totalAccident();
+                case EMD_CD -> response.EMD_CD();
+                case LATITUDE -> response.latitude();
+                case LONGITUDE -> response.longitude();
+                case RISK_TIER -> response.riskTier();
+            });
+        }
+        return sparse;
+    }
+
+    // 지역 맞춤형 기준으로 위험도 분류 (기준 미적재 시 null)
+    private String classifyRiskTier(Emd emd) {
+        int totalAccident = emd.getTotalAccident() != null ? emd.getTotalAccident() : 0;
+        return riskTierCriteriaPort.findCriteria(emd.getEmdCd())
+                .map(criteria -> criteria.classify(totalAccident))
+                .map(RiskTier::getLabel)
+                .orElse(null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.GetHeatmapQuery;
+import yys.safewalk.application.port.in.dto.HeatmapResponse;
+import yys.safewalk.application.port.out.LoadHotspotIndexPort;
+import yys.safewalk.application.usecase.GetHeatmapUseCase;
+import yys.safewalk.domain.spatial.DensityPyramid;
+import yys.safewalk.domain.spatial.HotspotIndex;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeatmapService implements GetHeatmapUseCase {
+
+    private final LoadHotspotIndexPort loadHotspotIndexPort;
+
+    // 피라미드를 만든 인덱스와 함께 보관. 인덱스가 교체되면 다시 만든다
+    private volatile BuiltPyramid built;
+
+    @Override
+    public HeatmapResponse getHeatmap(GetHeatmapQuery query) {
+        DensityPyramid pyramid = pyramid();
+
+        double minLat = query.swLatLng().latitude().doubleValue();
+        double minLng = query.swLatLng().longitude().doubleValue();
+        double maxLat = query.neLatLng().latitude().doubleValue();
+        double maxLng = query.neLatLng().longitude().doubleValue();
+
+        int level = query.level() != null ? query.level() : autoLevel(minLat, minLng, maxLat, maxLng);
+        if (DensityPyramid.cellsInViewport(level, minLat, minLng, maxLat, maxLng) > GetHeatmapQuery.MAX_CELLS) {
+            throw new IllegalArgumentException("뷰포트에 비해 level 이 너무 세밀합니다");
+        }
+
+        double cellHeight = DensityPyramid.cellHeight(level);
+        double cellWidth = DensityPyramid.cellWidth(level);
+        List<HeatmapResponse.Cell> cells = new ArrayList<>();
+        int[] maxAccident = {0};
+        pyramid.forEachCell(level, minLat, minLng, maxLat, maxLng, (row, col, accidents, casualties) -> {
+            cells.add(new HeatmapResponse.Cell(
+                    row,
+                    col,
+                    scale(DensityPyramid.MIN_LAT + (row + 0.5) * cellHeight),
+                    scale(DensityPyramid.MIN_LNG + (col + 0.5) * cellWidth),
+                    accidents,
+                    casualties
+            ));
+            maxAccident[0] = Math.max(maxAccident[0], accidents);
+        });
+
+        return new HeatmapResponse(level, scale(cellHeight), scale(cellWidth), maxAccident[0], cells);
+    }
+
+    private int autoLevel(double minLat, double minLng, double maxLat, double maxLng) {
+        for (int level = DensityPyramid.MAX_LEVEL; level > 0; level--) {
+            if (DensityPyramid.cellsInViewport(level, minLat, minLng, maxLat, maxLng) <= GetHeatmapQuery.MAX_CELLS) {
+                return level;
+            }
+        }
+        return 0;
+    }
+
+    private DensityPyramid pyramid() {
+        HotspotIndex index = loadHotspotIndexPort.currentIndex();
+        BuiltPyramid current = built;
+        if (current != null && current.index == index) {
+            return current.pyramid;
+        }
+
+        synchronized (this) {
+            current = built;
+            if (current == null || current.index != index) {
+                long start = System.currentTimeMillis();
+                current = new BuiltPyramid(index, DensityPyramid.build(index));
+                built = current;
+                log.info("사고 밀도 피라미드 생성 완료: 지점 {}건, {}ms", index.size(), System.currentTimeMillis() - start);
+            }
+            return current.pyramid;
+        }
+    }
+
+    private BigDecimal scale(double value) {
+        return BigDecimal.valueOf(value).setScale(7, RoundingMode.HALF_UP);
+    }
+
+    private record BuiltPyramid(HotspotIndex index, DensityPyramid pyramid) {
+    }
+}
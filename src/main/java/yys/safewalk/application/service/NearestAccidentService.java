@@ -0,0 +1,54 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.GetNearestAccidentsQuery;
+import yys.safewalk.application.port.in.dto.NearestAccidentResponse;
+import yys.safewalk.application.port.out.LoadHotspotIndexPort;
+import yys.safewalk.application.usecase.GetNearestAccidentsUseCase;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.spatial.HotspotIndex;
+import yys.safewalk.domain.spatial.PackedRTree;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class NearestAccidentService implements GetNearestAccidentsUseCase {
+
+    private final LoadHotspotIndexPort loadHotspotIndexPort;
+
+    @Override
+    public List<NearestAccidentResponse> getNearestAccidents(GetNearestAccidentsQuery query) {
+        HotspotIndex index = loadHotspotIndexPort.currentIndex();
+        double maxDistance = query.maxDistanceMeters() != null
+                ? query.maxDistanceMeters()
+                : Double.POSITIVE_INFINITY;
+
+        List<PackedRTree.Neighbor> neighbors = index.nearest(
+                query.point().latitude().doubleValue(),
+                query.point().longitude().doubleValue(),
+                query.k(),
+                maxDistance
+        );
+
+        return neighbors.stream()
+                .map(neighbor -> toResponse(index, neighbor))
+                .toList();
+    }
+
+    private NearestAccidentResponse toResponse(HotspotIndex index, PackedRTree.Neighbor neighbor) {
+        AccidentDetail accident = index.detail(neighbor.id());
+        return new NearestAccidentResponse(
+                accident.getId(),
+                index.kind(neighbor.id()).name(),
+                accident.getLocation(),
+                accident.getAccidentCount(),
+                AccidentResponseMapper.toResponse(accident.getCasualties()),
+                AccidentResponseMapper.toResponse(accident.getPoint()),
+                BigDecimal.valueOf(neighbor.distance()).setScale(1, RoundingMode.HALF_UP)
+        );
+    }
+}
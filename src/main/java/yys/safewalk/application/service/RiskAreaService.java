@@ -0,0 +1,51 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.GetRiskAreasAtPointQuery;
+import yys.safewalk.application.port.in.GetRiskAreasOnRouteQuery;
+import yys.safewalk.application.port.in.dto.PointResponse;
+import yys.safewalk.application.port.in.dto.RiskAreaResponse;
+import yys.safewalk.application.port.out.LoadRiskAreasPort;
+import yys.safewalk.application.usecase.GetRiskAreasUseCase;
+import yys.safewalk.domain.model.RiskArea;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RiskAreaService implements GetRiskAreasUseCase {
+
+    private final LoadRiskAreasPort loadRiskAreasPort;
+
+    @Override
+    public List<RiskAreaResponse> getRiskAreasAtPoint(GetRiskAreasAtPointQuery query) {
+        return loadRiskAreasPort.findContaining(query.point(), query.yearCode(), query.bufferMeters()).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<RiskAreaResponse> getRiskAreasOnRoute(GetRiskAreasOnRouteQuery query) {
+        return loadRiskAreasPort.findAlongRoute(query.route(), query.yearCode(), query.bufferMeters()).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private RiskAreaResponse toResponse(RiskArea area) {
+        return new RiskAreaResponse(
+                area.id(),
+                area.yearCode(),
+                area.sigunguCode(),
+                area.sigunguName(),
+                area.riskAreaName(),
+                area.riskAreaCode(),
+                area.totalAccidentCount(),
+                area.totalDeathCount(),
+                area.totalSeriousInjuryCount(),
+                area.totalMinorInjuryCount(),
+                area.accidentAnalysisType(),
+                new PointResponse(area.center().latitude(), area.center().longitude())
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.ScoreRouteQuery;
+import yys.safewalk.application.port.in.dto.AccidentDetailResponse;
+import yys.safewalk.application.port.in.dto.PointResponse;
+import yys.safewalk.application.port.in.dto.RouteScoreResponse;
+import yys.safewalk.application.port.out.LoadHotspotIndexPort;
+import yys.safewalk.application.usecase.ScoreRouteUseCase;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.spatial.GeoUtils;
+import yys.safewalk.domain.spatial.HotspotIndex;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 보행 경로 위험도 계산
+ *
+ * 구간마다 버퍼만큼 넓힌 경계 상자로 R-tree 후보를 고른 뒤 점-선분 거리로 통로 밖 지점을 걸러낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RouteRiskService implements ScoreRouteUseCase {
+
+    private final LoadHotspotIndexPort loadHotspotIndexPort;
+
+    @Override
+    public RouteScoreResponse scoreRoute(ScoreRouteQuery query) {
+        HotspotIndex index = loadHotspotIndexPort.currentIndex();
+        List<Coordinate> route = query.route();
+        int buffer = query.bufferMeters();
+
+        BitSet matched = new BitSet(index.size());
+        List<RouteScoreResponse.SegmentScore> segments = new ArrayList<>(route.size() - 1);
+        double totalLength = 0;
+
+        for (int s = 0; s + 1 < route.size(); s++) {
+            double aLat = route.get(s).latitude().doubleValue();
+            double aLng = route.get(s).longitude().doubleValue();
+            double bLat = route.get(s + 1).latitude().doubleValue();
+            double bLng = route.get(s + 1).longitude().doubleValue();
+
+            double dLat = GeoUtils.metersToLatDegrees(buffer);
+            double dLng = GeoUtils.metersToLngDegrees(buffer, Math.max(Math.abs(aLat), Math.abs(bLat)));
+            int[] totals = new int[4];
+
+            index.search(Math.min(aLat, bLat) - dLat, Math.min(aLng, bLng) - dLng,
+                    Math.max(aLat, bLat) + dLat, Math.max(aLng, bLng) + dLng, i -> {
+                        if (GeoUtils.pointToSegmentMeters(index.lat(i), index.lng(i), aLat, aLng, bLat, bLng) > buffer) {
+                            return;
+                        }
+                        totals[0]++;
+                        totals[1] += index.accidentCount(i);
+                        totals[2] += index.casualtyCount(i);
+                        totals[3] += index.deathCount(i);
+                        matched.set(i);
+                    });
+
+            double length = GeoUtils.haversineMeters(aLat, aLng, bLat, bLng);
+            totalLength += length;
+            segments.add(new RouteScoreResponse.SegmentScore(
+                    s,
+                    new PointResponse(route.get(s).latitude(), route.get(s).longitude()),
+                    new PointResponse(route.get(s + 1).latitude(), route.get(s + 1).longitude()),
+                    toSummary(length, totals)
+            ));
+        }
+
+        int[] totals = new int[4];
+        List<Integer> hotspotIds = new ArrayList<>(matched.cardinality());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            totals[0]++;
+            totals[1] += index.accidentCount(i);
+            totals[2] += index.casualtyCount(i);
+            totals[3] += index.deathCount(i);
+            hotspotIds.add(i);
+        }
+        hotspotIds.sort(Comparator.comparingInt(index::accidentCount).reversed());
+
+        List<AccidentDetailResponse> hotspots = hotspotIds.stream()
+                .map(i -> AccidentResponseMapper.toResponse(index.detail(i)))
+                .toList();
+
+        return new RouteScoreResponse(buffer, toSummary(totalLength, totals), segments, hotspots);
+    }
+
+    // totals: 지점 수, 사고 건수, 사상자 수, 사망자 수
+    private RouteScoreResponse.RiskSummary toSummary(double lengthMeters, int[] totals) {
+        BigDecimal perKm = lengthMeters > 0
+                ? BigDecimal.valueOf(totals[1] * 1000.0 / lengthMeters).setScale(2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        return new RouteScoreResponse.RiskSummary(
+                BigDecimal.valueOf(lengthMeters).setScale(1, RoundingMode.HALF_UP),
+                totals[0],
+                totals[1],
+                totals[2],
+                totals[3],
+                perKm
+        );
+    }
+}
@@ -0,0 +1,144 @@
+package yys.safewalk.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.GetSyncChangesQuery;
+import yys.safewalk.application.port.in.dto.EmdResponse;
+import yys.safewalk.application.port.in.dto.SyncResponse;
+import yys.safewalk.application.port.in.dto.TouristSpotsInStateResponse;
+import yys.safewalk.application.port.out.LoadSyncChangesPort;
+import yys.safewalk.application.usecase.SyncChangesUseCase;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.LegalDong;
+import yys.safewalk.domain.model.PopularTouristSpots;
+import yys.safewalk.domain.model.SyncChange;
+import yys.safewalk.domain.model.SyncCursor;
+import yys.safewalk.domain.model.SyncLayer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * updated_at 워터마크 기반 델타 동기화
+ *
+ * updated_at/deleted_at 은 커밋 시각이 아니라 문장 실행 시각이므로, 커밋이 늦은 트랜잭션의 행이
+ * 이미 지나간 워터마크 뒤에 나타나지 않도록 조회 상한(until)을 두 가지로 제한한다.
+ * - 현재 시각에서 safewalk.sync.settle 이전. 가장 긴 쓰기 트랜잭션보다 길어야 하며,
+ *   임포트 작업은 이보다 짧은 단위로 나눠 커밋해야 한다.
+ * - 아직 열려 있는 쓰기 트랜잭션이 있으면 가장 오래된 트랜잭션의 시작 시각 직전.
+ * 한 페이지 안에서 같은 키가 여러 번 바뀌었으면 마지막 변경만 남긴다.
+ */
+@Service
+public class SyncService implements SyncChangesUseCase {
+
+    private final LoadSyncChangesPort loadSyncChangesPort;
+    private final Duration settle;
+
+    public SyncService(LoadSyncChangesPort loadSyncChangesPort,
+                       @Value("${safewalk.sync.settle:120s}") Duration settle) {
+        this.loadSyncChangesPort = loadSyncChangesPort;
+        this.settle = settle;
+    }
+
+    @Override
+    public SyncResponse getChanges(GetSyncChangesQuery query) {
+        LocalDateTime until = upperBound();
+        int limit = query.limit();
+
+        Map<SyncLayer, SyncCursor> advanced = new EnumMap<>(SyncLayer.class);
+        Map<String, SyncResponse.LayerChanges> layers = new LinkedHashMap<>();
+        boolean hasMore = false;
+
+        for (SyncLayer layer : SyncLayer.values()) {
+            if (!query.layers().contains(layer)) {
+                continue;
+            }
+            SyncCursor after = query.since().cursorOf(layer);
+            List<? extends SyncChange<?>> changes = switch (layer) {
+                case PEDESTRIAN_HOTSPOTS -> loadSyncChangesPort.findPedestrianHotspotChanges(after, until, limit);
+                case ELDERLY_HOTSPOTS -> loadSyncChangesPort.findElderlyHotspotChanges(after, until, limit);
+                case TOURIST_SPOTS -> loadSyncChangesPort.findTouristSpotChanges(after, until, limit);
+                case LEGAL_DONGS -> loadSyncChangesPort.findLegalDongChanges(after, until, limit);
+            };
+
+            hasMore |= changes.size() >= limit;
+            advanced.put(layer, changes.isEmpty() ? after : changes.get(changes.size() - 1).position());
+            layers.put(layer.wireName(), toLayerChanges(changes, item -> toResponse(layer, item)));
+        }
+
+        return new SyncResponse(query.since().with(advanced).encode(), hasMore, layers);
+    }
+
+    private LocalDateTime upperBound() {
+        LocalDateTime settled = LocalDateTime.now().minus(settle);
+        // 열린 트랜잭션이 쓴 행은 시작 시각 이후로 찍히므로 그 직전까지만 읽는다
+        return loadSyncChangesPort.findOldestOpenWriteStart()
+                .map(started -> started.minusNanos(1_000))
+                .filter(horizon -> horizon.isBefore(settled))
+                .orElse(settled);
+    }
+
+    private SyncResponse.LayerChanges toLayerChanges(List<? extends SyncChange<?>> changes,
+                                                     Function<Object, Object> mapper) {
+        // 키별 마지막 변경만 남긴다 (삽입 순서 유지)
+        Map<String, SyncChange<?>> latest = new LinkedHashMap<>();
+        for (SyncChange<?> change : changes) {
+            latest.remove(change.key());
+            latest.put(change.key(), change);
+        }
+
+        List<SyncResponse.Upsert> upserts = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        for (SyncChange<?> change : latest.values()) {
+            if (change.isDeletion()) {
+                deletes.add(change.key());
+            } else {
+                upserts.add(new SyncResponse.Upsert(change.key(), mapper.apply(change.item())));
+            }
+        }
+        return new SyncResponse.LayerChanges(upserts, deletes);
+    }
+
+    private Object toResponse(SyncLayer layer, Object item) {
+        return switch (layer) {
+            case PEDESTRIAN_HOTSPOTS, ELDERLY_HOTSPOTS -> AccidentResponseMapper.toResponse((AccidentDetail) item);
+            case TOURIST_SPOTS -> toResponse((PopularTouristSpots) item);
+            case LEGAL_DONGS -> toResponse((LegalDong) item);
+        };
+    }
+
+    private TouristSpotsInStateResponse toResponse(PopularTouristSpots spot) {
+        return new TouristSpotsInStateResponse(
+                spot.touristSpotId(),
+                spot.sidoCode(),
+                spot.mode(),
+                spot.rank(),
+                spot.sidoName(),
+                spot.sigunguName(),
+                spot.spotName(),
+                spot.category(),
+                new Coordinate(spot.latitude(), spot.longitude())
+        );
+    }
+
+    private EmdResponse toResponse(LegalDong dong) {
+        return new EmdResponse(
+                dong.id(),
+                dong.code(),
+                dong.sido(),
+                dong.sigungu(),
+                dong.eupMyeonDong(),
+                dong.subLevel(),
+                dong.center().latitude(),
+                dong.center().longitude(),
+                dong.codeType()
+        );
+    }
+}
@@ -1,13 +1,20 @@
 package yys.safewalk.application.service;
 
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import yys.safewalk.application.port.in.dto.TouristSpotField;
 import yys.safewalk.application.port.in.dto.TouristSpotResponse;
 import yys.safewalk.domain.model.Coordinate;
 import yys.safewalk.infrastructure.adapter.out.persistence.PopularTouristSpotsJPARepository;
 
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -27,19 +34,63 @@ public class TouristSpotAreaService {
                 )
                 .stream()
                 .map(spot -> new TouristSpotResponse(
-                        spot.getTouristSpotId(),
-                        spot.getSpotName(),
-                        spot.getSidoName(),
-                        spot.getSigunguName(),
-                        spot.getCategory(),
+                        spot.touristSpotId(),
+                        spot.spotName(),
+                        spot.sidoName(),
+                        spot.sigunguName(),
+                        spot.category(),
                         new Coordinate(
-                        spot.getLatitude(),
-                        spot.getLongitude()
+                        spot.latitude(),
+                        spot.longitude()
                         )
                 ))
                 .toList();
     }
 
+    /**
+     * fields 에 포함된 필드만 조회해 JSON 속성 이름을 키로 하는 Map 으로 반환
+     */
+    public List<Map<String, Object>> getTouristSpotsByArea(Coordinate swCoordinate, Coordinate neCoordinate,
+                                                           Set<TouristSpotField> fields) {
+        validateCoordinates(swCoordinate, neCoordinate);
+
+        Set<String> attributes = new LinkedHashSet<>();
+        fields.forEach(field -> attributes.addAll(attributesOf(field)));
+
+        return popularTouristSpotsJPARepository.findAttributesInBounds(
+                        attributes,
+                        swCoordinate.latitude(),
+                        neCoordinate.latitude(),
+                        swCoordinate.longitude(),
+                        neCoordinate.longitude()
+                )
+                .stream()
+                .map(tuple -> toSparseResponse(tuple, fields))
+                .toList();
+    }
+
+    private List<String> attributesOf(TouristSpotField field) {
+        return switch (field) {
+            case ID -> List.of("touristSpotId");
+            case SPOT_NAME -> List.of("spotName");
+            case SIDO_NAME -> List.of("sidoName");
+            case SIGUNGU_NAME -> List.of("sigunguName");
+            case CATEGORY -> List.of("category");
+            case COORDINATE -> List.of("latitude", "longitude");
+        };
+    }
+
+    private Map<String, Object> toSparseResponse(Tuple tuple, Set<TouristSpotField> fields) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (TouristSpotField field : fields) {
+            Object value = field == TouristSpotField.COORDINATE
+                    ? new Coordinate(tuple.get("latitude", BigDecimal.class), tuple.get("longitude", BigDecimal.class))
+                    : tuple.get(attributesOf(field).get(0));
+            response.put(field.wireName(), value);
+        }
+        return response;
+    }
+
     private void validateCoordinates(Coordinate swCoordinate, Coordinate neCoordinate) {
         if (swCoordinate.latitude().compareTo(neCoordinate.latitude()) >= 0 ||
                 swCoordinate.longitude().compareTo(neCoordinate.longitude()) >= 0) {
@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import yys.safewalk.entity.PopularTouristSpotsEntity;
-import yys.safewalk.infrastructure.adapter.out.persistence.PopularTouristSpotsJPARepository;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangePublisher;
+import yys.safewalk.entity.TouristSpotEntity;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotJpaRepository;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotWriter;
 import yys.safewalk.infrastructure.external.NaverLocalSearchApiClient;
 
 import java.math.BigDecimal;
@@ -22,7 +25,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TouristSpotCoordinateNaverService {
 
-    private final PopularTouristSpotsJPARepository popularTouristSpotsJPARepository;
+    private final TouristSpotJpaRepository touristSpotJpaRepository;
+    private final TouristSpotWriter touristSpotWriter;
+    private final DatasetChangePublisher datasetChangePublisher;
     private final NaverLocalSearchApiClient naverApiClient;
     
     // 병렬 처리를 위한 스레드 풀 (네이버 API 제한 고려하여 크기 조정)
@@ -30,7 +35,7 @@ public class TouristSpotCoordinateNaverService {
 
     @Transactional
     public void updateAllCoordinates() {
-        List<PopularTouristSpotsEntity> spotsWithoutCoordinates = popularTouristSpotsJPARepository.findByLongitudeIsNullOrLatitudeIsNull();
+        List<TouristSpotEntity> spotsWithoutCoordinates = touristSpotJpaRepository.findByLongitudeIsNullOrLatitudeIsNull();
 
         log.info("네이버 API로 좌표가 없는 관광지 {}개 발견", spotsWithoutCoordinates.size());
 
@@ -45,7 +50,7 @@ public class TouristSpotCoordinateNaverService {
         for (int i = 0; i < totalBatches; i++) {
             int startIndex = i * batchSize;
             int endIndex = Math.min(startIndex + batchSize, spotsWithoutCoordinates.size());
-            List<PopularTouristSpotsEntity> batch = spotsWithoutCoordinates.subList(startIndex, endIndex);
+            List<TouristSpotEntity> batch = spotsWithoutCoordinates.subList(startIndex, endIndex);
             
             log.info("배치 {}/{} 처리 중... ({}-{})", i + 1, totalBatches, startIndex + 1, endIndex);
             
@@ -56,7 +61,7 @@ public class TouristSpotCoordinateNaverService {
                             updateCoordinate(spot);
                         } catch (Exception e) {
                             log.error("좌표 업데이트 실패: id={}, name={}, error={}",
-                                    spot.getId(), spot.getSpotName(), e.getMessage());
+                                    spot.getTouristSpotId(), spot.getSpotName(), e.getMessage());
                         }
                     }, executorService))
                     .collect(Collectors.toList());
@@ -80,10 +85,11 @@ public class TouristSpotCoordinateNaverService {
         }
 
         log.info("네이버 API 좌표 업데이트 완료: 성공={}, 실패={}", successCount, failCount);
+        datasetChangePublisher.publish(Dataset.TOURIST_SPOTS);
     }
 
     @Transactional
-    public void updateCoordinate(PopularTouristSpotsEntity spot) {
+    public void updateCoordinate(TouristSpotEntity spot) {
         String searchQuery = buildSearchQuery(spot);
 
         // 개별 API 호출 전 딜레이 추가 (네이버 API 제한 고려)
@@ -133,7 +139,7 @@ public class TouristSpotCoordinateNaverService {
                             }
                         }
 
-                        popularTouristSpotsJPARepository.save(spot);
+                        touristSpotWriter.save(spot);
                         log.debug("좌표 업데이트 성공: {} -> ({}, {})",
                                 searchQuery, spot.getLongitude(), spot.getLatitude());
                     },
@@ -144,17 +150,17 @@ public class TouristSpotCoordinateNaverService {
                 );
             }).exceptionally(throwable -> {
                 log.error("좌표 업데이트 실패: id={}, name={}, error={}",
-                        spot.getId(), spot.getSpotName(), throwable.getMessage());
+                        spot.getTouristSpotId(), spot.getSpotName(), throwable.getMessage());
                 return null;
             });
             
         } catch (Exception e) {
             log.error("좌표 업데이트 중 예외 발생: id={}, name={}, error={}",
-                    spot.getId(), spot.getSpotName(), e.getMessage());
+                    spot.getTouristSpotId(), spot.getSpotName(), e.getMessage());
         }
     }
 
-    private void tryAlternativeSearch(PopularTouristSpotsEntity spot) {
+    private void tryAlternativeSearch(TouristSpotEntity spot) {
         String alternativeQuery = spot.getSpotName();
         
         try {
@@ -192,7 +198,7 @@ public class TouristSpotCoordinateNaverService {
                             }
                         }
 
-                        popularTouristSpotsJPARepository.save(spot);
+                        touristSpotWriter.save(spot);
                         log.debug("대체 검색으로 좌표 업데이트 성공: {} -> ({}, {})",
                                 alternativeQuery, spot.getLongitude(), spot.getLatitude());
                     },
@@ -202,11 +208,11 @@ public class TouristSpotCoordinateNaverService {
             
         } catch (Exception e) {
             log.error("대체 검색 실패: id={}, name={}, error={}",
-                    spot.getId(), spot.getSpotName(), e.getMessage());
+                    spot.getTouristSpotId(), spot.getSpotName(), e.getMessage());
         }
     }
 
-    private String buildSearchQuery(PopularTouristSpotsEntity spot) {
+    private String buildSearchQuery(TouristSpotEntity spot) {
         // "경상북도 경주시 불국사" 형태로 검색어 구성
         StringBuilder query = new StringBuilder();
 
@@ -350,8 +356,8 @@ public class TouristSpotCoordinateNaverService {
      * ID로 관광지를 조회하여 좌표 업데이트
      */
     @Transactional
-    public void updateCoordinateById(Long id) {
-        PopularTouristSpotsEntity spot = popularTouristSpotsJPARepository.findById(id)
+    public void updateCoordinateById(String id) {
+        TouristSpotEntity spot = touristSpotJpaRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("ID " + id + "에 해당하는 관광지를 찾을 수 없습니다."));
         
         log.info("ID {} 관광지 좌표 업데이트 시작 (네이버 API): {}", id, spot.getSpotName());
@@ -362,13 +368,13 @@ public class TouristSpotCoordinateNaverService {
      * ID 목록으로 여러 관광지의 좌표 일괄 업데이트
      */
     @Transactional
-    public void updateCoordinatesByIds(List<Long> ids) {
+    public void updateCoordinatesByIds(List<String> ids) {
         log.info("{}개 관광지의 좌표 일괄 업데이트 시작 (네이버 API)", ids.size());
         
         int successCount = 0;
         int failCount = 0;
         
-        for (Long id : ids) {
+        for (String id : ids) {
             try {
                 updateCoordinateById(id);
                 successCount++;
@@ -383,6 +389,7 @@ public class TouristSpotCoordinateNaverService {
         }
         
         log.info("ID 기반 좌표 업데이트 완료 (네이버 API): 성공={}, 실패={}", successCount, failCount);
+        datasetChangePublisher.publish(Dataset.TOURIST_SPOTS);
     }
 
     @jakarta.annotation.PreDestroy
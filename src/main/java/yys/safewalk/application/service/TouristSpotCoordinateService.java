@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import yys.safewalk.entity.PopularTouristSpotsEntity;
-import yys.safewalk.infrastructure.adapter.out.persistence.PopularTouristSpotsJPARepository;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangePublisher;
+import yys.safewalk.entity.TouristSpotEntity;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotJpaRepository;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotWriter;
 import yys.safewalk.infrastructure.external.KakaoMapApiClient;
 
 
@@ -20,12 +23,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TouristSpotCoordinateService {
 
-    private final PopularTouristSpotsJPARepository popularTouristSpotsJPARepository;
+    private final TouristSpotJpaRepository touristSpotJpaRepository;
+    private final TouristSpotWriter touristSpotWriter;
+    private final DatasetChangePublisher datasetChangePublisher;
     private final KakaoMapApiClient kakaoMapApiClient;
 
     @Transactional
     public void updateAllCoordinates() {
-        List<PopularTouristSpotsEntity> spotsWithoutCoordinates = popularTouristSpotsJPARepository.findByLongitudeIsNullOrLatitudeIsNull();
+        List<TouristSpotEntity> spotsWithoutCoordinates = touristSpotJpaRepository.findByLongitudeIsNullOrLatitudeIsNull();
 
         log.info("좌표가 없는 관광지 {}개 발견", spotsWithoutCoordinates.size());
 
@@ -40,7 +45,7 @@ public class TouristSpotCoordinateService {
         for (int i = 0; i < totalBatches; i++) {
             int startIndex = i * batchSize;
             int endIndex = Math.min(startIndex + batchSize, spotsWithoutCoordinates.size());
-            List<PopularTouristSpotsEntity> batch = spotsWithoutCoordinates.subList(startIndex, endIndex);
+            List<TouristSpotEntity> batch = spotsWithoutCoordinates.subList(startIndex, endIndex);
             
             log.info("배치 {}/{} 처리 중... ({}-{})", i + 1, totalBatches, startIndex + 1, endIndex);
             
@@ -51,7 +56,7 @@ public class TouristSpotCoordinateService {
                             updateCoordinate(spot);
                         } catch (Exception e) {
                             log.error("좌표 업데이트 실패: id={}, name={}, error={}",
-                                    spot.getId(), spot.getSpotName(), e.getMessage());
+                                    spot.getTouristSpotId(), spot.getSpotName(), e.getMessage());
                         }
                     }))
                     .collect(Collectors.toList());
@@ -74,10 +79,11 @@ public class TouristSpotCoordinateService {
         }
 
         log.info("좌표 업데이트 완료: 성공={}, 실패={}", successCount, failCount);
+        datasetChangePublisher.publish(Dataset.TOURIST_SPOTS);
     }
 
     @Transactional
-    public void updateCoordinate(PopularTouristSpotsEntity spot) {
+    public void updateCoordinate(TouristSpotEntity spot) {
         String searchQuery = buildSearchQuery(spot);
 
         try {
@@ -102,7 +108,7 @@ public class TouristSpotCoordinateService {
                             }
                         }
 
-                        popularTouristSpotsJPARepository.save(spot);
+                        touristSpotWriter.save(spot);
                         log.debug("좌표 업데이트 성공: {} -> ({}, {})",
                                 searchQuery, document.getLongitude(), document.getLatitude());
                     },
@@ -113,17 +119,17 @@ public class TouristSpotCoordinateService {
                 );
             }).exceptionally(throwable -> {
                 log.error("좌표 업데이트 실패: id={}, name={}, error={}",
-                        spot.getId(), spot.getSpotName(), throwable.getMessage());
+                        spot.getTouristSpotId(), spot.getSpotName(), throwable.getMessage());
                 return null;
             });
             
         } catch (Exception e) {
             log.error("좌표 업데이트 중 예외 발생: id={}, name={}, error={}",
-                    spot.getId(), spot.getSpotName(), e.getMessage());
+                    spot.getTouristSpotId(), spot.getSpotName(), e.getMessage());
         }
     }
 
-    private void tryAlternativeSearch(PopularTouristSpotsEntity spot) {
+    private void tryAlternativeSearch(TouristSpotEntity spot) {
         String alternativeQuery = spot.getSpotName();
         
         try {
@@ -144,7 +150,7 @@ public class TouristSpotCoordinateService {
                             }
                         }
 
-                        popularTouristSpotsJPARepository.save(spot);
+                        touristSpotWriter.save(spot);
                         log.debug("대체 검색으로 좌표 업데이트 성공: {} -> ({}, {})",
                                 alternativeQuery, document.getLongitude(), document.getLatitude());
                     },
@@ -154,11 +160,11 @@ public class TouristSpotCoordinateService {
             
         } catch (Exception e) {
             log.error("대체 검색 실패: id={}, name={}, error={}",
-                    spot.getId(), spot.getSpotName(), e.getMessage());
+                    spot.getTouristSpotId(), spot.getSpotName(), e.getMessage());
         }
     }
 
-    private String buildSearchQuery(PopularTouristSpotsEntity spot) {
+    private String buildSearchQuery(TouristSpotEntity spot) {
         // "경상북도 경주시 불국사" 형태로 검색어 구성
         StringBuilder query = new StringBuilder();
 
@@ -0,0 +1,35 @@
+package yys.safewalk.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import yys.safewalk.application.port.in.dto.TouristSpotRiskResponse;
+import yys.safewalk.application.port.out.LoadTouristSpotRiskPort;
+import yys.safewalk.application.usecase.GetTouristSpotRiskUseCase;
+import yys.safewalk.domain.model.TouristSpotRiskProfile;
+
+@Service
+@RequiredArgsConstructor
+public class TouristSpotRiskService implements GetTouristSpotRiskUseCase {
+
+    private final LoadTouristSpotRiskPort loadTouristSpotRiskPort;
+
+    @Override
+    public TouristSpotRiskResponse getRiskProfile(String spotId) {
+        TouristSpotRiskProfile profile = loadTouristSpotRiskPort.findRiskProfile(spotId)
+                .orElseThrow(() -> new IllegalArgumentException("관광지 위험도 정보를 찾을 수 없습니다: " + spotId));
+
+        return new TouristSpotRiskResponse(
+                profile.touristSpotId(),
+                profile.spotName(),
+                profile.radii().stream()
+                        .map(risk -> new TouristSpotRiskResponse.RadiusRisk(
+                                risk.radiusKm(),
+                                risk.hotspotCount(),
+                                risk.accidentCount(),
+                                risk.casualtyCount(),
+                                risk.deathCount()
+                        ))
+                        .toList()
+        );
+    }
+}
@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import yys.safewalk.entity.PopularTouristSpotsEntity;
-import yys.safewalk.infrastructure.adapter.out.persistence.PopularTouristSpotsJPARepository;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangePublisher;
+import yys.safewalk.entity.TouristSpotEntity;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotJpaRepository;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotWriter;
 import yys.safewalk.infrastructure.external.NaverLocalSearchApiClient;
 
 import java.util.List;
@@ -19,7 +22,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TouristSpotSigunguUpdateNaverService {
 
-    private final PopularTouristSpotsJPARepository popularTouristSpotsJPARepository;
+    private final TouristSpotJpaRepository touristSpotJpaRepository;
+    private final TouristSpotWriter touristSpotWriter;
+    private final DatasetChangePublisher datasetChangePublisher;
     private final NaverLocalSearchApiClient naverApiClient;
     
     // 병렬 처리를 위한 스레드 풀
@@ -27,7 +32,7 @@ public class TouristSpotSigunguUpdateNaverService {
 
     @Transactional
     public void updateAllSigunguNames() {
-        List<PopularTouristSpotsEntity> spotsWithoutSigungu = popularTouristSpotsJPARepository.findBySigunguNameIsNull();
+        List<TouristSpotEntity> spotsWithoutSigungu = touristSpotJpaRepository.findBySigunguNameIsNull();
 
         log.info("네이버 API로 시군구명이 없는 관광지 {}개 발견", spotsWithoutSigungu.size());
 
@@ -42,7 +47,7 @@ public class TouristSpotSigunguUpdateNaverService {
         for (int i = 0; i < totalBatches; i++) {
             int startIndex = i * batchSize;
             int endIndex = Math.min(startIndex + batchSize, spotsWithoutSigungu.size());
-            List<PopularTouristSpotsEntity> batch = spotsWithoutSigungu.subList(startIndex, endIndex);
+            List<TouristSpotEntity> batch = spotsWithoutSigungu.subList(startIndex, endIndex);
             
             log.info("배치 {}/{} 처리 중... ({}-{})", i + 1, totalBatches, startIndex + 1, endIndex);
             
@@ -53,7 +58,7 @@ public class TouristSpotSigunguUpdateNaverService {
                             updateSigunguName(spot);
                         } catch (Exception e) {
                             log.error("시군구명 업데이트 실패: id={}, name={}, error={}",
-                                    spot.getId(), spot.getSpotName(), e.getMessage());
+                                    spot.getTouristSpotId(), spot.getSpotName(), e.getMessage());
                         }
                     }, executorService))
                     .collect(Collectors.toList());
@@ -77,10 +82,11 @@ public class TouristSpotSigunguUpdateNaverService {
         }
 
         log.info("네이버 API 시군구명 업데이트 완료: 성공={}, 실패={}", successCount, failCount);
+        datasetChangePublisher.publish(Dataset.TOURIST_SPOTS);
     }
 
     @Transactional
-    public void updateSigunguName(PopularTouristSpotsEntity spot) {
+    public void updateSigunguName(TouristSpotEntity spot) {
         if (spot.getSigunguName() != null) {
             log.debug("이미 시군구명이 설정되어 있음: {}", spot.getSpotName());
             return;
@@ -115,7 +121,7 @@ public class TouristSpotSigunguUpdateNaverService {
                             String extractedSigungu = extractSigunguFromAddress(item.address());
                             if (extractedSigungu != null) {
                                 spot.setSigunguName(extractedSigungu);
-                                popularTouristSpotsJPARepository.save(spot);
+                                touristSpotWriter.save(spot);
                                 
                                 log.info("시군구명 업데이트 성공: {} -> {} (주소: {})", 
                                         spot.getSpotName(), extractedSigungu, item.address());
@@ -131,7 +137,7 @@ public class TouristSpotSigunguUpdateNaverService {
                 );
     }
 
-    private void tryAlternativeSearch(PopularTouristSpotsEntity spot) {
+    private void tryAlternativeSearch(TouristSpotEntity spot) {
         String alternativeQuery = spot.getSpotName();
         log.info("대체 검색 시도: {} -> 검색어: {}", spot.getSpotName(), alternativeQuery);
 
@@ -151,7 +157,7 @@ public class TouristSpotSigunguUpdateNaverService {
                             String extractedSigungu = extractSigunguFromAddress(item.address());
                             if (extractedSigungu != null) {
                                 spot.setSigunguName(extractedSigungu);
-                                popularTouristSpotsJPARepository.save(spot);
+                                touristSpotWriter.save(spot);
                                 
                                 log.info("대체 검색으로 시군구명 업데이트 성공: {} -> {} (주소: {})", 
                                         spot.getSpotName(), extractedSigungu, item.address());
@@ -164,7 +170,7 @@ public class TouristSpotSigunguUpdateNaverService {
                 );
     }
 
-    private String buildSearchQuery(PopularTouristSpotsEntity spot) {
+    private String buildSearchQuery(TouristSpotEntity spot) {
         StringBuilder query = new StringBuilder();
 
         if (spot.getSidoName() != null) {
@@ -269,8 +275,8 @@ public class TouristSpotSigunguUpdateNaverService {
      * ID로 관광지를 조회하여 시군구명 업데이트
      */
     @Transactional
-    public void updateSigunguNameById(Long id) {
-        PopularTouristSpotsEntity spot = popularTouristSpotsJPARepository.findById(id)
+    public void updateSigunguNameById(String id) {
+        TouristSpotEntity spot = touristSpotJpaRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("ID " + id + "에 해당하는 관광지를 찾을 수 없습니다."));
         
         log.info("ID {} 관광지 시군구명 업데이트 시작 (네이버 API): {}", id, spot.getSpotName());
@@ -281,13 +287,13 @@ public class TouristSpotSigunguUpdateNaverService {
      * ID 목록으로 여러 관광지의 시군구명 일괄 업데이트
      */
     @Transactional
-    public void updateSigunguNamesByIds(List<Long> ids) {
+    public void updateSigunguNamesByIds(List<String> ids) {
         log.info("{}개 관광지의 시군구명 일괄 업데이트 시작 (네이버 API)", ids.size());
         
         int successCount = 0;
         int failCount = 0;
         
-        for (Long id : ids) {
+        for (String id : ids) {
             try {
                 updateSigunguNameById(id);
                 successCount++;
@@ -302,6 +308,7 @@ public class TouristSpotSigunguUpdateNaverService {
         }
         
         log.info("ID 기반 시군구명 업데이트 완료 (네이버 API): 성공={}, 실패={}", successCount, failCount);
+        datasetChangePublisher.publish(Dataset.TOURIST_SPOTS);
     }
 
     @jakarta.annotation.PreDestroy
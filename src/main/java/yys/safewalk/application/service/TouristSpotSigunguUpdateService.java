@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import yys.safewalk.entity.PopularTouristSpotsEntity;
-import yys.safewalk.infrastructure.adapter.out.persistence.PopularTouristSpotsJPARepository;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangePublisher;
+import yys.safewalk.entity.TouristSpotEntity;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotJpaRepository;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotWriter;
 import yys.safewalk.infrastructure.external.KakaoMapApiClient;
 
 import java.util.List;
@@ -20,7 +23,9 @@ import jakarta.annotation.PreDestroy;
 @RequiredArgsConstructor
 public class TouristSpotSigunguUpdateService {
 
-    private final PopularTouristSpotsJPARepository popularTouristSpotsJPARepository;
+    private final TouristSpotJpaRepository touristSpotJpaRepository;
+    private final TouristSpotWriter touristSpotWriter;
+    private final DatasetChangePublisher datasetChangePublisher;
     private final KakaoMapApiClient kakaoMapApiClient;
     
     // 병렬 처리를 위한 스레드 풀
@@ -28,7 +33,7 @@ public class TouristSpotSigunguUpdateService {
 
     @Transactional
     public void updateAllSigunguNames() {
-        List<PopularTouristSpotsEntity> spotsWithoutSigungu = popularTouristSpotsJPARepository.findBySigunguNameIsNull();
+        List<TouristSpotEntity> spotsWithoutSigungu = touristSpotJpaRepository.findBySigunguNameIsNull();
 
         log.info("시군구명이 없는 관광지 {}개 발견", spotsWithoutSigungu.size());
 
@@ -43,7 +48,7 @@ public class TouristSpotSigunguUpdateService {
         for (int i = 0; i < totalBatches; i++) {
             int startIndex = i * batchSize;
             int endIndex = Math.min(startIndex + batchSize, spotsWithoutSigungu.size());
-            List<PopularTouristSpotsEntity> batch = spotsWithoutSigungu.subList(startIndex, endIndex);
+            List<TouristSpotEntity> batch = spotsWithoutSigungu.subList(startIndex, endIndex);
             
             log.info("배치 {}/{} 처리 중... ({}-{})", i + 1, totalBatches, startIndex + 1, endIndex);
             
@@ -54,7 +59,7 @@ public class TouristSpotSigunguUpdateService {
                             updateSigunguName(spot);
                         } catch (Exception e) {
                             log.error("시군구명 업데이트 실패: id={}, name={}, error={}",
-                                    spot.getId(), spot.getSpotName(), e.getMessage());
+                                    spot.getTouristSpotId(), spot.getSpotName(), e.getMessage());
                         }
                     }, executorService))
                     .collect(Collectors.toList());
@@ -77,6 +82,7 @@ public class TouristSpotSigunguUpdateService {
         }
 
         log.info("시군구명 업데이트 완료: 성공={}, 실패={}", successCount, failCount);
+        datasetChangePublisher.publish(Dataset.TOURIST_SPOTS);
     }
 
     /**
@@ -137,7 +143,7 @@ public class TouristSpotSigunguUpdateService {
     }
 
     @Transactional
-    public void updateSigunguName(PopularTouristSpotsEntity spot) {
+    public void updateSigunguName(TouristSpotEntity spot) {
         if (spot.getSigunguName() != null) {
             log.debug("이미 시군구명이 설정되어 있음: {}", spot.getSpotName());
             return;
@@ -164,7 +170,7 @@ public class TouristSpotSigunguUpdateService {
                             String extractedSigungu = extractSigunguFromAddress(document.getAddressName());
                             if (extractedSigungu != null) {
                                 spot.setSigunguName(extractedSigungu);
-                                popularTouristSpotsJPARepository.save(spot);
+                                touristSpotWriter.save(spot);
                                 
                                 log.info("시군구명 업데이트 성공: {} -> {} (주소: {})", 
                                         spot.getSpotName(), extractedSigungu, document.getAddressName());
@@ -180,7 +186,7 @@ public class TouristSpotSigunguUpdateService {
                 );
     }
 
-    private void tryAlternativeSearch(PopularTouristSpotsEntity spot) {
+    private void tryAlternativeSearch(TouristSpotEntity spot) {
         String alternativeQuery = spot.getSpotName();
         log.info("대체 검색 시도: {} -> 검색어: {}", spot.getSpotName(), alternativeQuery);
 
@@ -200,7 +206,7 @@ public class TouristSpotSigunguUpdateService {
                             String extractedSigungu = extractSigunguFromAddress(document.getAddressName());
                             if (extractedSigungu != null) {
                                 spot.setSigunguName(extractedSigungu);
-                                popularTouristSpotsJPARepository.save(spot);
+                                touristSpotWriter.save(spot);
                                 
                                 log.info("대체 검색으로 시군구명 업데이트 성공: {} -> {} (주소: {})", 
                                         spot.getSpotName(), extractedSigungu, document.getAddressName());
@@ -213,7 +219,7 @@ public class TouristSpotSigunguUpdateService {
                 );
     }
 
-    private String buildSearchQuery(PopularTouristSpotsEntity spot) {
+    private String buildSearchQuery(TouristSpotEntity spot) {
         StringBuilder query = new StringBuilder();
 
         if (spot.getSidoName() != null) {
@@ -259,8 +265,8 @@ public class TouristSpotSigunguUpdateService {
      * ID로 관광지를 조회하여 시군구명 업데이트
      */
     @Transactional
-    public void updateSigunguNameById(Long id) {
-        PopularTouristSpotsEntity spot = popularTouristSpotsJPARepository.findById(id)
+    public void updateSigunguNameById(String id) {
+        TouristSpotEntity spot = touristSpotJpaRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("ID " + id + "에 해당하는 관광지를 찾을 수 없습니다."));
         
         log.info("ID {} 관광지 시군구명 업데이트 시작: {}", id, spot.getSpotName());
@@ -271,13 +277,13 @@ public class TouristSpotSigunguUpdateService {
      * ID 목록으로 여러 관광지의 시군구명 일괄 업데이트
      */
     @Transactional
-    public void updateSigunguNamesByIds(List<Long> ids) {
+    public void updateSigunguNamesByIds(List<String> ids) {
         log.info("{}개 관광지의 시군구명 일괄 업데이트 시작", ids.size());
         
         int successCount = 0;
         int failCount = 0;
         
-        for (Long id : ids) {
+        for (String id : ids) {
             try {
                 updateSigunguNameById(id);
                 successCount++;
@@ -292,6 +298,7 @@ public class TouristSpotSigunguUpdateService {
         }
         
         log.info("ID 기반 시군구명 업데이트 완료: 성공={}, 실패={}", successCount, failCount);
+        datasetChangePublisher.publish(Dataset.TOURIST_SPOTS);
     }
 
     @PreDestroy
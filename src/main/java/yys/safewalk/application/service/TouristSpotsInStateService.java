@@ -1,12 +1,20 @@
 package yys.safewalk.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import yys.safewalk.application.port.in.PageQuery;
 import yys.safewalk.application.port.in.dto.TouristSpotsInStateResponse;
+import yys.safewalk.application.port.out.LoadTouristSpotRiskPort;
 import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.KeysetPage;
+import yys.safewalk.domain.model.PageCursor;
 import yys.safewalk.infrastructure.adapter.out.persistence.PopularTouristSpotsJPARepository;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotRankProjection;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -14,27 +22,76 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TouristSpotsInStateService {
 
+    public static final String SORT_RANK = "rank";
+    public static final String SORT_RISK = "risk";
+
     private final PopularTouristSpotsJPARepository popularTouristSpotsJPARepository;
+    private final LoadTouristSpotRiskPort loadTouristSpotRiskPort;
+
+    /**
+     * sort 가 risk 면 미리 계산한 반경 riskRadiusKm 내 사고 건수 내림차순 (같으면 rank 순), 아니면 rank 순
+     */
+    public List<TouristSpotsInStateResponse> getTouristSpotsInState(String sidoCode, String mode,
+                                                                    String sort, int riskRadiusKm) {
+        if (!SORT_RISK.equals(sort)) {
+            return getTouristSpotsInState(sidoCode, mode);
+        }
+        if (Arrays.stream(LoadTouristSpotRiskPort.RADII_KM).noneMatch(radius -> radius == riskRadiusKm)) {
+            throw new IllegalArgumentException("위험도 반경은 " + Arrays.toString(LoadTouristSpotRiskPort.RADII_KM)
+                    + "km 중 하나여야 합니다");
+        }
+
+        Comparator<TouristSpotsInStateResponse> byRisk = Comparator.comparingInt(
+                spot -> loadTouristSpotRiskPort.accidentCount(spot.touristSpotId(), riskRadiusKm).orElse(-1));
+        return getTouristSpotsInState(sidoCode, mode).stream()
+                .sorted(byRisk.reversed())
+                .toList();
+    }
 
     public List<TouristSpotsInStateResponse> getTouristSpotsInState(String sidoCode, String mode) {
 
         return popularTouristSpotsJPARepository.findBySidoCodeAndMode(sidoCode, mode)
                 .stream()
-                .map(spot -> new TouristSpotsInStateResponse(
-                        spot.getTouristSpotId(),
-                        spot.getSidoCode(),
-                        spot.getMode(),
-                        spot.getRank(),
-                        spot.getSidoName(),
-                        spot.getSigunguName(),
-                        spot.getSpotName(),
-                        spot.getCategory(),
-                        new Coordinate(spot.getLatitude() != null ? spot.getLatitude() : null,
-                                spot.getLongitude() != null ? spot.getLongitude() : null
-                                )
-
-                ))
+                .map(this::toResponse)
                 .toList();
     }
 
+    /**
+     * (rank, id) 키셋 페이지 조회. 위험도 정렬은 전체 목록을 정렬해야 하므로 지원하지 않는다
+     */
+    public KeysetPage<TouristSpotsInStateResponse> getTouristSpotsInState(String sidoCode, String mode,
+                                                                          String sort, PageQuery page) {
+        if (SORT_RISK.equals(sort)) {
+            throw new IllegalArgumentException("위험도 정렬은 페이지 조회를 지원하지 않습니다");
+        }
+        PageCursor after = page.after();
+        List<TouristSpotRankProjection> spots = popularTouristSpotsJPARepository.findBySidoCodeAndModeAfter(
+                sidoCode,
+                mode,
+                after != null ? after.keyAsInt() : Integer.MIN_VALUE,
+                after != null ? after.id() : 0L,
+                PageRequest.of(0, page.limit()));
+
+        PageCursor next = null;
+        if (spots.size() >= page.limit()) {
+            TouristSpotRankProjection last = spots.get(spots.size() - 1);
+            next = new PageCursor(String.valueOf(last.rank()), last.id());
+        }
+        return new KeysetPage<>(spots.stream().map(this::toResponse).toList(), next);
+    }
+
+    private TouristSpotsInStateResponse toResponse(TouristSpotRankProjection spot) {
+        return new TouristSpotsInStateResponse(
+                spot.touristSpotId(),
+                spot.sidoCode(),
+                spot.mode(),
+                spot.rank(),
+                spot.sidoName(),
+                spot.sigunguName(),
+                spot.spotName(),
+                spot.category(),
+                new Coordinate(spot.latitude(), spot.longitude())
+        );
+    }
+
 }
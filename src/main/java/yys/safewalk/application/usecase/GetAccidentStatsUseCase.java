@@ -0,0 +1,10 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.GetAccidentStatsQuery;
+import yys.safewalk.application.port.in.dto.AccidentStatsDimensionsResponse;
+import yys.safewalk.application.port.in.dto.AccidentStatsResponse;
+
+public interface GetAccidentStatsUseCase {
+    AccidentStatsResponse getStats(GetAccidentStatsQuery query);
+    AccidentStatsDimensionsResponse getDimensions();
+}
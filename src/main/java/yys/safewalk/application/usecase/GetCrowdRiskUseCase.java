@@ -0,0 +1,10 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.GetCrowdRiskQuery;
+import yys.safewalk.application.port.in.dto.CrowdRiskResponse;
+
+import java.util.List;
+
+public interface GetCrowdRiskUseCase {
+    List<CrowdRiskResponse> getCrowdRiskRanking(GetCrowdRiskQuery query);
+}
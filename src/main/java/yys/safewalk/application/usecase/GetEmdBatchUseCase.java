@@ -0,0 +1,8 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.GetEmdBatchQuery;
+import yys.safewalk.application.port.in.dto.EmdBatchResponse;
+
+public interface GetEmdBatchUseCase {
+    EmdBatchResponse getEmdBatch(GetEmdBatchQuery query);
+}
@@ -0,0 +1,8 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.GetEmdBoundariesQuery;
+import yys.safewalk.application.port.in.dto.EmdBoundaryCollectionResponse;
+
+public interface GetEmdBoundariesUseCase {
+    EmdBoundaryCollectionResponse getEmdBoundaries(GetEmdBoundariesQuery query);
+}
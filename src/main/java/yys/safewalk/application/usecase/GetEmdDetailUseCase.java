@@ -3,6 +3,13 @@ package yys.safewalk.application.usecase;
 import yys.safewalk.application.port.in.GetEmdDetailQuery;
 import yys.safewalk.application.port.in.dto.EmdDetailResponse;
 
+import java.util.List;
+
 public interface GetEmdDetailUseCase {
     EmdDetailResponse getEmdDetail(GetEmdDetailQuery query);
-}
\ No newline at end of file
+
+    /**
+     * emdCodes 순서대로 상세를 반환. 데이터가 없는 코드는 getEmdDetail 과 같이 null
+     */
+    List<EmdDetailResponse> getEmdDetails(List<String> emdCodes);
+}
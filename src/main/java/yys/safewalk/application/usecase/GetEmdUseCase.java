@@ -2,11 +2,37 @@ package yys.safewalk.application.usecase;
 
 import yys.safewalk.application.port.in.GetEmdBySidoCodeQuery;
 import yys.safewalk.application.port.in.GetEmdInBoundsQuery;
+import yys.safewalk.application.port.in.PageQuery;
+import yys.safewalk.application.port.in.dto.EmdField;
 import yys.safewalk.application.port.in.dto.EmdInBoundsResponse;
+import yys.safewalk.domain.model.KeysetPage;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface GetEmdUseCase {
     List<EmdInBoundsResponse> getEmdInBounds(GetEmdInBoundsQuery query);
+
+    /**
+     * fields 에 포함된 필드만 JSON 속성 이름을 키로 담아 반환
+     */
+    List<Map<String, Object>> getEmdInBounds(GetEmdInBoundsQuery query, Set<EmdField> fields);
+
     List<EmdInBoundsResponse> getEmdBySidoCode(GetEmdBySidoCodeQuery query);
+
+    /**
+     * 코드 순 키셋 페이지 조회. 8자리 코드 중복은 페이지를 넘어서도 제거한다
+     */
+    KeysetPage<EmdInBoundsResponse> getEmdBySidoCode(GetEmdBySidoCodeQuery query, PageQuery page);
+
+    KeysetPage<EmdInBoundsResponse> getEmdInBounds(GetEmdInBoundsQuery query, PageQuery page);
+
+    /**
+     * 코드 중복을 제거한 결과를 조회 순서대로 한 건씩 action 에 전달
+     */
+    void streamEmdInBounds(GetEmdInBoundsQuery query, Consumer<EmdInBoundsResponse> action);
+
+    void streamEmdBySidoCode(GetEmdBySidoCodeQuery query, Consumer<EmdInBoundsResponse> action);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.GetHeatmapQuery;
+import yys.safewalk.application.port.in.dto.HeatmapResponse;
+
+public interface GetHeatmapUseCase {
+    HeatmapResponse getHeatmap(GetHeatmapQuery query);
+}
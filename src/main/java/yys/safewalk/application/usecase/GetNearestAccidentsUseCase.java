@@ -0,0 +1,10 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.GetNearestAccidentsQuery;
+import yys.safewalk.application.port.in.dto.NearestAccidentResponse;
+
+import java.util.List;
+
+public interface GetNearestAccidentsUseCase {
+    List<NearestAccidentResponse> getNearestAccidents(GetNearestAccidentsQuery query);
+}
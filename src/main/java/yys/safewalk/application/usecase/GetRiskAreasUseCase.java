@@ -0,0 +1,12 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.GetRiskAreasAtPointQuery;
+import yys.safewalk.application.port.in.GetRiskAreasOnRouteQuery;
+import yys.safewalk.application.port.in.dto.RiskAreaResponse;
+
+import java.util.List;
+
+public interface GetRiskAreasUseCase {
+    List<RiskAreaResponse> getRiskAreasAtPoint(GetRiskAreasAtPointQuery query);
+    List<RiskAreaResponse> getRiskAreasOnRoute(GetRiskAreasOnRouteQuery query);
+}
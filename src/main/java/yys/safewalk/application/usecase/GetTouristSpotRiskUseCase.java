@@ -0,0 +1,7 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.dto.TouristSpotRiskResponse;
+
+public interface GetTouristSpotRiskUseCase {
+    TouristSpotRiskResponse getRiskProfile(String spotId);
+}
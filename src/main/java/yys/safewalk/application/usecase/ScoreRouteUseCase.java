@@ -0,0 +1,8 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.ScoreRouteQuery;
+import yys.safewalk.application.port.in.dto.RouteScoreResponse;
+
+public interface ScoreRouteUseCase {
+    RouteScoreResponse scoreRoute(ScoreRouteQuery query);
+}
@@ -0,0 +1,8 @@
+package yys.safewalk.application.usecase;
+
+import yys.safewalk.application.port.in.GetSyncChangesQuery;
+import yys.safewalk.application.port.in.dto.SyncResponse;
+
+public interface SyncChangesUseCase {
+    SyncResponse getChanges(GetSyncChangesQuery query);
+}
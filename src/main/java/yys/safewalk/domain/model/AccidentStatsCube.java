@@ -0,0 +1,208 @@
+package yys.safewalk.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 연도 × 시도 × 사고유형 교통사고 통계 큐브 (불변)
+ *
+ * 셀마다 모든 지표를 연속된 long 배열 구간에 저장하므로
+ * 임의의 필터 조합 집계는 선택된 셀 구간을 더하는 것으로 끝난다.
+ */
+public final class AccidentStatsCube {
+
+    public enum Metric {
+        ACCIDENT_COUNT,
+        DEATH_COUNT,
+        INJURY_COUNT,
+        SPEEDING,
+        CENTER_LINE_VIOLATION,
+        SIGNAL_VIOLATION,
+        UNSAFE_DISTANCE,
+        UNSAFE_DRIVING,
+        PEDESTRIAN_PROTECTION_VIOLATION,
+        OTHER_VIOLATION,
+        VEHICLE_PEDESTRIAN,
+        VEHICLE_VEHICLE,
+        SINGLE_VEHICLE,
+        RAILROAD_CROSSING
+    }
+
+    public static final int METRIC_COUNT = Metric.values().length;
+
+    private static final AccidentStatsCube EMPTY = new AccidentStatsCube(
+            new int[0], new String[0], new String[0], new String[0], new long[0]);
+
+    private final int[] years;
+    private final String[] sidoCodes;
+    private final String[] sidoNames;
+    private final String[] accidentTypes;
+    private final Map<Integer, Integer> yearIndex;
+    private final Map<String, Integer> sidoIndex;
+    private final Map<String, Integer> typeIndex;
+
+    // ((year * sidoCount + sido) * typeCount + type) * METRIC_COUNT + metric
+    private final long[] values;
+
+    private AccidentStatsCube(int[] years, String[] sidoCodes, String[] sidoNames, String[] accidentTypes,
+                              long[] values) {
+        this.years = years;
+        this.sidoCodes = sidoCodes;
+        this.sidoNames = sidoNames;
+        this.accidentTypes = accidentTypes;
+        this.values = values;
+        this.yearIndex = new HashMap<>();
+        for (int i = 0; i < years.length; i++) {
+            yearIndex.put(years[i], i);
+        }
+        this.sidoIndex = indexOf(sidoCodes);
+        this.typeIndex = indexOf(accidentTypes);
+    }
+
+    public static AccidentStatsCube empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int[] years() {
+        return years.clone();
+    }
+
+    /**
+     * 시도 코드 -> 시도명 (코드 순)
+     */
+    public Map<String, String> sidos() {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < sidoCodes.length; i++) {
+            result.put(sidoCodes[i], sidoNames[i]);
+        }
+        return result;
+    }
+
+    public List<String> accidentTypes() {
+        return List.of(accidentTypes);
+    }
+
+    public boolean hasYear(int year) {
+        return yearIndex.containsKey(year);
+    }
+
+    /**
+     * 특정 연도의 선택 시도/유형 합계. 시도나 유형이 비어 있으면 전체로 간주
+     *
+     * @return Metric 순서의 지표 배열. 큐브에 없는 연도면 0 배열
+     */
+    public long[] sum(int year, Collection<String> sidoFilter, Collection<String> typeFilter) {
+        long[] totals = new long[METRIC_COUNT];
+        Integer y = yearIndex.get(year);
+        if (y == null) {
+            return totals;
+        }
+
+        int[] sidos = resolve(sidoFilter, sidoIndex, sidoCodes.length);
+        int[] types = resolve(typeFilter, typeIndex, accidentTypes.length);
+        int typeCount = accidentTypes.length;
+
+        for (int s : sidos) {
+            int rowBase = (y * sidoCodes.length + s) * typeCount;
+            for (int t : types) {
+                int offset = (rowBase + t) * METRIC_COUNT;
+                for (int m = 0; m < METRIC_COUNT; m++) {
+                    totals[m] += values[offset + m];
+                }
+            }
+        }
+        return totals;
+    }
+
+    private static int[] resolve(Collection<String> filter, Map<String, Integer> index, int size) {
+        if (filter == null || filter.isEmpty()) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        return filter.stream()
+                .distinct()
+                .map(index::get)
+                .filter(i -> i != null)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static Map<String, Integer> indexOf(String[] keys) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            index.put(keys[i], i);
+        }
+        return index;
+    }
+
+    /**
+     * 통계 행을 모아 큐브를 만든다. 같은 (연도, 시도, 유형) 행은 합산된다.
+     */
+    public static final class Builder {
+
+        private final List<Row> rows = new ArrayList<>();
+        private final Map<String, String> sidoNames = new TreeMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(int year, String sidoCode, String sidoName, String accidentType, long[] metrics) {
+            if (sidoCode == null || accidentType == null) {
+                throw new IllegalArgumentException("시도 코드와 사고유형은 필수입니다");
+            }
+            if (metrics.length != METRIC_COUNT) {
+                throw new IllegalArgumentException("지표 개수가 올바르지 않습니다: " + metrics.length);
+            }
+            rows.add(new Row(year, sidoCode, accidentType, metrics.clone()));
+            if (sidoName != null || !sidoNames.containsKey(sidoCode)) {
+                sidoNames.put(sidoCode, sidoName);
+            }
+            return this;
+        }
+
+        public AccidentStatsCube build() {
+            if (rows.isEmpty()) {
+                return EMPTY;
+            }
+
+            int[] years = rows.stream().mapToInt(Row::year).distinct().sorted().toArray();
+            String[] sidoCodes = sidoNames.keySet().toArray(new String[0]);
+            String[] names = sidoNames.values().toArray(new String[0]);
+            String[] types = rows.stream().map(Row::accidentType)
+                    .collect(TreeSet::new, TreeSet::add, TreeSet::addAll).toArray(new String[0]);
+
+            Map<String, Integer> sidoIndex = indexOf(sidoCodes);
+            Map<String, Integer> typeIndex = indexOf(types);
+            long[] values = new long[years.length * sidoCodes.length * types.length * METRIC_COUNT];
+
+            for (Row row : rows) {
+                int y = Arrays.binarySearch(years, row.year);
+                int cell = (y * sidoCodes.length + sidoIndex.get(row.sidoCode)) * types.length
+                        + typeIndex.get(row.accidentType);
+                int offset = cell * METRIC_COUNT;
+                for (int m = 0; m < METRIC_COUNT; m++) {
+                    values[offset + m] += row.metrics[m];
+                }
+            }
+
+            return new AccidentStatsCube(years, sidoCodes, names, types, values);
+        }
+
+        private record Row(int year, String sidoCode, String accidentType, long[] metrics) {
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package yys.safewalk.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * 방문객 급증 지역 × 보행자 사고 집계 조인 결과
+ */
+public record CrowdRiskNeighborhood(
+        String sidoName,
+        String sigunguName,
+        String administrativeDong,
+        BigDecimal visitorCount,
+        BigDecimal growthRate,
+        String baseYearMonth,
+        int accidentCount,
+        int casualtyCount,
+        int deathCount,
+        double score
+) {}
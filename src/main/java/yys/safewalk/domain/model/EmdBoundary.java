@@ -0,0 +1,12 @@
+package yys.safewalk.domain.model;
+
+import java.util.List;
+
+/**
+ * 읍면동 경계. polygons 는 폴리곤별 링 배열이며 링은 닫힌 [경도0, 위도0, 경도1, 위도1, ...] 좌표
+ */
+public record EmdBoundary(
+        String emdCode,
+        String name,
+        List<double[][]> polygons
+) {}
@@ -0,0 +1,14 @@
+package yys.safewalk.domain.model;
+
+/**
+ * 법정동 요약 (행정구역 정보 + 사고다발지점 사고 건수 합계)
+ */
+public record EmdSummary(
+        String emdCode,
+        String sido,
+        String sigungu,
+        String eupMyeonDong,
+        Coordinate center,
+        int totalAccident
+) {
+}
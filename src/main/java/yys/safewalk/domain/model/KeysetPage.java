@@ -0,0 +1,20 @@
+package yys.safewalk.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 조회 결과. next 는 마지막으로 읽은 행의 위치이고 더 읽을 행이 없으면 null
+ *
+ * 읽은 행 중 일부가 걸러져 items 가 limit 보다 적어도 next 는 읽은 행 기준이다.
+ */
+public record KeysetPage<T>(List<T> items, PageCursor next) {
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(items.stream().<R>map(mapper).toList(), next);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,12 @@
+package yys.safewalk.domain.model;
+
+public record LegalDong(
+        Long id,
+        String code,
+        String sido,
+        String sigungu,
+        String eupMyeonDong,
+        String subLevel,
+        Coordinate center,
+        String codeType
+) {}
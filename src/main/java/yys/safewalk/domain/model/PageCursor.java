@@ -0,0 +1,47 @@
+package yys.safewalk.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 조회에서 마지막으로 읽은 행의 위치 (정렬 키 + id) 를 담는 불투명 커서
+ *
+ * 문자열 형식은 "id:정렬키" 를 base64url 로 인코딩한 것으로, 정렬 키에 ':' 가 들어갈 수 있어 id 를 앞에 둔다.
+ */
+public record PageCursor(String key, long id) {
+
+    public PageCursor {
+        if (key == null) {
+            throw new IllegalArgumentException("커서 정렬 키가 필요합니다");
+        }
+    }
+
+    public String encode() {
+        String text = id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int keyAsInt() {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다", e);
+        }
+    }
+
+    /**
+     * 비어 있으면 null (첫 페이지). 형식이 잘못되면 IllegalArgumentException
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = text.indexOf(':');
+            return new PageCursor(text.substring(separator + 1), Long.parseLong(text.substring(0, separator)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다", e);
+        }
+    }
+}
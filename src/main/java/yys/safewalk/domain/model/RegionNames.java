@@ -0,0 +1,57 @@
+package yys.safewalk.domain.model;
+
+import java.util.List;
+
+/**
+ * 데이터셋마다 표기가 다른 지역명을 조인 키로 정규화
+ *
+ * 예) "경상북도"/"경북" -> "경북", "역삼1동"/"역삼동" -> "역삼동", "수원시 장안구" -> "수원시장안구"
+ */
+public final class RegionNames {
+
+    // 정식 명칭 접두어 -> 약칭. 긴 접두어를 먼저 검사한다
+    private static final List<String[]> SIDO_ALIASES = List.of(
+            new String[]{"충청북", "충북"}, new String[]{"충청남", "충남"},
+            new String[]{"전라북", "전북"}, new String[]{"전북특별", "전북"},
+            new String[]{"전라남", "전남"},
+            new String[]{"경상북", "경북"}, new String[]{"경상남", "경남"},
+            new String[]{"강원", "강원"}, new String[]{"경기", "경기"}, new String[]{"제주", "제주"},
+            new String[]{"서울", "서울"}, new String[]{"부산", "부산"}, new String[]{"대구", "대구"},
+            new String[]{"인천", "인천"}, new String[]{"광주", "광주"}, new String[]{"대전", "대전"},
+            new String[]{"울산", "울산"}, new String[]{"세종", "세종"}
+    );
+
+    private RegionNames() {
+    }
+
+    public static String sido(String name) {
+        String compact = compact(name);
+        for (String[] alias : SIDO_ALIASES) {
+            if (compact.startsWith(alias[0])) {
+                return alias[1];
+            }
+        }
+        return compact;
+    }
+
+    public static String sigungu(String name) {
+        return compact(name);
+    }
+
+    /**
+     * 행정동의 숫자/"제" 표기를 제거해 법정동명과 맞춘다
+     */
+    public static String dong(String name) {
+        return compact(name)
+                .replaceAll("제(?=\\d)", "")
+                .replaceAll("[\\d·.,]", "");
+    }
+
+    public static String key(String sido, String sigungu, String dong) {
+        return sido(sido) + "|" + sigungu(sigungu) + "|" + dong(dong);
+    }
+
+    private static String compact(String name) {
+        return name == null ? "" : name.replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,19 @@
+package yys.safewalk.domain.model;
+
+/**
+ * 연도별 공식 사고 위험지역
+ */
+public record RiskArea(
+        Long id,
+        Integer yearCode,
+        String sigunguCode,
+        String sigunguName,
+        String riskAreaName,
+        String riskAreaCode,
+        Integer totalAccidentCount,
+        Integer totalDeathCount,
+        Integer totalSeriousInjuryCount,
+        Integer totalMinorInjuryCount,
+        String accidentAnalysisType,
+        Coordinate center
+) {}
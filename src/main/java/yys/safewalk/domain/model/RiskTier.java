@@ -0,0 +1,17 @@
+package yys.safewalk.domain.model;
+
+public enum RiskTier {
+    LOW("저위험"),
+    MEDIUM("중위험"),
+    HIGH("고위험");
+
+    private final String label;
+
+    RiskTier(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,69 @@
+package yys.safewalk.domain.model;
+
+import yys.safewalk.domain.stats.AccidentDistribution;
+
+/**
+ * 지역 맞춤형 위험도 기준. 사고 건수 lowMax 이하 저위험, highMax 이하 중위험, 초과 고위험
+ *
+ * python/region_risk_analyzer.py 의 _generate_adaptive_criteria 와 같은 규칙으로 계산한다.
+ */
+public record RiskTierCriteria(int lowMax, int highMax) {
+
+    private static final int SMALL_REGION_SIZE = 20;
+    private static final int LARGE_REGION_SIZE = 100;
+
+    public static RiskTierCriteria from(AccidentDistribution distribution) {
+        if (distribution.count() == 0) {
+            throw new IllegalArgumentException("분포가 비어 있습니다");
+        }
+
+        double mean = distribution.mean();
+        int q3 = (int) distribution.percentile(75);
+
+        // 1단계: 기본 임계값
+        int medianThreshold = Math.max((int) distribution.percentile(50), 1);
+        int meanBasedLow = Math.max((int) (mean * 0.4), 1);
+        int meanBasedHigh = Math.max((int) (mean * 1.2), q3);
+
+        // 2단계: 분포 특성에 따른 조정
+        int low;
+        int high;
+        if (distribution.skewness() > 1.0) {
+            low = Math.max(medianThreshold, (int) distribution.percentile(33.33));
+            high = Math.min(meanBasedHigh, (int) distribution.percentile(90));
+        } else if (distribution.coefficientOfVariation() > 1.5) {
+            low = Math.max((int) distribution.percentile(25), 1);
+            high = q3;
+        } else {
+            low = Math.max(medianThreshold, meanBasedLow);
+            high = meanBasedHigh;
+        }
+
+        // 3단계: 지역 규모에 따른 조정
+        long size = distribution.count();
+        if (size < SMALL_REGION_SIZE) {
+            low = Math.max(1, (int) (low * 0.8));
+            high = Math.max(low + 2, (int) (high * 0.9));
+        } else if (size > LARGE_REGION_SIZE) {
+            low = (int) (low * 1.1);
+            high = (int) (high * 1.1);
+        }
+
+        // 4단계: 논리적 일관성
+        if (high <= low) {
+            high = low + Math.max(2, (int) (distribution.std() * 0.5));
+        }
+
+        return new RiskTierCriteria(low, high);
+    }
+
+    public RiskTier classify(int accidentCount) {
+        if (accidentCount <= lowMax) {
+            return RiskTier.LOW;
+        }
+        if (accidentCount <= highMax) {
+            return RiskTier.MEDIUM;
+        }
+        return RiskTier.HIGH;
+    }
+}
@@ -0,0 +1,18 @@
+package yys.safewalk.domain.model;
+
+/**
+ * 레이어 변경 한 건. item 이 null 이면 key 가 삭제된 것
+ */
+public record SyncChange<T>(
+        SyncCursor position,
+        String key,
+        T item
+) {
+    public static <T> SyncChange<T> deleted(SyncCursor position, String key) {
+        return new SyncChange<>(position, key, null);
+    }
+
+    public boolean isDeletion() {
+        return item == null;
+    }
+}
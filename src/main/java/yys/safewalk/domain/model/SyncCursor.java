@@ -0,0 +1,33 @@
+package yys.safewalk.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 레이어 변경 스트림의 위치. (시각, 삭제 우선, id) 순서로 정렬되며 이 위치 이후의 변경만 조회한다
+ *
+ * 같은 시각의 삭제(tombstone)를 갱신보다 먼저 두어, 삭제 후 다시 적재한 행이 삭제로 덮이지 않게 한다.
+ */
+public record SyncCursor(
+        LocalDateTime timestamp,
+        boolean deletion,
+        long id
+) implements Comparable<SyncCursor> {
+
+    public static final SyncCursor START = new SyncCursor(LocalDateTime.of(1970, 1, 1, 0, 0), true, 0);
+
+    private static final Comparator<SyncCursor> ORDER = Comparator.comparing(SyncCursor::timestamp)
+            .thenComparing(cursor -> !cursor.deletion())
+            .thenComparingLong(SyncCursor::id);
+
+    public SyncCursor {
+        if (timestamp == null) {
+            throw new IllegalArgumentException("동기화 위치의 시각은 필수입니다");
+        }
+    }
+
+    @Override
+    public int compareTo(SyncCursor other) {
+        return ORDER.compare(this, other);
+    }
+}
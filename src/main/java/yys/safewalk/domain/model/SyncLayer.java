@@ -0,0 +1,30 @@
+package yys.safewalk.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * 델타 동기화 대상 레이어. wireName 은 요청 파라미터/응답 키와 워터마크에 쓰는 이름
+ */
+public enum SyncLayer {
+    PEDESTRIAN_HOTSPOTS("pedestrian-hotspots"),
+    ELDERLY_HOTSPOTS("elderly-hotspots"),
+    TOURIST_SPOTS("tourist-spots"),
+    LEGAL_DONGS("dongs");
+
+    private final String wireName;
+
+    SyncLayer(String wireName) {
+        this.wireName = wireName;
+    }
+
+    public String wireName() {
+        return wireName;
+    }
+
+    public static SyncLayer fromWireName(String name) {
+        return Arrays.stream(values())
+                .filter(layer -> layer.wireName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 동기화 레이어입니다: " + name));
+    }
+}
@@ -0,0 +1,82 @@
+package yys.safewalk.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 레이어별 동기화 위치를 담는 불투명 워터마크
+ *
+ * 문자열 형식은 "레이어=초.나노.삭제여부.id" 를 쉼표로 이은 뒤 base64url 로 인코딩한 것으로,
+ * 클라이언트는 내용을 해석하지 않고 받은 값을 다음 요청에 그대로 보낸다. 시각은 타임존 없는 DB 값 그대로다.
+ */
+public final class SyncWatermark {
+
+    public static final SyncWatermark INITIAL = new SyncWatermark(Map.of());
+
+    private final Map<SyncLayer, SyncCursor> cursors;
+
+    private SyncWatermark(Map<SyncLayer, SyncCursor> cursors) {
+        this.cursors = cursors;
+    }
+
+    public SyncCursor cursorOf(SyncLayer layer) {
+        return cursors.getOrDefault(layer, SyncCursor.START);
+    }
+
+    public SyncWatermark with(Map<SyncLayer, SyncCursor> advanced) {
+        Map<SyncLayer, SyncCursor> merged = new EnumMap<>(SyncLayer.class);
+        merged.putAll(cursors);
+        merged.putAll(advanced);
+        return new SyncWatermark(Map.copyOf(merged));
+    }
+
+    public String encode() {
+        StringBuilder text = new StringBuilder();
+        for (SyncLayer layer : SyncLayer.values()) {
+            SyncCursor cursor = cursors.get(layer);
+            if (cursor == null) {
+                continue;
+            }
+            if (!text.isEmpty()) {
+                text.append(',');
+            }
+            text.append(layer.wireName()).append('=')
+                    .append(cursor.timestamp().toEpochSecond(ZoneOffset.UTC)).append('.')
+                    .append(cursor.timestamp().getNano()).append('.')
+                    .append(cursor.deletion() ? 1 : 0).append('.')
+                    .append(cursor.id());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있으면 처음부터 동기화. 형식이 잘못되면 IllegalArgumentException
+     */
+    public static SyncWatermark decode(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            Map<SyncLayer, SyncCursor> cursors = new EnumMap<>(SyncLayer.class);
+            for (String entry : text.split(",")) {
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                String[] layerAndCursor = entry.split("=", 2);
+                String[] parts = layerAndCursor[1].split("\\.");
+                LocalDateTime timestamp = LocalDateTime.ofEpochSecond(
+                        Long.parseLong(parts[0]), Integer.parseInt(parts[1]), ZoneOffset.UTC);
+                cursors.put(SyncLayer.fromWireName(layerAndCursor[0]),
+                        new SyncCursor(timestamp, parts[2].equals("1"), Long.parseLong(parts[3])));
+            }
+            return new SyncWatermark(Map.copyOf(cursors));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 동기화 워터마크입니다", e);
+        }
+    }
+}
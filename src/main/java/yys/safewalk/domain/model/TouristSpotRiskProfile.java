@@ -0,0 +1,20 @@
+package yys.safewalk.domain.model;
+
+import java.util.List;
+
+/**
+ * 관광지 주변 반경별 사고다발지점 집계 (반경 오름차순)
+ */
+public record TouristSpotRiskProfile(
+        String touristSpotId,
+        String spotName,
+        List<RadiusRisk> radii
+) {
+    public record RadiusRisk(
+            int radiusKm,
+            int hotspotCount,
+            int accidentCount,
+            int casualtyCount,
+            int deathCount
+    ) {}
+}
@@ -0,0 +1,162 @@
+package yys.safewalk.domain.spatial;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 사고 밀도 격자 피라미드 (쿼드트리 레벨 구조)
+ *
+ * 한반도 범위를 최상위 레벨 MAX_LEVEL 에서 1024 x 1024 격자로 나누고, 한 단계 올라갈 때마다
+ * 2 x 2 셀을 합친다. 레벨마다 사고 건수/사상자 수를 int 배열(row-major, row 0 = 남쪽)로 저장하므로
+ * 뷰포트 질의 비용은 해당 레벨에서 뷰포트가 덮는 셀 수에만 비례한다.
+ */
+public final class DensityPyramid {
+
+    public static final double MIN_LAT = 33.0;
+    public static final double MAX_LAT = 38.7;
+    public static final double MIN_LNG = 124.5;
+    public static final double MAX_LNG = 132.0;
+    public static final int MAX_LEVEL = 10;
+
+    @FunctionalInterface
+    public interface CellVisitor {
+        void accept(int row, int col, int accidentCount, int casualtyCount);
+    }
+
+    private final int[][] accidents;
+    private final int[][] casualties;
+
+    private DensityPyramid(int[][] accidents, int[][] casualties) {
+        this.accidents = accidents;
+        this.casualties = casualties;
+    }
+
+    /**
+     * 인덱스의 모든 지점으로 피라미드를 만든다. 범위 밖 지점은 제외
+     */
+    public static DensityPyramid build(HotspotIndex index) {
+        int size = 1 << MAX_LEVEL;
+        int n = index.size();
+
+        // (셀 번호 << 32 | 지점 번호) 를 병렬 정렬해 같은 셀의 지점을 연속 구간으로 모은다
+        long[] keys = new long[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            int cell = cellOf(index.lat(i), index.lng(i), size);
+            keys[i] = cell < 0 ? Long.MAX_VALUE : ((long) cell << 32) | i;
+        });
+        Arrays.parallelSort(keys);
+
+        int[][] accidents = new int[MAX_LEVEL + 1][];
+        int[][] casualties = new int[MAX_LEVEL + 1][];
+        accidents[MAX_LEVEL] = new int[size * size];
+        casualties[MAX_LEVEL] = new int[size * size];
+        for (long key : keys) {
+            if (key == Long.MAX_VALUE) {
+                break;
+            }
+            int cell = (int) (key >>> 32);
+            int point = (int) key;
+            accidents[MAX_LEVEL][cell] += index.accidentCount(point);
+            casualties[MAX_LEVEL][cell] += index.casualtyCount(point);
+        }
+
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            accidents[level] = reduce(accidents[level + 1], 1 << level);
+            casualties[level] = reduce(casualties[level + 1], 1 << level);
+        }
+        return new DensityPyramid(accidents, casualties);
+    }
+
+    public static double cellHeight(int level) {
+        return (MAX_LAT - MIN_LAT) / (1 << level);
+    }
+
+    public static double cellWidth(int level) {
+        return (MAX_LNG - MIN_LNG) / (1 << level);
+    }
+
+    /**
+     * 레벨에서 뷰포트가 덮는 셀 수
+     */
+    public static long cellsInViewport(int level, double minLat, double minLng, double maxLat, double maxLng) {
+        int[] range = range(level, minLat, minLng, maxLat, maxLng);
+        if (range == null) {
+            return 0;
+        }
+        return (long) (range[2] - range[0] + 1) * (range[3] - range[1] + 1);
+    }
+
+    /**
+     * 뷰포트와 겹치는 셀 중 사고가 있는 셀을 visitor 에 전달
+     */
+    public void forEachCell(int level, double minLat, double minLng, double maxLat, double maxLng,
+                            CellVisitor visitor) {
+        if (level < 0 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("레벨은 0 ~ " + MAX_LEVEL + " 범위여야 합니다");
+        }
+        int[] range = range(level, minLat, minLng, maxLat, maxLng);
+        if (range == null) {
+            return;
+        }
+
+        int size = 1 << level;
+        int[] levelAccidents = accidents[level];
+        int[] levelCasualties = casualties[level];
+        for (int row = range[0]; row <= range[2]; row++) {
+            int base = row * size;
+            for (int col = range[1]; col <= range[3]; col++) {
+                int accidentCount = levelAccidents[base + col];
+                if (accidentCount != 0 || levelCasualties[base + col] != 0) {
+                    visitor.accept(row, col, accidentCount, levelCasualties[base + col]);
+                }
+            }
+        }
+    }
+
+    public int totalAccidents() {
+        return accidents[0][0];
+    }
+
+    // [minRow, minCol, maxRow, maxCol], 범위 밖이면 null
+    private static int[] range(int level, double minLat, double minLng, double maxLat, double maxLng) {
+        if (maxLat < MIN_LAT || minLat > MAX_LAT || maxLng < MIN_LNG || minLng > MAX_LNG) {
+            return null;
+        }
+        int size = 1 << level;
+        return new int[]{
+                clamp((int) Math.floor((minLat - MIN_LAT) / cellHeight(level)), size),
+                clamp((int) Math.floor((minLng - MIN_LNG) / cellWidth(level)), size),
+                clamp((int) Math.floor((maxLat - MIN_LAT) / cellHeight(level)), size),
+                clamp((int) Math.floor((maxLng - MIN_LNG) / cellWidth(level)), size)
+        };
+    }
+
+    private static int cellOf(double lat, double lng, int size) {
+        if (lat < MIN_LAT || lat > MAX_LAT || lng < MIN_LNG || lng > MAX_LNG) {
+            return -1;
+        }
+        int row = clamp((int) ((lat - MIN_LAT) / (MAX_LAT - MIN_LAT) * size), size);
+        int col = clamp((int) ((lng - MIN_LNG) / (MAX_LNG - MIN_LNG) * size), size);
+        return row * size + col;
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    // 하위 레벨의 2 x 2 셀을 합쳐 size x size 레벨을 만든다 (행 단위 병렬)
+    private static int[] reduce(int[] child, int size) {
+        int childSize = size * 2;
+        int[] parent = new int[size * size];
+        IntStream.range(0, size).parallel().forEach(row -> {
+            int top = (row * 2) * childSize;
+            int bottom = top + childSize;
+            for (int col = 0; col < size; col++) {
+                int c = col * 2;
+                parent[row * size + col] = child[top + c] + child[top + c + 1]
+                        + child[bottom + c] + child[bottom + c + 1];
+            }
+        });
+        return parent;
+    }
+}
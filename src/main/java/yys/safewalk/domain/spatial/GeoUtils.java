@@ -0,0 +1,120 @@
+package yys.safewalk.domain.spatial;
+
+/**
+ * 위경도 기반 거리 계산 유틸리티
+ * x = 경도(lng), y = 위도(lat) 규칙을 따른다.
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // 위도 1도에 해당하는 거리 (m)
+    public static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 지점 사이의 대원 거리 (m)
+     */
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public static double metersToLatDegrees(double meters) {
+        return meters / METERS_PER_DEGREE;
+    }
+
+    public static double metersToLngDegrees(double meters, double atLat) {
+        double cos = Math.max(Math.cos(Math.toRadians(atLat)), 1e-6);
+        return meters / (METERS_PER_DEGREE * cos);
+    }
+
+    /**
+     * 점에서 사각형(경계 상자)까지의 최소 거리 (m). 점이 사각형 안에 있으면 0
+     */
+    public static double pointToEnvelopeMeters(double lat, double lng,
+                                               double minLat, double minLng, double maxLat, double maxLng) {
+        double clampedLat = Math.max(minLat, Math.min(lat, maxLat));
+        double clampedLng = Math.max(minLng, Math.min(lng, maxLng));
+        if (clampedLat == lat && clampedLng == lng) {
+            return 0.0;
+        }
+        return haversineMeters(lat, lng, clampedLat, clampedLng);
+    }
+
+    /**
+     * 점과 선분 사이의 최소 거리 (m)
+     * 점 주변의 국지 등장방형 투영을 사용하므로 수 km 이내 구간에서 충분히 정확하다.
+     */
+    public static double pointToSegmentMeters(double lat, double lng,
+                                              double lat1, double lng1, double lat2, double lng2) {
+        double cos = Math.cos(Math.toRadians(lat));
+        double ax = (lng1 - lng) * cos;
+        double ay = lat1 - lat;
+        double bx = (lng2 - lng) * cos;
+        double by = lat2 - lat;
+        return Math.sqrt(originToSegmentSquared(ax, ay, bx, by)) * METERS_PER_DEGREE;
+    }
+
+    /**
+     * 두 선분 사이의 최소 거리 (m). 교차하면 0
+     */
+    public static double segmentToSegmentMeters(double lat1, double lng1, double lat2, double lng2,
+                                                double lat3, double lng3, double lat4, double lng4) {
+        if (segmentsIntersect(lng1, lat1, lng2, lat2, lng3, lat3, lng4, lat4)) {
+            return 0.0;
+        }
+        return Math.min(
+                Math.min(pointToSegmentMeters(lat1, lng1, lat3, lng3, lat4, lng4),
+                        pointToSegmentMeters(lat2, lng2, lat3, lng3, lat4, lng4)),
+                Math.min(pointToSegmentMeters(lat3, lng3, lat1, lng1, lat2, lng2),
+                        pointToSegmentMeters(lat4, lng4, lat1, lng1, lat2, lng2)));
+    }
+
+    /**
+     * 평면 좌표 기준 두 선분 (x1,y1)-(x2,y2), (x3,y3)-(x4,y4)의 교차 여부
+     */
+    public static boolean segmentsIntersect(double x1, double y1, double x2, double y2,
+                                            double x3, double y3, double x4, double y4) {
+        double d1 = orientation(x3, y3, x4, y4, x1, y1);
+        double d2 = orientation(x3, y3, x4, y4, x2, y2);
+        double d3 = orientation(x1, y1, x2, y2, x3, y3);
+        double d4 = orientation(x1, y1, x2, y2, x4, y4);
+
+        if (((d1 > 0 && d2 < 0) || (d1 < 0 && d2 > 0)) && ((d3 > 0 && d4 < 0) || (d3 < 0 && d4 > 0))) {
+            return true;
+        }
+        return (d1 == 0 && onSegment(x3, y3, x4, y4, x1, y1))
+                || (d2 == 0 && onSegment(x3, y3, x4, y4, x2, y2))
+                || (d3 == 0 && onSegment(x1, y1, x2, y2, x3, y3))
+                || (d4 == 0 && onSegment(x1, y1, x2, y2, x4, y4));
+    }
+
+    private static double orientation(double ax, double ay, double bx, double by, double cx, double cy) {
+        return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+    }
+
+    private static boolean onSegment(double ax, double ay, double bx, double by, double px, double py) {
+        return Math.min(ax, bx) <= px && px <= Math.max(ax, bx)
+                && Math.min(ay, by) <= py && py <= Math.max(ay, by);
+    }
+
+    // 원점에서 선분 (ax,ay)-(bx,by)까지 거리의 제곱
+    private static double originToSegmentSquared(double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : -(ax * dx + ay * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        double px = ax + t * dx;
+        double py = ay + t * dy;
+        return px * px + py * py;
+    }
+}
@@ -0,0 +1,152 @@
+package yys.safewalk.domain.spatial;
+
+import yys.safewalk.domain.model.AccidentDetail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 보행자/고령 보행자 사고다발지점 메모리 인덱스 (불변)
+ *
+ * 지점별 좌표와 집계값을 원시 배열로, 응답용 AccidentDetail 은 같은 순서의 배열로 보관한다.
+ * 지점 번호(0..size-1)는 R-tree 항목 id 와 같다.
+ */
+public final class HotspotIndex {
+
+    public enum Kind {
+        PEDESTRIAN,
+        ELDERLY
+    }
+
+    private static final HotspotIndex EMPTY = builder().build();
+
+    private final AccidentDetail[] details;
+    private final Kind[] kinds;
+    private final double[] lats;
+    private final double[] lngs;
+    private final int[] accidentCounts;
+    private final int[] casualtyCounts;
+    private final int[] deathCounts;
+    private final PackedRTree tree;
+
+    private HotspotIndex(AccidentDetail[] details, Kind[] kinds, double[] lats, double[] lngs,
+                         int[] accidentCounts, int[] casualtyCounts, int[] deathCounts) {
+        this.details = details;
+        this.kinds = kinds;
+        this.lats = lats;
+        this.lngs = lngs;
+        this.accidentCounts = accidentCounts;
+        this.casualtyCounts = casualtyCounts;
+        this.deathCounts = deathCounts;
+        this.tree = PackedRTree.ofPoints(lngs, lats);
+    }
+
+    public static HotspotIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return details.length;
+    }
+
+    public AccidentDetail detail(int i) {
+        return details[i];
+    }
+
+    public Kind kind(int i) {
+        return kinds[i];
+    }
+
+    public double lat(int i) {
+        return lats[i];
+    }
+
+    public double lng(int i) {
+        return lngs[i];
+    }
+
+    public int accidentCount(int i) {
+        return accidentCounts[i];
+    }
+
+    public int casualtyCount(int i) {
+        return casualtyCounts[i];
+    }
+
+    public int deathCount(int i) {
+        return deathCounts[i];
+    }
+
+    public PackedRTree tree() {
+        return tree;
+    }
+
+    /**
+     * 위경도 사각형 안의 지점 번호를 visitor 에 전달
+     */
+    public void search(double minLat, double minLng, double maxLat, double maxLng, IntConsumer visitor) {
+        tree.search(minLng, minLat, maxLng, maxLat, visitor);
+    }
+
+    /**
+     * 좌표에서 maxDistanceMeters 이내의 가장 가까운 k 개 지점. 거리는 haversine (m)
+     */
+    public List<PackedRTree.Neighbor> nearest(double lat, double lng, int k, double maxDistanceMeters) {
+        return tree.nearest(k, maxDistanceMeters, (minX, minY, maxX, maxY) ->
+                GeoUtils.pointToEnvelopeMeters(lat, lng, minY, minX, maxY, maxX));
+    }
+
+    public static final class Builder {
+
+        private final List<AccidentDetail> details = new ArrayList<>();
+        private final List<Kind> kinds = new ArrayList<>();
+        private final List<int[]> counts = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 좌표가 없는 지점은 인덱스에 넣을 수 없으므로 무시한다
+         */
+        public Builder add(Kind kind, AccidentDetail detail, int casualtyCount) {
+            if (detail.getPoint() == null || detail.getPoint().latitude() == null
+                    || detail.getPoint().longitude() == null) {
+                return this;
+            }
+            Integer accidentCount = detail.getAccidentCount();
+            Integer deathCount = detail.getCasualties() != null ? detail.getCasualties().getDead() : null;
+            details.add(detail);
+            kinds.add(kind);
+            counts.add(new int[]{
+                    accidentCount != null ? accidentCount : 0,
+                    casualtyCount,
+                    deathCount != null ? deathCount : 0
+            });
+            return this;
+        }
+
+        public HotspotIndex build() {
+            int n = details.size();
+            double[] lats = new double[n];
+            double[] lngs = new double[n];
+            int[] accidentCounts = new int[n];
+            int[] casualtyCounts = new int[n];
+            int[] deathCounts = new int[n];
+            for (int i = 0; i < n; i++) {
+                AccidentDetail detail = details.get(i);
+                lats[i] = detail.getPoint().latitude().doubleValue();
+                lngs[i] = detail.getPoint().longitude().doubleValue();
+                accidentCounts[i] = counts.get(i)[0];
+                casualtyCounts[i] = counts.get(i)[1];
+                deathCounts[i] = counts.get(i)[2];
+            }
+            return new HotspotIndex(details.toArray(new AccidentDetail[0]), kinds.toArray(new Kind[0]),
+                    lats, lngs, accidentCounts, casualtyCounts, deathCounts);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package yys.safewalk.domain.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntConsumer;
+
+/**
+ * STR(Sort-Tile-Recursive) 방식으로 한 번에 적재하는 불변 R-tree
+ *
+ * 데이터가 적재 시점 이후 바뀌지 않는 경우(임포트 단위 갱신)를 위한 구조로,
+ * 모든 노드를 원시 배열에 평탄하게 저장한다. 항목은 0..size-1 의 정수 id 로 식별하며
+ * 호출 측이 id 를 실제 객체 배열의 인덱스로 사용한다.
+ */
+public final class PackedRTree {
+
+    private static final int DEFAULT_NODE_CAPACITY = 16;
+
+    /**
+     * 질의 대상에서 경계 상자까지의 최소 거리. 항목 상자에 대해서는 항목까지의 실제 거리를 돌려줘야 한다.
+     */
+    @FunctionalInterface
+    public interface EnvelopeDistance {
+        double distance(double minX, double minY, double maxX, double maxY);
+    }
+
+    /**
+     * 최근접 질의 결과 항목
+     */
+    public record Neighbor(int id, double distance) {
+    }
+
+    private final int nodeCapacity;
+    private final int size;
+
+    // 엔트리(항목 + 노드)별 경계 상자
+    private final double[] minXs;
+    private final double[] minYs;
+    private final double[] maxXs;
+    private final double[] maxYs;
+
+    // 리프 엔트리는 항목 id, 노드 엔트리는 첫 자식 엔트리 위치
+    private final int[] refs;
+
+    // 각 레벨의 끝 위치 (exclusive). 0번 레벨이 항목 레벨
+    private final int[] levelEnds;
+
+    private PackedRTree(int nodeCapacity, int size, double[] minXs, double[] minYs, double[] maxXs, double[] maxYs,
+                        int[] refs, int[] levelEnds) {
+        this.nodeCapacity = nodeCapacity;
+        this.size = size;
+        this.minXs = minXs;
+        this.minYs = minYs;
+        this.maxXs = maxXs;
+        this.maxYs = maxYs;
+        this.refs = refs;
+        this.levelEnds = levelEnds;
+    }
+
+    public static PackedRTree empty() {
+        return new PackedRTree(DEFAULT_NODE_CAPACITY, 0, new double[0], new double[0], new double[0], new double[0],
+                new int[0], new int[0]);
+    }
+
+    /**
+     * 점 데이터로 트리 생성
+     */
+    public static PackedRTree ofPoints(double[] xs, double[] ys) {
+        return ofEnvelopes(xs, ys, xs, ys);
+    }
+
+    /**
+     * 경계 상자 데이터로 트리 생성. i 번째 상자가 항목 id i 가 된다.
+     */
+    public static PackedRTree ofEnvelopes(double[] minX, double[] minY, double[] maxX, double[] maxY) {
+        int n = minX.length;
+        if (minY.length != n || maxX.length != n || maxY.length != n) {
+            throw new IllegalArgumentException("경계 상자 배열의 길이가 일치하지 않습니다");
+        }
+        if (n == 0) {
+            return empty();
+        }
+
+        int capacity = DEFAULT_NODE_CAPACITY;
+        int[] order = strOrder(minX, minY, maxX, maxY, capacity);
+
+        // 전체 엔트리 수 계산
+        int total = n;
+        int levelSize = n;
+        int levels = 1;
+        do {
+            levelSize = (levelSize + capacity - 1) / capacity;
+            total += levelSize;
+            levels++;
+        } while (levelSize > 1);
+
+        double[] minXs = new double[total];
+        double[] minYs = new double[total];
+        double[] maxXs = new double[total];
+        double[] maxYs = new double[total];
+        int[] refs = new int[total];
+        int[] levelEnds = new int[levels];
+
+        for (int i = 0; i < n; i++) {
+            int item = order[i];
+            minXs[i] = minX[item];
+            minYs[i] = minY[item];
+            maxXs[i] = maxX[item];
+            maxYs[i] = maxY[item];
+            refs[i] = item;
+        }
+        levelEnds[0] = n;
+
+        int start = 0;
+        int end = n;
+        int pos = n;
+        int level = 1;
+        do {
+            for (int child = start; child < end; child += capacity) {
+                int childEnd = Math.min(child + capacity, end);
+                double nMinX = Double.POSITIVE_INFINITY;
+                double nMinY = Double.POSITIVE_INFINITY;
+                double nMaxX = Double.NEGATIVE_INFINITY;
+                double nMaxY = Double.NEGATIVE_INFINITY;
+                for (int c = child; c < childEnd; c++) {
+                    nMinX = Math.min(nMinX, minXs[c]);
+                    nMinY = Math.min(nMinY, minYs[c]);
+                    nMaxX = Math.max(nMaxX, maxXs[c]);
+                    nMaxY = Math.max(nMaxY, maxYs[c]);
+                }
+                minXs[pos] = nMinX;
+                minYs[pos] = nMinY;
+                maxXs[pos] = nMaxX;
+                maxYs[pos] = nMaxY;
+                refs[pos] = child;
+                pos++;
+            }
+            levelEnds[level++] = pos;
+            start = end;
+            end = pos;
+        } while (end - start > 1);
+
+        return new PackedRTree(capacity, n, minXs, minYs, maxXs, maxYs, refs, levelEnds);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 질의 상자와 겹치는 모든 항목 id 를 visitor 에 전달
+     */
+    public void search(double minX, double minY, double maxX, double maxY, IntConsumer visitor) {
+        if (size == 0) {
+            return;
+        }
+
+        int[] stack = new int[levelEnds.length * nodeCapacity + 1];
+        int top = 0;
+        stack[top++] = refs.length - 1;
+
+        while (top > 0) {
+            int node = stack[--top];
+            int childStart = refs[node];
+            int childEnd = Math.min(childStart + nodeCapacity, levelEndOf(childStart));
+            boolean leafLevel = childStart < size;
+
+            for (int c = childStart; c < childEnd; c++) {
+                if (maxXs[c] < minX || maxYs[c] < minY || minXs[c] > maxX || minYs[c] > maxY) {
+                    continue;
+                }
+                if (leafLevel) {
+                    visitor.accept(refs[c]);
+                } else {
+                    stack[top++] = c;
+                }
+            }
+        }
+    }
+
+    /**
+     * 거리가 maxDistance 이하인 항목 중 가장 가까운 k 개를 가까운 순으로 반환
+     *
+     * 노드를 하한 거리 순으로 꺼내는 best-first 탐색으로, 결과는 크기 k 의 최대 힙에 유지한다.
+     * 힙이 차면 k 번째 거리가 탐색 한계가 되어 그보다 먼 노드는 넣지 않고, 다음 노드의 하한이
+     * 한계를 넘는 순간 탐색을 끝낸다.
+     */
+    public List<Neighbor> nearest(int k, double maxDistance, EnvelopeDistance distance) {
+        if (size == 0 || k <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Neighbor> nodes = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::distance));
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Neighbor::distance).reversed());
+        double bound = maxDistance;
+
+        int root = refs.length - 1;
+        nodes.offer(new Neighbor(root, distance.distance(minXs[root], minYs[root], maxXs[root], maxYs[root])));
+
+        while (!nodes.isEmpty()) {
+            Neighbor node = nodes.poll();
+            if (node.distance() > bound) {
+                break;
+            }
+            int childStart = refs[node.id()];
+            int childEnd = Math.min(childStart + nodeCapacity, levelEndOf(childStart));
+            boolean leafLevel = childStart < size;
+
+            for (int c = childStart; c < childEnd; c++) {
+                double d = distance.distance(minXs[c], minYs[c], maxXs[c], maxYs[c]);
+                if (d > bound) {
+                    continue;
+                }
+                if (!leafLevel) {
+                    nodes.offer(new Neighbor(c, d));
+                    continue;
+                }
+                best.offer(new Neighbor(refs[c], d));
+                if (best.size() > k) {
+                    best.poll();
+                }
+                if (best.size() == k) {
+                    bound = best.peek().distance();
+                }
+            }
+        }
+
+        List<Neighbor> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbor::distance).thenComparingInt(Neighbor::id));
+        return result;
+    }
+
+    private int levelEndOf(int position) {
+        for (int levelEnd : levelEnds) {
+            if (position < levelEnd) {
+                return levelEnd;
+            }
+        }
+        return refs.length;
+    }
+
+    // 중심점 x 로 정렬 후 세로 띠로 나누고, 각 띠 안에서 중심점 y 로 정렬
+    private static int[] strOrder(double[] minX, double[] minY, double[] maxX, double[] maxY, int capacity) {
+        int n = minX.length;
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+        }
+
+        Comparator<Integer> byCenterX = Comparator.comparingDouble(i -> minX[i] + maxX[i]);
+        Comparator<Integer> byCenterY = Comparator.comparingDouble(i -> minY[i] + maxY[i]);
+        Arrays.sort(boxed, byCenterX);
+
+        int leafCount = (n + capacity - 1) / capacity;
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = capacity * sliceCount;
+        for (int start = 0; start < n; start += sliceSize) {
+            Arrays.sort(boxed, start, Math.min(start + sliceSize, n), byCenterY);
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = boxed[i];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,224 @@
+package yys.safewalk.domain.spatial;
+
+import java.util.List;
+
+/**
+ * 반복 질의에 최적화된 (멀티)폴리곤
+ *
+ * 모든 링의 변을 원시 배열로 펼치고, 위도(y) 방향 띠 단위로 변 인덱스를 미리 나눠 둔다.
+ * 점 포함 여부는 해당 띠의 변만 검사하는 even-odd 레이 캐스팅으로 판정하므로
+ * 꼭짓점 수가 많은 폴리곤도 질의당 비용이 작다. 좌표는 x = 경도, y = 위도.
+ */
+public final class PreparedPolygon {
+
+    private static final int EDGES_PER_BAND = 8;
+    private static final int MAX_BANDS = 64;
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    private final double[] x1s;
+    private final double[] y1s;
+    private final double[] x2s;
+    private final double[] y2s;
+
+    private final double bandHeight;
+    private final int bandCount;
+    private final int[][] bands;
+
+    private PreparedPolygon(double minX, double minY, double maxX, double maxY,
+                            double[] x1s, double[] y1s, double[] x2s, double[] y2s) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.x1s = x1s;
+        this.y1s = y1s;
+        this.x2s = x2s;
+        this.y2s = y2s;
+
+        int edgeCount = x1s.length;
+        this.bandCount = Math.max(1, Math.min(MAX_BANDS, edgeCount / EDGES_PER_BAND));
+        double height = maxY - minY;
+        this.bandHeight = height > 0 ? height / bandCount : 1.0;
+        this.bands = buildBands();
+    }
+
+    /**
+     * 링 목록으로 생성. 각 링은 [x0, y0, x1, y1, ...] 형태이며 닫힘 여부는 상관없다.
+     * 외곽 링과 구멍 링을 구분하지 않고 even-odd 규칙으로 판정한다.
+     */
+    public static PreparedPolygon of(List<double[]> rings) {
+        if (rings == null || rings.isEmpty()) {
+            throw new IllegalArgumentException("폴리곤 링이 비어 있습니다");
+        }
+
+        int edgeCount = 0;
+        for (double[] ring : rings) {
+            if (ring.length < 6 || ring.length % 2 != 0) {
+                throw new IllegalArgumentException("폴리곤 링은 최소 3개의 꼭짓점이 필요합니다");
+            }
+            edgeCount += ring.length / 2;
+        }
+
+        double[] x1s = new double[edgeCount];
+        double[] y1s = new double[edgeCount];
+        double[] x2s = new double[edgeCount];
+        double[] y2s = new double[edgeCount];
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        int e = 0;
+        for (double[] ring : rings) {
+            int points = ring.length / 2;
+            for (int i = 0; i < points; i++) {
+                int j = (i + 1) % points;
+                x1s[e] = ring[2 * i];
+                y1s[e] = ring[2 * i + 1];
+                x2s[e] = ring[2 * j];
+                y2s[e] = ring[2 * j + 1];
+                minX = Math.min(minX, x1s[e]);
+                minY = Math.min(minY, y1s[e]);
+                maxX = Math.max(maxX, x1s[e]);
+                maxY = Math.max(maxY, y1s[e]);
+                e++;
+            }
+        }
+
+        return new PreparedPolygon(minX, minY, maxX, maxY, x1s, y1s, x2s, y2s);
+    }
+
+    public double minX() {
+        return minX;
+    }
+
+    public double minY() {
+        return minY;
+    }
+
+    public double maxX() {
+        return maxX;
+    }
+
+    public double maxY() {
+        return maxY;
+    }
+
+    public double centerX() {
+        return (minX + maxX) / 2;
+    }
+
+    public double centerY() {
+        return (minY + maxY) / 2;
+    }
+
+    /**
+     * 점 (x, y) 가 폴리곤 내부에 있는지 여부
+     */
+    public boolean contains(double x, double y) {
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return false;
+        }
+
+        boolean inside = false;
+        for (int e : bands[bandOf(y)]) {
+            double ey1 = y1s[e];
+            double ey2 = y2s[e];
+            if ((ey1 > y) != (ey2 > y)) {
+                double crossX = x1s[e] + (y - ey1) * (x2s[e] - x1s[e]) / (ey2 - ey1);
+                if (x < crossX) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    /**
+     * 선분 (ax, ay)-(bx, by) 가 폴리곤과 만나는지 여부 (내부 포함)
+     */
+    public boolean intersectsSegment(double ax, double ay, double bx, double by) {
+        if (Math.max(ax, bx) < minX || Math.min(ax, bx) > maxX
+                || Math.max(ay, by) < minY || Math.min(ay, by) > maxY) {
+            return false;
+        }
+        if (contains(ax, ay) || contains(bx, by)) {
+            return true;
+        }
+
+        int fromBand = bandOf(Math.max(minY, Math.min(ay, by)));
+        int toBand = bandOf(Math.min(maxY, Math.max(ay, by)));
+        for (int band = fromBand; band <= toBand; band++) {
+            for (int e : bands[band]) {
+                if (GeoUtils.segmentsIntersect(ax, ay, bx, by, x1s[e], y1s[e], x2s[e], y2s[e])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 점에서 폴리곤까지의 거리 (m). 내부이면 0
+     */
+    public double distanceMeters(double x, double y) {
+        if (contains(x, y)) {
+            return 0.0;
+        }
+        double min = Double.POSITIVE_INFINITY;
+        for (int e = 0; e < x1s.length; e++) {
+            min = Math.min(min, GeoUtils.pointToSegmentMeters(y, x, y1s[e], x1s[e], y2s[e], x2s[e]));
+        }
+        return min;
+    }
+
+    /**
+     * 선분에서 폴리곤까지의 거리 (m). 만나면 0
+     */
+    public double distanceToSegmentMeters(double ax, double ay, double bx, double by) {
+        if (intersectsSegment(ax, ay, bx, by)) {
+            return 0.0;
+        }
+        double min = Double.POSITIVE_INFINITY;
+        for (int e = 0; e < x1s.length; e++) {
+            min = Math.min(min, GeoUtils.segmentToSegmentMeters(
+                    ay, ax, by, bx, y1s[e], x1s[e], y2s[e], x2s[e]));
+        }
+        return min;
+    }
+
+    private int bandOf(double y) {
+        int band = (int) ((y - minY) / bandHeight);
+        return Math.max(0, Math.min(bandCount - 1, band));
+    }
+
+    private int[][] buildBands() {
+        int[] counts = new int[bandCount];
+        for (int e = 0; e < x1s.length; e++) {
+            int from = bandOf(Math.min(y1s[e], y2s[e]));
+            int to = bandOf(Math.max(y1s[e], y2s[e]));
+            for (int b = from; b <= to; b++) {
+                counts[b]++;
+            }
+        }
+
+        int[][] result = new int[bandCount][];
+        for (int b = 0; b < bandCount; b++) {
+            result[b] = new int[counts[b]];
+        }
+
+        int[] cursor = new int[bandCount];
+        for (int e = 0; e < x1s.length; e++) {
+            int from = bandOf(Math.min(y1s[e], y2s[e]));
+            int to = bandOf(Math.max(y1s[e], y2s[e]));
+            for (int b = from; b <= to; b++) {
+                result[b][cursor[b]++] = e;
+            }
+        }
+        return result;
+    }
+}
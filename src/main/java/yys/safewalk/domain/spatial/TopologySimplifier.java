@@ -0,0 +1,399 @@
+package yys.safewalk.domain.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이웃 경계를 공유하는 (멀티)폴리곤 집합의 토폴로지 보존 단순화
+ *
+ * 모든 링을 교차점(세 개 이상의 링이 만나거나 이웃이 갈라지는 꼭짓점) 기준으로 아크로 나누고,
+ * 두 폴리곤이 공유하는 경계는 같은 아크 하나로 저장한다. 단순화는 아크 단위 Douglas-Peucker 로
+ * 수행하고 교차점은 항상 남기므로 이웃 폴리곤 사이에 틈이나 겹침이 생기지 않는다.
+ * 아크마다 가장 먼 내부 꼭짓점을 하나는 남겨 링이 선분으로 무너지지 않게 한다.
+ *
+ * 지오메트리 형식: 피처 -> 폴리곤 -> 링, 링은 [x0, y0, x1, y1, ...] (x = 경도, y = 위도), 닫힘 여부는 상관없다.
+ * 결과 링은 GeoJSON 처럼 첫 점을 끝에 한 번 더 넣어 닫는다.
+ */
+public final class TopologySimplifier {
+
+    // 좌표 동일성 판정 단위 (1e-7 도, 약 1cm)
+    private static final double KEY_SCALE = 1e7;
+    private static final long KEY_STRIDE = 4_000_000_000L;
+
+    // 256px 타일 기준 줌 0 의 적도 픽셀 크기 (m)
+    private static final double METERS_PER_PIXEL_AT_ZOOM_0 = 156_543.033_92;
+    private static final double PIXEL_TOLERANCE = 0.5;
+
+    private final double[][] arcs;
+    private final List<int[][][]> features;
+    private final double xScale;
+    private final double meanLat;
+
+    private TopologySimplifier(double[][] arcs, List<int[][][]> features, double meanLat) {
+        this.arcs = arcs;
+        this.features = features;
+        this.meanLat = meanLat;
+        this.xScale = Math.cos(Math.toRadians(meanLat));
+    }
+
+    public static TopologySimplifier of(List<List<double[][]>> geometries) {
+        List<long[]> keyRings = new ArrayList<>();
+        List<double[]> coordRings = new ArrayList<>();
+        double latSum = 0;
+        long latCount = 0;
+
+        // 1. 닫는 점과 연속 중복점을 제거한 링, 꼭짓점 키
+        List<int[][]> ringShape = new ArrayList<>();
+        for (List<double[][]> geometry : geometries) {
+            int[][] polygonRingIndexes = new int[geometry.size()][];
+            for (int p = 0; p < geometry.size(); p++) {
+                List<Integer> indexes = new ArrayList<>();
+                for (double[] ring : geometry.get(p)) {
+                    double[] cleaned = clean(ring);
+                    if (cleaned.length < 6) {
+                        continue;
+                    }
+                    indexes.add(coordRings.size());
+                    coordRings.add(cleaned);
+                    keyRings.add(keysOf(cleaned));
+                    for (int i = 1; i < cleaned.length; i += 2) {
+                        latSum += cleaned[i];
+                        latCount++;
+                    }
+                }
+                polygonRingIndexes[p] = indexes.stream().mapToInt(Integer::intValue).toArray();
+            }
+            ringShape.add(polygonRingIndexes);
+        }
+
+        // 2. 교차점: 같은 꼭짓점이 서로 다른 이웃 쌍으로 나타나면 경계가 갈라지는 지점
+        Map<Long, long[]> neighbors = new HashMap<>();
+        Set<Long> junctions = new HashSet<>();
+        for (long[] keys : keyRings) {
+            int n = keys.length;
+            for (int i = 0; i < n; i++) {
+                long prev = keys[(i + n - 1) % n];
+                long next = keys[(i + 1) % n];
+                long[] pair = {Math.min(prev, next), Math.max(prev, next)};
+                long[] seen = neighbors.putIfAbsent(keys[i], pair);
+                if (seen != null && (seen[0] != pair[0] || seen[1] != pair[1])) {
+                    junctions.add(keys[i]);
+                }
+            }
+        }
+
+        // 3. 링을 아크로 나누고 같은 아크는 하나로 합친다. 역방향 참조는 ~id
+        Map<ArcKey, Integer> arcIds = new HashMap<>();
+        List<double[]> arcList = new ArrayList<>();
+        int[][] ringArcs = new int[coordRings.size()][];
+        for (int r = 0; r < coordRings.size(); r++) {
+            ringArcs[r] = splitRing(coordRings.get(r), keyRings.get(r), junctions, arcIds, arcList);
+        }
+
+        List<int[][][]> features = new ArrayList<>(ringShape.size());
+        for (int[][] polygons : ringShape) {
+            int[][][] feature = new int[polygons.length][][];
+            for (int p = 0; p < polygons.length; p++) {
+                feature[p] = new int[polygons[p].length][];
+                for (int r = 0; r < polygons[p].length; r++) {
+                    feature[p][r] = ringArcs[polygons[p][r]];
+                }
+            }
+            features.add(feature);
+        }
+
+        double meanLat = latCount > 0 ? latSum / latCount : 0;
+        return new TopologySimplifier(arcList.toArray(new double[0][]), features, meanLat);
+    }
+
+    public int arcCount() {
+        return arcs.length;
+    }
+
+    /**
+     * 웹 메르카토르 줌 레벨에서 반 픽셀 이하의 굴곡을 제거
+     */
+    public List<List<double[][]>> simplifyForZoom(int zoom) {
+        double meters = PIXEL_TOLERANCE * METERS_PER_PIXEL_AT_ZOOM_0 * Math.cos(Math.toRadians(meanLat))
+                / Math.pow(2, zoom);
+        return simplify(meters / GeoUtils.METERS_PER_DEGREE);
+    }
+
+    /**
+     * 위도 1도 단위 허용 오차로 단순화. 경도 방향은 평균 위도의 cos 으로 보정한다
+     */
+    public List<List<double[][]>> simplify(double tolerance) {
+        double[][] simplified = new double[arcs.length][];
+        for (int a = 0; a < arcs.length; a++) {
+            simplified[a] = simplifyArc(arcs[a], tolerance);
+        }
+
+        List<List<double[][]>> result = new ArrayList<>(features.size());
+        for (int[][][] feature : features) {
+            List<double[][]> polygons = new ArrayList<>(feature.length);
+            for (int[][] polygon : feature) {
+                if (polygon.length == 0) {
+                    continue;
+                }
+                double[][] rings = new double[polygon.length][];
+                for (int r = 0; r < polygon.length; r++) {
+                    rings[r] = assemble(polygon[r], simplified);
+                }
+                polygons.add(rings);
+            }
+            result.add(polygons);
+        }
+        return result;
+    }
+
+    private double[] simplifyArc(double[] arc, double tolerance) {
+        int n = arc.length / 2;
+        if (n <= 2) {
+            return arc;
+        }
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+
+        if (arc[0] == arc[2 * (n - 1)] && arc[1] == arc[2 * (n - 1) + 1]) {
+            // 닫힌 아크는 시작점에서 가장 먼 점으로 반을 나눠 각각 단순화
+            int far = 1;
+            double farDistance = -1;
+            for (int i = 1; i < n - 1; i++) {
+                double dx = (arc[2 * i] - arc[0]) * xScale;
+                double dy = arc[2 * i + 1] - arc[1];
+                double d = dx * dx + dy * dy;
+                if (d > farDistance) {
+                    farDistance = d;
+                    far = i;
+                }
+            }
+            keep[far] = true;
+            douglasPeucker(arc, 0, far, tolerance * tolerance, keep);
+            douglasPeucker(arc, far, n - 1, tolerance * tolerance, keep);
+        } else {
+            douglasPeucker(arc, 0, n - 1, tolerance * tolerance, keep);
+        }
+
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) {
+                kept++;
+            }
+        }
+        double[] out = new double[kept * 2];
+        int o = 0;
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                out[o++] = arc[2 * i];
+                out[o++] = arc[2 * i + 1];
+            }
+        }
+        return out;
+    }
+
+    // 구간의 가장 먼 점은 허용 오차와 관계없이 남기고 그 아래 구간부터 허용 오차를 적용한다
+    private void douglasPeucker(double[] arc, int first, int last, double toleranceSquared, boolean[] keep) {
+        int[] stack = new int[2 * (last - first + 1)];
+        int top = 0;
+        boolean forced = true;
+        stack[top++] = first;
+        stack[top++] = last;
+
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+            if (end - start < 2) {
+                continue;
+            }
+
+            double ax = arc[2 * start] * xScale;
+            double ay = arc[2 * start + 1];
+            double bx = arc[2 * end] * xScale;
+            double by = arc[2 * end + 1];
+            int farthest = -1;
+            double max = -1;
+            for (int i = start + 1; i < end; i++) {
+                double d = segmentDistanceSquared(arc[2 * i] * xScale, arc[2 * i + 1], ax, ay, bx, by);
+                if (d > max) {
+                    max = d;
+                    farthest = i;
+                }
+            }
+
+            if (forced || max > toleranceSquared) {
+                keep[farthest] = true;
+                stack[top++] = start;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = end;
+            }
+            forced = false;
+        }
+    }
+
+    private static double segmentDistanceSquared(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared > 0 ? ((px - ax) * dx + (py - ay) * dy) / lengthSquared : 0;
+        t = Math.max(0, Math.min(1, t));
+        double ex = px - (ax + t * dx);
+        double ey = py - (ay + t * dy);
+        return ex * ex + ey * ey;
+    }
+
+    // 아크를 이어 닫힌 링으로 만든다. 각 아크의 첫 점은 직전 아크의 끝점과 같으므로 건너뛴다
+    private static double[] assemble(int[] refs, double[][] simplified) {
+        int length = 2;
+        for (int ref : refs) {
+            length += simplified[ref >= 0 ? ref : ~ref].length - 2;
+        }
+        double[] ring = new double[length];
+        int o = 0;
+        for (int ref : refs) {
+            double[] arc = simplified[ref >= 0 ? ref : ~ref];
+            int n = arc.length / 2;
+            for (int k = 0; k < n - 1; k++) {
+                int i = ref >= 0 ? k : n - 1 - k;
+                ring[o++] = arc[2 * i];
+                ring[o++] = arc[2 * i + 1];
+            }
+        }
+        ring[o++] = ring[0];
+        ring[o] = ring[1];
+        return ring;
+    }
+
+    private static int[] splitRing(double[] ring, long[] keys, Set<Long> junctions,
+                                   Map<ArcKey, Integer> arcIds, List<double[]> arcList) {
+        int n = keys.length;
+        List<Integer> cuts = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (junctions.contains(keys[i])) {
+                cuts.add(i);
+            }
+        }
+
+        if (cuts.isEmpty()) {
+            // 교차점이 없는 링은 가장 작은 키에서 시작하는 닫힌 아크 하나
+            int start = 0;
+            for (int i = 1; i < n; i++) {
+                if (keys[i] < keys[start]) {
+                    start = i;
+                }
+            }
+            boolean forward = keys[(start + 1) % n] <= keys[(start + n - 1) % n];
+            int[] indexes = new int[n + 1];
+            for (int k = 0; k <= n; k++) {
+                indexes[k] = forward ? (start + k) % n : ((start - k) % n + n) % n;
+            }
+            int id = register(ring, keys, indexes, arcIds, arcList);
+            return new int[]{forward ? id : ~id};
+        }
+
+        int[] refs = new int[cuts.size()];
+        for (int c = 0; c < cuts.size(); c++) {
+            int from = cuts.get(c);
+            int to = c + 1 < cuts.size() ? cuts.get(c + 1) : cuts.get(0) + n;
+            int[] indexes = new int[to - from + 1];
+            for (int k = 0; k < indexes.length; k++) {
+                indexes[k] = (from + k) % n;
+            }
+            boolean forward = isCanonical(keys, indexes);
+            if (!forward) {
+                reverse(indexes);
+            }
+            int id = register(ring, keys, indexes, arcIds, arcList);
+            refs[c] = forward ? id : ~id;
+        }
+        return refs;
+    }
+
+    private static int register(double[] ring, long[] keys, int[] indexes,
+                                Map<ArcKey, Integer> arcIds, List<double[]> arcList) {
+        long[] arcKeys = new long[indexes.length];
+        for (int k = 0; k < indexes.length; k++) {
+            arcKeys[k] = keys[indexes[k]];
+        }
+        return arcIds.computeIfAbsent(new ArcKey(arcKeys), key -> {
+            double[] coords = new double[indexes.length * 2];
+            for (int k = 0; k < indexes.length; k++) {
+                coords[2 * k] = ring[2 * indexes[k]];
+                coords[2 * k + 1] = ring[2 * indexes[k] + 1];
+            }
+            arcList.add(coords);
+            return arcList.size() - 1;
+        });
+    }
+
+    // 정방향과 역방향 중 키 순서가 사전순으로 작은 쪽을 저장 방향으로 쓴다
+    private static boolean isCanonical(long[] keys, int[] indexes) {
+        for (int i = 0, j = indexes.length - 1; i < j; i++, j--) {
+            long head = keys[indexes[i]];
+            long tail = keys[indexes[j]];
+            if (head != tail) {
+                return head < tail;
+            }
+        }
+        return true;
+    }
+
+    private static void reverse(int[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private static double[] clean(double[] ring) {
+        int n = ring.length / 2;
+        double[] out = new double[n * 2];
+        int o = 0;
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            long key = keyOf(ring[2 * i], ring[2 * i + 1]);
+            if (key == previous) {
+                continue;
+            }
+            out[o++] = ring[2 * i];
+            out[o++] = ring[2 * i + 1];
+            previous = key;
+        }
+        if (o >= 4 && keyOf(out[0], out[1]) == keyOf(out[o - 2], out[o - 1])) {
+            o -= 2;
+        }
+        return Arrays.copyOf(out, o);
+    }
+
+    private static long[] keysOf(double[] ring) {
+        long[] keys = new long[ring.length / 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyOf(ring[2 * i], ring[2 * i + 1]);
+        }
+        return keys;
+    }
+
+    private static long keyOf(double x, double y) {
+        return Math.round(x * KEY_SCALE) * KEY_STRIDE + Math.round(y * KEY_SCALE);
+    }
+
+    private record ArcKey(long[] keys) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ArcKey other && Arrays.equals(keys, other.keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(keys);
+        }
+    }
+}
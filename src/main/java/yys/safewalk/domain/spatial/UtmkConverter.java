@@ -0,0 +1,103 @@
+package yys.safewalk.domain.spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UTM-K (EPSG:5179, GRS80 횡축 메르카토르) 좌표를 WGS84 위경도로 변환
+ *
+ * 공공데이터의 폴리곤/중심점이 UTM-K 로 제공되는 경우가 있어
+ * 위경도 기반 인덱스에 넣기 전에 변환한다.
+ */
+public final class UtmkConverter {
+
+    private static final double A = 6_378_137.0;
+    private static final double F = 1 / 298.257222101;
+    private static final double K0 = 0.9996;
+    private static final double LAT0 = Math.toRadians(38.0);
+    private static final double LNG0 = Math.toRadians(127.5);
+    private static final double FALSE_EASTING = 1_000_000.0;
+    private static final double FALSE_NORTHING = 2_000_000.0;
+
+    private static final double E2 = F * (2 - F);
+    private static final double E4 = E2 * E2;
+    private static final double E6 = E4 * E2;
+    private static final double EP2 = E2 / (1 - E2);
+    private static final double M0 = meridianArc(LAT0);
+
+    private UtmkConverter() {
+    }
+
+    /**
+     * UTM-K (x, y) -> [위도, 경도]
+     */
+    public static double[] toWgs84(double x, double y) {
+        double m = M0 + (y - FALSE_NORTHING) / K0;
+        double mu = m / (A * (1 - E2 / 4 - 3 * E4 / 64 - 5 * E6 / 256));
+        double sqrt = Math.sqrt(1 - E2);
+        double e1 = (1 - sqrt) / (1 + sqrt);
+
+        double phi1 = mu
+                + (3 * e1 / 2 - 27 * Math.pow(e1, 3) / 32) * Math.sin(2 * mu)
+                + (21 * e1 * e1 / 16 - 55 * Math.pow(e1, 4) / 32) * Math.sin(4 * mu)
+                + (151 * Math.pow(e1, 3) / 96) * Math.sin(6 * mu)
+                + (1097 * Math.pow(e1, 4) / 512) * Math.sin(8 * mu);
+
+        double sinPhi = Math.sin(phi1);
+        double cosPhi = Math.cos(phi1);
+        double tanPhi = Math.tan(phi1);
+        double c1 = EP2 * cosPhi * cosPhi;
+        double t1 = tanPhi * tanPhi;
+        double denominator = 1 - E2 * sinPhi * sinPhi;
+        double n1 = A / Math.sqrt(denominator);
+        double r1 = A * (1 - E2) / Math.pow(denominator, 1.5);
+        double d = (x - FALSE_EASTING) / (n1 * K0);
+
+        double lat = phi1 - (n1 * tanPhi / r1) * (d * d / 2
+                - (5 + 3 * t1 + 10 * c1 - 4 * c1 * c1 - 9 * EP2) * Math.pow(d, 4) / 24
+                + (61 + 90 * t1 + 298 * c1 + 45 * t1 * t1 - 252 * EP2 - 3 * c1 * c1) * Math.pow(d, 6) / 720);
+        double lng = LNG0 + (d
+                - (1 + 2 * t1 + c1) * Math.pow(d, 3) / 6
+                + (5 - 2 * c1 + 28 * t1 - 3 * c1 * c1 + 8 * EP2 + 24 * t1 * t1) * Math.pow(d, 5) / 120) / cosPhi;
+
+        return new double[]{Math.toDegrees(lat), Math.toDegrees(lng)};
+    }
+
+    /**
+     * 링 좌표가 투영 좌표(UTM-K)로 보이면 [경도, 위도] 링으로 변환, 이미 위경도면 그대로 반환
+     */
+    public static List<double[]> toLngLatRings(List<double[]> rings) {
+        if (!isProjected(rings)) {
+            return rings;
+        }
+        List<double[]> converted = new ArrayList<>(rings.size());
+        for (double[] ring : rings) {
+            double[] lngLat = new double[ring.length];
+            for (int i = 0; i < ring.length; i += 2) {
+                double[] latLng = toWgs84(ring[i], ring[i + 1]);
+                lngLat[i] = latLng[1];
+                lngLat[i + 1] = latLng[0];
+            }
+            converted.add(lngLat);
+        }
+        return converted;
+    }
+
+    private static boolean isProjected(List<double[]> rings) {
+        for (double[] ring : rings) {
+            for (int i = 0; i < ring.length; i += 2) {
+                if (Math.abs(ring[i]) > 180 || Math.abs(ring[i + 1]) > 90) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double meridianArc(double phi) {
+        return A * ((1 - E2 / 4 - 3 * E4 / 64 - 5 * E6 / 256) * phi
+                - (3 * E2 / 8 + 3 * E4 / 32 + 45 * E6 / 1024) * Math.sin(2 * phi)
+                + (15 * E4 / 256 + 45 * E6 / 1024) * Math.sin(4 * phi)
+                - (35 * E6 / 3072) * Math.sin(6 * phi));
+    }
+}
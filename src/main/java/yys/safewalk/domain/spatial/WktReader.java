@@ -0,0 +1,52 @@
+package yys.safewalk.domain.spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * WKT POLYGON / MULTIPOLYGON 문자열에서 링 좌표를 읽는다.
+ * 각 링은 [x0, y0, x1, y1, ...] 형태로 반환되며 좌표계 변환은 하지 않는다.
+ */
+public final class WktReader {
+
+    // 괄호가 더 이상 중첩되지 않는 가장 안쪽 좌표 목록 = 링 하나
+    private static final Pattern RING_PATTERN = Pattern.compile("\\(([^()]+)\\)");
+
+    private WktReader() {
+    }
+
+    public static List<double[]> readRings(String wkt) {
+        if (wkt == null || wkt.isBlank()) {
+            throw new IllegalArgumentException("WKT 문자열이 비어 있습니다");
+        }
+        String upper = wkt.trim().toUpperCase();
+        if (!upper.startsWith("POLYGON") && !upper.startsWith("MULTIPOLYGON")) {
+            throw new IllegalArgumentException("지원하지 않는 WKT 형식입니다: " + upper.substring(0, Math.min(20, upper.length())));
+        }
+
+        List<double[]> rings = new ArrayList<>();
+        Matcher matcher = RING_PATTERN.matcher(wkt);
+        while (matcher.find()) {
+            String[] points = matcher.group(1).split(",");
+            double[] ring = new double[points.length * 2];
+            for (int i = 0; i < points.length; i++) {
+                String[] xy = points[i].trim().split("\\s+");
+                if (xy.length < 2) {
+                    throw new IllegalArgumentException("잘못된 WKT 좌표입니다: " + points[i]);
+                }
+                ring[2 * i] = Double.parseDouble(xy[0]);
+                ring[2 * i + 1] = Double.parseDouble(xy[1]);
+            }
+            if (points.length >= 3) {
+                rings.add(ring);
+            }
+        }
+
+        if (rings.isEmpty()) {
+            throw new IllegalArgumentException("WKT 에서 링을 찾을 수 없습니다");
+        }
+        return rings;
+    }
+}
@@ -0,0 +1,94 @@
+package yys.safewalk.domain.stats;
+
+/**
+ * 지역 내 동별 사고 건수 분포 요약
+ *
+ * 분위수는 TDigest, 평균/표준편차/왜도는 스트리밍 모멘트(Welford/Pébay)로 유지하며
+ * 두 요약 모두 병합 가능하다. 표준편차와 왜도는 numpy 기본값과 같은 모집단 기준이다.
+ */
+public final class AccidentDistribution {
+
+    private final TDigest digest = new TDigest();
+
+    private long count;
+    private double mean;
+    private double m2;
+    private double m3;
+
+    public void add(double value) {
+        digest.add(value);
+
+        long previous = count;
+        count++;
+        double delta = value - mean;
+        double deltaN = delta / count;
+        double term = delta * deltaN * previous;
+        mean += deltaN;
+        m3 += term * deltaN * (count - 2) - 3 * deltaN * m2;
+        m2 += term;
+    }
+
+    public void merge(AccidentDistribution other) {
+        if (other.count == 0) {
+            return;
+        }
+        digest.merge(other.digest);
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            m3 = other.m3;
+            return;
+        }
+
+        double na = count;
+        double nb = other.count;
+        double n = na + nb;
+        double delta = other.mean - mean;
+
+        double mergedM3 = m3 + other.m3
+                + delta * delta * delta * na * nb * (na - nb) / (n * n)
+                + 3 * delta * (na * other.m2 - nb * m2) / n;
+        double mergedM2 = m2 + other.m2 + delta * delta * na * nb / n;
+
+        mean += delta * nb / n;
+        m2 = mergedM2;
+        m3 = mergedM3;
+        count += other.count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return digest.min();
+    }
+
+    public double max() {
+        return digest.max();
+    }
+
+    public double mean() {
+        return mean;
+    }
+
+    public double std() {
+        return count == 0 ? 0 : Math.sqrt(m2 / count);
+    }
+
+    public double skewness() {
+        if (count < 3 || m2 == 0) {
+            return 0;
+        }
+        return Math.sqrt(count) * m3 / Math.pow(m2, 1.5);
+    }
+
+    public double coefficientOfVariation() {
+        return mean > 0 ? std() / mean : 0;
+    }
+
+    public double percentile(double percent) {
+        return digest.quantile(percent / 100.0);
+    }
+}
@@ -0,0 +1,209 @@
+package yys.safewalk.domain.stats;
+
+import java.util.Arrays;
+
+/**
+ * 병합 가능한 분위수 스케치 (merging t-digest, k1 스케일 함수)
+ *
+ * 값은 버퍼에 모았다가 가득 차면 정렬 후 센트로이드로 압축한다.
+ * 다른 다이제스트의 센트로이드를 그대로 받아들여 병합할 수 있으므로 시군구 스케치를 합쳐 시도 스케치를 만든다.
+ * 모든 센트로이드 가중치가 1 인 동안(표본이 작을 때)은 numpy.percentile 과 같은 선형 보간 결과를 낸다.
+ */
+public final class TDigest {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int bufferCount;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("compression 은 10 이상이어야 합니다");
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) * 2 + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferMeans = new double[capacity * 5];
+        this.bufferWeights = new double[capacity * 5];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, double weight) {
+        if (Double.isNaN(value) || weight <= 0) {
+            throw new IllegalArgumentException("잘못된 값 또는 가중치입니다");
+        }
+        if (bufferCount == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[bufferCount] = value;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 다이제스트의 분포를 이 다이제스트에 합친다 (other 는 변경되지 않음)
+     */
+    public void merge(TDigest other) {
+        if (other.totalWeight == 0) {
+            return;
+        }
+        for (int i = 0; i < other.centroidCount; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        for (int i = 0; i < other.bufferCount; i++) {
+            add(other.bufferMeans[i], other.bufferWeights[i]);
+        }
+    }
+
+    public double count() {
+        return totalWeight;
+    }
+
+    public double min() {
+        return min;
+    }
+
+    public double max() {
+        return max;
+    }
+
+    /**
+     * q 분위수 (0 <= q <= 1). 비어 있으면 NaN
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("분위수는 0 ~ 1 범위여야 합니다: " + q);
+        }
+        compress();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+
+        if (centroidCount == totalWeight) {
+            // 모두 단일 값: 정렬된 표본의 (n - 1) * q 위치 선형 보간
+            double position = q * (centroidCount - 1);
+            int lower = (int) Math.floor(position);
+            int upper = Math.min(lower + 1, centroidCount - 1);
+            return means[lower] + (means[upper] - means[lower]) * (position - lower);
+        }
+
+        double target = q * totalWeight;
+        double firstMid = weights[0] / 2;
+        if (target <= firstMid) {
+            return min + (means[0] - min) * (firstMid == 0 ? 0 : target / firstMid);
+        }
+
+        double cumulative = 0;
+        for (int i = 0; i + 1 < centroidCount; i++) {
+            double leftMid = cumulative + weights[i] / 2;
+            double rightMid = cumulative + weights[i] + weights[i + 1] / 2;
+            if (target <= rightMid) {
+                double t = (target - leftMid) / (rightMid - leftMid);
+                return means[i] + (means[i + 1] - means[i]) * t;
+            }
+            cumulative += weights[i];
+        }
+
+        double lastMid = totalWeight - weights[centroidCount - 1] / 2;
+        double tail = totalWeight - lastMid;
+        double t = tail == 0 ? 1 : (target - lastMid) / tail;
+        return means[centroidCount - 1] + (max - means[centroidCount - 1]) * t;
+    }
+
+    private void compress() {
+        if (bufferCount == 0) {
+            return;
+        }
+
+        int n = centroidCount + bufferCount;
+        double[] allMeans = new double[n];
+        double[] allWeights = new double[n];
+        System.arraycopy(means, 0, allMeans, 0, centroidCount);
+        System.arraycopy(weights, 0, allWeights, 0, centroidCount);
+        System.arraycopy(bufferMeans, 0, allMeans, centroidCount, bufferCount);
+        System.arraycopy(bufferWeights, 0, allWeights, centroidCount, bufferCount);
+        bufferCount = 0;
+        sortByMean(allMeans, allWeights);
+
+        double[] outMeans = new double[n];
+        double[] outWeights = new double[n];
+        int out = 0;
+        double soFar = 0;
+        double currentMean = allMeans[0];
+        double currentWeight = allWeights[0];
+        double weightLimit = totalWeight * nextQuantileLimit(0);
+
+        for (int i = 1; i < n; i++) {
+            double proposed = currentWeight + allWeights[i];
+            if (soFar + proposed <= weightLimit) {
+                currentMean += (allMeans[i] - currentMean) * allWeights[i] / proposed;
+                currentWeight = proposed;
+            } else {
+                outMeans[out] = currentMean;
+                outWeights[out] = currentWeight;
+                out++;
+                soFar += currentWeight;
+                weightLimit = totalWeight * nextQuantileLimit(soFar / totalWeight);
+                currentMean = allMeans[i];
+                currentWeight = allWeights[i];
+            }
+        }
+        outMeans[out] = currentMean;
+        outWeights[out] = currentWeight;
+        out++;
+
+        means = outMeans;
+        weights = outWeights;
+        centroidCount = out;
+    }
+
+    // k1(q) = δ / 2π · asin(2q - 1) 에서 k 가 1 증가하는 지점의 q
+    private double nextQuantileLimit(double q) {
+        double k = compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, Math.max(0, q)) - 1);
+        double next = Math.min((k + 1) * 2 * Math.PI / compression, Math.PI / 2);
+        return (Math.sin(next) + 1) / 2;
+    }
+
+    private static void sortByMean(double[] means, double[] weights) {
+        int n = means.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(means[a], means[b]));
+
+        double[] sortedMeans = new double[n];
+        double[] sortedWeights = new double[n];
+        for (int i = 0; i < n; i++) {
+            sortedMeans[i] = means[order[i]];
+            sortedWeights[i] = weights[order[i]];
+        }
+        System.arraycopy(sortedMeans, 0, means, 0, n);
+        System.arraycopy(sortedWeights, 0, weights, 0, n);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +14,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "administrative_legal_dongs", 
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_code", columnNames = "code")
@@ -22,7 +26,10 @@ import java.time.LocalDateTime;
         @Index(name = "idx_sigungu", columnList = "sigungu"),
         @Index(name = "idx_eup_myeon_dong", columnList = "eupMyeonDong"),
         @Index(name = "idx_location", columnList = "longitude, latitude"),
-        @Index(name = "idx_code_type", columnList = "codeType")
+        @Index(name = "idx_code_type", columnList = "codeType"),
+        @Index(name = "idx_legal_dong_updated_at", columnList = "updatedAt, id"),
+        @Index(name = "idx_legal_dong_sido_code", columnList = "sido, code"),
+        @Index(name = "idx_legal_dong_emd_prefix", columnList = "emdPrefix")
     })
 @Data
 @NoArgsConstructor
@@ -37,6 +44,10 @@ public class AdministrativeLegalDongs {
     @Column(name = "code", length = 50) // = EMD_CD + "00"
     private String code;
 
+    // EMD_CD = code 앞 8자리
+    @Column(name = "emd_prefix", length = 8)
+    private String emdPrefix;
+
     @Column(name = "sido", length = 50)
     private String sido;
 
@@ -65,4 +76,10 @@ public class AdministrativeLegalDongs {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    @PrePersist
+    @PreUpdate
+    void fillEmdPrefix() {
+        emdPrefix = EmdPrefixes.of(code);
+    }
+}
@@ -0,0 +1,11 @@
+package yys.safewalk.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "elderly_pedestrian_accident_hotspots")
+public class ElderlyHotspotGeometry extends HotspotGeometry {
+}
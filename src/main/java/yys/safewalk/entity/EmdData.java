@@ -4,13 +4,19 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "emd_data",
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_emd_cd", columnNames = "emdCd")
@@ -18,7 +24,8 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_emd_cd", columnList = "emdCd"),
         @Index(name = "idx_emd_kor_nm", columnList = "emdKorNm"),
-        @Index(name = "idx_emd_eng_nm", columnList = "emdEngNm")
+        @Index(name = "idx_emd_eng_nm", columnList = "emdEngNm"),
+        @Index(name = "idx_emd_data_emd_prefix", columnList = "emdPrefix")
     })
 @Data
 @NoArgsConstructor
@@ -33,14 +40,22 @@ public class EmdData {
     @Column(name = "EMD_CD", nullable = false, length = 20)
     private String emdCd;
 
+    // emdCd 앞 8자리
+    @Column(name = "emd_prefix", length = 8)
+    private String emdPrefix;
+
     @Column(name = "EMD_ENG_NM", nullable = false, length = 200)
     private String emdEngNm;
 
     @Column(name = "EMD_KOR_NM", nullable = false, length = 200)
     private String emdKorNm;
 
-    @Column(name = "Polygon", nullable = false, columnDefinition = "JSON")
-    private String polygon;
+    // 경계 폴리곤 JSON 은 경계 조회에서만 읽는다 (같은 행의 EmdGeometry, 기본키로 조인하고 FK 는 만들지 않는다)
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @PrimaryKeyJoinColumn(foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private EmdGeometry geometry;
 
     @CreationTimestamp
     @Column(name = "created_at")
@@ -49,4 +64,10 @@ public class EmdData {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    @PrePersist
+    @PreUpdate
+    void fillEmdPrefix() {
+        emdPrefix = EmdPrefixes.of(emdCd);
+    }
+}
@@ -0,0 +1,29 @@
+package yys.safewalk.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * emd_data 의 경계 폴리곤 JSON 만 읽는 엔티티
+ *
+ * EmdData 와 같은 행을 매핑하며, EmdData.geometry 로 필요할 때만 지연 로딩한다.
+ */
+@Entity
+@Immutable
+@Table(name = "emd_data")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmdGeometry {
+
+    @Id
+    private Long id;
+
+    @Column(name = "Polygon", nullable = false, columnDefinition = "JSON")
+    private String polygon;
+}
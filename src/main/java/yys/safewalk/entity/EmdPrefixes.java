@@ -0,0 +1,20 @@
+package yys.safewalk.entity;
+
+/**
+ * 법정동/사고 코드의 앞 8자리(EMD_CD). emd_prefix 컬럼 등치 조인/집계용
+ *
+ * JPA 저장 시에는 엔티티의 @PrePersist/@PreUpdate 가, 파이썬 임포트 스크립트의 직접 INSERT 는
+ * sql/safe-walk.DDL 의 BEFORE INSERT 트리거가 채운다.
+ */
+final class EmdPrefixes {
+
+    static final int LENGTH = 8;
+
+    private EmdPrefixes() {
+    }
+
+    // SUBSTRING(code, 1, 8) 과 같은 결과
+    static String of(String code) {
+        return code != null && code.length() > LENGTH ? code.substring(0, LENGTH) : code;
+    }
+}
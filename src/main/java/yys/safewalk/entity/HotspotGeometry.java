@@ -0,0 +1,24 @@
+package yys.safewalk.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사고다발지점 폴리곤 JSON. 지점/집계 조회에서 읽지 않도록 각 사고다발지점 엔티티와 분리해
+ * 같은 행을 읽기 전용으로 매핑한다.
+ */
+@MappedSuperclass
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class HotspotGeometry {
+
+    @Id
+    private Long id;
+
+    @Column(name = "hotspot_polygon", columnDefinition = "JSON")
+    private String hotspotPolygon;
+}
@@ -0,0 +1,11 @@
+package yys.safewalk.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "local_government_accident_hotspots")
+public class LocalGovernmentHotspotGeometry extends HotspotGeometry {
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import yys.safewalk.domain.model.PedestrianAccidentHotspots;
@@ -23,7 +25,9 @@ import java.time.LocalDateTime;
         @Index(name = "idx_sido_code", columnList = "sidoCode"),
         @Index(name = "idx_point_code", columnList = "pointCode"),
         @Index(name = "idx_location", columnList = "longitude, latitude"),
-        @Index(name = "idx_legal_dong", columnList = "legalDong")
+        @Index(name = "idx_legal_dong", columnList = "legalDong"),
+        @Index(name = "idx_pedestrian_updated_at", columnList = "updatedAt, id"),
+        @Index(name = "idx_pedestrian_emd_prefix", columnList = "emdPrefix")
     })
 @Data
 @NoArgsConstructor
@@ -44,6 +48,10 @@ public class PedestrianAccidentHotspotsEntity {
     @Column(name = "sido_code", nullable = false, length = 10)// EMD_CD+00
     private String sidoCode;
 
+    // EMD_CD = sidoCode 앞 8자리
+    @Column(name = "emd_prefix", length = 8)
+    private String emdPrefix;
+
     @Column(name = "point_code", nullable = false, length = 20)
     private String pointCode;
 
@@ -80,8 +88,12 @@ public class PedestrianAccidentHotspotsEntity {
     @Column(name = "latitude", precision = 12, scale = 9)
     private BigDecimal latitude;
 
-    @Column(name = "hotspot_polygon", columnDefinition = "JSON")
-    private String hotspotPolygon;
+    // 폴리곤 JSON 은 이 연관을 처음 사용할 때 읽는다 (같은 행이므로 기본키로 조인하고 FK 는 만들지 않는다)
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @PrimaryKeyJoinColumn(foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private PedestrianHotspotGeometry geometry;
 
     @CreationTimestamp
     @Column(name = "created_at")
@@ -91,6 +103,9 @@ public class PedestrianAccidentHotspotsEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-
-
-}
\ No newline at end of file
+    @PrePersist
+    @PreUpdate
+    void fillEmdPrefix() {
+        emdPrefix = EmdPrefixes.of(sidoCode);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import yys.safewalk.domain.model.PopularTouristSpots;
@@ -12,7 +14,14 @@ import yys.safewalk.domain.model.PopularTouristSpots;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * 관광지 순위 팩트 - (시도, 모드, 연령대, 기준월)별 한 행
+ *
+ * 이름/시군구/좌표 컬럼은 tourist_spot(TouristSpotEntity) 의 조회용 사본이며 TouristSpotWriter 가 맞춘다.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "popular_tourist_spots",
         indexes = {
                 @Index(name = "idx_sido", columnList = "sidoName"),
@@ -20,7 +29,9 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_spot_name", columnList = "spotName"),
                 @Index(name = "idx_category", columnList = "category"),
                 @Index(name = "idx_tourist_spot_id", columnList = "touristSpotId"),
-                @Index(name = "idx_location", columnList = "sidoName, sigunguName")
+                @Index(name = "idx_location", columnList = "sidoName, sigunguName"),
+                @Index(name = "idx_tourist_spot_updated_at", columnList = "updatedAt, id"),
+                @Index(name = "idx_tourist_spot_state_rank", columnList = "sidoCode, mode, rank, id")
         })
 @Data
 @NoArgsConstructor
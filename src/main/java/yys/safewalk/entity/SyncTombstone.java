@@ -0,0 +1,39 @@
+package yys.safewalk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 델타 동기화용 삭제 기록. 운영 DB 에서는 각 원본 테이블의 AFTER DELETE 트리거가 기록한다 (sql/safe-walk.DDL)
+ */
+@Entity
+@Table(name = "sync_tombstones",
+    indexes = {
+        @Index(name = "idx_layer_deleted_at", columnList = "layer, deletedAt, id")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "layer", nullable = false, length = 40)
+    private String layer;
+
+    @Column(name = "entity_key", nullable = false, length = 100)
+    private String entityKey;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
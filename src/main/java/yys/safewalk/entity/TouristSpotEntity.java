@@ -0,0 +1,84 @@
+package yys.safewalk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import yys.safewalk.domain.model.PopularTouristSpots;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 관광지 차원 - tourist_spot_id 당 한 행
+ *
+ * popular_tourist_spots 의 순위 행들이 같은 관광지를 가리키며, 이름/좌표/시군구는 이 테이블이 원본이다.
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "tourist_spot",
+        indexes = {
+                @Index(name = "idx_tourist_spot_dim_sigungu", columnList = "sigunguName"),
+                @Index(name = "idx_tourist_spot_dim_location", columnList = "longitude, latitude")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TouristSpotEntity {
+
+    @Id
+    @Column(name = "tourist_spot_id", length = 100)
+    private String touristSpotId;
+
+    @Column(name = "spot_name", length = 200)
+    private String spotName;
+
+    @Column(name = "sido_name", length = 50)
+    private String sidoName;
+
+    @Column(name = "sido_code", length = 10)
+    private String sidoCode;
+
+    @Column(name = "sigungu_name", length = 50)
+    private String sigunguName;
+
+    @Column(name = "category", length = 100)
+    private String category;
+
+    @Column(name = "longitude", precision = 12, scale = 9)
+    private BigDecimal longitude;
+
+    @Column(name = "latitude", precision = 12, scale = 9)
+    private BigDecimal latitude;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 순위 속성(모드, 연령대, 순위 등)은 비어 있는 관광지 정보
+    public PopularTouristSpots toDomain() {
+        return PopularTouristSpots.builder()
+                .sidoName(this.sidoName)
+                .sigunguName(this.sigunguName)
+                .spotName(this.spotName)
+                .touristSpotId(this.touristSpotId)
+                .category(this.category)
+                .longitude(this.longitude)
+                .latitude(this.latitude)
+                .sidoCode(this.sidoCode)
+                .createdAt(this.createdAt)
+                .updatedAt(this.updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import yys.safewalk.application.port.in.GetHeatmapQuery;
+import yys.safewalk.application.port.in.GetNearestAccidentsQuery;
+import yys.safewalk.application.port.in.dto.HeatmapResponse;
+import yys.safewalk.application.port.in.dto.NearestAccidentResponse;
+import yys.safewalk.application.usecase.GetHeatmapUseCase;
+import yys.safewalk.application.usecase.GetNearestAccidentsUseCase;
+import yys.safewalk.domain.model.Coordinate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "사고 API", description = "사고다발지점 공간 조회 API")
+public class AccidentController {
+
+    private final GetHeatmapUseCase getHeatmapUseCase;
+    private final GetNearestAccidentsUseCase getNearestAccidentsUseCase;
+
+    @GetMapping("/accidents/heatmap")
+    @Operation(
+            summary = "사고 밀도 히트맵",
+            description = "지도 영역의 사고/사상자 밀도를 격자 셀 단위로 조회합니다. "
+                    + "level 0(전국 1셀) ~ 10(1024x1024 격자), 생략 시 영역에 맞는 가장 세밀한 레벨을 선택합니다.",
+            parameters = {
+                    @Parameter(name = "swLat", description = "남서쪽 위도", example = "35.700"),
+                    @Parameter(name = "swLng", description = "남서쪽 경도", example = "129.100"),
+                    @Parameter(name = "neLat", description = "북동쪽 위도", example = "35.950"),
+                    @Parameter(name = "neLng", description = "북동쪽 경도", example = "129.400"),
+                    @Parameter(name = "level", description = "격자 레벨 (0 ~ 10)", example = "9")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "히트맵 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = HeatmapResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (좌표 범위 또는 레벨 유효성 검증 실패)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<HeatmapResponse> getHeatmap(
+            @RequestParam BigDecimal swLat,
+            @RequestParam BigDecimal swLng,
+            @RequestParam BigDecimal neLat,
+            @RequestParam BigDecimal neLng,
+            @RequestParam(required = false) Integer level
+    ) {
+        try {
+            GetHeatmapQuery query = new GetHeatmapQuery(
+                    new Coordinate(swLat, swLng), new Coordinate(neLat, neLng), level);
+            return ResponseEntity.ok(getHeatmapUseCase.getHeatmap(query));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/accidents/nearest")
+    @Operation(
+            summary = "가장 가까운 사고다발지점 조회",
+            description = "좌표에서 가장 가까운 보행자/고령 보행자 사고다발지점 k 개를 거리(m)와 함께 가까운 순으로 조회합니다. "
+                    + "반경 조회와 달리 지점이 드문 지역에서도 결과가 비지 않습니다.",
+            parameters = {
+                    @Parameter(name = "lat", description = "위도", example = "37.5665"),
+                    @Parameter(name = "lng", description = "경도", example = "126.9780"),
+                    @Parameter(name = "k", description = "조회할 지점 수 (1 ~ 100, 기본 10)", example = "10"),
+                    @Parameter(name = "maxDistance", description = "최대 거리 (m, 선택)", example = "20000")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (좌표, k 또는 maxDistance 유효성 검증 실패)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<List<NearestAccidentResponse>> getNearestAccidents(
+            @RequestParam BigDecimal lat,
+            @RequestParam BigDecimal lng,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) Integer maxDistance
+    ) {
+        try {
+            GetNearestAccidentsQuery query = new GetNearestAccidentsQuery(new Coordinate(lat, lng), k, maxDistance);
+            return ResponseEntity.ok(getNearestAccidentsUseCase.getNearestAccidents(query));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
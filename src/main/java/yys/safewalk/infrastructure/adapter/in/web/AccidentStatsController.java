@@ -0,0 +1,80 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import yys.safewalk.application.port.in.GetAccidentStatsQuery;
+import yys.safewalk.application.port.in.dto.AccidentStatsDimensionsResponse;
+import yys.safewalk.application.port.in.dto.AccidentStatsResponse;
+import yys.safewalk.application.usecase.GetAccidentStatsUseCase;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "사고 통계 API", description = "연도/시도/사고유형별 교통사고 통계 API")
+public class AccidentStatsController {
+
+    private final GetAccidentStatsUseCase getAccidentStatsUseCase;
+
+    @GetMapping("/stats")
+    @Operation(
+            summary = "교통사고 통계 조회",
+            description = "연도 범위, 시도, 사고유형으로 필터링한 교통사고 통계와 연도별 전년 대비 증감을 조회합니다. "
+                    + "시도/사고유형을 생략하면 전체를 합산합니다.",
+            parameters = {
+                    @Parameter(name = "yearFrom", description = "시작 연도", example = "2020"),
+                    @Parameter(name = "yearTo", description = "종료 연도", example = "2023"),
+                    @Parameter(name = "sido", description = "시도 코드 (복수 가능)", example = "47"),
+                    @Parameter(name = "type", description = "사고유형명 (복수 가능)", example = "보행자사고")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "통계 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AccidentStatsResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (연도 범위 유효성 검증 실패)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<AccidentStatsResponse> getStats(
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(name = "sido", required = false) List<String> sidoCodes,
+            @RequestParam(name = "type", required = false) List<String> accidentTypes
+    ) {
+        try {
+            GetAccidentStatsQuery query = new GetAccidentStatsQuery(yearFrom, yearTo, sidoCodes, accidentTypes);
+            return ResponseEntity.ok(getAccidentStatsUseCase.getStats(query));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/stats/dimensions")
+    @Operation(
+            summary = "통계 필터 항목 조회",
+            description = "통계 조회에 사용할 수 있는 연도, 시도, 사고유형 목록을 조회합니다."
+    )
+    public ResponseEntity<AccidentStatsDimensionsResponse> getDimensions() {
+        return ResponseEntity.ok(getAccidentStatsUseCase.getDimensions());
+    }
+}
@@ -0,0 +1,171 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.infrastructure.adapter.in.web.protobuf.MapProtobufHttpMessageConverter;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 모든 사용자에게 같은 집계 응답을 직렬화/압축된 바이트 배열로 보관하는 캐시
+ *
+ * 키마다 원본 JSON 과 gzip 결과를 한 번만 만들고, 이후에는 Accept-Encoding 에 맞는 배열을 그대로 쓴다.
+ * 캐시는 JSON 만 담으므로 호출 측은 {@link #prefersJson} 이 참일 때만 사용하고, 그 밖(CBOR/Smile 등)은
+ * 메시지 변환기 협상에 맡긴다. 데이터셋이 바뀌면 전부 비운다. 항목 수는 LRU 로 MAX_ENTRIES 까지 유지한다.
+ */
+@Slf4j
+@Component
+public class CompressedResponseCache {
+
+    static final int MAX_ENTRIES = 512;
+
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    // JSON 외에 메시지 변환기가 응답할 수 있는 형식
+    private static final List<MediaType> OTHER_FORMATS = List.of(
+            MediaType.APPLICATION_CBOR,
+            MediaType.parseMediaType("application/x-jackson-smile"),
+            MapProtobufHttpMessageConverter.APPLICATION_PROTOBUF);
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private final Map<String, Entry> entries = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    // 적재 중 무효화된 결과를 넣지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * 캐시된 JSON 응답을 반환하고, 없으면 writer 로 만들어 저장한다. writer 의 예외는 그대로 전파
+     */
+    public ResponseEntity<byte[]> serve(String key, String acceptEncoding, BodyWriter writer) throws IOException {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            long started = generation.get();
+            // 데이터셋 변경 직후 다시 채울 때 지연된 복제본의 옛 데이터가 캐시되지 않도록 primary 에서 읽는다
+            try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+                entry = Entry.of(writer);
+            }
+            if (generation.get() == started) {
+                entries.put(key, entry);
+            }
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, VARY);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(entry.gzip().length)
+                    .body(entry.gzip());
+        }
+        return response.contentLength(entry.identity().length).body(entry.identity());
+    }
+
+    /**
+     * Accept 에서 응답할 수 있는 형식 중 가장 우선하는 것이 JSON 이면 참 (없거나 와일드카드도 JSON 으로 응답한다)
+     */
+    public static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+            if (OTHER_FORMATS.stream().anyMatch(mediaType::isCompatibleWith)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // "gzip" 또는 "*" 가 q=0 이 아닌 값으로 있으면 허용
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) == 0.0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Entry(byte[] identity, byte[] gzip) {
+
+        static Entry of(BodyWriter writer) throws IOException {
+            ByteArrayOutputStream identity = new ByteArrayOutputStream(8 * 1024);
+            writer.writeTo(identity);
+            byte[] body = identity.toByteArray();
+
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                out.write(body);
+            }
+            return new Entry(body, gzip.toByteArray());
+        }
+    }
+}
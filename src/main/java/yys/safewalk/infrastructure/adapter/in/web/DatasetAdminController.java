@@ -0,0 +1,35 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangePublisher;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/datasets")
+@RequiredArgsConstructor
+public class DatasetAdminController {
+
+    private final DatasetChangePublisher datasetChangePublisher;
+
+    /**
+     * 외부 임포트 후 호출하여 해당 데이터셋 기반 메모리 인덱스를 다시 적재
+     */
+    @PostMapping("/{dataset}/refresh")
+    public ResponseEntity<String> refresh(@PathVariable String dataset) {
+        Dataset target;
+        try {
+            target = Dataset.valueOf(dataset.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 데이터셋: {}", dataset);
+            return ResponseEntity.badRequest().body("알 수 없는 데이터셋입니다: " + dataset);
+        }
+
+        log.info("데이터셋 갱신 이벤트 발행: {}", target);
+        datasetChangePublisher.publish(target);
+        return ResponseEntity.ok(target + " 데이터셋 인덱스를 다시 적재했습니다.");
+    }
+}
@@ -0,0 +1,52 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import yys.safewalk.application.event.DatasetVersion;
+
+import java.util.Objects;
+
+/**
+ * /v1 GET 응답에 데이터셋 버전 기반 강한 ETag 를 붙이고, If-None-Match 가 일치하면
+ * 컨트롤러(와 저장소)를 거치지 않고 304 로 응답한다.
+ *
+ * 같은 URL 이라도 Accept/Accept-Encoding 에 따라 본문이 달라지므로 두 헤더 값을 태그에 포함한다.
+ * 데이터는 임포트 때만 바뀌므로 캐시는 매번 재검증(no-cache)하도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatasetEtagInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final DatasetVersion datasetVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 스트리밍 응답의 비동기 재디스패치는 이미 처리된 요청
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.VARY, VARY);
+        return !new ServletWebRequest(request, response).checkNotModified(etag(request));
+    }
+
+    private String etag(HttpServletRequest request) {
+        int variant = Objects.hash(request.getHeader(HttpHeaders.ACCEPT), request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        return "\"" + datasetVersion.current() + "-" + Integer.toHexString(variant) + "\"";
+    }
+}
@@ -1,7 +1,11 @@
 package yys.safewalk.infrastructure.adapter.in.web;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,38 +13,69 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import yys.safewalk.application.port.in.GetEmdBatchQuery;
+import yys.safewalk.application.port.in.GetEmdBoundariesQuery;
 import yys.safewalk.application.port.in.GetEmdBySidoCodeQuery;
 import yys.safewalk.application.port.in.GetEmdDetailQuery;
 import yys.safewalk.application.port.in.GetEmdInBoundsQuery;
+import yys.safewalk.application.port.in.PageQuery;
+import yys.safewalk.application.port.in.SparseFields;
+import yys.safewalk.application.port.in.dto.EmdBatchRequest;
+import yys.safewalk.application.port.in.dto.EmdBatchResponse;
+import yys.safewalk.application.port.in.dto.EmdBoundaryCollectionResponse;
 import yys.safewalk.application.port.in.dto.EmdDetailResponse;
+import yys.safewalk.application.port.in.dto.EmdField;
 import yys.safewalk.application.port.in.dto.EmdInBoundsResponse;
 import yys.safewalk.application.port.in.dto.EmdResponse;
 import yys.safewalk.application.port.in.dto.EmdSearchRequest;
 import yys.safewalk.application.service.AdministrativeLegalDongService;
+import yys.safewalk.application.usecase.GetEmdBatchUseCase;
+import yys.safewalk.application.usecase.GetEmdBoundariesUseCase;
 import yys.safewalk.application.usecase.GetEmdDetailUseCase;
 import yys.safewalk.application.usecase.GetEmdUseCase;
 import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.KeysetPage;
+import yys.safewalk.domain.model.PageCursor;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+@Slf4j
 @RestController
 @RequestMapping("/v1")
 @RequiredArgsConstructor
 @Tag(name = "EMD", description = "법정동 관련 API")
 public class EmdController {
 
+    // /emd/details 스트리밍 시 상세 정보를 한 번에 조회할 법정동 수
+    private static final int DETAIL_BATCH_SIZE = 100;
+
     private final GetEmdUseCase getEmdUseCase;
     private final GetEmdDetailUseCase getEmdDetailUseCase;
+    private final GetEmdBoundariesUseCase getEmdBoundariesUseCase;
+    private final GetEmdBatchUseCase getEmdBatchUseCase;
     private final AdministrativeLegalDongService administrativeLegalDongService;
+    private final ObjectMapper objectMapper;
+    private final CompressedResponseCache compressedResponseCache;
 
 
     @GetMapping("/emd")
     @Operation(
             summary = "지도 영역 법정동 조회",
+            description = "지도 영역 내 법정동과 사고 건수를 조회합니다 (JSON/CBOR/Smile/protobuf).",
             parameters = {
                     @Parameter(name = "swLat", description = "남서쪽 위도", example = "35.820"),
                     @Parameter(name = "swLng", description = "남서쪽 경도", example = "129.200"),
@@ -63,6 +98,40 @@ public class EmdController {
         return ResponseEntity.ok(response);
     }
 
+    // protobuf 는 고정 스키마라 fields 요청은 JSON/CBOR/Smile 로만 응답한다
+    @GetMapping(value = "/emd", params = "fields")
+    @Operation(
+            summary = "지도 영역 법정동 조회 (필드 선택)",
+            description = "fields 에 준 필드만 응답합니다 (JSON/CBOR/Smile). totalAccident 와 riskTier 를 빼면 사고 건수 조회를 생략합니다.",
+            parameters = {
+                    @Parameter(name = "swLat", description = "남서쪽 위도", example = "35.820"),
+                    @Parameter(name = "swLng", description = "남서쪽 경도", example = "129.200"),
+                    @Parameter(name = "neLat", description = "북동쪽 위도", example = "35.850"),
+                    @Parameter(name = "neLng", description = "북동쪽 경도", example = "129.230"),
+                    @Parameter(name = "fields", description = "쉼표로 구분한 응답 필드 (name, totalAccident, EMD_CD, latitude, longitude, riskTier)",
+                            example = "EMD_CD,name,latitude,longitude")
+            }
+    )
+    public ResponseEntity<List<Map<String, Object>>> getEmdInBoundsFields(
+            @RequestParam BigDecimal swLat,
+            @RequestParam BigDecimal swLng,
+            @RequestParam BigDecimal neLat,
+            @RequestParam BigDecimal neLng,
+            @RequestParam String fields
+    ) {
+        GetEmdInBoundsQuery query = new GetEmdInBoundsQuery(
+                new Coordinate(swLat, swLng),
+                new Coordinate(neLat, neLng)
+        );
+
+        try {
+            Set<EmdField> selected = SparseFields.parse(fields, EmdField.class);
+            return ResponseEntity.ok(getEmdUseCase.getEmdInBounds(query, selected));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
 
 
 
@@ -103,12 +172,15 @@ public class EmdController {
     @GetMapping("/emd/details")
     @Operation(
             summary = "지도 영역 내 법정동 상세 조회",
-            description = "지도 영역(바운딩 박스) 내의 법정동들을 조회하고 각 법정동의 상세 사고이력 및 지리정보를 함께 반환합니다",
+            description = "지도 영역(바운딩 박스) 내의 법정동들을 조회하고 각 법정동의 상세 사고이력 및 지리정보를 함께 반환합니다. "
+                    + "cursor 나 limit 을 주면 법정동 코드 순으로 limit 건씩 나눠 반환하고, 다음 페이지 커서를 X-Next-Cursor 헤더로 보냅니다.",
             parameters = {
                     @Parameter(name = "swLat", description = "남서쪽 위도", example = "35.820"),
                     @Parameter(name = "swLng", description = "남서쪽 경도", example = "129.200"),
                     @Parameter(name = "neLat", description = "북동쪽 위도", example = "35.850"),
-                    @Parameter(name = "neLng", description = "북동쪽 경도", example = "129.230")
+                    @Parameter(name = "neLng", description = "북동쪽 경도", example = "129.230"),
+                    @Parameter(name = "cursor", description = "이전 응답의 X-Next-Cursor (생략 시 첫 페이지)"),
+                    @Parameter(name = "limit", description = "페이지 크기 (1 ~ 1000, cursor 만 주면 100)", example = "100")
             }
     )
     @ApiResponses(value = {
@@ -117,12 +189,12 @@ public class EmdController {
                     description = "지도 영역 내 법정동 상세 조회 성공",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = EmdDetailResponse.class)
+                            array = @ArraySchema(schema = @Schema(implementation = EmdDetailResponse.class))
                     )
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "잘못된 요청 (좌표 값 오류)",
+                    description = "잘못된 요청 (좌표 값, 커서 또는 limit 오류)",
                     content = @Content(mediaType = "application/json")
             ),
             @ApiResponse(
@@ -131,11 +203,13 @@ public class EmdController {
                     content = @Content(mediaType = "application/json")
             )
     })
-    public ResponseEntity<List<EmdDetailResponse>> getEmdDetailsInBounds(
+    public ResponseEntity<StreamingResponseBody> getEmdDetailsInBounds(
             @RequestParam BigDecimal swLat,
             @RequestParam BigDecimal swLng,
             @RequestParam BigDecimal neLat,
-            @RequestParam BigDecimal neLng
+            @RequestParam BigDecimal neLng,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
         // 1. 지도 영역 내 법정동 목록 조회
         GetEmdInBoundsQuery boundsQuery = new GetEmdInBoundsQuery(
@@ -143,17 +217,38 @@ public class EmdController {
                 new Coordinate(neLat, neLng)
         );
 
-        List<EmdInBoundsResponse> emdsInBounds = getEmdUseCase.getEmdInBounds(boundsQuery);
+        PageQuery page;
+        try {
+            page = PageQuery.of(cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        // 2. 각 법정동 코드로 상세 정보 조회 (null 값도 포함)
-        List<EmdDetailResponse> detailResponses = emdsInBounds.stream()
-                .map(emd -> {
-                    GetEmdDetailQuery detailQuery = new GetEmdDetailQuery(emd.EMD_CD());
-                    return getEmdDetailUseCase.getEmdDetail(detailQuery);
-                })
-                .collect(Collectors.toList());  // null 값 필터링 제거
+        if (page == null) {
+            // 2. 법정동 코드를 DETAIL_BATCH_SIZE 개씩 모아 상세 정보를 한 번에 조회해 바로 응답에 쓴다 (null 값도 포함)
+            return streamJsonArray(sink -> {
+                List<String> emdCodes = new ArrayList<>(DETAIL_BATCH_SIZE);
+                getEmdUseCase.streamEmdInBounds(boundsQuery, emd -> {
+                    emdCodes.add(emd.EMD_CD());
+                    if (emdCodes.size() == DETAIL_BATCH_SIZE) {
+                        getEmdDetailUseCase.getEmdDetails(emdCodes).forEach(sink);
+                        emdCodes.clear();
+                    }
+                });
+                if (!emdCodes.isEmpty()) {
+                    getEmdDetailUseCase.getEmdDetails(emdCodes).forEach(sink);
+                }
+            });
+        }
 
-        return ResponseEntity.ok(detailResponses);
+        // 2. 이번 페이지 법정동만 상세 정보를 한 번에 조회해 응답에 쓴다
+        KeysetPage<EmdInBoundsResponse> emds = getEmdUseCase.getEmdInBounds(boundsQuery, page);
+        List<String> emdCodes = emds.items().stream().map(EmdInBoundsResponse::EMD_CD).toList();
+        StreamingResponseBody body = out -> writeJsonArray(out, sink ->
+                getEmdDetailUseCase.getEmdDetails(emdCodes).forEach(sink));
+        return KeysetPageResponses.ok(emds)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
 
@@ -162,10 +257,11 @@ public class EmdController {
     @GetMapping("/emd/search/realtime")
     @Operation(
             summary = "읍면동명 실시간 검색",
-            description = "자동완성을 위한 실시간 읍면동 검색을 제공합니다.",
+            description = "자동완성을 위한 실시간 읍면동 검색을 제공합니다. 결과가 더 있으면 다음 페이지 커서를 X-Next-Cursor 헤더로 보냅니다.",
             parameters = {
                     @Parameter(name = "query", description = "검색할 읍면동명", example = "청운"),
-                    @Parameter(name = "limit", description = "반환할 최대 결과 수", example = "10")
+                    @Parameter(name = "limit", description = "반환할 최대 결과 수 (1 ~ 1000)", example = "10"),
+                    @Parameter(name = "cursor", description = "이전 응답의 X-Next-Cursor (생략 시 첫 페이지)")
             }
     )
     @ApiResponses(value = {
@@ -190,10 +286,16 @@ public class EmdController {
     })
     public ResponseEntity<List<EmdResponse>> searchRealtime(
             @RequestParam String query,
-            @RequestParam(defaultValue = "10") int limit
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor
     ) {
-        List<EmdResponse> response = administrativeLegalDongService.searchRealtime(query, limit);
-        return ResponseEntity.ok(response);
+        try {
+            KeysetPage<EmdResponse> response = administrativeLegalDongService.searchRealtime(
+                    query, new PageQuery(PageCursor.decode(cursor), limit));
+            return KeysetPageResponses.ok(response).body(response.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/emd/search")
@@ -264,6 +366,36 @@ public class EmdController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/emd/batch")
+    @Operation(
+            summary = "법정동 일괄 조회",
+            description = "법정동 코드 목록(최대 500개)의 요약을 한 번에 조회합니다. "
+                    + "결과는 요청 순서와 같고, 없는 코드는 found=false 로 표시합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "일괄 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EmdBatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (코드 누락, 형식 오류 또는 500개 초과)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<EmdBatchResponse> getEmdBatch(@RequestBody EmdBatchRequest request) {
+        try {
+            GetEmdBatchQuery query = new GetEmdBatchQuery(request.codes());
+            return ResponseEntity.ok(getEmdBatchUseCase.getEmdBatch(query));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/emd/search/name")
     @Operation(
             summary = "읍면동명 단일 검색",
@@ -304,9 +436,12 @@ public class EmdController {
     @GetMapping("/emd/sido/{sidoCode}")
     @Operation(
             summary = "시도 코드별 법정동 조회",
-            description = "시도 코드(앞 4자리)를 기반으로 해당 지역의 모든 법정동을 조회합니다. 일반 사고와 고령자 사고를 합친 총 사고 수가 포함됩니다.",
+            description = "시도 코드(앞 4자리)를 기반으로 해당 지역의 모든 법정동을 조회합니다. 일반 사고와 고령자 사고를 합친 총 사고 수가 포함됩니다. "
+                    + "cursor 나 limit 을 주면 법정동 코드 순으로 limit 건씩 나눠 반환하고, 다음 페이지 커서를 X-Next-Cursor 헤더로 보냅니다.",
             parameters = {
-                    @Parameter(name = "sidoCode", description = "시도 코드 (4자리)", example = "4713", required = true)
+                    @Parameter(name = "sidoCode", description = "시도 코드 (4자리)", example = "4713", required = true),
+                    @Parameter(name = "cursor", description = "이전 응답의 X-Next-Cursor (생략 시 첫 페이지)"),
+                    @Parameter(name = "limit", description = "페이지 크기 (1 ~ 1000, cursor 만 주면 100)", example = "100")
             }
     )
     @ApiResponses(value = {
@@ -315,12 +450,12 @@ public class EmdController {
                     description = "시도별 법정동 조회 성공",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = EmdInBoundsResponse.class)
+                            array = @ArraySchema(schema = @Schema(implementation = EmdInBoundsResponse.class))
                     )
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "잘못된 요청 (시도 코드가 4자리가 아님)",
+                    description = "잘못된 요청 (시도 코드가 4자리가 아니거나 커서 또는 limit 오류)",
                     content = @Content(mediaType = "application/json")
             ),
             @ApiResponse(
@@ -329,12 +464,113 @@ public class EmdController {
                     content = @Content(mediaType = "application/json")
             )
     })
-    public ResponseEntity<List<EmdInBoundsResponse>> getEmdBySidoCode(
-            @PathVariable String sidoCode) {
+    public ResponseEntity<?> getEmdBySidoCode(
+            @PathVariable String sidoCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) throws IOException {
 
         GetEmdBySidoCodeQuery query = new GetEmdBySidoCodeQuery(sidoCode);
-        List<EmdInBoundsResponse> response = getEmdUseCase.getEmdBySidoCode(query);
 
-        return ResponseEntity.ok(response);
+        // 페이지 조회는 커서마다 결과가 달라 캐시하지 않는다
+        try {
+            PageQuery page = PageQuery.of(cursor, limit);
+            if (page != null) {
+                KeysetPage<EmdInBoundsResponse> response = getEmdUseCase.getEmdBySidoCode(query, page);
+                return KeysetPageResponses.ok(response).body(response.items());
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 캐시는 JSON 만 담으므로 CBOR/Smile 등은 변환기 협상에 맡긴다
+        if (!CompressedResponseCache.prefersJson(accept)) {
+            return ResponseEntity.ok(getEmdUseCase.getEmdBySidoCode(query));
+        }
+
+        // 사용자와 무관한 시도 단위 목록이므로 직렬화/압축 결과를 캐시해 그대로 보낸다
+        return compressedResponseCache.serve("emd-sido:" + query.sidoCode(), acceptEncoding,
+                out -> writeJsonArray(out, sink -> getEmdUseCase.streamEmdBySidoCode(query, sink::accept)));
+    }
+
+    @GetMapping("/emd/sido/{sidoCode}/boundaries")
+    @Operation(
+            summary = "시도 코드별 읍면동 경계 조회",
+            description = "시도 코드(앞 4자리)에 속한 읍면동 경계를 GeoJSON FeatureCollection(MultiPolygon)으로 조회합니다. "
+                    + "경계는 줌 레벨에서 반 픽셀 이하의 굴곡을 제거해 단순화하며, 이웃 읍면동이 공유하는 경계는 "
+                    + "같은 선으로 단순화되어 틈이나 겹침이 없습니다. 줌 6 미만과 16 초과는 각각 6, 16 레벨로 응답합니다.",
+            parameters = {
+                    @Parameter(name = "sidoCode", description = "시도 코드 (4자리)", example = "4713", required = true),
+                    @Parameter(name = "zoom", description = "지도 줌 레벨 (0 ~ 22)", example = "12")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "경계 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EmdBoundaryCollectionResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (시도 코드가 4자리가 아니거나 줌 레벨 범위 오류)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<?> getEmdBoundaries(
+            @PathVariable String sidoCode,
+            @RequestParam(defaultValue = "12") int zoom,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) throws IOException {
+        GetEmdBoundariesQuery query;
+        try {
+            query = new GetEmdBoundariesQuery(sidoCode, zoom);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!CompressedResponseCache.prefersJson(accept)) {
+            return ResponseEntity.ok(getEmdBoundariesUseCase.getEmdBoundaries(query));
+        }
+        return compressedResponseCache.serve("emd-boundaries:" + query.sidoCode() + ":" + query.zoom(), acceptEncoding,
+                out -> objectMapper.writeValue(out, getEmdBoundariesUseCase.getEmdBoundaries(query)));
+    }
+
+    /**
+     * producer 가 전달하는 항목을 JSON 배열로 바로 직렬화한다. 전체 목록과 JSON 버퍼를 메모리에 두지 않는다
+     */
+    private ResponseEntity<StreamingResponseBody> streamJsonArray(Consumer<Consumer<Object>> producer) {
+        StreamingResponseBody body = out -> writeJsonArray(out, producer);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 도중에 실패하면 생성기를 닫지 않고 예외를 다시 던진다. 닫으면 열린 배열이 자동으로 닫혀 잘린 목록이
+     * 정상 응답처럼 보이므로, 이미 커밋된 응답은 컨테이너가 연결을 끊어 클라이언트가 실패를 알게 한다
+     */
+    private void writeJsonArray(OutputStream out, Consumer<Consumer<Object>> producer) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+        try {
+            generator.writeStartArray();
+            producer.accept(item -> {
+                try {
+                    generator.writeObject(item);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        } catch (IOException | RuntimeException e) {
+            log.error("JSON 배열 스트리밍 실패, 연결을 끊습니다: {}", e.getMessage(), e);
+            throw e;
+        }
+        generator.close();
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import org.springframework.http.ResponseEntity;
+import yys.safewalk.domain.model.KeysetPage;
+
+/**
+ * 키셋 페이지 응답. 본문은 기존과 같은 배열이고 다음 페이지 커서는 헤더로 보낸다 (마지막 페이지면 생략)
+ */
+final class KeysetPageResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private KeysetPageResponses() {
+    }
+
+    static ResponseEntity.BodyBuilder ok(KeysetPage<?> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, page.next().encode());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,66 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import yys.safewalk.application.port.in.GetCrowdRiskQuery;
+import yys.safewalk.application.port.in.dto.CrowdRiskResponse;
+import yys.safewalk.application.usecase.GetCrowdRiskUseCase;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "동네 API", description = "방문객/사고 기반 동네 위험도 API")
+public class NeighborhoodController {
+
+    private final GetCrowdRiskUseCase getCrowdRiskUseCase;
+
+    @GetMapping("/neighborhoods/crowd-risk")
+    @Operation(
+            summary = "붐비고 위험한 동네 순위",
+            description = "방문객 급증 동네 중 보행자 사고가 많은 곳을 위험 점수 순으로 조회합니다. "
+                    + "점수 = 사고건수 × ln(1 + 방문객수) × (1 + 증가율/100)",
+            parameters = {
+                    @Parameter(name = "sido", description = "시도명 (생략 시 전국)", example = "경상북도"),
+                    @Parameter(name = "limit", description = "반환할 최대 결과 수 (최대 100)", example = "20")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "순위 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CrowdRiskResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (limit 범위 초과)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<List<CrowdRiskResponse>> getCrowdRiskRanking(
+            @RequestParam(name = "sido", required = false) String sidoName,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        try {
+            return ResponseEntity.ok(getCrowdRiskUseCase.getCrowdRiskRanking(new GetCrowdRiskQuery(sidoName, limit)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
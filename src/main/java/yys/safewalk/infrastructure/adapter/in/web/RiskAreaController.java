@@ -0,0 +1,114 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import yys.safewalk.application.port.in.GetRiskAreasAtPointQuery;
+import yys.safewalk.application.port.in.GetRiskAreasOnRouteQuery;
+import yys.safewalk.application.port.in.dto.RiskAreaResponse;
+import yys.safewalk.application.port.in.dto.RiskAreaRouteRequest;
+import yys.safewalk.application.usecase.GetRiskAreasUseCase;
+import yys.safewalk.domain.model.Coordinate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "위험지역 API", description = "연도별 공식 사고 위험지역 조회 API")
+public class RiskAreaController {
+
+    private static final int DEFAULT_BUFFER_METERS = 0;
+
+    private final GetRiskAreasUseCase getRiskAreasUseCase;
+
+    @GetMapping("/risk-areas/containing")
+    @Operation(
+            summary = "지점 위험지역 조회",
+            description = "지정한 좌표를 포함하거나 buffer(m) 이내에 있는 위험지역을 사고 건수 순으로 조회합니다.",
+            parameters = {
+                    @Parameter(name = "lat", description = "위도", example = "35.8347"),
+                    @Parameter(name = "lng", description = "경도", example = "129.2190"),
+                    @Parameter(name = "year", description = "연도 코드 (생략 시 전체 연도)", example = "2023"),
+                    @Parameter(name = "buffer", description = "허용 거리(m), 0 이면 포함 여부만 판정", example = "0")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "위험지역 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = RiskAreaResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (좌표/buffer 유효성 검증 실패)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<List<RiskAreaResponse>> getRiskAreasContaining(
+            @RequestParam BigDecimal lat,
+            @RequestParam BigDecimal lng,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "0") int buffer
+    ) {
+        try {
+            GetRiskAreasAtPointQuery query = new GetRiskAreasAtPointQuery(new Coordinate(lat, lng), year, buffer);
+            return ResponseEntity.ok(getRiskAreasUseCase.getRiskAreasAtPoint(query));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/risk-areas/route")
+    @Operation(
+            summary = "경로 위험지역 조회",
+            description = "좌표 순서대로 이은 보행 경로와 만나거나 buffer(m) 이내에 있는 위험지역을 사고 건수 순으로 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "위험지역 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = RiskAreaResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (경로 좌표 유효성 검증 실패)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<List<RiskAreaResponse>> getRiskAreasOnRoute(@Valid @RequestBody RiskAreaRouteRequest request) {
+        try {
+            List<Coordinate> route = request.route().stream()
+                    .map(point -> new Coordinate(
+                            BigDecimal.valueOf(point.latitude()),
+                            BigDecimal.valueOf(point.longitude())))
+                    .toList();
+            int buffer = request.buffer() != null ? request.buffer() : DEFAULT_BUFFER_METERS;
+
+            GetRiskAreasOnRouteQuery query = new GetRiskAreasOnRouteQuery(route, request.year(), buffer);
+            return ResponseEntity.ok(getRiskAreasUseCase.getRiskAreasOnRoute(query));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
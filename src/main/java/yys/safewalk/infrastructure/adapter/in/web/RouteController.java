@@ -0,0 +1,70 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import yys.safewalk.application.port.in.ScoreRouteQuery;
+import yys.safewalk.application.port.in.dto.RouteScoreRequest;
+import yys.safewalk.application.port.in.dto.RouteScoreResponse;
+import yys.safewalk.application.usecase.ScoreRouteUseCase;
+import yys.safewalk.domain.model.Coordinate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "경로 API", description = "보행 경로 위험도 API")
+public class RouteController {
+
+    private static final int DEFAULT_BUFFER_METERS = 30;
+
+    private final ScoreRouteUseCase scoreRouteUseCase;
+
+    @PostMapping("/routes/score")
+    @Operation(
+            summary = "보행 경로 위험도 계산",
+            description = "좌표 순서대로 이은 보행 경로의 buffer(m, 기본 30) 통로 안에 있는 보행자/고령 보행자 "
+                    + "사고다발지점으로 구간별/전체 위험도를 계산합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "위험도 계산 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RouteScoreResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (경로 좌표 또는 buffer 유효성 검증 실패)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<RouteScoreResponse> scoreRoute(@Valid @RequestBody RouteScoreRequest request) {
+        try {
+            List<Coordinate> route = request.route().stream()
+                    .map(point -> new Coordinate(
+                            BigDecimal.valueOf(point.latitude()),
+                            BigDecimal.valueOf(point.longitude())))
+                    .toList();
+            int buffer = request.buffer() != null ? request.buffer() : DEFAULT_BUFFER_METERS;
+
+            return ResponseEntity.ok(scoreRouteUseCase.scoreRoute(new ScoreRouteQuery(route, buffer)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
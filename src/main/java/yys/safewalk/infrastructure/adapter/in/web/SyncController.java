@@ -0,0 +1,74 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import yys.safewalk.application.port.in.GetSyncChangesQuery;
+import yys.safewalk.application.port.in.dto.SyncResponse;
+import yys.safewalk.application.usecase.SyncChangesUseCase;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "동기화 API", description = "모바일 로컬 캐시용 델타 동기화 API")
+public class SyncController {
+
+    private final SyncChangesUseCase syncChangesUseCase;
+
+    @GetMapping("/sync")
+    @Operation(
+            summary = "변경분 동기화",
+            description = "since 워터마크 이후 바뀌거나 삭제된 사고다발지점/관광지/법정동을 레이어별로 조회합니다. "
+                    + "응답의 watermark 를 다음 요청의 since 로 그대로 보내고, hasMore 가 true 면 곧바로 다시 요청합니다. "
+                    + "since 를 생략하면 전체를 처음부터 받습니다.",
+            parameters = {
+                    @Parameter(name = "since", description = "이전 응답의 watermark (생략 시 처음부터)"),
+                    @Parameter(name = "layers", description = "쉼표로 구분한 레이어 (pedestrian-hotspots, elderly-hotspots, tourist-spots, dongs), 생략 시 전체",
+                            example = "pedestrian-hotspots,tourist-spots"),
+                    @Parameter(name = "limit", description = "레이어당 최대 변경 수 (1 ~ 2000, 기본 500)", example = "500")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "동기화 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SyncResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (워터마크 형식, 레이어 이름 또는 limit 범위 오류)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<SyncResponse> sync(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) String layers,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        try {
+            GetSyncChangesQuery query = GetSyncChangesQuery.of(since, layers, limit);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(syncChangesUseCase.getChanges(query));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
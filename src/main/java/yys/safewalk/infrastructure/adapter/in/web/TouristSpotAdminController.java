@@ -33,14 +33,14 @@ public class TouristSpotAdminController {
 //
 //
 //    @PostMapping("/{id}/update-coordinate-naver")
-//    public String updateCoordinateByIdWithNaver(@PathVariable Long id) {
+//    public String updateCoordinateByIdWithNaver(@PathVariable String id) {
 //        coordinateNaverService.updateCoordinateById(id);
 //        return "ID " + id + " 관광지의 좌표 업데이트가 완료되었습니다. (네이버 API)";
 //    }
 //
 //
 //    @PostMapping("/batch-update-coordinates-naver")
-//    public String updateCoordinatesByIdsWithNaver(@RequestBody List<Long> ids) {
+//    public String updateCoordinatesByIdsWithNaver(@RequestBody List<String> ids) {
 //        coordinateNaverService.updateCoordinatesByIds(ids);
 //        return ids.size() + "개 관광지의 좌표 일괄 업데이트가 완료되었습니다. (네이버 API)";
 //    }
@@ -52,13 +52,13 @@ public class TouristSpotAdminController {
 //    }
 //
 //    @PostMapping("/{id}/update-sigungu-name")
-//    public String updateSigunguNameById(@PathVariable Long id) {
+//    public String updateSigunguNameById(@PathVariable String id) {
 //        sigunguUpdateService.updateSigunguNameById(id);
 //        return "ID " + id + " 관광지의 시군구명 업데이트가 완료되었습니다.";
 //    }
 //
 //    @PostMapping("/batch-update-sigungu-names")
-//    public String updateSigunguNamesByIds(@RequestBody List<Long> ids) {
+//    public String updateSigunguNamesByIds(@RequestBody List<String> ids) {
 //        sigunguUpdateService.updateSigunguNamesByIds(ids);
 //        return ids.size() + "개 관광지의 시군구명 일괄 업데이트가 완료되었습니다.";
 //    }
@@ -70,13 +70,13 @@ public class TouristSpotAdminController {
 //    }
 //
 //    @PostMapping("/{id}/update-sigungu-name-naver")
-//    public String updateSigunguNameByIdWithNaver(@PathVariable Long id) {
+//    public String updateSigunguNameByIdWithNaver(@PathVariable String id) {
 //        sigunguUpdateNaverService.updateSigunguNameById(id);
 //        return "ID " + id + " 관광지의 시군구명 업데이트가 완료되었습니다. (네이버 API)";
 //    }
 //
 //    @PostMapping("/batch-update-sigungu-names-naver")
-//    public String updateSigunguNamesByIdsWithNaver(@RequestBody List<Long> ids) {
+//    public String updateSigunguNamesByIdsWithNaver(@RequestBody List<String> ids) {
 //        sigunguUpdateNaverService.updateSigunguNamesByIds(ids);
 //        return ids.size() + "개 관광지의 시군구명 일괄 업데이트가 완료되었습니다. (네이버 API)";
 //    }
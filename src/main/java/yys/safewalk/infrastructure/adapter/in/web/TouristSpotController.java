@@ -1,7 +1,9 @@
 package yys.safewalk.infrastructure.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,21 +11,31 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import yys.safewalk.application.port.in.GetTouristSpotAccidentsQuery;
+import yys.safewalk.application.port.in.PageQuery;
+import yys.safewalk.application.port.in.SparseFields;
 import yys.safewalk.application.port.in.dto.EmdResponse;
+import yys.safewalk.application.port.in.dto.TouristSpotField;
 import yys.safewalk.application.port.in.dto.TouristSpotResponse;
+import yys.safewalk.application.port.in.dto.TouristSpotRiskResponse;
 import yys.safewalk.application.port.in.dto.TouristSpotSearchResponse;
 import yys.safewalk.application.port.in.dto.TouristSpotsInStateResponse;
 import yys.safewalk.application.service.TouristSpotAreaService;
 import yys.safewalk.application.service.TouristSpotSearchService;
 import yys.safewalk.application.service.TouristSpotsInStateService;
+import yys.safewalk.application.usecase.GetTouristSpotRiskUseCase;
 import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.KeysetPage;
 import yys.safewalk.domain.model.TouristSpotAccidentResponse;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -36,6 +48,9 @@ public class TouristSpotController {
     private final TouristSpotsInStateService touristSpotsInStateService;
     private final GetTouristSpotAccidentsQuery getTouristSpotAccidentsQuery;
     private final TouristSpotSearchService touristSpotSearchService;
+    private final GetTouristSpotRiskUseCase getTouristSpotRiskUseCase;
+    private final CompressedResponseCache compressedResponseCache;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/tourist-spots")
     @Operation(
@@ -81,14 +96,64 @@ public class TouristSpotController {
         return ResponseEntity.ok(response);
     }
 
+    // protobuf 는 고정 스키마라 fields 요청은 JSON/CBOR/Smile 로만 응답한다
+    @GetMapping(value = "/tourist-spots", params = "fields")
+    @Operation(
+            summary = "지도 영역 내 관광지 조회 (필드 선택)",
+            description = "fields 에 준 컬럼만 조회해 그 필드만 응답합니다 (JSON/CBOR/Smile).",
+            parameters = {
+                    @Parameter(name = "swLat", description = "남서쪽 위도", example = "35.820"),
+                    @Parameter(name = "swLng", description = "남서쪽 경도", example = "129.200"),
+                    @Parameter(name = "neLat", description = "북동쪽 위도", example = "35.850"),
+                    @Parameter(name = "neLng", description = "북동쪽 경도", example = "129.230"),
+                    @Parameter(name = "fields", description = "쉼표로 구분한 응답 필드 (id, spot_name, sido_name, sigungu_name, category, Coordinate)",
+                            example = "id,spot_name,Coordinate")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "관광지 조회 성공",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (좌표 유효성 검증 실패 또는 지원하지 않는 필드)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<List<Map<String, Object>>> getTouristSpotsByAreaFields(
+            @RequestParam BigDecimal swLat,
+            @RequestParam BigDecimal swLng,
+            @RequestParam BigDecimal neLat,
+            @RequestParam BigDecimal neLng,
+            @RequestParam String fields
+    ) {
+        Coordinate swCoordinate = new Coordinate(swLat, swLng);
+        Coordinate neCoordinate = new Coordinate(neLat, neLng);
+
+        try {
+            Set<TouristSpotField> selected = SparseFields.parse(fields, TouristSpotField.class);
+            return ResponseEntity.ok(touristSpotAreaService.getTouristSpotsByArea(swCoordinate, neCoordinate, selected));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
 
     @GetMapping("/tourist-spots/state")
     @Operation(
             summary = "특정 지역 관광지 조회",
-            description = "도내 관광지 목록을 조회합니다.",
+            description = "도내 관광지 목록을 조회합니다. sort=risk 면 반경 riskRadiusKm 내 사고 건수가 많은 순으로 정렬합니다. "
+                    + "cursor 나 limit 을 주면 순위 순으로 limit 건씩 나눠 반환하고 (sort=rank 만), 다음 페이지 커서를 X-Next-Cursor 헤더로 보냅니다.",
             parameters = {
                     @Parameter(name = "code", description = "도시코드", example = "52"),
                     @Parameter(name = "mode", description = "인기관광지/중심관광지/지역맛집", example = "인기관광지"),
+                    @Parameter(name = "sort", description = "정렬 기준 (rank/risk, 기본 rank)", example = "risk"),
+                    @Parameter(name = "riskRadiusKm", description = "위험도 정렬 반경 (1/3/5/10km, 기본 5)", example = "5"),
+                    @Parameter(name = "cursor", description = "이전 응답의 X-Next-Cursor (생략 시 첫 페이지)"),
+                    @Parameter(name = "limit", description = "페이지 크기 (1 ~ 1000, cursor 만 주면 100)", example = "100")
             }
     )
     @ApiResponses(value = {
@@ -97,12 +162,12 @@ public class TouristSpotController {
                     description = "관광지 조회 성공",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = TouristSpotResponse.class)
+                            array = @ArraySchema(schema = @Schema(implementation = TouristSpotsInStateResponse.class))
                     )
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "잘못된 요청 (좌표 유효성 검증 실패)",
+                    description = "잘못된 요청 (위험도 반경, 커서 또는 limit 오류)",
                     content = @Content(mediaType = "application/json")
             ),
             @ApiResponse(
@@ -111,13 +176,43 @@ public class TouristSpotController {
                     content = @Content(mediaType = "application/json")
             )
     })
-    public ResponseEntity<List<TouristSpotsInStateResponse>> getTouristSpotsByArea(
+    public ResponseEntity<?> getTouristSpotsByArea(
             @RequestParam String code,
-            @RequestParam String mode
-    ) {
+            @RequestParam String mode,
+            @RequestParam(defaultValue = TouristSpotsInStateService.SORT_RANK) String sort,
+            @RequestParam(defaultValue = "5") int riskRadiusKm,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) throws IOException {
+        try {
+            // 페이지 조회는 커서마다 결과가 달라 캐시하지 않는다
+            PageQuery page = PageQuery.of(cursor, limit);
+            if (page != null) {
+                KeysetPage<TouristSpotsInStateResponse> response =
+                        touristSpotsInStateService.getTouristSpotsInState(code, mode, sort, page);
+                return KeysetPageResponses.ok(response).body(response.items());
+            }
 
-        List<TouristSpotsInStateResponse> response = touristSpotsInStateService.getTouristSpotsInState(code, mode);
-        return ResponseEntity.ok(response);
+            // 위험도 정렬은 백그라운드 재계산 결과에 따라 바뀌므로 캐시하지 않는다
+            if (TouristSpotsInStateService.SORT_RISK.equals(sort)) {
+                return ResponseEntity.ok(
+                        touristSpotsInStateService.getTouristSpotsInState(code, mode, sort, riskRadiusKm));
+            }
+
+            // 캐시는 JSON 만 담으므로 CBOR/Smile 등은 변환기 협상에 맡긴다
+            if (!CompressedResponseCache.prefersJson(accept)) {
+                return ResponseEntity.ok(touristSpotsInStateService.getTouristSpotsInState(code, mode));
+            }
+
+            // 모든 사용자에게 같은 목록이므로 직렬화/압축 결과를 캐시해 그대로 보낸다
+            return compressedResponseCache.serve("tourist-spots-state:" + code + ":" + mode, acceptEncoding,
+                    out -> objectMapper.writeValue(out, touristSpotsInStateService.getTouristSpotsInState(code, mode)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
 
@@ -150,6 +245,40 @@ public class TouristSpotController {
     }
 
 
+    @GetMapping("/tourist-spots/{spotId}/risk")
+    @Operation(
+            summary = "관광지 반경별 위험도 조회",
+            description = "관광지 반경 1/3/5/10km 내 사고다발지점 수, 사고/사상자/사망자 수를 조회합니다. "
+                    + "데이터 갱신 시 미리 계산해 둔 값을 반환합니다.",
+            parameters = {
+                    @Parameter(name = "spotId", description = "관광지ID", example = "4188964d50de8143b3ea67e371d64678")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "위험도 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TouristSpotRiskResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (관광지 없음 또는 좌표 없음)",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<TouristSpotRiskResponse> getRiskProfile(@PathVariable String spotId) {
+        try {
+            return ResponseEntity.ok(getTouristSpotRiskUseCase.getRiskProfile(spotId));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+
     @GetMapping("/tourist-spots/search/realtime")
     @Operation(
             summary = "관광지 실시간 검색",
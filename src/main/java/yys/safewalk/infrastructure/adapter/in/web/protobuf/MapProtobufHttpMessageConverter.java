@@ -0,0 +1,179 @@
+package yys.safewalk.infrastructure.adapter.in.web.protobuf;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import yys.safewalk.application.port.in.dto.AccidentDetailResponse;
+import yys.safewalk.application.port.in.dto.EmdDetailResponse;
+import yys.safewalk.application.port.in.dto.EmdInBoundsResponse;
+import yys.safewalk.application.port.in.dto.TouristSpotResponse;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Casualties;
+import yys.safewalk.domain.model.TouristSpotAccidentResponse;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 지도 응답을 application/x-protobuf 로 직렬화 (스키마: resources/proto/safewalk_map.proto)
+ *
+ * 스키마에 있는 응답 타입에만 쓰기를 지원하며, Accept 로 명시적으로 요청한 경우에만 선택되도록
+ * 기본 변환기 목록의 마지막에 등록한다.
+ */
+public class MapProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public MapProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EmdDetailResponse.class.isAssignableFrom(clazz)
+                || TouristSpotAccidentResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+            return element == EmdInBoundsResponse.class || element == TouristSpotResponse.class;
+        }
+        return supports(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ProtoWriter writer = encode(body);
+        outputMessage.getHeaders().setContentLength(writer.size());
+        writer.writeTo(outputMessage.getBody());
+    }
+
+    /**
+     * 응답 객체를 스키마의 최상위 메시지로 인코딩
+     */
+    static ProtoWriter encode(Object body) {
+        ProtoWriter writer = new ProtoWriter();
+        if (body instanceof EmdDetailResponse detail) {
+            writeEmdDetail(writer, detail);
+        } else if (body instanceof TouristSpotAccidentResponse accidents) {
+            writeTouristSpotAccidents(writer, accidents);
+        } else if (body instanceof List<?> items) {
+            for (Object item : items) {
+                ProtoWriter message = writer.nested();
+                if (item instanceof EmdInBoundsResponse emd) {
+                    writeEmd(message, emd);
+                } else if (item instanceof TouristSpotResponse spot) {
+                    writeTouristSpot(message, spot);
+                } else {
+                    throw new HttpMessageNotWritableException("protobuf 스키마에 없는 응답 항목입니다: " + item);
+                }
+                writer.writeMessage(1, message);
+            }
+        } else {
+            throw new HttpMessageNotWritableException("protobuf 스키마에 없는 응답입니다: " + body);
+        }
+        return writer;
+    }
+
+    private static void writeEmd(ProtoWriter writer, EmdInBoundsResponse emd) {
+        writer.writeString(1, emd.name());
+        writer.writeInt32(2, emd.totalAccident());
+        writer.writeString(3, emd.EMD_CD());
+        writer.writeCoordinate(4, 5, emd.latitude(), emd.longitude());
+        writer.writeString(6, emd.riskTier());
+    }
+
+    private static void writeEmdDetail(ProtoWriter writer, EmdDetailResponse detail) {
+        writer.writeString(1, detail.getName());
+        writer.writeInt32(2, detail.getTotalAccident());
+        writer.writeString(3, detail.getEMD_CD());
+        if (detail.getAccidents() != null) {
+            for (AccidentDetailResponse accident : detail.getAccidents()) {
+                ProtoWriter message = writer.nested();
+                message.writeString(1, accident.getId());
+                message.writeString(2, accident.getLocation());
+                message.writeInt32(3, accident.getAccidentCount());
+                if (accident.getCasualties() != null) {
+                    writeCasualties(message, accident.getCasualties().getTotal(), accident.getCasualties().getDead(),
+                            accident.getCasualties().getSevere(), accident.getCasualties().getMinor());
+                }
+                if (accident.getPoint() != null) {
+                    message.writeCoordinate(5, 6, accident.getPoint().getLat(), accident.getPoint().getLng());
+                }
+                writer.writeMessage(4, message);
+            }
+        }
+    }
+
+    private static void writeTouristSpot(ProtoWriter writer, TouristSpotResponse spot) {
+        writer.writeString(1, spot.touristSpotId());
+        writer.writeString(2, spot.spotName());
+        writer.writeString(3, spot.sidoName());
+        writer.writeString(4, spot.sigunguName());
+        writer.writeString(5, spot.category());
+        if (spot.coordinate() != null) {
+            writer.writeCoordinate(6, 7, spot.coordinate().latitude(), spot.coordinate().longitude());
+        }
+    }
+
+    private static void writeTouristSpotAccidents(ProtoWriter writer, TouristSpotAccidentResponse response) {
+        writer.writeString(1, response.name());
+        writer.writeString(2, response.spotId());
+        writer.writeInt32(3, response.totalAccident());
+        if (response.accidents() != null) {
+            for (AccidentDetail accident : response.accidents()) {
+                ProtoWriter message = writer.nested();
+                message.writeString(1, accident.getId());
+                message.writeString(2, accident.getLocation());
+                message.writeInt32(3, accident.getAccidentCount());
+                Casualties casualties = accident.getCasualties();
+                if (casualties != null) {
+                    writeCasualties(message, casualties.getTotal(), casualties.getDead(),
+                            casualties.getSevere(), casualties.getMinor());
+                }
+                if (accident.getPoint() != null) {
+                    message.writeCoordinate(5, 6, accident.getPoint().latitude(), accident.getPoint().longitude());
+                }
+                writer.writeMessage(4, message);
+            }
+        }
+    }
+
+    private static void writeCasualties(ProtoWriter writer, Integer total, Integer dead, Integer severe, Integer minor) {
+        ProtoWriter message = writer.nested();
+        message.writeInt32(1, total);
+        message.writeInt32(2, dead);
+        message.writeInt32(3, severe);
+        message.writeInt32(4, minor);
+        writer.writeMessage(4, message);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("protobuf 요청 본문은 지원하지 않습니다", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("protobuf 요청 본문은 지원하지 않습니다", inputMessage);
+    }
+}
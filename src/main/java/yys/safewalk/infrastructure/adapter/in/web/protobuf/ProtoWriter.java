@@ -0,0 +1,127 @@
+package yys.safewalk.infrastructure.adapter.in.web.protobuf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Protocol Buffers 와이어 포맷 인코더 (쓰기 전용, 필요한 타입만)
+ *
+ * proto3 기본값(빈 문자열, 0, null)은 쓰지 않는다. 좌표는 1e-7 도 단위 정수의 직전 좌표 대비 차이를
+ * zigzag varint 로 쓰며, 기준 좌표는 하나의 응답(최상위 writer)에서 공유한다.
+ */
+final class ProtoWriter {
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private final DeltaState delta;
+    private byte[] buffer = new byte[256];
+    private int length;
+
+    ProtoWriter() {
+        this(new DeltaState());
+    }
+
+    private ProtoWriter(DeltaState delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * 같은 좌표 기준을 공유하는 하위 메시지 writer
+     */
+    ProtoWriter nested() {
+        return new ProtoWriter(delta);
+    }
+
+    void writeString(int field, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeTag(field, WIRE_LENGTH_DELIMITED);
+        writeVarint(bytes.length);
+        writeBytes(bytes, bytes.length);
+    }
+
+    void writeInt32(int field, Integer value) {
+        if (value == null || value == 0) {
+            return;
+        }
+        writeTag(field, WIRE_VARINT);
+        // 음수 int32 는 10바이트 varint (부호 확장)
+        writeVarint(value);
+    }
+
+    void writeMessage(int field, ProtoWriter message) {
+        writeTag(field, WIRE_LENGTH_DELIMITED);
+        writeVarint(message.length);
+        writeBytes(message.buffer, message.length);
+    }
+
+    /**
+     * 좌표 한 쌍을 optional sint64 차이값 두 필드로 쓴다. 하나라도 null 이면 생략
+     */
+    void writeCoordinate(int latField, int lngField, BigDecimal latitude, BigDecimal longitude) {
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        long lat = toFixed(latitude);
+        long lng = toFixed(longitude);
+        writeTag(latField, WIRE_VARINT);
+        writeVarint(zigzag(lat - delta.lat));
+        writeTag(lngField, WIRE_VARINT);
+        writeVarint(zigzag(lng - delta.lng));
+        delta.lat = lat;
+        delta.lng = lng;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, length);
+    }
+
+    int size() {
+        return length;
+    }
+
+    static long toFixed(BigDecimal degrees) {
+        return degrees.movePointRight(7).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void writeTag(int field, int wireType) {
+        writeVarint(((long) field << 3) | wireType);
+    }
+
+    private void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes, int count) {
+        ensureCapacity(count);
+        System.arraycopy(bytes, 0, buffer, length, count);
+        length += count;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private static final class DeltaState {
+        private long lat;
+        private long lng;
+    }
+}
@@ -0,0 +1,64 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Casualties;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.entity.ElderlyPedestrianAccidentHotspotsEntity;
+import yys.safewalk.entity.PedestrianAccidentHotspotsEntity;
+
+import java.math.BigDecimal;
+
+/**
+ * 사고다발지점 행을 AccidentDetail 로 옮기는 공통 매핑
+ *
+ * 보행자/고령 보행자 엔티티와 조회 프로젝션이 모두 같은 규칙(FID 를 ID 로, 위치명은 마지막 괄호 안)을 따른다.
+ */
+final class AccidentDetailMapper {
+
+    private AccidentDetailMapper() {
+    }
+
+    static AccidentDetail toAccidentDetail(PedestrianAccidentHotspotsEntity hotspot) {
+        return toAccidentDetail(hotspot.getAccidentHotspotFid(), hotspot.getPointName(), hotspot.getAccidentCount(),
+                hotspot.getDeathCount(), hotspot.getSeriousInjuryCount(), hotspot.getMinorInjuryCount(),
+                hotspot.getLatitude(), hotspot.getLongitude());
+    }
+
+    static AccidentDetail toAccidentDetail(ElderlyPedestrianAccidentHotspotsEntity hotspot) {
+        return toAccidentDetail(hotspot.getAccidentHotspotFid(), hotspot.getPointName(), hotspot.getAccidentCount(),
+                hotspot.getDeathCount(), hotspot.getSeriousInjuryCount(), hotspot.getMinorInjuryCount(),
+                hotspot.getLatitude(), hotspot.getLongitude());
+    }
+
+    static AccidentDetail toAccidentDetail(AccidentHotspotProjection hotspot) {
+        return toAccidentDetail(hotspot.accidentHotspotFid(), hotspot.pointName(), hotspot.accidentCount(),
+                hotspot.deathCount(), hotspot.seriousInjuryCount(), hotspot.minorInjuryCount(),
+                hotspot.latitude(), hotspot.longitude());
+    }
+
+    // 위치명에서 마지막 괄호 안 내용만 추출, 괄호가 없으면 전체 이름
+    static String extractLocationFromPointName(String pointName) {
+        if (pointName == null) {
+            return "위치 정보 없음";
+        }
+        int startIndex = pointName.lastIndexOf('(');
+        int endIndex = pointName.lastIndexOf(')');
+        if (startIndex != -1 && endIndex != -1 && endIndex > startIndex) {
+            return pointName.substring(startIndex + 1, endIndex);
+        }
+        return pointName;
+    }
+
+    // 사상자 total 은 accident_count 를 그대로 쓴다
+    private static AccidentDetail toAccidentDetail(Long fid, String pointName, Integer accidentCount,
+                                                   Integer deathCount, Integer seriousInjuryCount,
+                                                   Integer minorInjuryCount, BigDecimal latitude, BigDecimal longitude) {
+        return new AccidentDetail(
+                fid.toString(),
+                extractLocationFromPointName(pointName),
+                accidentCount,
+                new Casualties(accidentCount, deathCount, seriousInjuryCount, minorInjuryCount),
+                new Coordinate(latitude, longitude)
+        );
+    }
+}
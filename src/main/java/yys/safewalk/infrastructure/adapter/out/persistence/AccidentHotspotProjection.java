@@ -0,0 +1,19 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import java.math.BigDecimal;
+
+/**
+ * 사고다발지점 상세 목록용 조회 결과 (폴리곤 JSON, 타임스탬프 등은 읽지 않는다)
+ */
+public record AccidentHotspotProjection(
+        Long accidentHotspotFid,
+        String pointName,
+        Integer accidentCount,
+        Integer deathCount,
+        Integer seriousInjuryCount,
+        Integer minorInjuryCount,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        String emdPrefix
+) {
+}
@@ -0,0 +1,9 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import yys.safewalk.entity.AccidentStatics;
+
+@Repository
+public interface AccidentStaticsJpaRepository extends JpaRepository<AccidentStatics, Long> {
+}
@@ -0,0 +1,89 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.application.port.out.LoadAccidentStatsPort;
+import yys.safewalk.domain.model.AccidentStatsCube;
+import yys.safewalk.entity.AccidentStatics;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+import java.util.List;
+
+/**
+ * accident_statics 를 기동 시 한 번 읽어 통계 큐브로 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccidentStatsCubeAdapter implements LoadAccidentStatsPort {
+
+    private final AccidentStaticsJpaRepository accidentStaticsJpaRepository;
+
+    private volatile AccidentStatsCube cube = AccidentStatsCube.empty();
+
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.affects(Dataset.ACCIDENT_STATICS)) {
+            load();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+            long start = System.currentTimeMillis();
+            List<AccidentStatics> rows = accidentStaticsJpaRepository.findAll();
+
+            AccidentStatsCube.Builder builder = AccidentStatsCube.builder();
+            int skipped = 0;
+            for (AccidentStatics row : rows) {
+                if (row.getAccidentYear() == null || row.getSidoCode() == null || row.getAccidentTypeName() == null) {
+                    skipped++;
+                    continue;
+                }
+                builder.add(row.getAccidentYear(), row.getSidoCode(), row.getSidoName(), row.getAccidentTypeName(),
+                        toMetrics(row));
+            }
+
+            cube = builder.build();
+            log.info("사고 통계 큐브 적재 완료: {}행 (제외 {}행), {}ms",
+                    rows.size() - skipped, skipped, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("사고 통계 큐브 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public AccidentStatsCube loadCube() {
+        return cube;
+    }
+
+    // AccidentStatsCube.Metric 순서와 일치해야 한다
+    private long[] toMetrics(AccidentStatics row) {
+        return new long[]{
+                valueOf(row.getAccidentCount()),
+                valueOf(row.getDeathCount()),
+                valueOf(row.getInjuryCount()),
+                valueOf(row.getSpeedingCount()),
+                valueOf(row.getCenterLineViolationCount()),
+                valueOf(row.getSignalViolationCount()),
+                valueOf(row.getUnsafeDistanceCount()),
+                valueOf(row.getUnsafeDrivingCount()),
+                valueOf(row.getPedestrianProtectionViolationCount()),
+                valueOf(row.getOtherViolationCount()),
+                valueOf(row.getVehiclePedestrianAccidentCount()),
+                valueOf(row.getVehicleVehicleAccidentCount()),
+                valueOf(row.getSingleVehicleAccidentCount()),
+                valueOf(row.getRailroadCrossingAccidentCount())
+        };
+    }
+
+    private long valueOf(Integer value) {
+        return value != null ? value : 0L;
+    }
+}
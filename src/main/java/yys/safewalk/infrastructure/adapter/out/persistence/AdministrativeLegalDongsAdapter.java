@@ -1,29 +1,49 @@
 package yys.safewalk.infrastructure.adapter.out.persistence;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import yys.safewalk.application.port.out.EmdRepository;
 import yys.safewalk.domain.model.Coordinate;
 import yys.safewalk.domain.model.Emd;
+import yys.safewalk.domain.model.KeysetPage;
+import yys.safewalk.domain.model.PageCursor;
 import yys.safewalk.entity.AdministrativeLegalDongs;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class AdministrativeLegalDongsAdapter implements EmdRepository {
 
+    // 사고 건수를 한 번에 합산할 법정동 수 (IN 목록 크기)
+    static final int ACCIDENT_BATCH_SIZE = 500;
+
     private final AdministrativeLegalDongsRepository administrativeLegalDongsRepository;
     private final PedestrianAccidentHotspotsJpaRepository accidentJpaRepository;
     private final ElderlyPedestrianAccidentHotspotsJpaRepository elderlyAccidentJpaRepository;
+    private final EntityManager entityManager;
+    private final SpatialQuerySupport spatialQuerySupport;
 
     @Override
     public List<Emd> findEmdInBounds(Coordinate swCoordinate, Coordinate neCoordinate) {
+        return findEmdInBounds(swCoordinate, neCoordinate, true);
+    }
+
+    @Override
+    public List<Emd> findEmdInBounds(Coordinate swCoordinate, Coordinate neCoordinate, boolean withAccidentCounts) {
         // 좌표 범위로 AdministrativeLegalDongs 조회 (H 타입 제외)
-        List<AdministrativeLegalDongs> legalDongs = administrativeLegalDongsRepository
-                .findByLatitudeBetweenAndLongitudeBetweenAndCodeTypeNot(
+        List<AdministrativeLegalDongs> legalDongs = spatialQuerySupport.enabled()
+                ? administrativeLegalDongsRepository.findInArea(area(swCoordinate, neCoordinate))
+                : administrativeLegalDongsRepository.findByLatitudeBetweenAndLongitudeBetweenAndCodeTypeNot(
                         swCoordinate.latitude(),
                         neCoordinate.latitude(),
                         swCoordinate.longitude(),
@@ -31,10 +51,13 @@ public class AdministrativeLegalDongsAdapter implements EmdRepository {
                         "H"
                 );
 
-        return legalDongs.stream()
-                .map(this::mapToEmd)
-                .filter(Objects::nonNull)
-                .toList();
+        if (!withAccidentCounts) {
+            return legalDongs.stream()
+                    .map(this::mapToEmdWithoutAccidents)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+        return mapToEmds(legalDongs);
     }
 
     @Override
@@ -43,13 +66,140 @@ public class AdministrativeLegalDongsAdapter implements EmdRepository {
         List<AdministrativeLegalDongs> legalDongs = administrativeLegalDongsRepository
                 .findBySidoAndCodeTypeNot(sidoCode, "H");
 
+        return mapToEmds(legalDongs);
+    }
+
+    @Override
+    public KeysetPage<Emd> findBySidoCode(String sidoCode, PageCursor after, int limit) {
+        return toPage(administrativeLegalDongsRepository.findBySidoAfterCode(
+                sidoCode, afterCode(after), PageRequest.of(0, limit)), limit);
+    }
+
+    @Override
+    public KeysetPage<Emd> findEmdInBounds(Coordinate swCoordinate, Coordinate neCoordinate, PageCursor after, int limit) {
+        if (spatialQuerySupport.enabled()) {
+            return toPage(administrativeLegalDongsRepository.findInAreaAfterCode(
+                    area(swCoordinate, neCoordinate), afterCode(after), PageRequest.of(0, limit)), limit);
+        }
+        return toPage(administrativeLegalDongsRepository.findInBoundsAfterCode(
+                swCoordinate.latitude(),
+                neCoordinate.latitude(),
+                swCoordinate.longitude(),
+                neCoordinate.longitude(),
+                afterCode(after),
+                PageRequest.of(0, limit)), limit);
+    }
+
+    private String afterCode(PageCursor after) {
+        return after != null ? after.key() : "";
+    }
+
+    private String area(Coordinate swCoordinate, Coordinate neCoordinate) {
+        return SpatialQuerySupport.envelope(swCoordinate.latitude(), swCoordinate.longitude(),
+                neCoordinate.latitude(), neCoordinate.longitude());
+    }
+
+    // 다음 커서는 걸러진 행과 관계없이 마지막으로 읽은 행 기준
+    private KeysetPage<Emd> toPage(List<AdministrativeLegalDongs> legalDongs, int limit) {
+        List<Emd> emds = mapToEmds(legalDongs);
+        if (legalDongs.size() < limit) {
+            return new KeysetPage<>(emds, null);
+        }
+        AdministrativeLegalDongs last = legalDongs.get(legalDongs.size() - 1);
+        return new KeysetPage<>(emds, new PageCursor(last.getCode(), last.getId()));
+    }
+
+    @Override
+    public void forEachEmdInBounds(Coordinate swCoordinate, Coordinate neCoordinate, Consumer<Emd> action) {
+        try (Stream<AdministrativeLegalDongs> legalDongs = spatialQuerySupport.enabled()
+                ? administrativeLegalDongsRepository.streamInArea(area(swCoordinate, neCoordinate))
+                : administrativeLegalDongsRepository.streamInBounds(
+                        swCoordinate.latitude(),
+                        neCoordinate.latitude(),
+                        swCoordinate.longitude(),
+                        neCoordinate.longitude())) {
+            forEachMapped(legalDongs, action);
+        }
+    }
+
+    @Override
+    public void forEachBySidoCode(String sidoCode, Consumer<Emd> action) {
+        try (Stream<AdministrativeLegalDongs> legalDongs = administrativeLegalDongsRepository.streamBySido(sidoCode)) {
+            forEachMapped(legalDongs, action);
+        }
+    }
+
+    // 읽은 엔티티는 바로 분리해 영속성 컨텍스트가 결과 크기만큼 커지지 않게 하고,
+    // 사고 건수는 ACCIDENT_BATCH_SIZE 건씩 모아 IN 쿼리로 합산한다
+    private void forEachMapped(Stream<AdministrativeLegalDongs> legalDongs, Consumer<Emd> action) {
+        List<AdministrativeLegalDongs> batch = new ArrayList<>(ACCIDENT_BATCH_SIZE);
+        legalDongs.forEach(legalDong -> {
+            entityManager.detach(legalDong);
+            batch.add(legalDong);
+            if (batch.size() == ACCIDENT_BATCH_SIZE) {
+                mapToEmds(batch).forEach(action);
+                batch.clear();
+            }
+        });
+        mapToEmds(batch).forEach(action);
+    }
+
+    // 법정동마다 두 번씩 나가던 사고 건수 쿼리 대신 테이블별 그룹 쿼리 한 번씩으로 합산
+    private List<Emd> mapToEmds(List<AdministrativeLegalDongs> legalDongs) {
+        if (legalDongs.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Integer> accidents = sumAccidents(legalDongs);
         return legalDongs.stream()
-                .map(this::mapToEmd)
+                .map(legalDong -> mapToEmd(legalDong, accidents))
                 .filter(Objects::nonNull)
                 .toList();
     }
 
-    private Emd mapToEmd(AdministrativeLegalDongs legalDong) {
+    private Map<String, Integer> sumAccidents(List<AdministrativeLegalDongs> legalDongs) {
+        List<String> emdPrefixes = legalDongs.stream()
+                .filter(legalDong -> legalDong.getLatitude() != null && legalDong.getLongitude() != null)
+                .map(AdministrativeLegalDongs::getCode)
+                .filter(code -> code != null && code.length() >= 8)
+                .map(code -> code.substring(0, 8))
+                .distinct()
+                .toList();
+
+        Map<String, Integer> accidents = new HashMap<>();
+        for (int from = 0; from < emdPrefixes.size(); from += ACCIDENT_BATCH_SIZE) {
+            List<String> chunk = emdPrefixes.subList(from, Math.min(from + ACCIDENT_BATCH_SIZE, emdPrefixes.size()));
+            accumulate(accidents, accidentJpaRepository.sumAccidentsByEmdPrefixIn(chunk));
+            accumulate(accidents, elderlyAccidentJpaRepository.sumAccidentsByEmdPrefixIn(chunk));
+        }
+        return accidents;
+    }
+
+    private void accumulate(Map<String, Integer> accidents, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            if (row[0] == null || !(row[1] instanceof Number count)) {
+                continue;
+            }
+            accidents.merge((String) row[0], count.intValue(), Integer::sum);
+        }
+    }
+
+    // 사고 건수 쿼리를 생략
+    private Emd mapToEmdWithoutAccidents(AdministrativeLegalDongs legalDong) {
+        if (legalDong.getLatitude() == null || legalDong.getLongitude() == null) {
+            return null;
+        }
+        String emdCd = legalDong.getCode();
+        String emdKorNm = legalDong.getEupMyeonDong();
+        return new Emd(
+                emdCd != null ? emdCd : "",
+                emdKorNm != null ? emdKorNm : "",
+                new Coordinate(legalDong.getLatitude(), legalDong.getLongitude()),
+                "",
+                null
+        );
+    }
+
+    private Emd mapToEmd(AdministrativeLegalDongs legalDong, Map<String, Integer> accidents) {
         String emdCd = legalDong.getCode();
         String emdKorNm = legalDong.getEupMyeonDong();
         BigDecimal latitude = legalDong.getLatitude();
@@ -72,21 +222,8 @@ public class AdministrativeLegalDongsAdapter implements EmdRepository {
             );
         }
 
-        // 일반 사고 데이터 조회 (emdCd 앞 8자리로 조회)
-        String emdPrefix = emdCd.substring(0, 8);
-        Integer generalAccident = accidentJpaRepository.getTotalAccidentCountByEmdCode(emdPrefix);
-        if (generalAccident == null) {
-            generalAccident = 0;
-        }
-
-        // 고령자 사고 데이터 조회
-        Integer elderlyAccident = elderlyAccidentJpaRepository.getTotalAccidentCountByEmdCode(emdPrefix);
-        if (elderlyAccident == null) {
-            elderlyAccident = 0;
-        }
-
-        // 총 사고 수 = 일반 사고 + 고령자 사고
-        Integer totalAccident = generalAccident + elderlyAccident;
+        // 총 사고 수 = 일반 사고 + 고령자 사고 (emdCd 앞 8자리 기준으로 미리 합산)
+        Integer totalAccident = accidents.getOrDefault(emdCd.substring(0, 8), 0);
 
         Coordinate centerPoint = new Coordinate(latitude, longitude);
 
@@ -1,41 +1,75 @@
 package yys.safewalk.infrastructure.adapter.out.persistence;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import yys.safewalk.entity.AdministrativeLegalDongs;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface AdministrativeLegalDongsRepository extends JpaRepository<AdministrativeLegalDongs, Long> {
 
+    // 운영 MySQL 은 useCursorFetch=true 이므로 이 크기 단위로 서버 커서에서 가져온다
+    String STREAM_FETCH_SIZE = "500";
+
+    // 검색/코드 조회 결과(id 목록)를 담는 쿼리 캐시 영역 - ehcache.xml
+    String QUERY_CACHE_REGION = "legal-dong-queries";
+
     // 실시간 검색 - 읍면동명으로 시작하는 항목들 (codeType이 H가 아닌 것만)
-    @Query("SELECT a FROM AdministrativeLegalDongs a WHERE a.eupMyeonDong LIKE :query% AND a.codeType != 'H' ORDER BY a.eupMyeonDong")
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    @Query("SELECT a FROM AdministrativeLegalDongs a WHERE a.eupMyeonDong LIKE :query% AND a.codeType != 'H' ORDER BY a.eupMyeonDong, a.id")
     List<AdministrativeLegalDongs> findByEupMyeonDongStartingWith(@Param("query") String query, Pageable pageable);
 
+    // 실시간 검색 다음 페이지 - (읍면동명, id) 위치 이후부터
+    @Query("SELECT a FROM AdministrativeLegalDongs a WHERE a.eupMyeonDong LIKE :query% AND a.codeType != 'H' " +
+            "AND (a.eupMyeonDong > :afterName OR (a.eupMyeonDong = :afterName AND a.id > :afterId)) " +
+            "ORDER BY a.eupMyeonDong, a.id")
+    List<AdministrativeLegalDongs> findByEupMyeonDongStartingWithAfter(@Param("query") String query,
+                                                                       @Param("afterName") String afterName,
+                                                                       @Param("afterId") long afterId,
+                                                                       Pageable pageable);
+
     // 일반 검색 - 정확한 읍면동명 (codeType이 H가 아닌 것만)
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     List<AdministrativeLegalDongs> findByEupMyeonDongAndCodeTypeNot(String eupMyeonDong, String codeType);
 
     // 일반 검색 - 읍면동명 + 시도 필터 (codeType이 H가 아닌 것만)
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     List<AdministrativeLegalDongs> findByEupMyeonDongAndSidoAndCodeTypeNot(String eupMyeonDong, String sido, String codeType);
 
     // 일반 검색 - 읍면동명 + 시도 + 시군구 필터 (codeType이 H가 아닌 것만)
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     List<AdministrativeLegalDongs> findByEupMyeonDongAndSidoAndSigunguAndCodeTypeNot(String eupMyeonDong, String sido, String sigungu, String codeType);
 
     // 코드로 검색 (기존 유지)
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     Optional<AdministrativeLegalDongs> findByCode(String code);
 
     // 읍면동명으로 검색 (codeType이 H가 아닌 것만)
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     @Query("SELECT a FROM AdministrativeLegalDongs a WHERE a.eupMyeonDong = :eupMyeonDong AND a.codeType != 'H' ORDER BY a.sido, a.sigungu")
     List<AdministrativeLegalDongs> findByEupMyeonDongOrderBySidoAndSigungu(@Param("eupMyeonDong") String eupMyeonDong);
 
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     Optional<AdministrativeLegalDongs> findByCodeAndCodeTypeNot(String code, String codeType);
 
+    // 여러 코드 일괄 조회 (codeType이 H가 아닌 것만)
+    List<AdministrativeLegalDongs> findByCodeInAndCodeTypeNot(Collection<String> codes, String codeType);
+
     // 좌표 범위 검색 (개선된 파라미터명)
     List<AdministrativeLegalDongs> findByLatitudeBetweenAndLongitudeBetweenAndCodeTypeNot(
             BigDecimal swLat, BigDecimal neLat,
@@ -43,11 +77,81 @@ public interface AdministrativeLegalDongsRepository extends JpaRepository<Admini
             String codeType);
 
     // 시도별 법정동 조회 (정확한 매칭)
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     List<AdministrativeLegalDongs> findBySidoAndCodeTypeNot(String sido, String codeType);
 
+    // 스트리밍 조회 - 트랜잭션 안에서 사용하고 반드시 닫아야 함
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT a FROM AdministrativeLegalDongs a " +
+            "WHERE a.latitude BETWEEN :swLat AND :neLat AND a.longitude BETWEEN :swLng AND :neLng " +
+            "AND a.codeType != 'H'")
+    Stream<AdministrativeLegalDongs> streamInBounds(@Param("swLat") BigDecimal swLat,
+                                                    @Param("neLat") BigDecimal neLat,
+                                                    @Param("swLng") BigDecimal swLng,
+                                                    @Param("neLng") BigDecimal neLng);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT a FROM AdministrativeLegalDongs a WHERE a.sido = :sido AND a.codeType != 'H'")
+    Stream<AdministrativeLegalDongs> streamBySido(@Param("sido") String sido);
+
+    // 키셋 페이지 조회 - code 는 유일하므로 (sido, code) 인덱스로 마지막 코드 다음부터 읽는다
+    @Query("SELECT a FROM AdministrativeLegalDongs a WHERE a.sido = :sido AND a.codeType != 'H' " +
+            "AND a.code > :afterCode ORDER BY a.code")
+    List<AdministrativeLegalDongs> findBySidoAfterCode(@Param("sido") String sido,
+                                                       @Param("afterCode") String afterCode,
+                                                       Pageable pageable);
+
+    @Query("SELECT a FROM AdministrativeLegalDongs a " +
+            "WHERE a.latitude BETWEEN :swLat AND :neLat AND a.longitude BETWEEN :swLng AND :neLng " +
+            "AND a.codeType != 'H' AND a.code > :afterCode ORDER BY a.code")
+    List<AdministrativeLegalDongs> findInBoundsAfterCode(@Param("swLat") BigDecimal swLat,
+                                                         @Param("neLat") BigDecimal neLat,
+                                                         @Param("swLng") BigDecimal swLng,
+                                                         @Param("neLng") BigDecimal neLng,
+                                                         @Param("afterCode") String afterCode,
+                                                         Pageable pageable);
+
+    // 공간 인덱스 영역 검색 - area 는 SpatialQuerySupport.envelope 의 WKT (MySQL 전용)
+    @Query(value = "SELECT a.* FROM administrative_legal_dongs a " +
+            "WHERE MBRCovers(ST_GeomFromText(:area, 4326), a.location) AND a.code_type != 'H'",
+            nativeQuery = true)
+    List<AdministrativeLegalDongs> findInArea(@Param("area") String area);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = "SELECT a.* FROM administrative_legal_dongs a " +
+            "WHERE MBRCovers(ST_GeomFromText(:area, 4326), a.location) AND a.code_type != 'H'",
+            nativeQuery = true)
+    Stream<AdministrativeLegalDongs> streamInArea(@Param("area") String area);
+
+    @Query(value = "SELECT a.* FROM administrative_legal_dongs a " +
+            "WHERE MBRCovers(ST_GeomFromText(:area, 4326), a.location) AND a.code_type != 'H' " +
+            "AND a.code > :afterCode ORDER BY a.code",
+            nativeQuery = true)
+    List<AdministrativeLegalDongs> findInAreaAfterCode(@Param("area") String area,
+                                                       @Param("afterCode") String afterCode,
+                                                       Pageable pageable);
+
     // EMD 코드 패턴 검색 (시도 코드 기반)
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     List<AdministrativeLegalDongs> findByCodeStartingWithAndCodeTypeNot(String codePrefix, String codeType);
 
     // 시도별 법정동 조회 (기존 유지, 하위 호환성)
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     List<AdministrativeLegalDongs> findBySidoStartingWithAndCodeTypeNot(String sido, String codeType);
-}
\ No newline at end of file
+
+    // 법정동 코드 앞 8자리 목록 (codeType이 H가 아닌 것만)
+    @Query("SELECT DISTINCT a.emdPrefix FROM AdministrativeLegalDongs a WHERE a.emdPrefix IS NOT NULL AND a.codeType != 'H'")
+    List<String> findDistinctEmdPrefixes();
+
+    // updated_at 인덱스 범위 스캔으로 (updated_at, id) 위치 이후 변경분을 순서대로 조회
+    @Query("""
+            SELECT p FROM AdministrativeLegalDongs p
+            WHERE p.updatedAt >= :after AND p.updatedAt <= :until
+              AND (p.updatedAt > :after OR p.id > :afterId)
+            ORDER BY p.updatedAt, p.id
+            """)
+    List<AdministrativeLegalDongs> findUpdatedAfter(@Param("after") LocalDateTime after,
+                                                    @Param("afterId") long afterId,
+                                                    @Param("until") LocalDateTime until,
+                                                    Pageable pageable);
+}
@@ -0,0 +1,204 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.application.port.out.LoadCrowdRiskPort;
+import yys.safewalk.domain.model.CrowdRiskNeighborhood;
+import yys.safewalk.domain.model.RegionNames;
+import yys.safewalk.entity.VisitorBoomNeighborhoods;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 방문객 급증 지역과 보행자 사고 집계를 미리 조인해 둔 순위 인덱스
+ *
+ * 사고 집계(법정동 단위)를 빌드 측 해시 테이블로 만들고 방문객 데이터를 프로브하여 조인한다.
+ * 점수 상위 MAX_RANKED 개만 크기 제한 힙으로 유지하며, 전국/시도별 순위를 한 번에 만든다.
+ * 점수가 같으면 지역명 순으로 순위를 정하므로 조회 순서와 관계없이 같은 결과가 나온다.
+ * 두 데이터셋 중 하나라도 갱신되면 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrowdRiskIndexAdapter implements LoadCrowdRiskPort {
+
+    static final int MAX_RANKED = 100;
+
+    // 순위 순서: 점수 내림차순, 같으면 시도/시군구/행정동명 오름차순
+    static final Comparator<CrowdRiskNeighborhood> RANKING =
+            Comparator.comparingDouble(CrowdRiskNeighborhood::score).reversed()
+                    .thenComparing(CrowdRiskNeighborhood::sidoName, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(CrowdRiskNeighborhood::sigunguName, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(CrowdRiskNeighborhood::administrativeDong);
+
+    private final VisitorBoomNeighborhoodsJpaRepository visitorBoomRepository;
+    private final PedestrianAccidentHotspotsJpaRepository pedestrianRepository;
+    private final ElderlyPedestrianAccidentHotspotsJpaRepository elderlyRepository;
+
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.affects(Dataset.VISITOR_BOOM, Dataset.ACCIDENT_HOTSPOTS)) {
+            load();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+            long start = System.currentTimeMillis();
+            Map<String, int[]> accidentsByDong = new HashMap<>();
+            accumulate(accidentsByDong, pedestrianRepository.sumAccidentsByLegalDong());
+            accumulate(accidentsByDong, elderlyRepository.sumAccidentsByLegalDong());
+
+            Ranking built = rank(latestByDong(visitorBoomRepository.findAll()), accidentsByDong);
+            ranking = built;
+            log.info("방문객-사고 위험 순위 계산 완료: 조인 {}건, {}ms", built.joined, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("방문객-사고 위험 순위 계산 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<CrowdRiskNeighborhood> findTop(String sidoName, int limit) {
+        Ranking current = ranking;
+        List<CrowdRiskNeighborhood> ranked = sidoName == null
+                ? current.national
+                : current.bySido.getOrDefault(RegionNames.sido(sidoName), List.of());
+        return ranked.subList(0, Math.min(limit, ranked.size()));
+    }
+
+    /**
+     * 위험 점수 = 사고건수 × ln(1 + 방문객수) × (1 + 증가율/100). 감소 지역은 증가율 0 으로 본다
+     */
+    static double score(int accidentCount, BigDecimal visitorCount, BigDecimal growthRate) {
+        double visitors = visitorCount != null ? Math.max(0, visitorCount.doubleValue()) : 0;
+        double growth = growthRate != null ? Math.max(0, growthRate.doubleValue()) : 0;
+        return accidentCount * Math.log1p(visitors) * (1 + growth / 100.0);
+    }
+
+    // 행: 시도시군구명, 법정동, 사고건수, 사상자수, 사망자수
+    private void accumulate(Map<String, int[]> accidentsByDong, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            String sidoSigungu = (String) row[0];
+            String legalDong = (String) row[1];
+            if (sidoSigungu == null || legalDong == null) {
+                continue;
+            }
+            String[] parts = sidoSigungu.trim().split("\\s+", 2);
+            String key = RegionNames.key(parts[0], parts.length > 1 ? parts[1] : "", legalDong);
+
+            int[] totals = accidentsByDong.computeIfAbsent(key, k -> new int[3]);
+            totals[0] += intValue(row[2]);
+            totals[1] += intValue(row[3]);
+            totals[2] += intValue(row[4]);
+        }
+    }
+
+    // 같은 동의 여러 기준월 데이터 중 최신 것만 사용.
+    // 같은 기준월에 여러 행정동이 한 법정동으로 모이면(역삼1동/역삼2동) 방문객이 많은 쪽을 쓴다
+    private Map<String, VisitorBoomNeighborhoods> latestByDong(List<VisitorBoomNeighborhoods> rows) {
+        Map<String, VisitorBoomNeighborhoods> latest = new HashMap<>();
+        for (VisitorBoomNeighborhoods row : rows) {
+            if (row.getAdministrativeDong() == null) {
+                continue;
+            }
+            String key = RegionNames.key(row.getSidoName(), row.getSigunguName(), row.getAdministrativeDong());
+            latest.merge(key, row, (a, b) -> preferred(a, b) >= 0 ? a : b);
+        }
+        return latest;
+    }
+
+    private Ranking rank(Map<String, VisitorBoomNeighborhoods> visitors, Map<String, int[]> accidentsByDong) {
+        PriorityQueue<CrowdRiskNeighborhood> national = new PriorityQueue<>(MAX_RANKED + 1, RANKING.reversed());
+        Map<String, PriorityQueue<CrowdRiskNeighborhood>> bySido = new HashMap<>();
+        int joined = 0;
+
+        for (Map.Entry<String, VisitorBoomNeighborhoods> entry : visitors.entrySet()) {
+            int[] accidents = accidentsByDong.get(entry.getKey());
+            if (accidents == null || accidents[0] == 0) {
+                continue;
+            }
+            joined++;
+
+            VisitorBoomNeighborhoods visitor = entry.getValue();
+            CrowdRiskNeighborhood neighborhood = new CrowdRiskNeighborhood(
+                    visitor.getSidoName(),
+                    visitor.getSigunguName(),
+                    visitor.getAdministrativeDong(),
+                    visitor.getVisitorCount(),
+                    visitor.getGrowthRate(),
+                    visitor.getBaseYearMonth(),
+                    accidents[0],
+                    accidents[1],
+                    accidents[2],
+                    score(accidents[0], visitor.getVisitorCount(), visitor.getGrowthRate())
+            );
+
+            offer(national, neighborhood);
+            offer(bySido.computeIfAbsent(RegionNames.sido(visitor.getSidoName()),
+                    key -> new PriorityQueue<>(MAX_RANKED + 1, RANKING.reversed())), neighborhood);
+        }
+
+        Map<String, List<CrowdRiskNeighborhood>> sidoRankings = new HashMap<>();
+        bySido.forEach((sido, heap) -> sidoRankings.put(sido, drainDescending(heap)));
+        return new Ranking(drainDescending(national), Map.copyOf(sidoRankings), joined);
+    }
+
+    // 힙 머리는 현재 MAX_RANKED 개 중 순위가 가장 낮은 항목
+    private void offer(PriorityQueue<CrowdRiskNeighborhood> heap, CrowdRiskNeighborhood neighborhood) {
+        if (heap.size() < MAX_RANKED) {
+            heap.offer(neighborhood);
+        } else if (RANKING.compare(neighborhood, heap.peek()) < 0) {
+            heap.poll();
+            heap.offer(neighborhood);
+        }
+    }
+
+    private List<CrowdRiskNeighborhood> drainDescending(PriorityQueue<CrowdRiskNeighborhood> heap) {
+        List<CrowdRiskNeighborhood> result = new ArrayList<>(heap);
+        result.sort(RANKING);
+        return List.copyOf(result);
+    }
+
+    // 기준월이 늦은 쪽, 같으면 방문객이 많은 쪽, 그래도 같으면 행정동명이 앞선 쪽이 크다
+    private int preferred(VisitorBoomNeighborhoods a, VisitorBoomNeighborhoods b) {
+        String left = a.getBaseYearMonth() != null ? a.getBaseYearMonth() : "";
+        String right = b.getBaseYearMonth() != null ? b.getBaseYearMonth() : "";
+        int byMonth = left.compareTo(right);
+        if (byMonth != 0) {
+            return byMonth;
+        }
+        BigDecimal leftVisitors = a.getVisitorCount() != null ? a.getVisitorCount() : BigDecimal.ZERO;
+        BigDecimal rightVisitors = b.getVisitorCount() != null ? b.getVisitorCount() : BigDecimal.ZERO;
+        int byVisitors = leftVisitors.compareTo(rightVisitors);
+        if (byVisitors != 0) {
+            return byVisitors;
+        }
+        return b.getAdministrativeDong().compareTo(a.getAdministrativeDong());
+    }
+
+    private int intValue(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private record Ranking(List<CrowdRiskNeighborhood> national,
+                           Map<String, List<CrowdRiskNeighborhood>> bySido,
+                           int joined) {
+
+        static final Ranking EMPTY = new Ranking(List.of(), Map.of(), 0);
+    }
+}
@@ -0,0 +1,181 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.application.port.out.LoadEmdBoundaryPort;
+import yys.safewalk.domain.model.EmdBoundary;
+import yys.safewalk.domain.spatial.TopologySimplifier;
+import yys.safewalk.domain.spatial.UtmkConverter;
+import yys.safewalk.entity.EmdData;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * emd_data.Polygon 의 원본 경계를 시도 단위 토폴로지로 만들고 줌 레벨별 단순화 결과를 캐시
+ *
+ * 시도를 처음 조회할 때 한 번 토폴로지를 만들고, 레벨별 단순화 결과는 레벨마다 한 번만 계산한다.
+ * 경계가 없는 시도는 캐시하지 않으며, 경계 데이터가 바뀌면 전부 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmdBoundaryAdapter implements LoadEmdBoundaryPort {
+
+    private final EmdJpaRepository emdJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, SidoBoundaries> cache = new ConcurrentHashMap<>();
+
+    // 적재 중 무효화된 결과를 넣지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.affects(Dataset.EMD_DATA)) {
+            generation.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    @Override
+    public List<EmdBoundary> findBySidoCode(String sidoCode, int zoom) {
+        SidoBoundaries boundaries = cache.get(sidoCode);
+        if (boundaries == null) {
+            long started = generation.get();
+            boundaries = load(sidoCode);
+            // 없는 시도 코드가 캐시를 채우지 않도록 빈 결과는 넣지 않는다
+            if (generation.get() == started && !boundaries.codes().isEmpty()) {
+                SidoBoundaries existing = cache.putIfAbsent(sidoCode, boundaries);
+                boundaries = existing != null ? existing : boundaries;
+            }
+        }
+        return boundaries.atZoom(zoom);
+    }
+
+    private SidoBoundaries load(String sidoCode) {
+        long start = System.currentTimeMillis();
+        List<String> codes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<List<double[][]>> geometries = new ArrayList<>();
+        int skipped = 0;
+
+        // 변경 직후 다시 채우는 경우가 많으므로 지연된 복제본이 아닌 primary 에서 읽는다
+        List<EmdData> rows;
+        try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+            rows = emdJpaRepository.findWithGeometryByEmdCdStartingWith(sidoCode);
+        }
+        for (EmdData emd : rows) {
+            try {
+                geometries.add(readGeometry(emd.getGeometry().getPolygon()));
+                codes.add(emd.getEmdCd());
+                names.add(emd.getEmdKorNm());
+            } catch (IOException | IllegalArgumentException e) {
+                skipped++;
+                log.debug("읍면동 경계 파싱 실패: emdCd={}, {}", emd.getEmdCd(), e.getMessage());
+            }
+        }
+        if (skipped > 0) {
+            log.warn("읍면동 경계 파싱 실패 {}건 제외: sidoCode={}", skipped, sidoCode);
+        }
+
+        TopologySimplifier topology = TopologySimplifier.of(geometries);
+        log.info("읍면동 경계 토폴로지 생성 완료: sidoCode={}, {}건, 아크 {}개, {}ms",
+                sidoCode, codes.size(), topology.arcCount(), System.currentTimeMillis() - start);
+        return new SidoBoundaries(List.copyOf(codes), List.copyOf(names), topology, new ConcurrentHashMap<>());
+    }
+
+    // GeoJSON Feature / Polygon / MultiPolygon 또는 좌표 배열만 저장된 경우를 모두 처리
+    private List<double[][]> readGeometry(String json) throws IOException {
+        JsonNode node = objectMapper.readTree(json);
+        if (node.has("geometry")) {
+            node = node.get("geometry");
+        }
+        String type = node.path("type").asText("");
+        JsonNode coordinates = node.has("coordinates") ? node.get("coordinates") : node;
+
+        List<double[][]> polygons = new ArrayList<>();
+        if (type.equals("MultiPolygon") || (type.isEmpty() && depthOf(coordinates) == 4)) {
+            for (JsonNode polygon : coordinates) {
+                polygons.add(readRings(polygon));
+            }
+        } else if (type.equals("Polygon") || (type.isEmpty() && depthOf(coordinates) == 3)) {
+            polygons.add(readRings(coordinates));
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 경계 형식입니다: " + type);
+        }
+        return toLngLat(polygons);
+    }
+
+    private double[][] readRings(JsonNode polygon) {
+        double[][] rings = new double[polygon.size()][];
+        for (int r = 0; r < polygon.size(); r++) {
+            JsonNode ring = polygon.get(r);
+            double[] coords = new double[ring.size() * 2];
+            for (int i = 0; i < ring.size(); i++) {
+                coords[2 * i] = ring.get(i).get(0).asDouble();
+                coords[2 * i + 1] = ring.get(i).get(1).asDouble();
+            }
+            rings[r] = coords;
+        }
+        return rings;
+    }
+
+    private int depthOf(JsonNode node) {
+        int depth = 0;
+        while (node != null && node.isArray() && !node.isEmpty()) {
+            depth++;
+            node = node.get(0);
+        }
+        return depth;
+    }
+
+    // UTM-K 로 저장된 경계는 피처 단위로 위경도로 변환
+    private List<double[][]> toLngLat(List<double[][]> polygons) {
+        List<double[]> rings = new ArrayList<>();
+        for (double[][] polygon : polygons) {
+            rings.addAll(List.of(polygon));
+        }
+        List<double[]> converted = UtmkConverter.toLngLatRings(rings);
+        if (converted == rings) {
+            return polygons;
+        }
+
+        List<double[][]> result = new ArrayList<>(polygons.size());
+        int next = 0;
+        for (double[][] polygon : polygons) {
+            double[][] lngLat = new double[polygon.length][];
+            for (int r = 0; r < polygon.length; r++) {
+                lngLat[r] = converted.get(next++);
+            }
+            result.add(lngLat);
+        }
+        return result;
+    }
+
+    private record SidoBoundaries(List<String> codes, List<String> names, TopologySimplifier topology,
+                                  Map<Integer, List<EmdBoundary>> levels) {
+
+        List<EmdBoundary> atZoom(int zoom) {
+            return levels.computeIfAbsent(zoom, level -> {
+                List<List<double[][]>> simplified = topology.simplifyForZoom(level);
+                List<EmdBoundary> boundaries = new ArrayList<>(simplified.size());
+                for (int i = 0; i < simplified.size(); i++) {
+                    boundaries.add(new EmdBoundary(codes.get(i), names.get(i), simplified.get(i)));
+                }
+                return List.copyOf(boundaries);
+            });
+        }
+    }
+}
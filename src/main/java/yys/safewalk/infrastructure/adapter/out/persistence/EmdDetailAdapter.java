@@ -25,7 +25,7 @@ public class EmdDetailAdapter implements EmdDetailPort {
     public Optional<EmdDetail> findByEmdCode(String emdCode) {
         
         // 1. AdministrativeLegalDongs에서 지역 정보 조회 (emdCode + "00" 형태로, codeType이 'H'가 아닌 것만)
-        String searchCode = emdCode.endsWith("00") ? emdCode : emdCode + "00";
+        String searchCode = searchCode(emdCode);
         
         // codeType이 'H'가 아닌 것만 조회
         Optional<AdministrativeLegalDongs> legalDongOpt = administrativeLegalDongsRepository.findByCodeAndCodeTypeNot(searchCode, "H");
@@ -40,29 +40,83 @@ public class EmdDetailAdapter implements EmdDetailPort {
         // 2. 해당 법정동의 사고 데이터 조회
         String emdPrefix = emdCode.substring(0, 8); // EMD_CD의 앞 8자리
 
-        List<PedestrianAccidentHotspotsEntity> accidents = accidentJpaRepository.findBySidoCodeStartingWith(emdPrefix);
-        List<ElderlyPedestrianAccidentHotspotsEntity> elderlyAccidents = elderlyAccidentJpaRepository.findBySidoCodeStartingWith(emdPrefix);
+        List<AccidentHotspotProjection> accidents = accidentJpaRepository.findByEmdPrefix(emdPrefix);
+        List<AccidentHotspotProjection> elderlyAccidents = elderlyAccidentJpaRepository.findByEmdPrefix(emdPrefix);
 
+        return Optional.of(toEmdDetail(emdCode, legalDong, accidents, elderlyAccidents));
+    }
+
+    @Override
+    public Map<String, EmdDetail> findByEmdCodes(Collection<String> emdCodes) {
+        // 법정동 테이블 코드 -> 요청 코드 (앞 8자리가 없는 코드는 상세가 없다)
+        Map<String, String> emdCodesBySearchCode = new HashMap<>();
+        for (String emdCode : emdCodes) {
+            if (emdCode != null && emdCode.length() >= 8) {
+                emdCodesBySearchCode.putIfAbsent(searchCode(emdCode), emdCode);
+            }
+        }
+        if (emdCodesBySearchCode.isEmpty()) {
+            return Map.of();
+        }
+
+        List<AdministrativeLegalDongs> legalDongs = administrativeLegalDongsRepository
+                .findByCodeInAndCodeTypeNot(emdCodesBySearchCode.keySet(), "H");
+        if (legalDongs.isEmpty()) {
+            return Map.of();
+        }
 
+        // 일반/고령자 사고다발지점을 각각 IN 쿼리 한 번으로 조회해 법정동별로 나눈다
+        Set<String> emdPrefixes = emdCodesBySearchCode.values().stream()
+                .map(emdCode -> emdCode.substring(0, 8))
+                .collect(Collectors.toSet());
+        Map<String, List<AccidentHotspotProjection>> accidents = accidentJpaRepository.findByEmdPrefixIn(emdPrefixes)
+                .stream()
+                .collect(Collectors.groupingBy(AccidentHotspotProjection::emdPrefix));
+        Map<String, List<AccidentHotspotProjection>> elderlyAccidents = elderlyAccidentJpaRepository.findByEmdPrefixIn(emdPrefixes)
+                .stream()
+                .collect(Collectors.groupingBy(AccidentHotspotProjection::emdPrefix));
+
+        Map<String, EmdDetail> details = new HashMap<>();
+        for (AdministrativeLegalDongs legalDong : legalDongs) {
+            String emdCode = emdCodesBySearchCode.get(legalDong.getCode());
+            // 같은 코드가 여러 행이면 먼저 나온 것을 유지
+            if (emdCode == null || details.containsKey(emdCode)) {
+                continue;
+            }
+            String emdPrefix = emdCode.substring(0, 8);
+            details.put(emdCode, toEmdDetail(emdCode, legalDong,
+                    accidents.getOrDefault(emdPrefix, List.of()),
+                    elderlyAccidents.getOrDefault(emdPrefix, List.of())));
+        }
+        return details;
+    }
+
+    private String searchCode(String emdCode) {
+        return emdCode.endsWith("00") ? emdCode : emdCode + "00";
+    }
+
+    private EmdDetail toEmdDetail(String emdCode, AdministrativeLegalDongs legalDong,
+                                  List<AccidentHotspotProjection> accidents,
+                                  List<AccidentHotspotProjection> elderlyAccidents) {
         // 3. 사고 데이터가 없는 경우에도 기본 정보 포함하여 반환
         if (accidents.isEmpty() && elderlyAccidents.isEmpty()) {
-            return Optional.of(new EmdDetail(
+            return new EmdDetail(
                     legalDong.getEupMyeonDong(),  // 읍면동명 (AdministrativeLegalDongs에서)
                     0,                             // totalAccident = 0
                     emdCode,                       // EMD_CD
                     null                           // accidents = null
-            ));
+            );
         }
 
         // 4. 사고 데이터가 있는 경우 기존 로직 수행
 
         // 총 사고 수 계산 (일반 + 고령자)
         Integer generalTotalAccident = accidents.stream()
-                .mapToInt(accident -> accident.getAccidentCount() != null ? accident.getAccidentCount() : 0)
+                .mapToInt(accident -> accident.accidentCount() != null ? accident.accidentCount() : 0)
                 .sum();
 
         Integer elderlyTotalAccident = elderlyAccidents.stream()
-                .mapToInt(accident -> accident.getAccidentCount() != null ? accident.getAccidentCount() : 0)
+                .mapToInt(accident -> accident.accidentCount() != null ? accident.accidentCount() : 0)
                 .sum();
 
         Integer totalAccident = generalTotalAccident + elderlyTotalAccident;
@@ -72,52 +126,21 @@ public class EmdDetailAdapter implements EmdDetailPort {
 
         // 일반 사고 데이터 추가
         List<AccidentDetail> generalAccidentDetails = accidents.stream()
-                .map(this::mapToAccidentDetail)
+                .map(AccidentDetailMapper::toAccidentDetail)
                 .collect(Collectors.toList());
         accidentDetails.addAll(generalAccidentDetails);
 
         // 고령자 사고 데이터 추가
         List<AccidentDetail> elderlyAccidentDetails = elderlyAccidents.stream()
-                .map(this::mapToElderlyAccidentDetail)
+                .map(AccidentDetailMapper::toAccidentDetail)
                 .collect(Collectors.toList());
         accidentDetails.addAll(elderlyAccidentDetails);
 
-        return Optional.of(new EmdDetail(
+        return new EmdDetail(
                 legalDong.getEupMyeonDong(),  // 읍면동명 (AdministrativeLegalDongs에서)
                 totalAccident,
                 emdCode,
                 accidentDetails
-        ));
-    }
-
-    // 고령자 사고 데이터 매핑 메서드 추가
-    private AccidentDetail mapToElderlyAccidentDetail(ElderlyPedestrianAccidentHotspotsEntity elderlyHotspot) {
-        // ID 생성 (고령자 사고 구분을 위해 prefix 추가)
-        String id = elderlyHotspot.getAccidentHotspotFid().toString();
-
-        // 위치명에서 괄호 안 내용만 추출
-        String location = extractLocationFromPointName(elderlyHotspot.getPointName());
-
-        // 사상자 정보 매핑
-        Casualties casualties = new Casualties(
-                elderlyHotspot.getAccidentCount(),      // total <- accident_count
-                elderlyHotspot.getDeathCount(),         // dead <- death_count
-                elderlyHotspot.getSeriousInjuryCount(), // severe <- serious_injury_count
-                elderlyHotspot.getMinorInjuryCount()    // minor <- minor_injury_count
-        );
-
-        // 좌표 정보
-        Coordinate point = new Coordinate(
-                elderlyHotspot.getLatitude(),
-                elderlyHotspot.getLongitude()
-        );
-
-        return new AccidentDetail(
-                id,
-                location,
-                elderlyHotspot.getAccidentCount(),
-                casualties,
-                point
         );
     }
 
@@ -174,7 +197,7 @@ public class EmdDetailAdapter implements EmdDetailPort {
         }
 
         // 위치명 추출
-        String location = extractLocationFromPointName(pointName);
+        String location = AccidentDetailMapper.extractLocationFromPointName(pointName);
 
         // 통합된 사상자 정보 계산
         int totalAccidents = getTotalAccidentCount(combined);
@@ -211,51 +234,4 @@ public class EmdDetailAdapter implements EmdDetailPort {
         if (value2 != null) sum += value2;
         return sum;
     }
-
-    private AccidentDetail mapToAccidentDetail(PedestrianAccidentHotspotsEntity hotspot) {
-        // ID 생성 (점 코드 또는 FID 활용)
-        String id = hotspot.getAccidentHotspotFid().toString();
-
-        // 위치명에서 괄호 안 내용만 추출
-        String location = extractLocationFromPointName(hotspot.getPointName());
-
-        // 사상자 정보 매핑
-        Casualties casualties = new Casualties(
-                hotspot.getAccidentCount(),  // total <- accident_count
-                hotspot.getDeathCount(),     // dead <- death_count
-                hotspot.getSeriousInjuryCount(), // severe <- serious_injury_count
-                hotspot.getMinorInjuryCount()    // minor <- minor_injury_count
-        );
-
-        // 좌표 정보
-        Coordinate point = new Coordinate(
-                hotspot.getLatitude(),
-                hotspot.getLongitude()
-        );
-
-        return new AccidentDetail(
-                id,
-                location,
-                hotspot.getAccidentCount(),
-                casualties,
-                point
-        );
-    }
-
-    private String extractLocationFromPointName(String pointName) {
-        if (pointName == null) {
-            return "위치 정보 없음";
-        }
-
-        // 마지막 여는 괄호와 마지막 닫는 괄호를 찾아서 추출
-        int startIndex = pointName.lastIndexOf('(');
-        int endIndex = pointName.lastIndexOf(')');
-
-        if (startIndex != -1 && endIndex != -1 && endIndex > startIndex) {
-            return pointName.substring(startIndex + 1, endIndex);
-        }
-
-        // 괄호가 없으면 전체 이름 반환
-        return pointName;
-    }
-}
\ No newline at end of file
+}
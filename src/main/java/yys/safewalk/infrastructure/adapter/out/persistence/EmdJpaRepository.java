@@ -1,7 +1,9 @@
 package yys.safewalk.infrastructure.adapter.out.persistence;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import yys.safewalk.domain.model.Emd;
 import yys.safewalk.entity.EmdData;
@@ -10,8 +12,14 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 public interface EmdJpaRepository extends JpaRepository<EmdData, Long> {
 
+    // 코드 단건 조회 결과를 담는 쿼리 캐시 영역 - ehcache.xml
+    String QUERY_CACHE_REGION = "emd-queries";
+
     // EmdJpaRepository 수정
 //    @Query("""
 //    SELECT e.emdCd, e.emdKorNm, e.polygon, a.latitude, a.longitude,
@@ -32,9 +40,9 @@ public interface EmdJpaRepository extends JpaRepository<EmdData, Long> {
             SELECT e.emdCd, e.emdKorNm, a.latitude, a.longitude,
     COALESCE((SELECT SUM(p.accidentCount) 
               FROM PedestrianAccidentHotspotsEntity p 
-              WHERE p.sidoCode LIKE CONCAT(SUBSTRING(e.emdCd, 1, 8), '%')), 0) as totalAccident
+              WHERE p.emdPrefix = e.emdPrefix), 0) as totalAccident
     FROM EmdData e
-    LEFT JOIN AdministrativeLegalDongs a ON SUBSTRING(e.emdCd, 1, 8) = SUBSTRING(a.code, 1, 8)
+    LEFT JOIN AdministrativeLegalDongs a ON a.emdPrefix = e.emdPrefix
     WHERE a.latitude BETWEEN :swLat AND :neLat
     AND a.longitude BETWEEN :swLng AND :neLng
     """)
@@ -42,13 +50,20 @@ public interface EmdJpaRepository extends JpaRepository<EmdData, Long> {
                                        @Param("neLat") BigDecimal neLat, @Param("neLng") BigDecimal neLng);
 
 
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     Optional<EmdData> findByEmdCd(String emdCd);
 
+    List<EmdData> findByEmdCdStartingWith(String emdCdPrefix);
+
+    // 경계 폴리곤까지 한 번에 조회 (EmdData.geometry 는 지연 로딩)
+    @Query("SELECT e FROM EmdData e JOIN FETCH e.geometry WHERE e.emdCd LIKE CONCAT(:emdCdPrefix, '%')")
+    List<EmdData> findWithGeometryByEmdCdStartingWith(@Param("emdCdPrefix") String emdCdPrefix);
+
     @Query("SELECT e.emdCd, e.emdKorNm, a.latitude, a.longitude, " +
             "COALESCE(SUM(p.accidentCount), 0) as totalAccident " +
             "FROM EmdData e " +
-            "LEFT JOIN AdministrativeLegalDongs a ON SUBSTRING(e.emdCd, 1, 8) = SUBSTRING(a.code, 1, 8) " +
-            "LEFT JOIN PedestrianAccidentHotspotsEntity p ON SUBSTRING(e.emdCd, 1, 8) = SUBSTRING(p.sidoCode, 1, 8) " +
+            "LEFT JOIN AdministrativeLegalDongs a ON a.emdPrefix = e.emdPrefix " +
+            "LEFT JOIN PedestrianAccidentHotspotsEntity p ON p.emdPrefix = e.emdPrefix " +
             "WHERE SUBSTRING(e.emdCd, 1, 4) = :sidoCode " +
             "GROUP BY e.emdCd, e.emdKorNm, a.latitude, a.longitude")
     List<Object[]> findEmdDataBySidoCode(@Param("sidoCode") String sidoCode);
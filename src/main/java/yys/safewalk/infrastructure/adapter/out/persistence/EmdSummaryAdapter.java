@@ -0,0 +1,71 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import yys.safewalk.application.port.out.LoadEmdSummaryPort;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.EmdSummary;
+import yys.safewalk.entity.AdministrativeLegalDongs;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 법정동, 일반 사고다발지점, 고령자 사고다발지점 테이블을 각각 IN 쿼리 한 번씩으로 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EmdSummaryAdapter implements LoadEmdSummaryPort {
+
+    private final AdministrativeLegalDongsRepository administrativeLegalDongsRepository;
+    private final PedestrianAccidentHotspotsJpaRepository accidentJpaRepository;
+    private final ElderlyPedestrianAccidentHotspotsJpaRepository elderlyAccidentJpaRepository;
+
+    @Override
+    public Map<String, EmdSummary> findByEmdCodes(Collection<String> emdCodes) {
+        // 법정동 테이블 코드는 8자리 + "00"
+        List<String> legalDongCodes = emdCodes.stream()
+                .map(code -> code + "00")
+                .toList();
+        List<AdministrativeLegalDongs> legalDongs = administrativeLegalDongsRepository
+                .findByCodeInAndCodeTypeNot(legalDongCodes, "H");
+        if (legalDongs.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Integer> accidents = new HashMap<>();
+        accumulate(accidents, accidentJpaRepository.sumAccidentsByEmdPrefixIn(emdCodes));
+        accumulate(accidents, elderlyAccidentJpaRepository.sumAccidentsByEmdPrefixIn(emdCodes));
+
+        Map<String, EmdSummary> summaries = new HashMap<>();
+        for (AdministrativeLegalDongs legalDong : legalDongs) {
+            if (legalDong.getLatitude() == null || legalDong.getLongitude() == null) {
+                continue;
+            }
+            String emdCode = legalDong.getCode().substring(0, 8);
+            // 같은 코드가 여러 행이면 먼저 나온 것을 유지
+            summaries.putIfAbsent(emdCode, new EmdSummary(
+                    emdCode,
+                    legalDong.getSido(),
+                    legalDong.getSigungu(),
+                    legalDong.getEupMyeonDong(),
+                    new Coordinate(legalDong.getLatitude(), legalDong.getLongitude()),
+                    accidents.getOrDefault(emdCode, 0)
+            ));
+        }
+        return summaries;
+    }
+
+    private void accumulate(Map<String, Integer> accidents, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            if (row[0] == null || !(row[1] instanceof Number count)) {
+                continue;
+            }
+            accidents.merge((String) row[0], count.intValue(), Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.application.port.out.LoadHotspotIndexPort;
+import yys.safewalk.domain.spatial.HotspotIndex;
+import yys.safewalk.entity.ElderlyPedestrianAccidentHotspotsEntity;
+import yys.safewalk.entity.PedestrianAccidentHotspotsEntity;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+/**
+ * 보행자/고령 보행자 사고다발지점 전체를 메모리 인덱스로 보관
+ *
+ * 반경/경로/최근접 질의가 요청마다 DB 를 조회하지 않도록 기동 시와 사고 데이터 갱신 시 다시 적재한다.
+ * 이 인덱스로 파생 데이터를 만드는 리스너가 새 인덱스를 보도록 가장 먼저 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotspotIndexAdapter implements LoadHotspotIndexPort {
+
+    private final PedestrianAccidentHotspotsJpaRepository pedestrianRepository;
+    private final ElderlyPedestrianAccidentHotspotsJpaRepository elderlyRepository;
+
+    private volatile HotspotIndex index = HotspotIndex.empty();
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.affects(Dataset.ACCIDENT_HOTSPOTS)) {
+            load();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+            long start = System.currentTimeMillis();
+            HotspotIndex.Builder builder = HotspotIndex.builder();
+            for (PedestrianAccidentHotspotsEntity hotspot : pedestrianRepository.findAll()) {
+                builder.add(HotspotIndex.Kind.PEDESTRIAN, AccidentDetailMapper.toAccidentDetail(hotspot),
+                        valueOf(hotspot.getCasualtyCount()));
+            }
+            for (ElderlyPedestrianAccidentHotspotsEntity hotspot : elderlyRepository.findAll()) {
+                builder.add(HotspotIndex.Kind.ELDERLY, AccidentDetailMapper.toAccidentDetail(hotspot),
+                        valueOf(hotspot.getCasualtyCount()));
+            }
+
+            HotspotIndex loaded = builder.build();
+            index = loaded;
+            log.info("사고다발지점 인덱스 적재 완료: {}건, {}ms", loaded.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("사고다발지점 인덱스 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public HotspotIndex currentIndex() {
+        return index;
+    }
+
+    private int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -1,16 +1,19 @@
 package yys.safewalk.infrastructure.adapter.out.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import yys.safewalk.entity.PedestrianAccidentHotspotsEntity;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PedestrianAccidentHotspotsJpaRepository extends JpaRepository<PedestrianAccidentHotspotsEntity, Long> {
 
-    @Query("SELECT SUM(p.accidentCount) FROM PedestrianAccidentHotspotsEntity p WHERE p.sidoCode LIKE CONCAT(:emdPrefix, '%')")
+    @Query("SELECT SUM(p.accidentCount) FROM PedestrianAccidentHotspotsEntity p WHERE p.emdPrefix = :emdPrefix")
     Integer getTotalAccidentCountByEmdCode(@Param("emdPrefix") String emdPrefix);
 
     @Query("SELECT p FROM PedestrianAccidentHotspotsEntity p WHERE p.latitude BETWEEN :swLat AND :neLat AND p.longitude BETWEEN :swLng AND :neLng")
@@ -21,5 +24,54 @@ public interface PedestrianAccidentHotspotsJpaRepository extends JpaRepository<P
             @Param("neLng") BigDecimal neLng
     );
 
-    List<PedestrianAccidentHotspotsEntity> findBySidoCodeStartingWith(String emdPrefix);
-}
\ No newline at end of file
+    // 공간 인덱스로 area 사각형을 좁힌 뒤 중심에서 meters 이내만 남긴다 (MySQL 전용)
+    @Query(value = "SELECT p.* FROM pedestrian_accident_hotspots p " +
+            "WHERE MBRCovers(ST_GeomFromText(:area, 4326), p.location) " +
+            "AND ST_Distance_Sphere(p.location, ST_GeomFromText(:center, 4326)) <= :meters",
+            nativeQuery = true)
+    List<PedestrianAccidentHotspotsEntity> findAccidentsWithinRadius(
+            @Param("area") String area,
+            @Param("center") String center,
+            @Param("meters") double meters
+    );
+
+    // 법정동 상세용 - 필요한 컬럼만 레코드로 조회
+    @Query("SELECT new yys.safewalk.infrastructure.adapter.out.persistence.AccidentHotspotProjection(" +
+            "p.accidentHotspotFid, p.pointName, p.accidentCount, p.deathCount, p.seriousInjuryCount, " +
+            "p.minorInjuryCount, p.latitude, p.longitude, p.emdPrefix) " +
+            "FROM PedestrianAccidentHotspotsEntity p WHERE p.emdPrefix = :emdPrefix")
+    List<AccidentHotspotProjection> findByEmdPrefix(@Param("emdPrefix") String emdPrefix);
+
+    // 여러 법정동 상세를 한 번에 만들 때 사용 (법정동 코드 앞 8자리 IN)
+    @Query("SELECT new yys.safewalk.infrastructure.adapter.out.persistence.AccidentHotspotProjection(" +
+            "p.accidentHotspotFid, p.pointName, p.accidentCount, p.deathCount, p.seriousInjuryCount, " +
+            "p.minorInjuryCount, p.latitude, p.longitude, p.emdPrefix) " +
+            "FROM PedestrianAccidentHotspotsEntity p WHERE p.emdPrefix IN :emdPrefixes")
+    List<AccidentHotspotProjection> findByEmdPrefixIn(@Param("emdPrefixes") Collection<String> emdPrefixes);
+
+    // 시군구명, 법정동, 사고건수, 사상자수, 사망자수
+    @Query("SELECT p.sidoSigunguName, p.legalDong, SUM(p.accidentCount), SUM(p.casualtyCount), SUM(p.deathCount) " +
+            "FROM PedestrianAccidentHotspotsEntity p GROUP BY p.sidoSigunguName, p.legalDong")
+    List<Object[]> sumAccidentsByLegalDong();
+
+    // 법정동 코드 앞 8자리, 사고건수
+    @Query("SELECT p.emdPrefix, SUM(p.accidentCount) FROM PedestrianAccidentHotspotsEntity p GROUP BY p.emdPrefix")
+    List<Object[]> sumAccidentsByEmdPrefix();
+
+    // 지정한 법정동 코드(앞 8자리)만 사고건수 합계
+    @Query("SELECT p.emdPrefix, SUM(p.accidentCount) FROM PedestrianAccidentHotspotsEntity p " +
+            "WHERE p.emdPrefix IN :emdPrefixes GROUP BY p.emdPrefix")
+    List<Object[]> sumAccidentsByEmdPrefixIn(@Param("emdPrefixes") Collection<String> emdPrefixes);
+
+    // updated_at 인덱스 범위 스캔으로 (updated_at, id) 위치 이후 변경분을 순서대로 조회
+    @Query("""
+            SELECT p FROM PedestrianAccidentHotspotsEntity p
+            WHERE p.updatedAt >= :after AND p.updatedAt <= :until
+              AND (p.updatedAt > :after OR p.id > :afterId)
+            ORDER BY p.updatedAt, p.id
+            """)
+    List<PedestrianAccidentHotspotsEntity> findUpdatedAfter(@Param("after") LocalDateTime after,
+                                                            @Param("afterId") long afterId,
+                                                            @Param("until") LocalDateTime until,
+                                                            Pageable pageable);
+}
@@ -0,0 +1,24 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.Tuple;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 지도 영역 관광지 조회 (PopularTouristSpotsJPARepository 의 프래그먼트)
+ *
+ * safewalk.spatial.enabled 면 location SPATIAL INDEX 로, 아니면 위도/경도 BETWEEN 으로 조회한다.
+ */
+public interface PopularTouristSpotsBoundsRepository {
+
+    List<TouristSpotAreaProjection> findByLatitudeBetweenAndLongitudeBetween(Double swLat, Double neLat,
+                                                                             Double swLng, Double neLng);
+
+    /**
+     * 영역 내 관광지의 attributes 컬럼만 조회. Tuple 별칭은 엔티티 속성 이름
+     */
+    List<Tuple> findAttributesInBounds(Collection<String> attributes,
+                                       BigDecimal swLat, BigDecimal neLat,
+                                       BigDecimal swLng, BigDecimal neLng);
+}
@@ -0,0 +1,92 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import yys.safewalk.entity.PopularTouristSpotsEntity;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+class PopularTouristSpotsBoundsRepositoryImpl implements PopularTouristSpotsBoundsRepository {
+
+    private static final String IN_AREA = "MBRCovers(ST_GeomFromText(:area, 4326), p.location)";
+
+    private static final List<String> AREA_ATTRIBUTES = List.of(
+            "touristSpotId", "spotName", "sidoName", "sigunguName", "category", "latitude", "longitude");
+
+    // 네이티브 조회용 엔티티 속성 -> 컬럼
+    private static final Map<String, String> COLUMNS = Map.of(
+            "touristSpotId", "tourist_spot_id",
+            "spotName", "spot_name",
+            "sidoName", "sido_name",
+            "sigunguName", "sigungu_name",
+            "category", "category",
+            "latitude", "latitude",
+            "longitude", "longitude"
+    );
+
+    private final EntityManager entityManager;
+    private final SpatialQuerySupport spatialQuerySupport;
+
+    @Override
+    public List<TouristSpotAreaProjection> findByLatitudeBetweenAndLongitudeBetween(Double swLat, Double neLat,
+                                                                                    Double swLng, Double neLng) {
+        return findAttributesInBounds(AREA_ATTRIBUTES,
+                BigDecimal.valueOf(swLat), BigDecimal.valueOf(neLat),
+                BigDecimal.valueOf(swLng), BigDecimal.valueOf(neLng))
+                .stream()
+                .map(tuple -> new TouristSpotAreaProjection(
+                        tuple.get("touristSpotId", String.class),
+                        tuple.get("spotName", String.class),
+                        tuple.get("sidoName", String.class),
+                        tuple.get("sigunguName", String.class),
+                        tuple.get("category", String.class),
+                        tuple.get("latitude", BigDecimal.class),
+                        tuple.get("longitude", BigDecimal.class)))
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Tuple> findAttributesInBounds(Collection<String> attributes,
+                                              BigDecimal swLat, BigDecimal neLat,
+                                              BigDecimal swLng, BigDecimal neLng) {
+        if (spatialQuerySupport.enabled()) {
+            String columns = attributes.stream()
+                    .map(attribute -> "p." + COLUMNS.get(attribute) + " AS " + attribute)
+                    .collect(Collectors.joining(", "));
+            return entityManager.createNativeQuery(
+                            "SELECT " + columns + " FROM popular_tourist_spots p WHERE " + IN_AREA, Tuple.class)
+                    .setParameter("area", SpatialQuerySupport.envelope(swLat, swLng, neLat, neLng))
+                    .getResultList();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<PopularTouristSpotsEntity> spot = query.from(PopularTouristSpotsEntity.class);
+
+        // 영속성 컨텍스트에 엔티티를 올리지 않고 요청한 컬럼만 읽는다
+        List<Selection<?>> selections = attributes.stream()
+                .<Selection<?>>map(attribute -> spot.get(attribute).alias(attribute))
+                .toList();
+        Path<BigDecimal> latitude = spot.get("latitude");
+        Path<BigDecimal> longitude = spot.get("longitude");
+
+        query.multiselect(selections)
+                .where(
+                        cb.between(latitude, swLat, neLat),
+                        cb.between(longitude, swLng, neLng)
+                );
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -1,54 +1,92 @@
 package yys.safewalk.infrastructure.adapter.out.persistence;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import yys.safewalk.domain.model.PopularTouristSpots;
 import yys.safewalk.entity.AdministrativeLegalDongs;
 import yys.safewalk.entity.PopularTouristSpotsEntity;
-import java.util.Optional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
-@Repository
-public interface PopularTouristSpotsJPARepository extends JpaRepository<PopularTouristSpotsEntity, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
 
-    List<PopularTouristSpotsEntity> findByLongitudeIsNullOrLatitudeIsNull();
+@Repository
+public interface PopularTouristSpotsJPARepository extends JpaRepository<PopularTouristSpotsEntity, Long>,
+        PopularTouristSpotsBoundsRepository {
 
-    List<PopularTouristSpotsEntity> findBySidoNameAndSigunguName(String sidoName, String sigunguName);
+    // 순위 목록은 필요한 컬럼만 레코드로 읽는다
+    String RANK_PROJECTION = "new yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotRankProjection(" +
+            "p.id, p.touristSpotId, p.sidoCode, p.mode, p.rank, p.sidoName, p.sigunguName, " +
+            "p.spotName, p.category, p.latitude, p.longitude)";
 
-    @Query("SELECT p FROM PopularTouristSpotsEntity p " +
-            "WHERE p.latitude BETWEEN :swLat AND :neLat " +
-            "AND p.longitude BETWEEN :swLng AND :neLng " +
-            "AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
-    List<PopularTouristSpotsEntity> findByLatitudeBetweenAndLongitudeBetween(
-            @Param("swLat") Double swLat,
-            @Param("neLat") Double neLat,
-            @Param("swLng") Double swLng,
-            @Param("neLng") Double neLng
-    );
+    // 관광지 저장 시 Hibernate 가 이 영역의 결과를 무효화한다 - ehcache.xml
+    String QUERY_CACHE_REGION = "tourist-spot-queries";
 
-    /**
-     * 시군구명이 null인 관광지 조회
-     */
-    List<PopularTouristSpotsEntity> findBySigunguNameIsNull();
+    List<PopularTouristSpotsEntity> findBySidoNameAndSigunguName(String sidoName, String sigunguName);
 
     /**
      * 시도코드와 모드로 관광지 조회 (rank 순으로 정렬)
      */
-    @Query("SELECT p FROM PopularTouristSpotsEntity p " +
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    @Query("SELECT " + RANK_PROJECTION + " FROM PopularTouristSpotsEntity p " +
             "WHERE p.sidoCode = :sidoCode AND p.mode = :mode " +
             "ORDER BY p.rank ASC")
-    List<PopularTouristSpotsEntity> findBySidoCodeAndMode(
+    List<TouristSpotRankProjection> findBySidoCodeAndMode(
             @Param("sidoCode") String sidoCode, 
             @Param("mode") String mode
     );
 
-    Optional<PopularTouristSpotsEntity> findByTouristSpotId(String touristSpotId);
+    /**
+     * 시도코드와 모드로 (rank, id) 위치 이후 관광지를 limit 건 조회 (순위 없는 관광지 제외)
+     */
+    @Query("SELECT " + RANK_PROJECTION + " FROM PopularTouristSpotsEntity p " +
+            "WHERE p.sidoCode = :sidoCode AND p.mode = :mode " +
+            "AND (p.rank > :afterRank OR (p.rank = :afterRank AND p.id > :afterId)) " +
+            "ORDER BY p.rank ASC, p.id ASC")
+    List<TouristSpotRankProjection> findBySidoCodeAndModeAfter(
+            @Param("sidoCode") String sidoCode,
+            @Param("mode") String mode,
+            @Param("afterRank") int afterRank,
+            @Param("afterId") long afterId,
+            Pageable pageable
+    );
 
-    List<PopularTouristSpotsEntity> findAllByTouristSpotId(String touristSpotId);
+    /**
+     * 관광지 차원(tourist_spot)의 시군구/좌표를 같은 관광지의 모든 순위 행 사본 컬럼에 반영
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PopularTouristSpotsEntity p " +
+            "SET p.sigunguName = :sigunguName, p.longitude = :longitude, p.latitude = :latitude " +
+            "WHERE p.touristSpotId = :touristSpotId")
+    int copySpotAttributes(@Param("touristSpotId") String touristSpotId,
+                           @Param("sigunguName") String sigunguName,
+                           @Param("longitude") BigDecimal longitude,
+                           @Param("latitude") BigDecimal latitude);
 
     @Query("SELECT a FROM PopularTouristSpotsEntity a WHERE a.spotName LIKE :query% ORDER BY a.spotName")
     List<PopularTouristSpotsEntity> findBySpotNameStartingWith(String query, PageRequest of);
-}
\ No newline at end of file
+
+    // updated_at 인덱스 범위 스캔으로 (updated_at, id) 위치 이후 변경분을 순서대로 조회
+    @Query("""
+            SELECT p FROM PopularTouristSpotsEntity p
+            WHERE p.updatedAt >= :after AND p.updatedAt <= :until
+              AND (p.updatedAt > :after OR p.id > :afterId)
+            ORDER BY p.updatedAt, p.id
+            """)
+    List<PopularTouristSpotsEntity> findUpdatedAfter(@Param("after") LocalDateTime after,
+                                                     @Param("afterId") long afterId,
+                                                     @Param("until") LocalDateTime until,
+                                                     Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.entity.AdministrativeLegalDongs;
+import yys.safewalk.entity.EmdData;
+import yys.safewalk.entity.PopularTouristSpotsEntity;
+import yys.safewalk.entity.TouristSpotEntity;
+
+/**
+ * 참조 테이블의 Hibernate 2차 캐시 무효화
+ *
+ * 임포트 스크립트처럼 Hibernate 를 거치지 않은 변경은 캐시에 반영되지 않으므로,
+ * 데이터셋 변경 이벤트를 받으면 해당 엔티티 영역과 쿼리 영역을 비운다.
+ * 메모리 인덱스가 다시 적재하며 옛 캐시를 읽지 않도록 다른 리스너보다 먼저 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        switch (event.dataset()) {
+            case LEGAL_DONGS -> evict(AdministrativeLegalDongs.class, AdministrativeLegalDongsRepository.QUERY_CACHE_REGION);
+            case EMD_DATA -> evict(EmdData.class, EmdJpaRepository.QUERY_CACHE_REGION);
+            case TOURIST_SPOTS -> {
+                evict(TouristSpotEntity.class, null);
+                evict(PopularTouristSpotsEntity.class, PopularTouristSpotsJPARepository.QUERY_CACHE_REGION);
+            }
+            default -> {
+            }
+        }
+    }
+
+    // queryRegion 이 null 이면 엔티티 영역만 비운다
+    private void evict(Class<?> entityClass, String queryRegion) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(entityClass);
+        if (queryRegion != null) {
+            cache.evictQueryRegion(queryRegion);
+        }
+        log.info("2차 캐시 비움: {} / {}", entityClass.getSimpleName(), queryRegion);
+    }
+}
@@ -0,0 +1,226 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.application.port.out.LoadRiskAreasPort;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.RiskArea;
+import yys.safewalk.domain.spatial.GeoUtils;
+import yys.safewalk.domain.spatial.PackedRTree;
+import yys.safewalk.domain.spatial.PreparedPolygon;
+import yys.safewalk.domain.spatial.UtmkConverter;
+import yys.safewalk.domain.spatial.WktReader;
+import yys.safewalk.entity.RiskAreas;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위험지역 폴리곤 메모리 인덱스
+ *
+ * 기동 시 risk_areas 전체를 읽어 폴리곤을 PreparedPolygon 으로 변환하고,
+ * 연도별/전체 R-tree 를 만들어 둔다. 질의는 R-tree 로 후보를 좁힌 뒤 폴리곤 판정만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiskAreaIndexAdapter implements LoadRiskAreasPort {
+
+    private static final Comparator<RiskArea> BY_ACCIDENT_COUNT_DESC = Comparator.comparing(
+            (RiskArea area) -> area.totalAccidentCount() != null ? area.totalAccidentCount() : 0).reversed();
+
+    private final RiskAreasJpaRepository riskAreasJpaRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.affects(Dataset.RISK_AREAS)) {
+            load();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+            long start = System.currentTimeMillis();
+            Snapshot loaded = buildSnapshot(riskAreasJpaRepository.findAllWithPolygon());
+            snapshot = loaded;
+            log.info("위험지역 인덱스 적재 완료: {}건, {}ms", loaded.areas.length, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("위험지역 인덱스 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<RiskArea> findContaining(Coordinate point, Integer yearCode, int bufferMeters) {
+        Snapshot current = snapshot;
+        YearIndex index = current.indexOf(yearCode);
+        if (index == null) {
+            return List.of();
+        }
+
+        double lat = point.latitude().doubleValue();
+        double lng = point.longitude().doubleValue();
+        double dLat = GeoUtils.metersToLatDegrees(bufferMeters);
+        double dLng = GeoUtils.metersToLngDegrees(bufferMeters, lat);
+
+        List<RiskArea> result = new ArrayList<>();
+        index.tree.search(lng - dLng, lat - dLat, lng + dLng, lat + dLat, slot -> {
+            int id = index.ids[slot];
+            PreparedPolygon polygon = current.polygons[id];
+            boolean hit = bufferMeters <= 0
+                    ? polygon.contains(lng, lat)
+                    : polygon.distanceMeters(lng, lat) <= bufferMeters;
+            if (hit) {
+                result.add(current.areas[id]);
+            }
+        });
+
+        result.sort(BY_ACCIDENT_COUNT_DESC);
+        return result;
+    }
+
+    @Override
+    public List<RiskArea> findAlongRoute(List<Coordinate> route, Integer yearCode, int bufferMeters) {
+        Snapshot current = snapshot;
+        YearIndex index = current.indexOf(yearCode);
+        if (index == null || route.isEmpty()) {
+            return List.of();
+        }
+        if (route.size() == 1) {
+            return findContaining(route.get(0), yearCode, bufferMeters);
+        }
+
+        BitSet matched = new BitSet(current.areas.length);
+        List<RiskArea> result = new ArrayList<>();
+        for (int i = 0; i + 1 < route.size(); i++) {
+            double aLat = route.get(i).latitude().doubleValue();
+            double aLng = route.get(i).longitude().doubleValue();
+            double bLat = route.get(i + 1).latitude().doubleValue();
+            double bLng = route.get(i + 1).longitude().doubleValue();
+            double dLat = GeoUtils.metersToLatDegrees(bufferMeters);
+            double dLng = GeoUtils.metersToLngDegrees(bufferMeters, Math.max(Math.abs(aLat), Math.abs(bLat)));
+
+            index.tree.search(Math.min(aLng, bLng) - dLng, Math.min(aLat, bLat) - dLat,
+                    Math.max(aLng, bLng) + dLng, Math.max(aLat, bLat) + dLat, slot -> {
+                        int id = index.ids[slot];
+                        if (matched.get(id)) {
+                            return;
+                        }
+                        PreparedPolygon polygon = current.polygons[id];
+                        boolean hit = bufferMeters <= 0
+                                ? polygon.intersectsSegment(aLng, aLat, bLng, bLat)
+                                : polygon.distanceToSegmentMeters(aLng, aLat, bLng, bLat) <= bufferMeters;
+                        if (hit) {
+                            matched.set(id);
+                            result.add(current.areas[id]);
+                        }
+                    });
+        }
+
+        result.sort(BY_ACCIDENT_COUNT_DESC);
+        return result;
+    }
+
+    private Snapshot buildSnapshot(List<RiskAreas> entities) {
+        List<RiskArea> areas = new ArrayList<>(entities.size());
+        List<PreparedPolygon> polygons = new ArrayList<>(entities.size());
+        int skipped = 0;
+
+        for (RiskAreas entity : entities) {
+            try {
+                PreparedPolygon polygon = PreparedPolygon.of(
+                        UtmkConverter.toLngLatRings(WktReader.readRings(entity.getRiskAreaPolygon())));
+                polygons.add(polygon);
+                areas.add(toDomain(entity, polygon));
+            } catch (IllegalArgumentException e) {
+                skipped++;
+                log.debug("위험지역 폴리곤 파싱 실패: id={}, {}", entity.getId(), e.getMessage());
+            }
+        }
+        if (skipped > 0) {
+            log.warn("위험지역 폴리곤 파싱 실패 {}건 제외", skipped);
+        }
+
+        Map<Integer, List<Integer>> idsByYear = new HashMap<>();
+        List<Integer> allIds = new ArrayList<>(areas.size());
+        for (int id = 0; id < areas.size(); id++) {
+            allIds.add(id);
+            Integer yearCode = areas.get(id).yearCode();
+            if (yearCode != null) {
+                idsByYear.computeIfAbsent(yearCode, key -> new ArrayList<>()).add(id);
+            }
+        }
+
+        PreparedPolygon[] polygonArray = polygons.toArray(new PreparedPolygon[0]);
+        Map<Integer, YearIndex> byYear = new HashMap<>();
+        idsByYear.forEach((yearCode, ids) -> byYear.put(yearCode, YearIndex.of(ids, polygonArray)));
+
+        return new Snapshot(areas.toArray(new RiskArea[0]), polygonArray,
+                YearIndex.of(allIds, polygonArray), Map.copyOf(byYear));
+    }
+
+    private RiskArea toDomain(RiskAreas entity, PreparedPolygon polygon) {
+        return new RiskArea(
+                entity.getId(),
+                entity.getYearCode(),
+                entity.getSigunguCode(),
+                entity.getSigunguName(),
+                entity.getRiskAreaName(),
+                entity.getRiskAreaCode(),
+                entity.getTotalAccidentCount(),
+                entity.getTotalDeathCount(),
+                entity.getTotalSeriousInjuryCount(),
+                entity.getTotalMinorInjuryCount(),
+                entity.getAccidentAnalysisType(),
+                new Coordinate(
+                        BigDecimal.valueOf(polygon.centerY()).setScale(7, RoundingMode.HALF_UP),
+                        BigDecimal.valueOf(polygon.centerX()).setScale(7, RoundingMode.HALF_UP)
+                )
+        );
+    }
+
+    private record YearIndex(int[] ids, PackedRTree tree) {
+
+        static YearIndex of(List<Integer> ids, PreparedPolygon[] polygons) {
+            int n = ids.size();
+            int[] idArray = new int[n];
+            double[] minX = new double[n];
+            double[] minY = new double[n];
+            double[] maxX = new double[n];
+            double[] maxY = new double[n];
+            for (int i = 0; i < n; i++) {
+                PreparedPolygon polygon = polygons[ids.get(i)];
+                idArray[i] = ids.get(i);
+                minX[i] = polygon.minX();
+                minY[i] = polygon.minY();
+                maxX[i] = polygon.maxX();
+                maxY[i] = polygon.maxY();
+            }
+            return new YearIndex(idArray, PackedRTree.ofEnvelopes(minX, minY, maxX, maxY));
+        }
+    }
+
+    private record Snapshot(RiskArea[] areas, PreparedPolygon[] polygons, YearIndex all,
+                            Map<Integer, YearIndex> byYear) {
+
+        static final Snapshot EMPTY = new Snapshot(new RiskArea[0], new PreparedPolygon[0], null, Map.of());
+
+        YearIndex indexOf(Integer yearCode) {
+            return yearCode == null ? all : byYear.get(yearCode);
+        }
+    }
+}
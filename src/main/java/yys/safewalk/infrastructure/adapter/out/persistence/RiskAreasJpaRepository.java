@@ -0,0 +1,15 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import yys.safewalk.entity.RiskAreas;
+
+import java.util.List;
+
+@Repository
+public interface RiskAreasJpaRepository extends JpaRepository<RiskAreas, Long> {
+
+    @Query("SELECT r FROM RiskAreas r WHERE r.riskAreaPolygon IS NOT NULL")
+    List<RiskAreas> findAllWithPolygon();
+}
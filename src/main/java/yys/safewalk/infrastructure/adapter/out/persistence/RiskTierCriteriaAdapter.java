@@ -0,0 +1,138 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.application.port.out.LoadRiskTierCriteriaPort;
+import yys.safewalk.domain.model.RiskTierCriteria;
+import yys.safewalk.domain.stats.AccidentDistribution;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 시군구(코드 앞 4자리)별 동 사고 건수 분포 스케치와 위험도 기준 캐시
+ *
+ * 사고/법정동 데이터가 바뀌면 동별 합계를 다시 집계하고, 합계가 달라진 시군구의 스케치만 다시 만든다.
+ * 시도(앞 2자리) 스케치는 시군구 스케치를 병합해 얻는다. 기준은 미리 계산해 두므로 분류는 맵 조회 한 번이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiskTierCriteriaAdapter implements LoadRiskTierCriteriaPort {
+
+    // 이보다 동 수가 적은 시군구는 시도 기준을 사용
+    static final int MIN_REGION_SIZE = 5;
+
+    private final AdministrativeLegalDongsRepository administrativeLegalDongsRepository;
+    private final PedestrianAccidentHotspotsJpaRepository pedestrianRepository;
+    private final ElderlyPedestrianAccidentHotspotsJpaRepository elderlyRepository;
+
+    // 재계산 시 변경 감지를 위한 시군구별 정렬된 동 사고 건수와 스케치 (load 에서만 접근)
+    private final Map<String, int[]> regionTotals = new HashMap<>();
+    private final Map<String, AccidentDistribution> regionDistributions = new HashMap<>();
+
+    private volatile Map<String, RiskTierCriteria> criteriaByRegion = Map.of();
+
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.affects(Dataset.ACCIDENT_HOTSPOTS, Dataset.LEGAL_DONGS)) {
+            load();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+            long start = System.currentTimeMillis();
+            Map<String, Integer> accidentsByEmd = new HashMap<>();
+            accumulate(accidentsByEmd, pedestrianRepository.sumAccidentsByEmdPrefix());
+            accumulate(accidentsByEmd, elderlyRepository.sumAccidentsByEmdPrefix());
+
+            Map<String, List<Integer>> totalsByRegion = new HashMap<>();
+            for (String emdPrefix : administrativeLegalDongsRepository.findDistinctEmdPrefixes()) {
+                if (emdPrefix == null || emdPrefix.length() < 8) {
+                    continue;
+                }
+                totalsByRegion.computeIfAbsent(emdPrefix.substring(0, 4), key -> new ArrayList<>())
+                        .add(accidentsByEmd.getOrDefault(emdPrefix, 0));
+            }
+
+            int rebuilt = refreshRegions(totalsByRegion);
+            criteriaByRegion = buildCriteria();
+            log.info("위험도 기준 갱신 완료: 시군구 {}개 중 {}개 재계산, {}ms",
+                    regionTotals.size(), rebuilt, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("위험도 기준 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<RiskTierCriteria> findCriteria(String emdCode) {
+        if (emdCode == null || emdCode.length() < 4) {
+            return Optional.empty();
+        }
+        Map<String, RiskTierCriteria> criteria = criteriaByRegion;
+        RiskTierCriteria regional = criteria.get(emdCode.substring(0, 4));
+        if (regional != null) {
+            return Optional.of(regional);
+        }
+        return Optional.ofNullable(criteria.get(emdCode.substring(0, 2)));
+    }
+
+    private int refreshRegions(Map<String, List<Integer>> totalsByRegion) {
+        regionTotals.keySet().retainAll(totalsByRegion.keySet());
+        regionDistributions.keySet().retainAll(totalsByRegion.keySet());
+
+        int rebuilt = 0;
+        for (Map.Entry<String, List<Integer>> entry : totalsByRegion.entrySet()) {
+            int[] totals = entry.getValue().stream().mapToInt(Integer::intValue).sorted().toArray();
+            if (Arrays.equals(totals, regionTotals.get(entry.getKey()))) {
+                continue;
+            }
+
+            AccidentDistribution distribution = new AccidentDistribution();
+            for (int total : totals) {
+                distribution.add(total);
+            }
+            regionTotals.put(entry.getKey(), totals);
+            regionDistributions.put(entry.getKey(), distribution);
+            rebuilt++;
+        }
+        return rebuilt;
+    }
+
+    // 키: 시군구 4자리(표본 충분 시) 또는 시도 2자리
+    private Map<String, RiskTierCriteria> buildCriteria() {
+        Map<String, AccidentDistribution> bySido = new HashMap<>();
+        Map<String, RiskTierCriteria> criteria = new HashMap<>();
+
+        regionDistributions.forEach((region, distribution) -> {
+            bySido.computeIfAbsent(region.substring(0, 2), key -> new AccidentDistribution()).merge(distribution);
+            if (distribution.count() >= MIN_REGION_SIZE) {
+                criteria.put(region, RiskTierCriteria.from(distribution));
+            }
+        });
+        bySido.forEach((sido, distribution) -> criteria.put(sido, RiskTierCriteria.from(distribution)));
+
+        return Map.copyOf(criteria);
+    }
+
+    private void accumulate(Map<String, Integer> accidentsByEmd, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            if (row[0] == null || !(row[1] instanceof Number count)) {
+                continue;
+            }
+            accidentsByEmd.merge((String) row[0], count.intValue(), Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * 좌표 테이블의 location(POINT SRID 4326) 컬럼과 SPATIAL INDEX 를 쓰는 조회 여부
+ *
+ * MySQL 에 sql/safe-walk.DDL 의 공간 컬럼을 추가한 뒤 safewalk.spatial.enabled=true 로 켠다.
+ * 꺼져 있으면(H2 테스트 등) 위도/경도 BETWEEN 조회를 그대로 쓴다.
+ * SRID 4326 의 축 순서는 위도-경도이므로 WKT 도 "위도 경도" 순서로 만든다.
+ */
+@Component
+class SpatialQuerySupport {
+
+    static final double METERS_PER_DEGREE = 111_320.0;
+
+    private final boolean enabled;
+
+    SpatialQuerySupport(@Value("${safewalk.spatial.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * 남서/북동 좌표로 만든 사각형 WKT (ST_GeomFromText(:area, 4326) 용)
+     */
+    static String envelope(BigDecimal swLat, BigDecimal swLng, BigDecimal neLat, BigDecimal neLng) {
+        String sw = swLat.toPlainString() + " " + swLng.toPlainString();
+        String se = swLat.toPlainString() + " " + neLng.toPlainString();
+        String ne = neLat.toPlainString() + " " + neLng.toPlainString();
+        String nw = neLat.toPlainString() + " " + swLng.toPlainString();
+        return "POLYGON((" + sw + ", " + se + ", " + ne + ", " + nw + ", " + sw + "))";
+    }
+
+    /**
+     * 중심에서 radiusMeters 를 모두 덮는 사각형 WKT. 경도 폭은 위도에 따라 넓힌다
+     */
+    static String envelopeAround(BigDecimal lat, BigDecimal lng, double radiusMeters) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(lat.doubleValue())));
+        return envelope(
+                BigDecimal.valueOf(lat.doubleValue() - latDelta), BigDecimal.valueOf(lng.doubleValue() - lngDelta),
+                BigDecimal.valueOf(lat.doubleValue() + latDelta), BigDecimal.valueOf(lng.doubleValue() + lngDelta));
+    }
+
+    static String point(BigDecimal lat, BigDecimal lng) {
+        return "POINT(" + lat.toPlainString() + " " + lng.toPlainString() + ")";
+    }
+}
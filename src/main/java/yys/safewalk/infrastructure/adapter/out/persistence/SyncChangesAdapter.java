@@ -0,0 +1,135 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import yys.safewalk.application.port.out.LoadSyncChangesPort;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.LegalDong;
+import yys.safewalk.domain.model.PopularTouristSpots;
+import yys.safewalk.domain.model.SyncChange;
+import yys.safewalk.domain.model.SyncCursor;
+import yys.safewalk.domain.model.SyncLayer;
+import yys.safewalk.entity.AdministrativeLegalDongs;
+import yys.safewalk.entity.SyncTombstone;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 원본 테이블의 (updated_at, id) 와 sync_tombstones 의 (layer, deleted_at, id) 를 각각 키셋 조회한 뒤
+ * SyncCursor 순서로 합쳐 앞에서부터 limit 건을 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncChangesAdapter implements LoadSyncChangesPort {
+
+    @FunctionalInterface
+    private interface UpdatedAfterQuery<E> {
+        List<E> find(LocalDateTime after, long afterId, LocalDateTime until, PageRequest page);
+    }
+
+    private final PedestrianAccidentHotspotsJpaRepository pedestrianRepository;
+    private final ElderlyPedestrianAccidentHotspotsJpaRepository elderlyRepository;
+    private final PopularTouristSpotsJPARepository touristSpotsRepository;
+    private final AdministrativeLegalDongsRepository legalDongsRepository;
+    private final SyncTombstoneJpaRepository tombstoneRepository;
+
+    @Value("${safewalk.sync.open-transaction-horizon:false}")
+    private boolean openTransactionHorizon;
+
+    @Override
+    public List<SyncChange<AccidentDetail>> findPedestrianHotspotChanges(SyncCursor after, LocalDateTime until, int limit) {
+        return changes(SyncLayer.PEDESTRIAN_HOTSPOTS, after, until, limit, pedestrianRepository::findUpdatedAfter,
+                hotspot -> new SyncChange<>(new SyncCursor(hotspot.getUpdatedAt(), false, hotspot.getId()),
+                        hotspot.getAccidentHotspotFid().toString(), AccidentDetailMapper.toAccidentDetail(hotspot)));
+    }
+
+    @Override
+    public List<SyncChange<AccidentDetail>> findElderlyHotspotChanges(SyncCursor after, LocalDateTime until, int limit) {
+        return changes(SyncLayer.ELDERLY_HOTSPOTS, after, until, limit, elderlyRepository::findUpdatedAfter,
+                hotspot -> new SyncChange<>(new SyncCursor(hotspot.getUpdatedAt(), false, hotspot.getId()),
+                        hotspot.getAccidentHotspotFid().toString(), AccidentDetailMapper.toAccidentDetail(hotspot)));
+    }
+
+    @Override
+    public List<SyncChange<PopularTouristSpots>> findTouristSpotChanges(SyncCursor after, LocalDateTime until, int limit) {
+        return changes(SyncLayer.TOURIST_SPOTS, after, until, limit, touristSpotsRepository::findUpdatedAfter,
+                spot -> new SyncChange<>(new SyncCursor(spot.getUpdatedAt(), false, spot.getId()),
+                        spot.getId().toString(), spot.toDomain()));
+    }
+
+    @Override
+    public List<SyncChange<LegalDong>> findLegalDongChanges(SyncCursor after, LocalDateTime until, int limit) {
+        return changes(SyncLayer.LEGAL_DONGS, after, until, limit, legalDongsRepository::findUpdatedAfter,
+                dong -> new SyncChange<>(new SyncCursor(dong.getUpdatedAt(), false, dong.getId()),
+                        dong.getCode(), toLegalDong(dong)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<LocalDateTime> findOldestOpenWriteStart() {
+        if (!openTransactionHorizon) {
+            return Optional.empty();
+        }
+        // 열린 트랜잭션은 primary 에만 보인다
+        try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+            return Optional.ofNullable(tombstoneRepository.findOldestOpenWriteStart());
+        } catch (DataAccessException e) {
+            log.warn("열린 트랜잭션 조회 실패, settle 구간만 적용: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private <E, T> List<SyncChange<T>> changes(SyncLayer layer, SyncCursor after, LocalDateTime until, int limit,
+                                               UpdatedAfterQuery<E> query, Function<E, SyncChange<T>> mapper) {
+        PageRequest page = PageRequest.of(0, limit);
+
+        // 같은 시각에서는 삭제가 갱신보다 앞이므로, 마지막 위치가 삭제였으면 그 시각의 갱신은 모두 대상
+        long upsertAfterId = after.deletion() ? Long.MIN_VALUE : after.id();
+        long deletionAfterId = after.deletion() ? after.id() : Long.MAX_VALUE;
+
+        List<SyncChange<T>> merged = new ArrayList<>(limit * 2);
+        for (E entity : query.find(after.timestamp(), upsertAfterId, until, page)) {
+            try {
+                merged.add(mapper.apply(entity));
+            } catch (IllegalArgumentException e) {
+                log.warn("동기화 항목 변환 실패 ({}): {}", layer.wireName(), e.getMessage());
+            }
+        }
+        for (SyncTombstone tombstone : tombstoneRepository.findDeletedAfter(
+                layer.wireName(), after.timestamp(), deletionAfterId, until, page)) {
+            merged.add(SyncChange.deleted(
+                    new SyncCursor(tombstone.getDeletedAt(), true, tombstone.getId()), tombstone.getEntityKey()));
+        }
+
+        merged.sort(Comparator.comparing(SyncChange::position));
+        return merged.size() > limit ? List.copyOf(merged.subList(0, limit)) : merged;
+    }
+
+    private LegalDong toLegalDong(AdministrativeLegalDongs dong) {
+        return new LegalDong(
+                dong.getId(),
+                dong.getCode(),
+                dong.getSido(),
+                dong.getSigungu(),
+                dong.getEupMyeonDong(),
+                dong.getSubLevel(),
+                new Coordinate(dong.getLatitude(), dong.getLongitude()),
+                dong.getCodeType()
+        );
+    }
+}
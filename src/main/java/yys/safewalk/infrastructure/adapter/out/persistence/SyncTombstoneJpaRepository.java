@@ -0,0 +1,32 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import yys.safewalk.entity.SyncTombstone;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SyncTombstoneJpaRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // (layer, deleted_at, id) 인덱스 범위 스캔
+    @Query("""
+            SELECT t FROM SyncTombstone t
+            WHERE t.layer = :layer
+              AND t.deletedAt >= :after AND t.deletedAt <= :until
+              AND (t.deletedAt > :after OR t.id > :afterId)
+            ORDER BY t.deletedAt, t.id
+            """)
+    List<SyncTombstone> findDeletedAfter(@Param("layer") String layer,
+                                         @Param("after") LocalDateTime after,
+                                         @Param("afterId") long afterId,
+                                         @Param("until") LocalDateTime until,
+                                         Pageable pageable);
+
+    // 행을 수정한 열린 트랜잭션만 본다 (MySQL 전용, PROCESS 권한 필요)
+    @Query(value = "SELECT MIN(trx_started) FROM information_schema.innodb_trx WHERE trx_rows_modified > 0",
+            nativeQuery = true)
+    LocalDateTime findOldestOpenWriteStart();
+}
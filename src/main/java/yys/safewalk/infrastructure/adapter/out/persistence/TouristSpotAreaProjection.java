@@ -0,0 +1,17 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import java.math.BigDecimal;
+
+/**
+ * 지도 영역 관광지 목록에 필요한 컬럼만 담은 조회 결과 (엔티티를 영속성 컨텍스트에 올리지 않는다)
+ */
+public record TouristSpotAreaProjection(
+        String touristSpotId,
+        String spotName,
+        String sidoName,
+        String sigunguName,
+        String category,
+        BigDecimal latitude,
+        BigDecimal longitude
+) {
+}
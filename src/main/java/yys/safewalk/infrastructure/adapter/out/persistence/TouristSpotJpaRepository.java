@@ -0,0 +1,16 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import yys.safewalk.entity.TouristSpotEntity;
+
+import java.util.List;
+
+@Repository
+public interface TouristSpotJpaRepository extends JpaRepository<TouristSpotEntity, String> {
+
+    // 지오코딩 대상 - 관광지당 한 번만 조회한다
+    List<TouristSpotEntity> findByLongitudeIsNullOrLatitudeIsNull();
+
+    List<TouristSpotEntity> findBySigunguNameIsNull();
+}
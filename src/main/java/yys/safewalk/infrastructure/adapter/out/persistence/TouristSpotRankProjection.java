@@ -0,0 +1,21 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import java.math.BigDecimal;
+
+/**
+ * 시도별 인기 관광지 순위 목록 조회 결과. id 는 키셋 커서용
+ */
+public record TouristSpotRankProjection(
+        Long id,
+        String touristSpotId,
+        String sidoCode,
+        String mode,
+        Integer rank,
+        String sidoName,
+        String sigunguName,
+        String spotName,
+        String category,
+        BigDecimal latitude,
+        BigDecimal longitude
+) {
+}
@@ -0,0 +1,210 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+import yys.safewalk.application.event.DatasetVersion;
+import yys.safewalk.application.port.out.LoadHotspotIndexPort;
+import yys.safewalk.application.port.out.LoadTouristSpotRiskPort;
+import yys.safewalk.domain.model.TouristSpotRiskProfile;
+import yys.safewalk.domain.spatial.GeoUtils;
+import yys.safewalk.domain.spatial.HotspotIndex;
+import yys.safewalk.entity.TouristSpotEntity;
+import yys.safewalk.infrastructure.config.ReplicaRoutingDataSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 모든 관광지의 반경 1/3/5/10km 사고 집계를 미리 계산해 두는 테이블
+ *
+ * 관광지와 사고다발지점은 임포트 사이에 바뀌지 않으므로, 기동 시와 두 데이터셋 갱신 시 백그라운드에서
+ * 관광지 구간을 fork-join 으로 나눠 사고다발지점 인덱스를 조회한다. 결과는 관광지 행 x (반경 x 지표)
+ * 의 int 배열 하나에 저장하므로 조회는 맵 조회 한 번과 배열 접근이다.
+ * 사고다발지점 인덱스 리스너가 먼저 실행되도록 HotspotIndexAdapter 에 순서를 지정해 두었다.
+ * 재계산이 끝나기 전에 ETag 가 바뀌지 않도록 작업을 DatasetVersion 에 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TouristSpotRiskProfileAdapter implements LoadTouristSpotRiskPort {
+
+    // 지점 수, 사고 건수, 사상자 수, 사망자 수
+    private static final int METRICS = 4;
+    private static final int STRIDE = RADII_KM.length * METRICS;
+    private static final int SPOTS_PER_TASK = 64;
+
+    private final TouristSpotJpaRepository touristSpotJpaRepository;
+    private final LoadHotspotIndexPort loadHotspotIndexPort;
+    private final DatasetVersion datasetVersion;
+
+    private volatile Table table = Table.EMPTY;
+
+    @EventListener(DatasetChangedEvent.class)
+    public void onDatasetChanged(DatasetChangedEvent event) {
+        if (event.affects(Dataset.TOURIST_SPOTS, Dataset.ACCIDENT_HOTSPOTS)) {
+            load();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        datasetVersion.deferUntil(CompletableFuture.runAsync(this::rebuild));
+    }
+
+    @Override
+    public Optional<TouristSpotRiskProfile> findRiskProfile(String touristSpotId) {
+        Table current = table;
+        Integer row = current.rows.get(touristSpotId);
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        List<TouristSpotRiskProfile.RadiusRisk> radii = new ArrayList<>(RADII_KM.length);
+        for (int r = 0; r < RADII_KM.length; r++) {
+            int offset = row * STRIDE + r * METRICS;
+            radii.add(new TouristSpotRiskProfile.RadiusRisk(
+                    RADII_KM[r],
+                    current.values[offset],
+                    current.values[offset + 1],
+                    current.values[offset + 2],
+                    current.values[offset + 3]
+            ));
+        }
+        return Optional.of(new TouristSpotRiskProfile(touristSpotId, current.names[row], radii));
+    }
+
+    @Override
+    public OptionalInt accidentCount(String touristSpotId, int radiusKm) {
+        int r = radiusIndex(radiusKm);
+        Table current = table;
+        Integer row = current.rows.get(touristSpotId);
+        if (r < 0 || row == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(current.values[row * STRIDE + r * METRICS + 1]);
+    }
+
+    private synchronized void rebuild() {
+        try (ReplicaRoutingDataSource.PrimaryHint primary = ReplicaRoutingDataSource.forcePrimary()) {
+            long start = System.currentTimeMillis();
+            HotspotIndex index = loadHotspotIndexPort.currentIndex();
+            List<TouristSpotEntity> spots = spotsWithCoordinate();
+
+            int n = spots.size();
+            String[] ids = new String[n];
+            String[] names = new String[n];
+            double[] lats = new double[n];
+            double[] lngs = new double[n];
+            int i = 0;
+            for (TouristSpotEntity spot : spots) {
+                ids[i] = spot.getTouristSpotId();
+                names[i] = spot.getSpotName();
+                lats[i] = spot.getLatitude().doubleValue();
+                lngs[i] = spot.getLongitude().doubleValue();
+                i++;
+            }
+
+            int[] values = new int[n * STRIDE];
+            ForkJoinPool.commonPool().invoke(new ProfileTask(index, lats, lngs, values, 0, n));
+
+            Map<String, Integer> rows = new HashMap<>(n * 2);
+            for (int row = 0; row < n; row++) {
+                rows.put(ids[row], row);
+            }
+            table = new Table(Map.copyOf(rows), names, values);
+            log.info("관광지 반경별 위험도 계산 완료: 관광지 {}곳, 사고다발지점 {}건, {}ms",
+                    n, index.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("관광지 반경별 위험도 계산 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 관광지 차원 테이블은 tourist_spot_id 당 한 행이므로 좌표가 있는 행만 거른다
+    private List<TouristSpotEntity> spotsWithCoordinate() {
+        return touristSpotJpaRepository.findAll().stream()
+                .filter(spot -> spot.getLatitude() != null && spot.getLongitude() != null)
+                .toList();
+    }
+
+    private static int radiusIndex(int radiusKm) {
+        for (int r = 0; r < RADII_KM.length; r++) {
+            if (RADII_KM[r] == radiusKm) {
+                return r;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 관광지 [from, to) 구간의 반경별 집계. 구간이 크면 반으로 나눠 병렬 처리
+     */
+    private static final class ProfileTask extends RecursiveAction {
+
+        private final HotspotIndex index;
+        private final double[] lats;
+        private final double[] lngs;
+        private final int[] values;
+        private final int from;
+        private final int to;
+
+        ProfileTask(HotspotIndex index, double[] lats, double[] lngs, int[] values, int from, int to) {
+            this.index = index;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPOTS_PER_TASK) {
+                for (int spot = from; spot < to; spot++) {
+                    profile(spot);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ProfileTask(index, lats, lngs, values, from, mid),
+                    new ProfileTask(index, lats, lngs, values, mid, to));
+        }
+
+        // 최대 반경 상자로 후보를 한 번만 조회하고, 거리에 따라 해당 반경 이상 모든 구간에 누적
+        private void profile(int spot) {
+            double lat = lats[spot];
+            double lng = lngs[spot];
+            double maxMeters = RADII_KM[RADII_KM.length - 1] * 1000.0;
+            double dLat = GeoUtils.metersToLatDegrees(maxMeters);
+            double dLng = GeoUtils.metersToLngDegrees(maxMeters, lat);
+            int base = spot * STRIDE;
+
+            index.search(lat - dLat, lng - dLng, lat + dLat, lng + dLng, i -> {
+                double distance = GeoUtils.haversineMeters(lat, lng, index.lat(i), index.lng(i));
+                for (int r = RADII_KM.length - 1; r >= 0 && distance <= RADII_KM[r] * 1000.0; r--) {
+                    int offset = base + r * METRICS;
+                    values[offset]++;
+                    values[offset + 1] += index.accidentCount(i);
+                    values[offset + 2] += index.casualtyCount(i);
+                    values[offset + 3] += index.deathCount(i);
+                }
+            });
+        }
+    }
+
+    private record Table(Map<String, Integer> rows, String[] names, int[] values) {
+
+        static final Table EMPTY = new Table(Map.of(), new String[0], new int[0]);
+    }
+}
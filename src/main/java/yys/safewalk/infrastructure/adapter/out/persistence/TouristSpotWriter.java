@@ -0,0 +1,27 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import yys.safewalk.entity.TouristSpotEntity;
+
+/**
+ * 관광지 차원을 저장하고 같은 관광지의 순위 행 사본 컬럼을 한 번의 UPDATE 로 맞춘다
+ *
+ * 순위 행은 JPQL 일괄 UPDATE 로 바뀌므로 Hibernate 가 해당 엔티티/쿼리 캐시 영역을 함께 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TouristSpotWriter {
+
+    private final TouristSpotJpaRepository touristSpotJpaRepository;
+    private final PopularTouristSpotsJPARepository popularTouristSpotsJPARepository;
+
+    @Transactional
+    public TouristSpotEntity save(TouristSpotEntity spot) {
+        TouristSpotEntity saved = touristSpotJpaRepository.save(spot);
+        popularTouristSpotsJPARepository.copySpotAttributes(
+                saved.getTouristSpotId(), saved.getSigunguName(), saved.getLongitude(), saved.getLatitude());
+        return saved;
+    }
+}
@@ -0,0 +1,9 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import yys.safewalk.entity.VisitorBoomNeighborhoods;
+
+@Repository
+public interface VisitorBoomNeighborhoodsJpaRepository extends JpaRepository<VisitorBoomNeighborhoods, Long> {
+}
@@ -0,0 +1,80 @@
+package yys.safewalk.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제본의 Seconds_Behind_Source 를 주기적으로 읽어 maxLag 이하인 복제본만 라우팅 대상으로 둔다
+ *
+ * 복제가 멈췄거나(NULL) 조회에 실패한 복제본도 제외한다. 복제 상태 행이 없으면(관리형 읽기 엔드포인트 등)
+ * 지연이 없는 것으로 본다. 조회 계정에는 REPLICATION CLIENT 권한이 필요하다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+
+        for (String name : routingDataSource.replicaNames()) {
+            lagSeconds.put(name, Double.NaN);
+            Gauge.builder("safewalk.datasource.replica.lag", lagSeconds, lags -> lags.get(name))
+                    .description("복제 지연 (확인 실패 시 NaN)")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("safewalk.datasource.replica.available", routingDataSource,
+                            routing -> routing.isAvailable(name) ? 1 : 0)
+                    .description("읽기 라우팅 대상 여부")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${safewalk.datasource.routing.lag-check-interval:5s}")
+    public void check() {
+        Map<Object, DataSource> replicas = routingDataSource.getResolvedDataSources();
+        for (String name : routingDataSource.replicaNames()) {
+            Long lag = null;
+            try (Connection connection = replicas.get(name).getConnection()) {
+                lag = secondsBehindSource(connection);
+            } catch (SQLException e) {
+                log.warn("복제 지연 확인 실패 ({}): {}", name, e.getMessage());
+            }
+
+            boolean usable = lag != null && lag <= maxLag.toSeconds();
+            lagSeconds.put(name, lag != null ? lag.doubleValue() : Double.NaN);
+            if (usable != routingDataSource.isAvailable(name)) {
+                log.info("복제본 {} 읽기 라우팅 {} (지연 {}s)", name, usable ? "재개" : "중단", lag);
+            }
+            routingDataSource.setAvailable(name, usable);
+        }
+    }
+
+    // 복제가 멈췄으면 null
+    static Long secondsBehindSource(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!status.next()) {
+                return 0L;
+            }
+            long lag = status.getLong("Seconds_Behind_Source");
+            return status.wasNull() ? null : lag;
+        }
+    }
+}
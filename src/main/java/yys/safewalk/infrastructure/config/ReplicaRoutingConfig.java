@@ -0,0 +1,88 @@
+package yys.safewalk.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * safewalk.datasource.routing.enabled=true 일 때 spring.datasource 를 primary 로, replicas 를 읽기 복제본으로 쓴다
+ *
+ * 각 커넥션 풀은 이름(primary, replica-1, ...)을 pool 태그로 hikaricp.* 지표를 남긴다.
+ * 풀 설정(spring.datasource.hikari)은 모든 풀에 똑같이 적용한다.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "safewalk.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaRoutingProperties routingProperties,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = pool(dataSourceProperties, binder, meterRegistry, ReplicaRoutingDataSource.PRIMARY,
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+
+        LinkedHashMap<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaRoutingProperties.Replica> replicaProperties = routingProperties.replicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            ReplicaRoutingProperties.Replica replica = replicaProperties.get(i);
+            String name = "replica-" + (i + 1);
+            HikariDataSource pool = pool(dataSourceProperties, binder, meterRegistry, name,
+                    replica.url(),
+                    replica.username() != null ? replica.username() : dataSourceProperties.determineUsername(),
+                    replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+            pool.setReadOnly(true);
+            replicas.put(name, pool);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    // readOnly 여부는 첫 SQL 실행 시점에야 알 수 있으므로 커넥션 획득을 그때까지 미룬다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReplicaRoutingProperties routingProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, routingProperties.maxLag(), meterRegistry);
+    }
+
+    private HikariDataSource pool(DataSourceProperties dataSourceProperties, Binder binder, MeterRegistry meterRegistry,
+                                  String name, String url, String username, String password) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
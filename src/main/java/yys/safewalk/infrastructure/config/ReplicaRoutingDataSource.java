@@ -0,0 +1,125 @@
+package yys.safewalk.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 밖의 커넥션은 primary 로 보내는 DataSource
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 SQL 실행 때 커넥션을 고르게 한다. 복제본은 돌아가며 고르고, ReplicaLagMonitor 가 지연이 크다고 표시한
+ * 복제본은 건너뛴다. 쓸 수 있는 복제본이 없으면 primary 로 보낸다.
+ *
+ * 데이터셋 변경 직후 메모리 인덱스/응답 캐시를 다시 채우는 경로는 아직 복제되지 않은 옛 데이터를 읽으면
+ * 다음 변경까지 그대로 남으므로, {@link #forcePrimary()} 로 해당 스레드의 읽기를 primary 로 보낸다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_HINT = new ThreadLocal<>();
+
+    private final List<String> replicaNames;
+    private final Map<String, Boolean> available = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Map<String, Counter> routed = new HashMap<>();
+    private final Counter fallbacks;
+
+    /**
+     * @param replicas 이름 -> 복제본 (순서대로 돌아가며 사용). 첫 지연 확인 전까지는 사용하지 않는다
+     */
+    public ReplicaRoutingDataSource(DataSource primary, LinkedHashMap<String, DataSource> replicas,
+                                    MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.replicaNames = List.copyOf(replicas.keySet());
+        for (String name : replicaNames) {
+            available.put(name, false);
+        }
+        for (Object target : targets.keySet()) {
+            routed.put((String) target, Counter.builder("safewalk.datasource.route")
+                    .description("커넥션을 가져간 대상 DataSource")
+                    .tag("target", (String) target)
+                    .register(meterRegistry));
+        }
+        this.fallbacks = Counter.builder("safewalk.datasource.route.fallback")
+                .description("쓸 수 있는 복제본이 없어 primary 로 보낸 읽기 전용 커넥션")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_HINT.get() != null) {
+            return route(PRIMARY);
+        }
+        int size = replicaNames.size();
+        int start = size > 0 ? Math.floorMod(nextReplica.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            String name = replicaNames.get((start + i) % size);
+            if (available.get(name)) {
+                return route(name);
+            }
+        }
+        fallbacks.increment();
+        return route(PRIMARY);
+    }
+
+    /**
+     * 반환한 힌트를 닫을 때까지 현재 스레드의 읽기 전용 커넥션도 primary 로 보낸다. 중첩해 쓸 수 있다
+     */
+    public static PrimaryHint forcePrimary() {
+        PrimaryHint hint = new PrimaryHint(PRIMARY_HINT.get());
+        PRIMARY_HINT.set(Boolean.TRUE);
+        return hint;
+    }
+
+    private String route(String target) {
+        routed.get(target).increment();
+        return target;
+    }
+
+    List<String> replicaNames() {
+        return replicaNames;
+    }
+
+    boolean isAvailable(String replica) {
+        return available.get(replica);
+    }
+
+    void setAvailable(String replica, boolean usable) {
+        available.put(replica, usable);
+    }
+
+    public static final class PrimaryHint implements AutoCloseable {
+
+        private final Boolean previous;
+
+        private PrimaryHint(Boolean previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                PRIMARY_HINT.remove();
+            } else {
+                PRIMARY_HINT.set(previous);
+            }
+        }
+    }
+}
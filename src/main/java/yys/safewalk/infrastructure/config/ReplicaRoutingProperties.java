@@ -0,0 +1,27 @@
+package yys.safewalk.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (safewalk.datasource.routing)
+ *
+ * 복제본의 username/password 를 비우면 spring.datasource 값을 그대로 쓴다.
+ */
+@ConfigurationProperties(prefix = "safewalk.datasource.routing")
+public record ReplicaRoutingProperties(
+        boolean enabled,
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration maxLag
+) {
+
+    public ReplicaRoutingProperties {
+        replicas = replicas != null ? List.copyOf(replicas) : List.of();
+    }
+
+    public record Replica(String url, String username, String password) {
+    }
+}
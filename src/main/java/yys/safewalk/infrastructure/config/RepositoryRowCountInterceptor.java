@@ -0,0 +1,87 @@
+package yys.safewalk.infrastructure.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+/**
+ * 리포지토리 메서드가 돌려준 행 수를 safewalk.repository.rows 분포로 기록
+ *
+ * 소요 시간은 Spring Boot 가 같은 repository/method 태그로 spring.data.repository.invocations 에 남긴다.
+ * Stream 결과는 호출자가 소비하기 전에는 행 수를 알 수 없어 기록하지 않는다.
+ * 조회한 행 수만 기록하므로 @Modifying 메서드, void 메서드, 숫자/boolean 결과(count/exists/갱신 건수)는 건너뛴다.
+ */
+class RepositoryRowCountInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "safewalk.repository.rows";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final String repository;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    RepositoryRowCountInterceptor(Supplier<MeterRegistry> meterRegistry, Class<?> repositoryInterface) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (!returnsRows(invocation.getMethod())) {
+            return result;
+        }
+        long rows = rowCount(result);
+        if (rows >= 0) {
+            summaries.computeIfAbsent(invocation.getMethod(), this::summary).record(rows);
+        }
+        return result;
+    }
+
+    private DistributionSummary summary(Method method) {
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("리포지토리 메서드가 반환한 행 수")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .publishPercentileHistogram()
+                .maximumExpectedValue(50_000.0)
+                .register(meterRegistry.get());
+    }
+
+    static boolean returnsRows(Method method) {
+        Class<?> returnType = method.getReturnType();
+        return returnType != void.class && returnType != Void.class && !method.isAnnotationPresent(Modifying.class);
+    }
+
+    // 셀 수 없는 결과(Stream 등)와 행이 아닌 결과(숫자, boolean)는 -1
+    static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof BaseStream<?, ?> || result instanceof Iterable<?>
+                || result instanceof Number || result instanceof Boolean) {
+            return -1;
+        }
+        return 1;
+    }
+}
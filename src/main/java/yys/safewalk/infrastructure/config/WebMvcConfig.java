@@ -0,0 +1,34 @@
+package yys.safewalk.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import yys.safewalk.infrastructure.adapter.in.web.DatasetEtagInterceptor;
+import yys.safewalk.infrastructure.adapter.in.web.protobuf.MapProtobufHttpMessageConverter;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final DatasetEtagInterceptor datasetEtagInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 동기화 응답은 워터마크와 현재 시각에 따라 달라지므로 데이터셋 버전 ETag 대상에서 제외
+        registry.addInterceptor(datasetEtagInterceptor)
+                .addPathPatterns("/v1/**")
+                .excludePathPatterns("/v1/sync");
+    }
+
+    /**
+     * JSON 이 기본 응답이 되도록 protobuf 변환기는 마지막에 추가 (CBOR/Smile 은 의존성만으로 기본 등록됨)
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MapProtobufHttpMessageConverter());
+    }
+}
@@ -0,0 +1,83 @@
+package yys.safewalk.application.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DatasetChangePublisherTest {
+
+    private final List<Object> published = new ArrayList<>();
+    private final DatasetChangePublisher publisher = new DatasetChangePublisher(published::add);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 데이터셋별로 한 번만, 변경 뒤 재적재 완료 순서로 발행한다")
+    void publish_AfterCommitOnly() {
+        // Given
+        publisher.publish(Dataset.TOURIST_SPOTS);
+        publisher.publish(Dataset.TOURIST_SPOTS);
+        publisher.publish(Dataset.EMD_DATA);
+
+        // When
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(published).isEmpty();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        assertThat(synchronizations).hasSize(1);
+        assertThat(published).containsExactly(
+                new DatasetChangedEvent(Dataset.TOURIST_SPOTS),
+                new DatasetReloadedEvent(Dataset.TOURIST_SPOTS),
+                new DatasetChangedEvent(Dataset.EMD_DATA),
+                new DatasetReloadedEvent(Dataset.EMD_DATA));
+    }
+
+    @Test
+    @DisplayName("롤백되면 발행하지 않는다")
+    void publish_NotOnRollback() {
+        // Given
+        publisher.publish(Dataset.ACCIDENT_HOTSPOTS);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 발행한다")
+    void publish_ImmediatelyWithoutTransaction() {
+        // Given
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When
+        publisher.publish(Dataset.LEGAL_DONGS);
+
+        // Then
+        assertThat(published).containsExactly(
+                new DatasetChangedEvent(Dataset.LEGAL_DONGS),
+                new DatasetReloadedEvent(Dataset.LEGAL_DONGS));
+    }
+}
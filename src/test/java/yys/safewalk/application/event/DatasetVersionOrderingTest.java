@@ -0,0 +1,86 @@
+package yys.safewalk.application.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+// DatasetVersion 과 같은 기본 순서인 리스너를 DatasetVersion 뒤에 등록해 순서 동률 상황을 만든다
+@SpringJUnitConfig({DatasetChangePublisher.class, DatasetVersion.class, DatasetVersionOrderingTest.Reloader.class})
+class DatasetVersionOrderingTest {
+
+    @Autowired
+    private DatasetChangePublisher datasetChangePublisher;
+
+    @Autowired
+    private DatasetVersion datasetVersion;
+
+    @Autowired
+    private Reloader reloader;
+
+    @BeforeEach
+    void setUp() {
+        reloader.versionsSeen.clear();
+        reloader.async = false;
+    }
+
+    @Test
+    @DisplayName("순서를 지정하지 않은 재적재 리스너가 돌아온 뒤에 버전이 바뀐다")
+    void publish_BumpsVersionAfterReloads() {
+        // Given
+        String before = datasetVersion.current();
+
+        // When
+        datasetChangePublisher.publish(Dataset.ACCIDENT_HOTSPOTS);
+
+        // Then
+        assertThat(reloader.versionsSeen).containsExactly(before);
+        assertThat(datasetVersion.current()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("리스너가 등록한 백그라운드 재계산이 끝날 때까지 버전이 바뀌지 않는다")
+    void publish_WaitsForDeferredRebuild() {
+        // Given
+        reloader.async = true;
+        String before = datasetVersion.current();
+
+        // When
+        datasetChangePublisher.publish(Dataset.TOURIST_SPOTS);
+
+        // Then
+        assertThat(reloader.versionsSeen).containsExactly(before);
+        assertThat(datasetVersion.current()).isEqualTo(before);
+        reloader.rebuild.complete(null);
+        assertThat(datasetVersion.current()).isNotEqualTo(before);
+    }
+
+    static class Reloader {
+
+        private final DatasetVersion datasetVersion;
+        final List<String> versionsSeen = new ArrayList<>();
+        boolean async;
+        CompletableFuture<Void> rebuild;
+
+        Reloader(DatasetVersion datasetVersion) {
+            this.datasetVersion = datasetVersion;
+        }
+
+        @EventListener(DatasetChangedEvent.class)
+        public void onDatasetChanged(DatasetChangedEvent event) {
+            versionsSeen.add(datasetVersion.current());
+            if (async) {
+                rebuild = new CompletableFuture<>();
+                datasetVersion.deferUntil(rebuild);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package yys.safewalk.application.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DatasetVersionTest {
+
+    private final DatasetVersion datasetVersion = new DatasetVersion();
+
+    @Test
+    @DisplayName("진행 중인 재적재가 있으면 끝난 뒤에 버전이 바뀐다")
+    void onDatasetReloaded_WaitsForRebuild() {
+        // Given
+        String before = datasetVersion.current();
+        CompletableFuture<Void> rebuild = new CompletableFuture<>();
+        datasetVersion.deferUntil(rebuild);
+
+        // When
+        datasetVersion.onDatasetReloaded(new DatasetReloadedEvent(Dataset.TOURIST_SPOTS));
+
+        // Then
+        assertThat(datasetVersion.current()).isEqualTo(before);
+        rebuild.complete(null);
+        assertThat(datasetVersion.current()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("재적재가 없거나 끝났으면 바로 버전이 바뀐다")
+    void onDatasetReloaded_BumpsImmediately() {
+        // Given
+        String before = datasetVersion.current();
+        datasetVersion.deferUntil(CompletableFuture.completedFuture(null));
+
+        // When
+        datasetVersion.onDatasetReloaded(new DatasetReloadedEvent(Dataset.EMD_DATA));
+
+        // Then
+        assertThat(datasetVersion.current()).isNotEqualTo(before);
+    }
+}
@@ -0,0 +1,38 @@
+package yys.safewalk.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yys.safewalk.application.port.in.dto.AccidentDetailResponse;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Casualties;
+import yys.safewalk.domain.model.Coordinate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccidentResponseMapperTest {
+
+    @Test
+    @DisplayName("사고다발지점의 ID, 위치명, 사상자, 좌표를 그대로 옮긴다")
+    void toResponse_CopiesAllFields() {
+        // Given
+        AccidentDetail accident = new AccidentDetail("10", "세종대로사거리", 7,
+                new Casualties(9, 1, 3, 5),
+                new Coordinate(BigDecimal.valueOf(37.5665), BigDecimal.valueOf(126.9780)));
+
+        // When
+        AccidentDetailResponse response = AccidentResponseMapper.toResponse(accident);
+
+        // Then
+        assertThat(response.getId()).isEqualTo("10");
+        assertThat(response.getLocation()).isEqualTo("세종대로사거리");
+        assertThat(response.getAccidentCount()).isEqualTo(7);
+        assertThat(response.getCasualties())
+                .extracting("total", "dead", "severe", "minor")
+                .containsExactly(9, 1, 3, 5);
+        assertThat(response.getPoint())
+                .extracting("lat", "lng")
+                .containsExactly(BigDecimal.valueOf(37.5665), BigDecimal.valueOf(126.9780));
+    }
+}
@@ -0,0 +1,93 @@
+package yys.safewalk.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.application.port.in.GetAccidentStatsQuery;
+import yys.safewalk.application.port.in.dto.AccidentStatsResponse;
+import yys.safewalk.application.port.out.LoadAccidentStatsPort;
+import yys.safewalk.domain.model.AccidentStatsCube;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccidentStatsServiceTest {
+
+    @Mock
+    private LoadAccidentStatsPort loadAccidentStatsPort;
+
+    @InjectMocks
+    private AccidentStatsService service;
+
+    private AccidentStatsCube cube;
+
+    @BeforeEach
+    void setUp() {
+        cube = AccidentStatsCube.builder()
+                .add(2021, "11", "서울", "보행자사고", metrics(100, 2, 90))
+                .add(2021, "47", "경북", "보행자사고", metrics(40, 3, 35))
+                .add(2022, "11", "서울", "보행자사고", metrics(80, 1, 70))
+                .add(2022, "11", "서울", "고령자사고", metrics(30, 2, 25))
+                .add(2022, "47", "경북", "보행자사고", metrics(50, 1, 45))
+                // 같은 셀의 중복 행은 합산
+                .add(2023, "47", "경북", "보행자사고", metrics(20, 0, 20))
+                .add(2023, "47", "경북", "보행자사고", metrics(5, 1, 4))
+                .build();
+    }
+
+    @Test
+    @DisplayName("필터 없이 전체 기간 합계와 전년 대비 증감")
+    void getStats_AllDimensions() {
+        when(loadAccidentStatsPort.loadCube()).thenReturn(cube);
+
+        AccidentStatsResponse result = service.getStats(new GetAccidentStatsQuery(null, null, null, null));
+
+        assertThat(result.yearFrom()).isEqualTo(2021);
+        assertThat(result.yearTo()).isEqualTo(2023);
+        assertThat(result.total().accidentCount()).isEqualTo(325);
+        assertThat(result.years()).extracting(AccidentStatsResponse.YearStats::year).containsExactly(2021, 2022, 2023);
+        assertThat(result.years().get(0).yearOverYear()).isNull();
+        assertThat(result.years().get(1).yearOverYear().accidentCountDelta()).isEqualTo(20);
+        assertThat(result.years().get(1).yearOverYear().accidentCountChangeRate())
+                .isEqualByComparingTo(new BigDecimal("14.29"));
+    }
+
+    @Test
+    @DisplayName("시도/사고유형 필터와 범위 밖 전년 비교")
+    void getStats_FilteredSlice() {
+        when(loadAccidentStatsPort.loadCube()).thenReturn(cube);
+
+        AccidentStatsResponse result = service.getStats(
+                new GetAccidentStatsQuery(2022, 2023, List.of("47", "99"), List.of("보행자사고")));
+
+        assertThat(result.years()).hasSize(2);
+        assertThat(result.years().get(0).metrics().accidentCount()).isEqualTo(50);
+        assertThat(result.years().get(0).yearOverYear().accidentCountDelta()).isEqualTo(10);
+        assertThat(result.years().get(1).metrics().accidentCount()).isEqualTo(25);
+        assertThat(result.years().get(1).metrics().deathCount()).isEqualTo(1);
+        assertThat(result.total().injuryCount()).isEqualTo(69);
+    }
+
+    @Test
+    @DisplayName("시작 연도가 종료 연도보다 크면 예외")
+    void query_InvalidRange() {
+        assertThatThrownBy(() -> new GetAccidentStatsQuery(2023, 2021, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long[] metrics(long accidents, long deaths, long injuries) {
+        long[] metrics = new long[AccidentStatsCube.METRIC_COUNT];
+        metrics[AccidentStatsCube.Metric.ACCIDENT_COUNT.ordinal()] = accidents;
+        metrics[AccidentStatsCube.Metric.DEATH_COUNT.ordinal()] = deaths;
+        metrics[AccidentStatsCube.Metric.INJURY_COUNT.ordinal()] = injuries;
+        return metrics;
+    }
+}
@@ -7,8 +7,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
+import yys.safewalk.application.port.in.PageQuery;
 import yys.safewalk.application.port.in.dto.EmdResponse;
 import yys.safewalk.application.port.in.dto.EmdSearchRequest;
+import yys.safewalk.domain.model.KeysetPage;
+import yys.safewalk.domain.model.PageCursor;
 import yys.safewalk.entity.AdministrativeLegalDongs;
 import yys.safewalk.infrastructure.adapter.out.persistence.AdministrativeLegalDongsRepository;
 
@@ -179,4 +182,28 @@ class AdministrativeLegalDongServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).codeType()).isEqualTo("B");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("실시간 검색 페이지가 가득 차면 마지막 행 위치로 다음 페이지를 이어서 조회")
+    void searchRealtime_ContinuesFromCursor() {
+        // Given
+        String query = "청운";
+        AdministrativeLegalDongs first = AdministrativeLegalDongs.builder()
+                .id(7L).code("1111010100").eupMyeonDong("청운동").codeType("B").build();
+        AdministrativeLegalDongs second = AdministrativeLegalDongs.builder()
+                .id(3L).code("1111054000").eupMyeonDong("청운효자동").codeType("B").build();
+        when(repository.findByEupMyeonDongStartingWith(query, PageRequest.of(0, 1))).thenReturn(List.of(first));
+        when(repository.findByEupMyeonDongStartingWithAfter(query, "청운동", 7L, PageRequest.of(0, 1)))
+                .thenReturn(List.of(second));
+
+        // When
+        KeysetPage<EmdResponse> firstPage = service.searchRealtime(query, new PageQuery(null, 1));
+        PageCursor cursor = PageCursor.decode(firstPage.next().encode());
+        KeysetPage<EmdResponse> secondPage = service.searchRealtime(query, new PageQuery(cursor, 1));
+
+        // Then
+        assertThat(firstPage.items()).extracting(EmdResponse::code).containsExactly("11110101");
+        assertThat(secondPage.items()).extracting(EmdResponse::code).containsExactly("11110540");
+        assertThat(secondPage.hasNext()).isTrue();
+    }
+}
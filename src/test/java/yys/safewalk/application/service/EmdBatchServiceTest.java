@@ -0,0 +1,72 @@
+package yys.safewalk.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.application.port.in.GetEmdBatchQuery;
+import yys.safewalk.application.port.in.dto.EmdBatchResponse;
+import yys.safewalk.application.port.out.LoadEmdSummaryPort;
+import yys.safewalk.application.port.out.LoadRiskTierCriteriaPort;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.EmdSummary;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmdBatchServiceTest {
+
+    @Mock
+    private LoadEmdSummaryPort loadEmdSummaryPort;
+
+    @Mock
+    private LoadRiskTierCriteriaPort riskTierCriteriaPort;
+
+    @InjectMocks
+    private EmdBatchService emdBatchService;
+
+    @Test
+    @DisplayName("중복 없이 한 번 조회하고 요청 순서대로 결과와 미조회 표시를 반환한다")
+    void getEmdBatch_KeepsInputOrderWithNotFoundMarkers() {
+        // Given
+        EmdSummary summary = new EmdSummary("11110101", "서울특별시", "종로구", "청운동",
+                new Coordinate(BigDecimal.valueOf(37.586), BigDecimal.valueOf(126.973)), 4);
+        when(loadEmdSummaryPort.findByEmdCodes(Set.of("11110101", "99999999")))
+                .thenReturn(Map.of("11110101", summary));
+        when(riskTierCriteriaPort.findCriteria(anyString())).thenReturn(Optional.empty());
+
+        // When
+        EmdBatchResponse response = emdBatchService.getEmdBatch(
+                new GetEmdBatchQuery(List.of("99999999", "1111010100", "11110101")));
+
+        // Then
+        assertThat(response.items()).extracting(EmdBatchResponse.Item::code)
+                .containsExactly("99999999", "11110101", "11110101");
+        assertThat(response.items()).extracting(EmdBatchResponse.Item::found)
+                .containsExactly(false, true, true);
+        assertThat(response.items().get(0).summary()).isNull();
+        assertThat(response.items().get(1).summary().eupMyeonDong()).isEqualTo("청운동");
+        assertThat(response.items().get(1).summary().totalAccident()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("코드 형식이 잘못됐거나 최대 개수를 넘으면 IllegalArgumentException")
+    void query_RejectsInvalidCodes() {
+        assertThatThrownBy(() -> new GetEmdBatchQuery(List.of("1111")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GetEmdBatchQuery(
+                Collections.nCopies(GetEmdBatchQuery.MAX_CODES + 1, "11110101")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
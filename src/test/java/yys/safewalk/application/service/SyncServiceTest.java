@@ -0,0 +1,162 @@
+package yys.safewalk.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.application.port.in.GetSyncChangesQuery;
+import yys.safewalk.application.port.in.dto.SyncResponse;
+import yys.safewalk.application.port.out.LoadSyncChangesPort;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.LegalDong;
+import yys.safewalk.domain.model.SyncChange;
+import yys.safewalk.domain.model.SyncCursor;
+import yys.safewalk.domain.model.SyncLayer;
+import yys.safewalk.domain.model.SyncWatermark;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 8, 1, 12, 0, 0);
+    private static final Duration SETTLE = Duration.ofMinutes(2);
+
+    @Mock
+    private LoadSyncChangesPort loadSyncChangesPort;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(loadSyncChangesPort, SETTLE);
+    }
+
+    @Test
+    @DisplayName("한 페이지 안에서 같은 키는 마지막 변경만 남는다")
+    void getChanges_KeepsLatestChangePerKey() {
+        // Given: 재적재(삭제 후 삽입)된 A, 삽입 후 삭제된 B
+        List<SyncChange<LegalDong>> changes = List.of(
+                SyncChange.deleted(new SyncCursor(T, true, 1), "A"),
+                SyncChange.deleted(new SyncCursor(T, true, 2), "B"),
+                new SyncChange<>(new SyncCursor(T, false, 10), "A", dong("A")),
+                new SyncChange<>(new SyncCursor(T.plusSeconds(1), false, 11), "B", dong("B")),
+                SyncChange.deleted(new SyncCursor(T.plusSeconds(2), true, 3), "B")
+        );
+        when(loadSyncChangesPort.findLegalDongChanges(eq(SyncCursor.START), any(), anyInt())).thenReturn(changes);
+
+        // When
+        SyncResponse response = syncService.getChanges(GetSyncChangesQuery.of(null, "dongs", 500));
+
+        // Then
+        SyncResponse.LayerChanges dongs = response.layers().get("dongs");
+        assertThat(dongs.upserts()).extracting(SyncResponse.Upsert::key).containsExactly("A");
+        assertThat(dongs.deletes()).containsExactly("B");
+        assertThat(response.hasMore()).isFalse();
+        assertThat(SyncWatermark.decode(response.watermark()).cursorOf(SyncLayer.LEGAL_DONGS))
+                .isEqualTo(new SyncCursor(T.plusSeconds(2), true, 3));
+    }
+
+    @Test
+    @DisplayName("워터마크는 요청하지 않은 레이어의 위치를 유지하고 limit 을 채우면 hasMore")
+    void getChanges_AdvancesOnlyRequestedLayers() {
+        // Given
+        SyncCursor spotsCursor = new SyncCursor(T.withNano(123_456_789), false, 42);
+        String since = SyncWatermark.INITIAL.with(Map.of(SyncLayer.TOURIST_SPOTS, spotsCursor)).encode();
+        when(loadSyncChangesPort.findLegalDongChanges(eq(SyncCursor.START), any(), eq(1)))
+                .thenReturn(List.of(new SyncChange<>(new SyncCursor(T, false, 7), "A", dong("A"))));
+
+        // When
+        SyncResponse response = syncService.getChanges(GetSyncChangesQuery.of(since, "dongs", 1));
+
+        // Then
+        SyncWatermark next = SyncWatermark.decode(response.watermark());
+        assertThat(response.hasMore()).isTrue();
+        assertThat(response.layers()).containsOnlyKeys("dongs");
+        assertThat(next.cursorOf(SyncLayer.TOURIST_SPOTS)).isEqualTo(spotsCursor);
+        assertThat(next.cursorOf(SyncLayer.LEGAL_DONGS)).isEqualTo(new SyncCursor(T, false, 7));
+    }
+
+    @Test
+    @DisplayName("열린 쓰기 트랜잭션이 없으면 현재 시각에서 settle 이전까지만 읽는다")
+    void getChanges_ReadsUpToSettleWindow() {
+        // Given
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(loadSyncChangesPort.findLegalDongChanges(eq(SyncCursor.START), until.capture(), anyInt()))
+                .thenReturn(List.of());
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        syncService.getChanges(GetSyncChangesQuery.of(null, "dongs", 500));
+        LocalDateTime after = LocalDateTime.now();
+
+        // Then
+        assertThat(until.getValue()).isBetween(before.minus(SETTLE), after.minus(SETTLE));
+    }
+
+    @Test
+    @DisplayName("이전 응답의 조회 상한보다 먼저 찍혔지만 늦게 커밋된 행도 다음 요청에서 받는다")
+    void getChanges_WaitsForOpenTransaction() {
+        // Given: 10분 전에 시작한 임포트가 행을 쓰고 아직 커밋 전, 그 뒤 다른 트랜잭션의 변경은 이미 커밋됨
+        LocalDateTime started = LocalDateTime.now().minusMinutes(10);
+        SyncChange<LegalDong> late = new SyncChange<>(new SyncCursor(started.plusSeconds(1), false, 1), "LATE", dong("LATE"));
+        SyncChange<LegalDong> committed = new SyncChange<>(new SyncCursor(started.plusSeconds(30), false, 2), "DONE", dong("DONE"));
+        List<SyncChange<LegalDong>> visible = new ArrayList<>(List.of(committed));
+        when(loadSyncChangesPort.findLegalDongChanges(any(), any(), anyInt())).thenAnswer(invocation -> {
+            SyncCursor after = invocation.getArgument(0);
+            LocalDateTime until = invocation.getArgument(1);
+            return visible.stream()
+                    .filter(change -> change.position().compareTo(after) > 0)
+                    .filter(change -> !change.position().timestamp().isAfter(until))
+                    .sorted(Comparator.comparing(SyncChange::position))
+                    .toList();
+        });
+        when(loadSyncChangesPort.findOldestOpenWriteStart()).thenReturn(Optional.of(started), Optional.empty());
+
+        // When: 첫 요청은 임포트가 열려 있을 때, 둘째 요청은 커밋된 뒤
+        SyncResponse first = syncService.getChanges(GetSyncChangesQuery.of(null, "dongs", 500));
+        visible.add(late);
+        SyncResponse second = syncService.getChanges(GetSyncChangesQuery.of(first.watermark(), "dongs", 500));
+
+        // Then: 첫 응답은 열린 트랜잭션 시작 전에서 멈춰 워터마크가 LATE 를 넘어가지 않는다
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(loadSyncChangesPort, times(2)).findLegalDongChanges(any(), until.capture(), anyInt());
+        assertThat(until.getAllValues().get(0)).isBefore(started);
+        assertThat(first.layers().get("dongs").upserts()).isEmpty();
+        assertThat(SyncWatermark.decode(first.watermark()).cursorOf(SyncLayer.LEGAL_DONGS)).isEqualTo(SyncCursor.START);
+        assertThat(second.layers().get("dongs").upserts()).extracting(SyncResponse.Upsert::key)
+                .containsExactly("LATE", "DONE");
+    }
+
+    @Test
+    @DisplayName("잘못된 워터마크나 레이어 이름은 IllegalArgumentException")
+    void query_RejectsInvalidInput() {
+        assertThatThrownBy(() -> GetSyncChangesQuery.of("not-a-watermark!", null, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GetSyncChangesQuery.of(null, "unknown", 500))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LegalDong dong(String code) {
+        return new LegalDong(1L, code, "서울특별시", "종로구", "청운동", null,
+                new Coordinate(BigDecimal.valueOf(37.586), BigDecimal.valueOf(126.973)), "법정동");
+    }
+}
@@ -1,21 +1,28 @@
 package yys.safewalk.application.service;
 
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.application.port.in.SparseFields;
+import yys.safewalk.application.port.in.dto.TouristSpotField;
 import yys.safewalk.application.port.in.dto.TouristSpotResponse;
 import yys.safewalk.domain.model.Coordinate;
-import yys.safewalk.entity.PopularTouristSpotsEntity;
 import yys.safewalk.infrastructure.adapter.out.persistence.PopularTouristSpotsJPARepository;
+import yys.safewalk.infrastructure.adapter.out.persistence.TouristSpotAreaProjection;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,13 +41,9 @@ class TouristSpotAreaServiceTest {
         Coordinate swCoordinate = new Coordinate(BigDecimal.valueOf(35.8242), BigDecimal.valueOf(129.2070));
         Coordinate neCoordinate = new Coordinate(BigDecimal.valueOf(35.8442), BigDecimal.valueOf(129.2270));
 
-        PopularTouristSpotsEntity spot = PopularTouristSpotsEntity.builder()
-                .spotName("동궁과월지")
-                .sidoName("경상북도")
-                .sigunguName("경주시")
-                .latitude(BigDecimal.valueOf(35.8344))
-                .longitude(BigDecimal.valueOf(129.2233))
-                .build();
+        TouristSpotAreaProjection spot = new TouristSpotAreaProjection(
+                null, "동궁과월지", "경상북도", "경주시", null,
+                BigDecimal.valueOf(35.8344), BigDecimal.valueOf(129.2233));
 
         when(popularTouristSpotsJPARepository.findByLatitudeBetweenAndLongitudeBetween(
                 any(Double.class), any(Double.class), any(Double.class), any(Double.class)))
@@ -54,5 +57,36 @@ class TouristSpotAreaServiceTest {
         assertThat(result.get(0).spotName()).isEqualTo("동궁과월지");
     }
 
+    @Test
+    @DisplayName("fields 를 주면 요청한 컬럼만 조회해 그 필드만 응답한다")
+    void getTouristSpotsByArea_SparseFields() {
+        // Given
+        Coordinate swCoordinate = new Coordinate(BigDecimal.valueOf(35.8242), BigDecimal.valueOf(129.2070));
+        Coordinate neCoordinate = new Coordinate(BigDecimal.valueOf(35.8442), BigDecimal.valueOf(129.2270));
+        Set<TouristSpotField> fields = SparseFields.parse("id, Coordinate", TouristSpotField.class);
+
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("touristSpotId")).thenReturn("T-1");
+        when(tuple.get("latitude", BigDecimal.class)).thenReturn(BigDecimal.valueOf(35.8344));
+        when(tuple.get("longitude", BigDecimal.class)).thenReturn(BigDecimal.valueOf(129.2233));
+        when(popularTouristSpotsJPARepository.findAttributesInBounds(
+                eq(Set.of("touristSpotId", "latitude", "longitude")), any(), any(), any(), any()))
+                .thenReturn(List.of(tuple));
+
+        // When
+        List<Map<String, Object>> result = touristSpotAreaService.getTouristSpotsByArea(swCoordinate, neCoordinate, fields);
 
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0)).containsOnlyKeys("id", "Coordinate");
+        assertThat(result.get(0).get("Coordinate"))
+                .isEqualTo(new Coordinate(BigDecimal.valueOf(35.8344), BigDecimal.valueOf(129.2233)));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 필드는 IllegalArgumentException")
+    void parseFields_RejectsUnknownField() {
+        assertThatThrownBy(() -> SparseFields.parse("id,ratio", TouristSpotField.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
\ No newline at end of file
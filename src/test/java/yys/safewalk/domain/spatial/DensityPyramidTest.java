@@ -0,0 +1,145 @@
+package yys.safewalk.domain.spatial;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Casualties;
+import yys.safewalk.domain.model.Coordinate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DensityPyramidTest {
+
+    @Test
+    @DisplayName("모든 레벨의 셀 값은 지점을 그 레벨 격자에 직접 모은 값과 같다")
+    void build_EveryLevelMatchesBruteForce() {
+        // Given
+        Random random = new Random(7);
+        int n = 3000;
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        int[] accidents = new int[n];
+        int[] casualties = new int[n];
+        HotspotIndex.Builder builder = HotspotIndex.builder();
+        for (int i = 0; i < n; i++) {
+            lats[i] = 33.2 + random.nextDouble() * 5.3;
+            lngs[i] = 124.8 + random.nextDouble() * 7.0;
+            accidents[i] = 1 + random.nextInt(9);
+            casualties[i] = random.nextInt(12);
+            builder.add(HotspotIndex.Kind.PEDESTRIAN, detail(i, lats[i], lngs[i], accidents[i]), casualties[i]);
+        }
+
+        // When
+        DensityPyramid pyramid = DensityPyramid.build(builder.build());
+
+        // Then
+        for (int level = 0; level <= DensityPyramid.MAX_LEVEL; level++) {
+            Map<Long, int[]> expected = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                int[] sums = expected.computeIfAbsent(cellKey(level, lats[i], lngs[i]), key -> new int[2]);
+                sums[0] += accidents[i];
+                sums[1] += casualties[i];
+            }
+
+            Map<Long, int[]> actual = cells(pyramid, level, DensityPyramid.MIN_LAT, DensityPyramid.MIN_LNG,
+                    DensityPyramid.MAX_LAT, DensityPyramid.MAX_LNG);
+
+            assertThat(actual).as("level %d", level).hasSameSizeAs(expected);
+            expected.forEach((key, sums) -> assertThat(actual.get(key)).as("level %d cell %d", level, key)
+                    .containsExactly(sums[0], sums[1]));
+        }
+        assertThat(pyramid.totalAccidents()).isEqualTo(Arrays.stream(accidents).sum());
+    }
+
+    @Test
+    @DisplayName("뷰포트 질의는 뷰포트와 겹치는 셀만 돌려주고, 범위 밖 지점은 어느 레벨에도 없다")
+    void forEachCell_ClipsToViewport() {
+        // Given: 서울시청, 광화문, 부산시청, 범위 밖(도쿄)
+        HotspotIndex index = HotspotIndex.builder()
+                .add(HotspotIndex.Kind.PEDESTRIAN, detail(0, 37.5666, 126.9780, 3), 4)
+                .add(HotspotIndex.Kind.PEDESTRIAN, detail(1, 37.5759, 126.9768, 2), 1)
+                .add(HotspotIndex.Kind.ELDERLY, detail(2, 35.1798, 129.0750, 5), 6)
+                .add(HotspotIndex.Kind.PEDESTRIAN, detail(3, 35.6895, 139.6917, 7), 7)
+                .build();
+        DensityPyramid pyramid = DensityPyramid.build(index);
+        double minLat = 37.4, minLng = 126.8, maxLat = 37.7, maxLng = 127.2;
+
+        for (int level = 0; level <= DensityPyramid.MAX_LEVEL; level++) {
+            // When
+            Map<Long, int[]> cells = cells(pyramid, level, minLat, minLng, maxLat, maxLng);
+
+            // Then: 돌려준 셀은 모두 뷰포트와 겹친다
+            double height = DensityPyramid.cellHeight(level);
+            double width = DensityPyramid.cellWidth(level);
+            int size = 1 << level;
+            for (long key : cells.keySet()) {
+                int row = (int) (key / size);
+                int col = (int) (key % size);
+                double cellMinLat = DensityPyramid.MIN_LAT + row * height;
+                double cellMinLng = DensityPyramid.MIN_LNG + col * width;
+                assertThat(cellMinLat).isLessThanOrEqualTo(maxLat);
+                assertThat(cellMinLat + height).isGreaterThanOrEqualTo(minLat);
+                assertThat(cellMinLng).isLessThanOrEqualTo(maxLng);
+                assertThat(cellMinLng + width).isGreaterThanOrEqualTo(minLng);
+            }
+
+            // 서울 두 지점은 항상 포함되고, 부산은 셀이 뷰포트와 겹치는 낮은 레벨에서만 섞인다
+            int accidentSum = cells.values().stream().mapToInt(sums -> sums[0]).sum();
+            boolean busanShared = cells.containsKey(cellKey(level, 35.1798, 129.0750));
+            assertThat(accidentSum).as("level %d", level).isEqualTo(busanShared ? 10 : 5);
+        }
+        assertThat(pyramid.totalAccidents()).isEqualTo(10);
+        // 최상위 레벨에서는 서울시청과 광화문이 다른 셀이다
+        assertThat(cells(pyramid, DensityPyramid.MAX_LEVEL, 37.4, 126.8, 37.7, 127.2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("한반도 범위와 겹치지 않는 뷰포트는 셀이 없고, 잘못된 레벨은 거부한다")
+    void forEachCell_OutsideBoundsOrInvalidLevel() {
+        DensityPyramid pyramid = DensityPyramid.build(HotspotIndex.builder()
+                .add(HotspotIndex.Kind.PEDESTRIAN, detail(0, 37.5666, 126.9780, 3), 4)
+                .build());
+
+        assertThat(cells(pyramid, 5, 35.0, 139.0, 36.0, 140.0)).isEmpty();
+        assertThat(DensityPyramid.cellsInViewport(5, 35.0, 139.0, 36.0, 140.0)).isZero();
+        assertThatThrownBy(() -> pyramid.forEachCell(DensityPyramid.MAX_LEVEL + 1, 33, 124.5, 38.7, 132,
+                (row, col, a, c) -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 최상위 격자 셀을 레벨 차이만큼 줄여 해당 레벨의 row * size + col 을 구한다
+    private long cellKey(int level, double lat, double lng) {
+        int top = 1 << DensityPyramid.MAX_LEVEL;
+        int shift = DensityPyramid.MAX_LEVEL - level;
+        int row = Math.min(top - 1, (int) ((lat - DensityPyramid.MIN_LAT) / (DensityPyramid.MAX_LAT - DensityPyramid.MIN_LAT) * top));
+        int col = Math.min(top - 1, (int) ((lng - DensityPyramid.MIN_LNG) / (DensityPyramid.MAX_LNG - DensityPyramid.MIN_LNG) * top));
+        return (long) (row >> shift) * (1 << level) + (col >> shift);
+    }
+
+    private Map<Long, int[]> cells(DensityPyramid pyramid, int level,
+                                   double minLat, double minLng, double maxLat, double maxLng) {
+        Map<Long, int[]> cells = new HashMap<>();
+        List<Long> visited = new ArrayList<>();
+        pyramid.forEachCell(level, minLat, minLng, maxLat, maxLng, (row, col, accidentCount, casualtyCount) -> {
+            long key = (long) row * (1 << level) + col;
+            visited.add(key);
+            cells.put(key, new int[]{accidentCount, casualtyCount});
+        });
+        assertThat(visited).doesNotHaveDuplicates();
+        return cells;
+    }
+
+    private AccidentDetail detail(int id, double lat, double lng, int accidentCount) {
+        return new AccidentDetail(String.valueOf(id), "지점" + id, accidentCount,
+                new Casualties(accidentCount, 0, 0, 0),
+                new Coordinate(BigDecimal.valueOf(lat), BigDecimal.valueOf(lng)));
+    }
+}
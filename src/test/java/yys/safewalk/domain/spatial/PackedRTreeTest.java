@@ -0,0 +1,71 @@
+package yys.safewalk.domain.spatial;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PackedRTreeTest {
+
+    @Test
+    @DisplayName("최근접 k 개는 전수 비교 결과와 같은 거리 순서")
+    void nearest_MatchesBruteForce() {
+        Random random = new Random(42);
+        int n = 5000;
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 33.0 + random.nextDouble() * 5.0;
+            lngs[i] = 125.0 + random.nextDouble() * 4.0;
+        }
+        PackedRTree tree = PackedRTree.ofPoints(lngs, lats);
+
+        for (int q = 0; q < 100; q++) {
+            double lat = 33.0 + random.nextDouble() * 5.0;
+            double lng = 125.0 + random.nextDouble() * 4.0;
+            int k = 1 + random.nextInt(30);
+
+            List<PackedRTree.Neighbor> nearest = nearest(tree, lat, lng, k, Double.POSITIVE_INFINITY);
+
+            double[] expected = new double[n];
+            for (int i = 0; i < n; i++) {
+                expected[i] = GeoUtils.haversineMeters(lat, lng, lats[i], lngs[i]);
+            }
+            Arrays.sort(expected);
+            assertThat(nearest).hasSize(k);
+            for (int i = 0; i < k; i++) {
+                assertThat(nearest.get(i).distance()).isCloseTo(expected[i], within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("최대 거리를 넘는 항목은 k 개가 안 되더라도 제외")
+    void nearest_RespectsMaxDistance() {
+        // 서울시청, 약 1km 떨어진 광화문, 약 325km 떨어진 부산시청
+        double[] lats = {37.5666, 37.5759, 35.1798};
+        double[] lngs = {126.9780, 126.9768, 129.0750};
+        PackedRTree tree = PackedRTree.ofPoints(lngs, lats);
+
+        List<PackedRTree.Neighbor> nearest = nearest(tree, 37.5666, 126.9780, 3, 5_000);
+
+        assertThat(nearest).extracting(PackedRTree.Neighbor::id).containsExactly(0, 1);
+        assertThat(nearest.get(0).distance()).isZero();
+        assertThat(nearest.get(1).distance()).isBetween(1_000.0, 1_100.0);
+    }
+
+    @Test
+    @DisplayName("빈 트리는 빈 결과")
+    void nearest_EmptyTree() {
+        assertThat(nearest(PackedRTree.empty(), 37.5, 127.0, 5, Double.POSITIVE_INFINITY)).isEmpty();
+    }
+
+    private List<PackedRTree.Neighbor> nearest(PackedRTree tree, double lat, double lng, int k, double maxDistance) {
+        return tree.nearest(k, maxDistance, (minX, minY, maxX, maxY) ->
+                GeoUtils.pointToEnvelopeMeters(lat, lng, minY, minX, maxY, maxX));
+    }
+}
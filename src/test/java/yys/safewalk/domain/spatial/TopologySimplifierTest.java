@@ -0,0 +1,82 @@
+package yys.safewalk.domain.spatial;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TopologySimplifierTest {
+
+    @Test
+    @DisplayName("이웃 폴리곤이 공유하는 경계는 단순화 후에도 같은 꼭짓점으로 남는다")
+    void simplify_KeepsSharedBoundaryIdentical() {
+        // x = 127.0 근처에서 잘게 흔들리는 공유 경계를 가진 두 사각형
+        int wiggles = 200;
+        double[] border = new double[(wiggles + 1) * 2];
+        for (int i = 0; i <= wiggles; i++) {
+            border[2 * i] = 127.0 + (i % 2 == 0 ? 0 : 0.00001) + 0.002 * Math.sin(i / 20.0);
+            border[2 * i + 1] = 37.0 + 0.1 * i / wiggles;
+        }
+        double[] left = ring(border, false, 126.9);
+        double[] right = ring(border, true, 127.1);
+
+        TopologySimplifier topology = TopologySimplifier.of(List.of(
+                List.<double[][]>of(new double[][]{left}),
+                List.<double[][]>of(new double[][]{right})
+        ));
+        List<List<double[][]>> simplified = topology.simplify(0.001);
+
+        double[] simplifiedLeft = simplified.get(0).get(0)[0];
+        double[] simplifiedRight = simplified.get(1).get(0)[0];
+        assertThat(simplifiedLeft.length).isLessThan(left.length);
+        assertThat(pointsNear(simplifiedLeft, 127.0))
+                .isNotEmpty()
+                .isEqualTo(pointsNear(simplifiedRight, 127.0));
+
+        // 닫힌 링으로 반환
+        assertThat(simplifiedLeft[0]).isEqualTo(simplifiedLeft[simplifiedLeft.length - 2]);
+        assertThat(simplifiedLeft[1]).isEqualTo(simplifiedLeft[simplifiedLeft.length - 1]);
+    }
+
+    @Test
+    @DisplayName("허용 오차가 커도 링은 세 점 이상을 유지한다")
+    void simplify_DoesNotCollapseRings() {
+        double[] small = {127.0, 37.0, 127.0001, 37.0, 127.0001, 37.0001, 127.00005, 37.00015, 127.0, 37.0001};
+
+        TopologySimplifier topology = TopologySimplifier.of(List.of(List.<double[][]>of(new double[][]{small})));
+        double[] simplified = topology.simplifyForZoom(0).get(0).get(0)[0];
+
+        // 닫는 점을 제외하고 3개 이상의 서로 다른 꼭짓점
+        assertThat(simplified.length / 2 - 1).isGreaterThanOrEqualTo(3);
+    }
+
+    // border 를 한 변으로 하고 x = outerX 를 반대 변으로 하는 링
+    private double[] ring(double[] border, boolean reversed, double outerX) {
+        int n = border.length / 2;
+        double[] ring = new double[(n + 2) * 2];
+        for (int i = 0; i < n; i++) {
+            int source = reversed ? n - 1 - i : i;
+            ring[2 * i] = border[2 * source];
+            ring[2 * i + 1] = border[2 * source + 1];
+        }
+        ring[2 * n] = outerX;
+        ring[2 * n + 1] = ring[2 * n - 1];
+        ring[2 * n + 2] = outerX;
+        ring[2 * n + 3] = ring[1];
+        return ring;
+    }
+
+    private Set<String> pointsNear(double[] ring, double x) {
+        Set<String> points = new HashSet<>();
+        for (int i = 0; i < ring.length; i += 2) {
+            if (Math.abs(ring[i] - x) < 0.01) {
+                points.add(ring[i] + "," + ring[i + 1]);
+            }
+        }
+        return points;
+    }
+}
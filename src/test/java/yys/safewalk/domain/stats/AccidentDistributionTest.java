@@ -0,0 +1,75 @@
+package yys.safewalk.domain.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yys.safewalk.domain.model.RiskTier;
+import yys.safewalk.domain.model.RiskTierCriteria;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccidentDistributionTest {
+
+    // 경주시 법정동별 사고 건수 (python/accident_analysis_4713.json)
+    private static final int[] GYEONGJU = {2, 3, 3, 4, 4, 5, 7, 8, 12, 13, 38, 53, 58};
+
+    @Test
+    @DisplayName("작은 표본은 numpy 와 같은 통계량과 분위수")
+    void smallSample_MatchesNumpy() {
+        AccidentDistribution distribution = of(GYEONGJU);
+
+        assertThat(distribution.mean()).isCloseTo(16.1538, within(1e-4));
+        assertThat(distribution.std()).isCloseTo(19.0741, within(1e-4));
+        assertThat(distribution.percentile(50)).isEqualTo(7.0);
+        assertThat(distribution.percentile(25)).isEqualTo(4.0);
+        assertThat(distribution.percentile(75)).isEqualTo(13.0);
+        assertThat(distribution.percentile(90)).isCloseTo(50.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("region_risk_analyzer 와 같은 적응형 기준으로 분류")
+    void criteria_PortedFromAnalyzer() {
+        // 왜도 > 1 -> low = max(7, p33=4) = 7, high = min(19, p90=50) = 19
+        // 소규모 지역 보정 -> low = 5, high = 17
+        RiskTierCriteria criteria = RiskTierCriteria.from(of(GYEONGJU));
+
+        assertThat(criteria).isEqualTo(new RiskTierCriteria(5, 17));
+        assertThat(criteria.classify(5)).isEqualTo(RiskTier.LOW);
+        assertThat(criteria.classify(12)).isEqualTo(RiskTier.MEDIUM);
+        assertThat(criteria.classify(38)).isEqualTo(RiskTier.HIGH);
+    }
+
+    @Test
+    @DisplayName("병합한 분포는 한 번에 쌓은 분포와 같은 모멘트와 근사 분위수")
+    void merge_EquivalentToSingleStream() {
+        Random random = new Random(3);
+        double[] values = new double[5000];
+        AccidentDistribution left = new AccidentDistribution();
+        AccidentDistribution right = new AccidentDistribution();
+        AccidentDistribution all = new AccidentDistribution();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.floor(Math.exp(random.nextGaussian() * 1.2 + 1));
+            (i % 3 == 0 ? left : right).add(values[i]);
+            all.add(values[i]);
+        }
+        left.merge(right);
+        Arrays.sort(values);
+
+        assertThat(left.count()).isEqualTo(5000);
+        assertThat(left.mean()).isCloseTo(all.mean(), within(1e-9));
+        assertThat(left.std()).isCloseTo(all.std(), within(1e-9));
+        assertThat(left.skewness()).isCloseTo(all.skewness(), within(1e-6));
+        assertThat(left.percentile(50)).isCloseTo(values[2500], within(1.0));
+        assertThat(left.percentile(90)).isCloseTo(values[4500], within(values[4500] * 0.1));
+    }
+
+    private AccidentDistribution of(int... values) {
+        AccidentDistribution distribution = new AccidentDistribution();
+        for (int value : values) {
+            distribution.add(value);
+        }
+        return distribution;
+    }
+}
@@ -0,0 +1,99 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetChangedEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompressedResponseCacheTest {
+
+    private static final String BODY = "[{\"EMD_CD\":\"4713025000\",\"totalAccident\":3}]";
+
+    private final CompressedResponseCache cache = new CompressedResponseCache();
+    private final AtomicInteger writes = new AtomicInteger();
+
+    private final CompressedResponseCache.BodyWriter writer = out -> {
+        writes.incrementAndGet();
+        out.write(BODY.getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    @DisplayName("같은 키는 처음 한 번만 본문을 만들고 이후에는 캐시된 배열을 쓴다")
+    void serve_HitAfterMiss() throws IOException {
+        // Given
+        ResponseEntity<byte[]> first = cache.serve("emd-sido:4713", null, writer);
+
+        // When
+        ResponseEntity<byte[]> second = cache.serve("emd-sido:4713", null, writer);
+        cache.serve("emd-sido:1111", null, writer);
+
+        // Then
+        assertThat(writes).hasValue(2);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(new String(second.getBody(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(second.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(second.getHeaders().getFirst(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 에 gzip 이 있으면 압축 본문을, q=0 이거나 없으면 원본을 보낸다")
+    void serve_SelectsGzip() throws IOException {
+        // When
+        ResponseEntity<byte[]> gzip = cache.serve("key", "br, gzip;q=0.8", writer);
+        ResponseEntity<byte[]> rejected = cache.serve("key", "gzip;q=0, br", writer);
+        ResponseEntity<byte[]> identity = cache.serve("key", null, writer);
+
+        // Then
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeaders().getContentLength()).isEqualTo(gzip.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+        assertThat(rejected.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getBody()).isEqualTo(BODY.getBytes(StandardCharsets.UTF_8));
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("데이터셋이 바뀌면 비우고, 만드는 도중 바뀐 결과는 캐시하지 않는다")
+    void serve_ClearedOnGenerationChange() throws IOException {
+        // Given
+        cache.serve("key", null, writer);
+
+        // When
+        cache.onDatasetChanged(new DatasetChangedEvent(Dataset.EMD_DATA));
+        cache.serve("key", null, out -> {
+            writer.writeTo(out);
+            cache.onDatasetChanged(new DatasetChangedEvent(Dataset.EMD_DATA));
+        });
+        cache.serve("key", null, writer);
+
+        // Then
+        assertThat(writes).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("가장 우선하는 응답 형식이 JSON 일 때만 캐시를 쓴다")
+    void prefersJson() {
+        assertThat(CompressedResponseCache.prefersJson(null)).isTrue();
+        assertThat(CompressedResponseCache.prefersJson("*/*")).isTrue();
+        assertThat(CompressedResponseCache.prefersJson("application/json")).isTrue();
+        assertThat(CompressedResponseCache.prefersJson("text/html,application/xhtml+xml,*/*;q=0.8")).isTrue();
+        assertThat(CompressedResponseCache.prefersJson("application/cbor, application/json;q=0.5")).isFalse();
+        assertThat(CompressedResponseCache.prefersJson("application/x-jackson-smile")).isFalse();
+        assertThat(CompressedResponseCache.prefersJson("application/cbor, */*")).isFalse();
+        assertThat(CompressedResponseCache.prefersJson("not a media type")).isFalse();
+    }
+}
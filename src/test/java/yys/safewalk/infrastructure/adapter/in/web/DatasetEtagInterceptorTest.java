@@ -0,0 +1,104 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import yys.safewalk.application.event.Dataset;
+import yys.safewalk.application.event.DatasetReloadedEvent;
+import yys.safewalk.application.event.DatasetVersion;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DatasetEtagInterceptorTest {
+
+    private final DatasetVersion datasetVersion = new DatasetVersion();
+    private final DatasetEtagInterceptor interceptor = new DatasetEtagInterceptor(datasetVersion);
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 컨트롤러를 거치지 않고 304 로 응답한다")
+    void preHandle_NotModified() {
+        // Given
+        String etag = etag("application/json", "gzip");
+        MockHttpServletRequest request = request("application/json", "gzip");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("데이터셋이 바뀐 뒤의 옛 ETag 는 200 으로 다시 보낸다")
+    void preHandle_ModifiedAfterDatasetChange() {
+        // Given
+        String etag = etag("application/json", null);
+        datasetVersion.onDatasetReloaded(new DatasetReloadedEvent(Dataset.ACCIDENT_HOTSPOTS));
+        MockHttpServletRequest request = request("application/json", null);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Accept, Accept-Encoding 이 다르면 ETag 도 달라지고 Vary 에 두 헤더를 싣는다")
+    void preHandle_EtagVariesByNegotiation() {
+        // Given
+        String json = etag("application/json", null);
+
+        // When
+        String protobuf = etag("application/x-protobuf", null);
+        String gzip = etag("application/json", "gzip");
+
+        // Then
+        assertThat(json).isNotEqualTo(protobuf).isNotEqualTo(gzip);
+        assertThat(etag("application/json", null)).isEqualTo(json);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request("application/json", null), response, new Object());
+        assertThat(response.getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("GET/HEAD 가 아니면 ETag 를 붙이지 않는다")
+    void preHandle_SkipsNonGet() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/routes/score");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private String etag(String accept, String acceptEncoding) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request(accept, acceptEncoding), response, new Object());
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private static MockHttpServletRequest request(String accept, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/emd");
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,150 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import yys.safewalk.application.port.in.dto.EmdDetailResponse;
+import yys.safewalk.application.port.in.dto.EmdInBoundsResponse;
+import yys.safewalk.application.service.AdministrativeLegalDongService;
+import yys.safewalk.application.usecase.GetEmdBatchUseCase;
+import yys.safewalk.application.usecase.GetEmdBoundariesUseCase;
+import yys.safewalk.application.usecase.GetEmdDetailUseCase;
+import yys.safewalk.application.usecase.GetEmdUseCase;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class EmdControllerStreamingTest {
+
+    @Mock private GetEmdUseCase getEmdUseCase;
+    @Mock private GetEmdDetailUseCase getEmdDetailUseCase;
+    @Mock private GetEmdBoundariesUseCase getEmdBoundariesUseCase;
+    @Mock private GetEmdBatchUseCase getEmdBatchUseCase;
+    @Mock private AdministrativeLegalDongService administrativeLegalDongService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        EmdController emdController = new EmdController(getEmdUseCase, getEmdDetailUseCase, getEmdBoundariesUseCase,
+                getEmdBatchUseCase, administrativeLegalDongService, objectMapper, new CompressedResponseCache());
+        mockMvc = MockMvcBuilders.standaloneSetup(emdController)
+                .setMessageConverters(new ByteArrayHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Test
+    @DisplayName("시도별 스트리밍 응답은 목록을 한 번에 직렬화한 결과와 같다")
+    void emdBySidoCode_StreamMatchesList() throws Exception {
+        // Given
+        List<EmdInBoundsResponse> emds = List.of(emd("4713025000", "황오동", 5), emd("4713026000", "성건동", 0));
+        doAnswer(invocation -> {
+            Consumer<EmdInBoundsResponse> action = invocation.getArgument(1);
+            emds.forEach(action);
+            return null;
+        }).when(getEmdUseCase).streamEmdBySidoCode(any(), any());
+
+        // When
+        String body = mockMvc.perform(get("/v1/emd/sido/4713"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(body).isEqualTo(objectMapper.writeValueAsString(emds));
+    }
+
+    @Test
+    @DisplayName("영역 내 상세 스트리밍은 묶음 조회 결과를 순서대로, 없는 법정동은 null 로 쓴다")
+    void emdDetailsInBounds_StreamMatchesList() throws Exception {
+        // Given: 묶음 크기를 넘는 법정동
+        List<EmdInBoundsResponse> emds = IntStream.range(0, 101)
+                .mapToObj(i -> emd(String.format("4713%04d00", i), "동" + i, i))
+                .toList();
+        doAnswer(invocation -> {
+            Consumer<EmdInBoundsResponse> action = invocation.getArgument(1);
+            emds.forEach(action);
+            return null;
+        }).when(getEmdUseCase).streamEmdInBounds(any(), any());
+        when(getEmdDetailUseCase.getEmdDetails(anyList())).thenAnswer(invocation -> {
+            List<String> codes = invocation.getArgument(0);
+            return codes.stream().map(EmdControllerStreamingTest::detailOrNull).toList();
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/v1/emd/details")
+                        .param("swLat", "35.8").param("swLng", "129.2")
+                        .param("neLat", "35.9").param("neLng", "129.3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Then
+        List<EmdDetailResponse> expected = new ArrayList<>();
+        emds.forEach(emd -> expected.add(detailOrNull(emd.EMD_CD())));
+        assertThat(body).isEqualTo(objectMapper.writeValueAsString(expected));
+        verify(getEmdDetailUseCase, times(2)).getEmdDetails(anyList());
+    }
+
+    @Test
+    @DisplayName("스트리밍 도중 실패하면 배열을 닫지 않아 잘린 목록이 정상 응답처럼 보이지 않는다")
+    void emdDetailsInBounds_FailureLeavesArrayOpen() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<EmdInBoundsResponse> action = invocation.getArgument(1);
+            action.accept(emd("4713025000", "황오동", 5));
+            throw new IllegalStateException("커서 끊김");
+        }).when(getEmdUseCase).streamEmdInBounds(any(), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/v1/emd/details")
+                        .param("swLat", "35.8").param("swLng", "129.2")
+                        .param("neLat", "35.9").param("neLng", "129.3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        assertThat(result.getAsyncResult()).isInstanceOf(IllegalStateException.class);
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).doesNotEndWith("]");
+    }
+
+    private static EmdInBoundsResponse emd(String code, String name, int totalAccident) {
+        return new EmdInBoundsResponse(name, totalAccident, code,
+                new BigDecimal("35.84"), new BigDecimal("129.21"), "저위험");
+    }
+
+    // 코드가 홀수로 끝나는 법정동은 상세 데이터가 없는 것으로 본다
+    private static EmdDetailResponse detailOrNull(String code) {
+        int last = Character.getNumericValue(code.charAt(code.length() - 3));
+        return last % 2 == 1 ? null : new EmdDetailResponse("동" + code, last, code, null);
+    }
+}
@@ -0,0 +1,135 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import yys.safewalk.application.port.in.GetTouristSpotAccidentsQuery;
+import yys.safewalk.application.port.in.dto.EmdInBoundsResponse;
+import yys.safewalk.application.port.in.dto.TouristSpotResponse;
+import yys.safewalk.application.service.AdministrativeLegalDongService;
+import yys.safewalk.application.service.TouristSpotAreaService;
+import yys.safewalk.application.service.TouristSpotSearchService;
+import yys.safewalk.application.service.TouristSpotsInStateService;
+import yys.safewalk.application.usecase.GetEmdBatchUseCase;
+import yys.safewalk.application.usecase.GetEmdBoundariesUseCase;
+import yys.safewalk.application.usecase.GetEmdDetailUseCase;
+import yys.safewalk.application.usecase.GetEmdUseCase;
+import yys.safewalk.application.usecase.GetTouristSpotRiskUseCase;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.infrastructure.adapter.in.web.protobuf.MapProtobufHttpMessageConverter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class MapProtobufNegotiationTest {
+
+    private static final String PROTOBUF = "application/x-protobuf";
+
+    @Mock private GetEmdUseCase getEmdUseCase;
+    @Mock private GetEmdDetailUseCase getEmdDetailUseCase;
+    @Mock private GetEmdBoundariesUseCase getEmdBoundariesUseCase;
+    @Mock private GetEmdBatchUseCase getEmdBatchUseCase;
+    @Mock private AdministrativeLegalDongService administrativeLegalDongService;
+    @Mock private CompressedResponseCache compressedResponseCache;
+    @Mock private TouristSpotAreaService touristSpotAreaService;
+    @Mock private TouristSpotsInStateService touristSpotsInStateService;
+    @Mock private GetTouristSpotAccidentsQuery getTouristSpotAccidentsQuery;
+    @Mock private TouristSpotSearchService touristSpotSearchService;
+    @Mock private GetTouristSpotRiskUseCase getTouristSpotRiskUseCase;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        EmdController emdController = new EmdController(getEmdUseCase, getEmdDetailUseCase, getEmdBoundariesUseCase,
+                getEmdBatchUseCase, administrativeLegalDongService, objectMapper, compressedResponseCache);
+        TouristSpotController touristSpotController = new TouristSpotController(touristSpotAreaService,
+                touristSpotsInStateService, getTouristSpotAccidentsQuery, touristSpotSearchService,
+                getTouristSpotRiskUseCase, compressedResponseCache, objectMapper);
+
+        // 운영 설정과 같이 JSON 이 먼저, protobuf 가 마지막
+        mockMvc = MockMvcBuilders.standaloneSetup(emdController, touristSpotController)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper),
+                        new MapProtobufHttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    @DisplayName("/v1/emd 는 Accept: application/x-protobuf 에 protobuf 로 응답한다")
+    void emdInBounds_NegotiatesProtobuf() throws Exception {
+        // Given
+        when(getEmdUseCase.getEmdInBounds(any())).thenReturn(List.of(new EmdInBoundsResponse("청운동", 3, "11110101",
+                new BigDecimal("37.587"), new BigDecimal("126.969"), "저위험")));
+
+        // When
+        byte[] body = mockMvc.perform(get("/v1/emd").accept(PROTOBUF).params(bounds()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        assertThat(new String(body, StandardCharsets.UTF_8)).contains("청운동", "11110101");
+    }
+
+    @Test
+    @DisplayName("/v1/tourist-spots 는 Accept: application/x-protobuf 에 protobuf 로 응답한다")
+    void touristSpotsByArea_NegotiatesProtobuf() throws Exception {
+        // Given
+        when(touristSpotAreaService.getTouristSpotsByArea(any(), any())).thenReturn(List.of(new TouristSpotResponse(
+                "spot-1", "경복궁", "서울특별시", "종로구", "고궁",
+                new Coordinate(new BigDecimal("37.5796"), new BigDecimal("126.977")))));
+
+        // When
+        byte[] body = mockMvc.perform(get("/v1/tourist-spots").accept(PROTOBUF).params(bounds()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        assertThat(new String(body, StandardCharsets.UTF_8)).contains("spot-1", "경복궁");
+    }
+
+    @Test
+    @DisplayName("fields 요청은 별도 핸들러가 JSON 으로 응답하고 protobuf 는 406")
+    void sparseFields_ServedAsJsonOnly() throws Exception {
+        // Given
+        when(getEmdUseCase.getEmdInBounds(any(), anySet())).thenReturn(List.of(Map.of("EMD_CD", "11110101")));
+
+        // When & Then
+        mockMvc.perform(get("/v1/emd").accept("application/json").params(bounds()).param("fields", "EMD_CD"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"EMD_CD\":\"11110101\"}]"));
+        mockMvc.perform(get("/v1/emd").accept(PROTOBUF).params(bounds()).param("fields", "EMD_CD"))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    private MultiValueMap<String, String> bounds() {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("swLat", "37.5");
+        params.add("swLng", "126.9");
+        params.add("neLat", "37.6");
+        params.add("neLng", "127.0");
+        return params;
+    }
+}
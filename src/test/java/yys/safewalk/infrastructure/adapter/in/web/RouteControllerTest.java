@@ -0,0 +1,151 @@
+package yys.safewalk.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import yys.safewalk.application.port.out.LoadHotspotIndexPort;
+import yys.safewalk.application.service.RouteRiskService;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Casualties;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.spatial.GeoUtils;
+import yys.safewalk.domain.spatial.HotspotIndex;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class RouteControllerTest {
+
+    // ㄱ자 경로: (37.500, 127.000) 에서 북쪽으로 (37.510, 127.000), 다시 동쪽으로 (37.510, 127.010)
+    private static final String ROUTE = """
+            [{"latitude": 37.500, "longitude": 127.000},
+             {"latitude": 37.510, "longitude": 127.000},
+             {"latitude": 37.510, "longitude": 127.010}]""";
+
+    @Mock
+    private LoadHotspotIndexPort loadHotspotIndexPort;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        RouteController routeController = new RouteController(new RouteRiskService(loadHotspotIndexPort));
+        mockMvc = MockMvcBuilders.standaloneSetup(routeController)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Test
+    @DisplayName("통로 경계 바로 안쪽 지점만 포함하고, 두 구간에 걸친 지점은 전체 합계에서 한 번만 센다")
+    void scoreRoute_CorridorBoundary() throws Exception {
+        // Given: 첫 구간(남북)은 동서 방향 거리, 둘째 구간(동서)은 남북 방향 거리로 경계를 시험한다
+        when(loadHotspotIndexPort.currentIndex()).thenReturn(HotspotIndex.builder()
+                .add(HotspotIndex.Kind.PEDESTRIAN, hotspot("in-1", 37.505, 127.000 + eastDegrees(28, 37.505), 3, 1), 4)
+                .add(HotspotIndex.Kind.PEDESTRIAN, hotspot("out-1", 37.505, 127.000 - eastDegrees(32, 37.505), 100, 0), 100)
+                .add(HotspotIndex.Kind.ELDERLY, hotspot("corner", 37.510 + northDegrees(5), 127.000, 5, 0), 6)
+                .add(HotspotIndex.Kind.PEDESTRIAN, hotspot("in-2", 37.510 + northDegrees(28), 127.005, 7, 2), 9)
+                .add(HotspotIndex.Kind.ELDERLY, hotspot("out-2", 37.510 - northDegrees(32), 127.005, 50, 0), 50)
+                .add(HotspotIndex.Kind.PEDESTRIAN, hotspot("past-end", 37.510, 127.010 + eastDegrees(32, 37.510), 40, 0), 40)
+                .build());
+
+        // When
+        JsonNode response = score("{\"route\": " + ROUTE + ", \"buffer\": 30}");
+
+        // Then
+        assertThat(response.get("bufferMeters").asInt()).isEqualTo(30);
+        assertThat(response.get("segments")).hasSize(2);
+
+        JsonNode first = response.get("segments").get(0).get("risk");
+        assertThat(first.get("hotspotCount").asInt()).isEqualTo(2);
+        assertThat(first.get("accidentCount").asInt()).isEqualTo(3 + 5);
+        assertThat(first.get("lengthMeters").asDouble())
+                .isCloseTo(GeoUtils.haversineMeters(37.500, 127.000, 37.510, 127.000), within(0.1));
+
+        JsonNode second = response.get("segments").get(1).get("risk");
+        assertThat(second.get("hotspotCount").asInt()).isEqualTo(2);
+        assertThat(second.get("accidentCount").asInt()).isEqualTo(5 + 7);
+        assertThat(second.get("casualtyCount").asInt()).isEqualTo(6 + 9);
+
+        JsonNode total = response.get("total");
+        assertThat(total.get("hotspotCount").asInt()).isEqualTo(3);
+        assertThat(total.get("accidentCount").asInt()).isEqualTo(15);
+        assertThat(total.get("casualtyCount").asInt()).isEqualTo(4 + 6 + 9);
+        assertThat(total.get("deathCount").asInt()).isEqualTo(3);
+        assertThat(total.get("lengthMeters").asDouble())
+                .isCloseTo(first.get("lengthMeters").asDouble() + second.get("lengthMeters").asDouble(), within(0.2));
+        assertThat(response.get("hotspots")).extracting(hotspot -> hotspot.get("id").asText())
+                .containsExactly("in-2", "corner", "in-1");
+    }
+
+    @Test
+    @DisplayName("buffer 를 생략하면 30m 통로로 계산한다")
+    void scoreRoute_DefaultBuffer() throws Exception {
+        // Given
+        when(loadHotspotIndexPort.currentIndex()).thenReturn(HotspotIndex.empty());
+
+        // When
+        JsonNode response = score("{\"route\": " + ROUTE + "}");
+
+        // Then
+        assertThat(response.get("bufferMeters").asInt()).isEqualTo(30);
+        assertThat(response.get("total").get("hotspotCount").asInt()).isZero();
+        assertThat(response.get("total").get("accidentsPerKm").asDouble()).isZero();
+        assertThat(response.get("hotspots")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좌표가 하나뿐이거나 buffer 가 범위를 벗어나면 400")
+    void scoreRoute_InvalidRequest() throws Exception {
+        mockMvc.perform(post("/v1/routes/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"route\": [{\"latitude\": 37.5, \"longitude\": 127.0}]}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/v1/routes/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"route\": " + ROUTE + ", \"buffer\": 501}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(loadHotspotIndexPort);
+    }
+
+    private JsonNode score(String body) throws Exception {
+        String json = mockMvc.perform(post("/v1/routes/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(json);
+    }
+
+    private static double northDegrees(double meters) {
+        return meters / GeoUtils.METERS_PER_DEGREE;
+    }
+
+    private static double eastDegrees(double meters, double latitude) {
+        return meters / (GeoUtils.METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude)));
+    }
+
+    private static AccidentDetail hotspot(String id, double lat, double lng, int accidentCount, int deathCount) {
+        return new AccidentDetail(id, id, accidentCount,
+                new Casualties(accidentCount, deathCount, 0, 0),
+                new Coordinate(BigDecimal.valueOf(lat), BigDecimal.valueOf(lng)));
+    }
+}
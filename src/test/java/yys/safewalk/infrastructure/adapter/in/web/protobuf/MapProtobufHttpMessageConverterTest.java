@@ -0,0 +1,166 @@
+package yys.safewalk.infrastructure.adapter.in.web.protobuf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import yys.safewalk.application.port.in.dto.EmdInBoundsResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MapProtobufHttpMessageConverterTest {
+
+    @Test
+    @DisplayName("좌표는 1e-7 도 단위로 직전 항목과의 차이를 zigzag varint 로 인코딩")
+    void encode_DeltaEncodesCoordinates() throws Exception {
+        List<EmdInBoundsResponse> emds = List.of(
+                new EmdInBoundsResponse("청운동", 3, "11110101",
+                        new BigDecimal("37.587000000"), new BigDecimal("126.969000000"), "저위험"),
+                new EmdInBoundsResponse("신교동", 0, "11110102",
+                        new BigDecimal("37.584000000"), new BigDecimal("126.970000000"), null)
+        );
+
+        List<Map<Integer, List<Object>>> items = decodeItems(encode(emds));
+
+        assertThat(items).hasSize(2);
+        assertThat(string(items.get(0), 1)).isEqualTo("청운동");
+        assertThat(items.get(0).get(2)).containsExactly(3L);
+        assertThat(items.get(0).get(4)).containsExactly(375_870_000L);
+        assertThat(items.get(0).get(5)).containsExactly(1_269_690_000L);
+        assertThat(string(items.get(0), 6)).isEqualTo("저위험");
+
+        // 0 인 사고 수와 null 위험도는 생략, 좌표는 차이값
+        assertThat(items.get(1)).doesNotContainKeys(2, 6);
+        assertThat(items.get(1).get(4)).containsExactly(-30_000L);
+        assertThat(items.get(1).get(5)).containsExactly(10_000L);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[benchmark] JSON / Smile / CBOR / protobuf 크기와 직렬화 시간 비교")
+    void benchmark_EncodingSizeAndCpu() throws Exception {
+        List<EmdInBoundsResponse> emds = sampleEmds(5_000);
+        ObjectMapper json = new ObjectMapper();
+        ObjectMapper smile = new SmileMapper();
+        ObjectMapper cbor = new CBORMapper();
+
+        Map<String, Encoder> encoders = Map.of(
+                "json", json::writeValueAsBytes,
+                "smile", smile::writeValueAsBytes,
+                "cbor", cbor::writeValueAsBytes,
+                "protobuf", this::encode
+        );
+
+        Map<String, Integer> sizes = new HashMap<>();
+        for (String name : List.of("json", "smile", "cbor", "protobuf")) {
+            Encoder encoder = encoders.get(name);
+            for (int i = 0; i < 50; i++) {
+                encoder.encode(emds);
+            }
+            int rounds = 200;
+            long start = System.nanoTime();
+            int size = 0;
+            for (int i = 0; i < rounds; i++) {
+                size = encoder.encode(emds).length;
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0 / rounds;
+            sizes.put(name, size);
+            System.out.printf("%-8s %9d bytes %10.1f us/op%n", name, size, micros);
+        }
+
+        assertThat(sizes.get("protobuf")).isLessThan(sizes.get("smile"));
+        assertThat(sizes.get("protobuf")).isLessThan(sizes.get("json") / 2);
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        byte[] encode(List<EmdInBoundsResponse> emds) throws Exception;
+    }
+
+    private byte[] encode(List<EmdInBoundsResponse> emds) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MapProtobufHttpMessageConverter.encode(emds).writeTo(out);
+        return out.toByteArray();
+    }
+
+    // 지도 뷰포트 조회와 비슷하게 서로 가까운 법정동 중심점
+    private List<EmdInBoundsResponse> sampleEmds(int n) {
+        Random random = new Random(7);
+        List<EmdInBoundsResponse> emds = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            emds.add(new EmdInBoundsResponse(
+                    "법정동" + i,
+                    random.nextInt(60),
+                    String.valueOf(47130000 + i),
+                    BigDecimal.valueOf(35.7 + random.nextDouble() * 0.3).setScale(9, RoundingMode.HALF_UP),
+                    BigDecimal.valueOf(129.1 + random.nextDouble() * 0.3).setScale(9, RoundingMode.HALF_UP),
+                    i % 3 == 0 ? "고위험" : "중위험"
+            ));
+        }
+        return emds;
+    }
+
+    // 최상위 repeated 메시지(필드 1)를 필드 번호 -> 값 목록으로 풀고, 좌표(4, 5)는 zigzag 를 풀어 차이값으로 둔다
+    private List<Map<Integer, List<Object>>> decodeItems(byte[] bytes) {
+        List<Map<Integer, List<Object>>> items = new ArrayList<>();
+        for (Object item : decode(bytes).getOrDefault(1, List.of())) {
+            Map<Integer, List<Object>> fields = decode((byte[]) item);
+            for (int field = 4; field <= 5; field++) {
+                if (fields.containsKey(field)) {
+                    long raw = (Long) fields.get(field).get(0);
+                    fields.put(field, List.of((raw >>> 1) ^ -(raw & 1)));
+                }
+            }
+            items.add(fields);
+        }
+        return items;
+    }
+
+    private Map<Integer, List<Object>> decode(byte[] bytes) {
+        Map<Integer, List<Object>> fields = new HashMap<>();
+        int[] pos = {0};
+        while (pos[0] < bytes.length) {
+            long tag = readVarint(bytes, pos);
+            int field = (int) (tag >>> 3);
+            Object value;
+            if ((tag & 7) == 0) {
+                value = readVarint(bytes, pos);
+            } else {
+                int length = (int) readVarint(bytes, pos);
+                byte[] payload = new byte[length];
+                System.arraycopy(bytes, pos[0], payload, 0, length);
+                pos[0] += length;
+                value = payload;
+            }
+            fields.computeIfAbsent(field, key -> new ArrayList<>()).add(value);
+        }
+        return fields;
+    }
+
+    private long readVarint(byte[] bytes, int[] pos) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private String string(Map<Integer, List<Object>> fields, int field) {
+        return new String((byte[]) fields.get(field).get(0), StandardCharsets.UTF_8);
+    }
+}
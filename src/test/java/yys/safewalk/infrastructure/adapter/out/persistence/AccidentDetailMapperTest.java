@@ -0,0 +1,51 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.entity.ElderlyPedestrianAccidentHotspotsEntity;
+import yys.safewalk.entity.PedestrianAccidentHotspotsEntity;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccidentDetailMapperTest {
+
+    @Test
+    @DisplayName("위치명은 마지막 괄호 안 내용, 괄호가 없으면 전체, 없으면 기본 문구")
+    void extractLocationFromPointName() {
+        assertThat(AccidentDetailMapper.extractLocationFromPointName("서울 종로구(세종로(광화문 부근))"))
+                .isEqualTo("광화문 부근");
+        assertThat(AccidentDetailMapper.extractLocationFromPointName("서울 종로구 세종로")).isEqualTo("서울 종로구 세종로");
+        assertThat(AccidentDetailMapper.extractLocationFromPointName(null)).isEqualTo("위치 정보 없음");
+    }
+
+    @Test
+    @DisplayName("보행자/고령 보행자 엔티티와 프로젝션은 같은 AccidentDetail 로 옮겨진다")
+    void toAccidentDetail_SameForEverySource() {
+        // Given
+        PedestrianAccidentHotspotsEntity pedestrian = PedestrianAccidentHotspotsEntity.builder()
+                .accidentHotspotFid(10L).pointName("서울 종로구(광화문 부근)")
+                .accidentCount(5).deathCount(1).seriousInjuryCount(2).minorInjuryCount(3)
+                .latitude(new BigDecimal("37.575900000")).longitude(new BigDecimal("126.976800000"))
+                .build();
+        ElderlyPedestrianAccidentHotspotsEntity elderly = ElderlyPedestrianAccidentHotspotsEntity.builder()
+                .accidentHotspotFid(10L).pointName("서울 종로구(광화문 부근)")
+                .accidentCount(5).deathCount(1).seriousInjuryCount(2).minorInjuryCount(3)
+                .latitude(new BigDecimal("37.575900000")).longitude(new BigDecimal("126.976800000"))
+                .build();
+
+        // When
+        AccidentDetail fromPedestrian = AccidentDetailMapper.toAccidentDetail(pedestrian);
+        AccidentDetail fromElderly = AccidentDetailMapper.toAccidentDetail(elderly);
+
+        // Then
+        assertThat(fromPedestrian).usingRecursiveComparison().isEqualTo(fromElderly);
+        assertThat(fromPedestrian.getId()).isEqualTo("10");
+        assertThat(fromPedestrian.getLocation()).isEqualTo("광화문 부근");
+        assertThat(fromPedestrian.getCasualties().getTotal()).isEqualTo(5);
+        assertThat(fromPedestrian.getCasualties().getDead()).isEqualTo(1);
+        assertThat(fromPedestrian.getPoint().latitude()).isEqualByComparingTo("37.5759");
+    }
+}
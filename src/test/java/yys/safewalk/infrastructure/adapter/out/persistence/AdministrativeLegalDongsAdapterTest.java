@@ -0,0 +1,124 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.domain.model.Emd;
+import yys.safewalk.entity.AdministrativeLegalDongs;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdministrativeLegalDongsAdapterTest {
+
+    @Mock
+    private AdministrativeLegalDongsRepository administrativeLegalDongsRepository;
+
+    @Mock
+    private PedestrianAccidentHotspotsJpaRepository accidentJpaRepository;
+
+    @Mock
+    private ElderlyPedestrianAccidentHotspotsJpaRepository elderlyAccidentJpaRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private AdministrativeLegalDongsAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new AdministrativeLegalDongsAdapter(administrativeLegalDongsRepository, accidentJpaRepository,
+                elderlyAccidentJpaRepository, entityManager, new SpatialQuerySupport(false));
+    }
+
+    @Test
+    @DisplayName("시도 스트림은 목록 조회와 같은 법정동과 사고 건수를 같은 순서로 전달한다")
+    void forEachBySidoCode_MatchesList() {
+        // Given
+        List<AdministrativeLegalDongs> legalDongs = List.of(
+                legalDong("4713025000", "황오동", "35.84"),
+                legalDong("4713026000", "성건동", "35.85"),
+                legalDong("4713", "코드 오류", "35.86"),
+                legalDong("4713027000", "좌표 없음", null));
+        when(administrativeLegalDongsRepository.findBySidoAndCodeTypeNot("4713", "H")).thenReturn(legalDongs);
+        when(administrativeLegalDongsRepository.streamBySido("4713")).thenReturn(legalDongs.stream());
+        when(accidentJpaRepository.sumAccidentsByEmdPrefixIn(anyCollection()))
+                .thenReturn(rows(new Object[]{"47130250", 3L}));
+        when(elderlyAccidentJpaRepository.sumAccidentsByEmdPrefixIn(anyCollection()))
+                .thenReturn(rows(new Object[]{"47130250", 2L}, new Object[]{"47130260", 1L}));
+
+        // When
+        List<Emd> listed = adapter.findBySidoCode("4713");
+        List<Emd> streamed = new ArrayList<>();
+        adapter.forEachBySidoCode("4713", streamed::add);
+
+        // Then
+        assertThat(streamed).extracting(Emd::getEmdCd, Emd::getName, Emd::getTotalAccident)
+                .containsExactlyElementsOf(listed.stream()
+                        .map(emd -> tuple(emd.getEmdCd(), emd.getName(), emd.getTotalAccident()))
+                        .toList())
+                .containsExactly(
+                        tuple("4713025000", "황오동", 5),
+                        tuple("4713026000", "성건동", 1),
+                        tuple("4713", "코드 오류", 0));
+        verify(accidentJpaRepository, times(2)).sumAccidentsByEmdPrefixIn(List.of("47130250", "47130260"));
+        verify(accidentJpaRepository, never()).getTotalAccidentCountByEmdCode(anyString());
+        verify(elderlyAccidentJpaRepository, never()).getTotalAccidentCountByEmdCode(anyString());
+    }
+
+    @Test
+    @DisplayName("스트림은 ACCIDENT_BATCH_SIZE 건마다 사고 건수를 한 번씩 합산한다")
+    void forEachBySidoCode_SumsPerBatch() {
+        // Given
+        int count = AdministrativeLegalDongsAdapter.ACCIDENT_BATCH_SIZE + 1;
+        List<AdministrativeLegalDongs> legalDongs = IntStream.range(0, count)
+                .mapToObj(i -> legalDong(String.format("4713%04d00", i), "동" + i, "35.84"))
+                .toList();
+        when(administrativeLegalDongsRepository.streamBySido("4713")).thenReturn(legalDongs.stream());
+        when(accidentJpaRepository.sumAccidentsByEmdPrefixIn(anyCollection()))
+                .thenReturn(rows(new Object[]{"47130000", 4L}));
+        when(elderlyAccidentJpaRepository.sumAccidentsByEmdPrefixIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        List<Emd> streamed = new ArrayList<>();
+        adapter.forEachBySidoCode("4713", streamed::add);
+
+        // Then
+        assertThat(streamed).hasSize(count);
+        assertThat(streamed.get(0).getTotalAccident()).isEqualTo(4);
+        assertThat(streamed.get(1).getTotalAccident()).isZero();
+        verify(accidentJpaRepository, times(2)).sumAccidentsByEmdPrefixIn(anyCollection());
+        verify(elderlyAccidentJpaRepository, times(2)).sumAccidentsByEmdPrefixIn(anyCollection());
+        verify(entityManager, times(count)).detach(any(AdministrativeLegalDongs.class));
+    }
+
+    private static AdministrativeLegalDongs legalDong(String code, String name, String latitude) {
+        return AdministrativeLegalDongs.builder()
+                .code(code)
+                .sido("4713")
+                .eupMyeonDong(name)
+                .latitude(latitude != null ? new BigDecimal(latitude) : null)
+                .longitude(new BigDecimal("129.21"))
+                .build();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+}
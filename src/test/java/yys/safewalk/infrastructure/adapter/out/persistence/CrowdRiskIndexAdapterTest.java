@@ -0,0 +1,187 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.domain.model.CrowdRiskNeighborhood;
+import yys.safewalk.entity.VisitorBoomNeighborhoods;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrowdRiskIndexAdapterTest {
+
+    @Mock
+    private VisitorBoomNeighborhoodsJpaRepository visitorBoomRepository;
+
+    @Mock
+    private PedestrianAccidentHotspotsJpaRepository pedestrianRepository;
+
+    @Mock
+    private ElderlyPedestrianAccidentHotspotsJpaRepository elderlyRepository;
+
+    @InjectMocks
+    private CrowdRiskIndexAdapter adapter;
+
+    @Test
+    @DisplayName("표기가 다른 시도/시군구/동 이름은 하나의 키로 모여 사고 건수가 합산된다")
+    void load_JoinsNormalizedNames() {
+        // Given: 보행자는 정식 명칭, 고령 보행자는 약칭, 방문객은 행정동(제1동)과 띄어쓴 시군구
+        when(pedestrianRepository.sumAccidentsByLegalDong()).thenReturn(rows(
+                accidents("경상북도 경주시", "황오동", 4, 5, 1),
+                accidents("경기도 수원시 장안구", "연무동", 2, 2, 0)));
+        when(elderlyRepository.sumAccidentsByLegalDong()).thenReturn(rows(
+                accidents("경북 경주시", "황오동", 3, 3, 0),
+                accidents("경기 수원시장안구", "연무동", 1, 1, 1)));
+        when(visitorBoomRepository.findAll()).thenReturn(List.of(
+                visitor("경북", "경주시", "황오제1동", "202405", 1000, 10),
+                visitor("경기도", "수원시 장안구", "연무동", "202405", 500, 0)));
+
+        // When
+        adapter.load();
+
+        // Then
+        assertThat(adapter.findTop(null, 10))
+                .extracting(CrowdRiskNeighborhood::administrativeDong, CrowdRiskNeighborhood::accidentCount,
+                        CrowdRiskNeighborhood::casualtyCount, CrowdRiskNeighborhood::deathCount)
+                .containsExactlyInAnyOrder(
+                        tuple("황오제1동", 7, 8, 1),
+                        tuple("연무동", 3, 3, 1));
+        assertThat(adapter.findTop("경상북도", 10)).extracting(CrowdRiskNeighborhood::administrativeDong)
+                .containsExactly("황오제1동");
+        assertThat(adapter.findTop("경기", 10)).extracting(CrowdRiskNeighborhood::administrativeDong)
+                .containsExactly("연무동");
+    }
+
+    @Test
+    @DisplayName("한 법정동으로 모이는 방문객 행은 최신 기준월, 같은 달이면 방문객이 많은 행을 입력 순서와 관계없이 쓴다")
+    void load_CollidingVisitorRows() {
+        // Given
+        when(pedestrianRepository.sumAccidentsByLegalDong()).thenReturn(rows(
+                accidents("서울특별시 강남구", "역삼동", 5, 5, 0),
+                accidents("서울특별시 종로구", "청운효자동", 2, 2, 0)));
+        when(elderlyRepository.sumAccidentsByLegalDong()).thenReturn(List.of());
+        VisitorBoomNeighborhoods older = visitor("서울", "강남구", "역삼동", "202403", 9000, 0);
+        VisitorBoomNeighborhoods first = visitor("서울", "강남구", "역삼1동", "202404", 1000, 0);
+        VisitorBoomNeighborhoods second = visitor("서울", "강남구", "역삼2동", "202404", 3000, 0);
+        VisitorBoomNeighborhoods other = visitor("서울", "종로구", "청운효자동", "202404", 10, 0);
+
+        for (List<VisitorBoomNeighborhoods> order : List.of(
+                List.of(older, first, second, other), List.of(other, second, first, older))) {
+            when(visitorBoomRepository.findAll()).thenReturn(order);
+
+            // When
+            adapter.load();
+
+            // Then
+            assertThat(adapter.findTop("서울", 10))
+                    .extracting(CrowdRiskNeighborhood::administrativeDong, CrowdRiskNeighborhood::baseYearMonth)
+                    .containsExactly(tuple("역삼2동", "202404"), tuple("청운효자동", "202404"));
+        }
+    }
+
+    @Test
+    @DisplayName("상위 MAX_RANKED 개만 남기며 결과는 전체를 정렬해 자른 것과 같다")
+    void load_KeepsTopScoresOnly() {
+        // Given: 서울/부산 각 120곳, 사고 건수와 방문객을 섞어 점수가 모두 다르게
+        Random random = new Random(28);
+        List<Object[]> accidentRows = new ArrayList<>();
+        List<VisitorBoomNeighborhoods> visitors = new ArrayList<>();
+        List<CrowdRiskNeighborhood> expected = new ArrayList<>();
+        for (String sido : List.of("서울특별시", "부산광역시")) {
+            for (int i = 0; i < 120; i++) {
+                int accidentCount = 1 + random.nextInt(50);
+                int visitorCount = 1 + random.nextInt(100_000);
+                String dong = "동" + i;
+                accidentRows.add(accidents(sido + " 중구", dong, accidentCount, 0, 0));
+                visitors.add(visitor(sido, "중구", dong, "202405", visitorCount, 0));
+                expected.add(new CrowdRiskNeighborhood(sido, "중구", dong, BigDecimal.valueOf(visitorCount),
+                        BigDecimal.ZERO, "202405", accidentCount, 0, 0,
+                        CrowdRiskIndexAdapter.score(accidentCount, BigDecimal.valueOf(visitorCount), BigDecimal.ZERO)));
+            }
+        }
+        expected.sort(CrowdRiskIndexAdapter.RANKING);
+        when(pedestrianRepository.sumAccidentsByLegalDong()).thenReturn(accidentRows);
+        when(elderlyRepository.sumAccidentsByLegalDong()).thenReturn(List.of());
+        when(visitorBoomRepository.findAll()).thenReturn(visitors);
+
+        // When
+        adapter.load();
+
+        // Then
+        List<CrowdRiskNeighborhood> national = adapter.findTop(null, Integer.MAX_VALUE);
+        assertThat(national).hasSize(CrowdRiskIndexAdapter.MAX_RANKED)
+                .containsExactlyElementsOf(expected.subList(0, CrowdRiskIndexAdapter.MAX_RANKED));
+        assertThat(adapter.findTop("부산", Integer.MAX_VALUE)).hasSize(CrowdRiskIndexAdapter.MAX_RANKED)
+                .containsExactlyElementsOf(expected.stream()
+                        .filter(n -> n.sidoName().equals("부산광역시"))
+                        .limit(CrowdRiskIndexAdapter.MAX_RANKED)
+                        .toList());
+        assertThat(adapter.findTop(null, 5)).containsExactlyElementsOf(expected.subList(0, 5));
+    }
+
+    @Test
+    @DisplayName("경계에서 점수가 같으면 지역명이 앞선 쪽이 남고, 입력 순서를 바꿔도 같은 순위")
+    void load_TiesEvictedByName() {
+        // Given: 점수가 모두 같은 MAX_RANKED + 20 곳
+        List<Object[]> accidentRows = new ArrayList<>();
+        List<VisitorBoomNeighborhoods> visitors = new ArrayList<>();
+        for (int i = 0; i < CrowdRiskIndexAdapter.MAX_RANKED + 20; i++) {
+            String dong = String.format("동%03d", i);
+            accidentRows.add(accidents("서울특별시 중구", dong, 3, 0, 0));
+            visitors.add(visitor("서울", "중구", dong, "202405", 100, 0));
+        }
+        when(pedestrianRepository.sumAccidentsByLegalDong()).thenReturn(accidentRows);
+        when(elderlyRepository.sumAccidentsByLegalDong()).thenReturn(List.of());
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < CrowdRiskIndexAdapter.MAX_RANKED; i++) {
+            expected.add(String.format("동%03d", i));
+        }
+
+        for (long seed = 0; seed < 3; seed++) {
+            List<VisitorBoomNeighborhoods> shuffled = new ArrayList<>(visitors);
+            Collections.shuffle(shuffled, new Random(seed));
+            when(visitorBoomRepository.findAll()).thenReturn(shuffled);
+
+            // When
+            adapter.load();
+
+            // Then
+            assertThat(adapter.findTop(null, Integer.MAX_VALUE))
+                    .extracting(CrowdRiskNeighborhood::administrativeDong)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    private static Object[] accidents(String sidoSigungu, String legalDong, long accidentCount,
+                                      long casualtyCount, long deathCount) {
+        return new Object[]{sidoSigungu, legalDong, accidentCount, casualtyCount, deathCount};
+    }
+
+    private static VisitorBoomNeighborhoods visitor(String sido, String sigungu, String dong, String baseYearMonth,
+                                                    long visitorCount, int growthRate) {
+        return VisitorBoomNeighborhoods.builder()
+                .sidoName(sido)
+                .sigunguName(sigungu)
+                .administrativeDong(dong)
+                .baseYearMonth(baseYearMonth)
+                .visitorCount(BigDecimal.valueOf(visitorCount))
+                .growthRate(BigDecimal.valueOf(growthRate))
+                .build();
+    }
+}
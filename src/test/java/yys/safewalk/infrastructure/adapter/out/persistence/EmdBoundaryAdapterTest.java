@@ -0,0 +1,80 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.application.port.in.GetEmdBoundariesQuery;
+import yys.safewalk.domain.model.EmdBoundary;
+import yys.safewalk.entity.EmdData;
+import yys.safewalk.entity.EmdGeometry;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmdBoundaryAdapterTest {
+
+    @Mock
+    private EmdJpaRepository emdJpaRepository;
+
+    private EmdBoundaryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new EmdBoundaryAdapter(emdJpaRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("경계가 있는 시도는 처음 한 번만 조회해 캐시한다")
+    void findBySidoCode_CachesBoundaries() {
+        // Given
+        EmdGeometry geometry = mock(EmdGeometry.class);
+        when(geometry.getPolygon()).thenReturn(
+                "{\"type\":\"Polygon\",\"coordinates\":[[[129.2,35.8],[129.3,35.8],[129.3,35.9],[129.2,35.8]]]}");
+        EmdData hwango = EmdData.builder().emdCd("4713025000").emdKorNm("황오동").geometry(geometry).build();
+        when(emdJpaRepository.findWithGeometryByEmdCdStartingWith("4713")).thenReturn(List.of(hwango));
+
+        // When
+        adapter.findBySidoCode("4713", 12);
+        List<EmdBoundary> boundaries = adapter.findBySidoCode("4713", 12);
+
+        // Then
+        assertThat(boundaries).extracting(EmdBoundary::emdCode).containsExactly("4713025000");
+        verify(emdJpaRepository, times(1)).findWithGeometryByEmdCdStartingWith("4713");
+    }
+
+    @Test
+    @DisplayName("경계가 없는 시도 코드는 캐시하지 않는다")
+    void findBySidoCode_DoesNotCacheEmpty() {
+        // Given
+        when(emdJpaRepository.findWithGeometryByEmdCdStartingWith("9999")).thenReturn(List.of());
+
+        // When
+        adapter.findBySidoCode("9999", 12);
+        List<EmdBoundary> boundaries = adapter.findBySidoCode("9999", 12);
+
+        // Then
+        assertThat(boundaries).isEmpty();
+        verify(emdJpaRepository, times(2)).findWithGeometryByEmdCdStartingWith("9999");
+    }
+
+    @Test
+    @DisplayName("시도 코드는 숫자 4자리만 허용한다")
+    void query_RejectsNonNumericSidoCode() {
+        assertThatThrownBy(() -> new GetEmdBoundariesQuery("47a3", 12))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("시도 코드는 4자리 숫자여야 합니다");
+        assertThatThrownBy(() -> new GetEmdBoundariesQuery("４７１３", 12))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new GetEmdBoundariesQuery("4713", 12).sidoCode()).isEqualTo("4713");
+    }
+}
@@ -0,0 +1,104 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.domain.model.EmdDetail;
+import yys.safewalk.entity.AdministrativeLegalDongs;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmdDetailAdapterTest {
+
+    @Mock
+    private EmdJpaRepository emdJpaRepository;
+
+    @Mock
+    private PedestrianAccidentHotspotsJpaRepository accidentJpaRepository;
+
+    @Mock
+    private ElderlyPedestrianAccidentHotspotsJpaRepository elderlyAccidentJpaRepository;
+
+    @Mock
+    private AdministrativeLegalDongsRepository administrativeLegalDongsRepository;
+
+    @InjectMocks
+    private EmdDetailAdapter adapter;
+
+    @Test
+    @DisplayName("여러 법정동 묶음 조회는 법정동마다 조회한 결과와 같다")
+    void findByEmdCodes_MatchesSingleLookups() {
+        // Given
+        AdministrativeLegalDongs hwango = legalDong("4713025000", "황오동");
+        AdministrativeLegalDongs seonggeon = legalDong("4713026000", "성건동");
+        AccidentHotspotProjection general = hotspot(1L, "경주시 황오동(황오사거리)", 3, "47130250");
+        AccidentHotspotProjection elderly = hotspot(2L, "경주시 황오동(중앙시장)", 2, "47130250");
+
+        when(administrativeLegalDongsRepository.findByCodeAndCodeTypeNot("4713025000", "H")).thenReturn(Optional.of(hwango));
+        when(administrativeLegalDongsRepository.findByCodeAndCodeTypeNot("4713026000", "H")).thenReturn(Optional.of(seonggeon));
+        when(administrativeLegalDongsRepository.findByCodeAndCodeTypeNot("4713099000", "H")).thenReturn(Optional.empty());
+        when(accidentJpaRepository.findByEmdPrefix("47130250")).thenReturn(List.of(general));
+        when(elderlyAccidentJpaRepository.findByEmdPrefix("47130250")).thenReturn(List.of(elderly));
+        when(accidentJpaRepository.findByEmdPrefix("47130260")).thenReturn(List.of());
+        when(elderlyAccidentJpaRepository.findByEmdPrefix("47130260")).thenReturn(List.of());
+
+        when(administrativeLegalDongsRepository.findByCodeInAndCodeTypeNot(anyCollection(), anyString()))
+                .thenReturn(List.of(hwango, seonggeon));
+        when(accidentJpaRepository.findByEmdPrefixIn(anyCollection())).thenReturn(List.of(general));
+        when(elderlyAccidentJpaRepository.findByEmdPrefixIn(anyCollection())).thenReturn(List.of(elderly));
+
+        List<String> emdCodes = List.of("4713025000", "4713026000", "4713099000");
+
+        // When
+        Map<String, EmdDetail> batch = adapter.findByEmdCodes(emdCodes);
+
+        // Then
+        for (String emdCode : emdCodes) {
+            Optional<EmdDetail> single = adapter.findByEmdCode(emdCode);
+            assertThat(Optional.ofNullable(batch.get(emdCode)))
+                    .usingRecursiveComparison()
+                    .isEqualTo(single);
+        }
+        assertThat(batch.get("4713025000").getTotalAccident()).isEqualTo(5);
+        assertThat(batch).doesNotContainKey("4713099000");
+    }
+
+    @Test
+    @DisplayName("앞 8자리가 없는 코드만 있으면 조회하지 않는다")
+    void findByEmdCodes_SkipsShortCodes() {
+        // When
+        Map<String, EmdDetail> details = adapter.findByEmdCodes(List.of("", "4713"));
+
+        // Then
+        assertThat(details).isEmpty();
+        verify(administrativeLegalDongsRepository, never()).findByCodeInAndCodeTypeNot(anyCollection(), anyString());
+    }
+
+    private static AdministrativeLegalDongs legalDong(String code, String name) {
+        return AdministrativeLegalDongs.builder()
+                .code(code)
+                .eupMyeonDong(name)
+                .latitude(new BigDecimal("35.84"))
+                .longitude(new BigDecimal("129.21"))
+                .build();
+    }
+
+    private static AccidentHotspotProjection hotspot(Long fid, String pointName, int accidentCount, String emdPrefix) {
+        return new AccidentHotspotProjection(fid, pointName, accidentCount, 0, 1, accidentCount - 1,
+                new BigDecimal("35.841"), new BigDecimal("129.211"), emdPrefix);
+    }
+}
@@ -0,0 +1,78 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import yys.safewalk.entity.EmdData;
+import yys.safewalk.entity.PedestrianAccidentHotspotsEntity;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+class GeometryMappingTest {
+
+    @Autowired
+    private EmdJpaRepository emdJpaRepository;
+
+    @Autowired
+    private PedestrianAccidentHotspotsJpaRepository pedestrianAccidentHotspotsJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("읍면동을 읽어도 경계 폴리곤은 처음 사용할 때까지 읽지 않는다")
+    void emdData_LoadsGeometryLazily() {
+        // Given
+        entityManager.getEntityManager().createNativeQuery(
+                "INSERT INTO emd_data (id, emd_cd, emd_prefix, emd_eng_nm, emd_kor_nm, polygon) "
+                        + "VALUES (1, '1111010100', '11110101', 'Cheongun-dong', '청운동', '{\"type\":\"Polygon\"}' FORMAT JSON)")
+                .executeUpdate();
+        entityManager.clear();
+
+        // When
+        EmdData emd = emdJpaRepository.findById(1L).orElseThrow();
+
+        // Then
+        assertThat(emd.getEmdKorNm()).isEqualTo("청운동");
+        assertThat(Hibernate.isInitialized(emd.getGeometry())).isFalse();
+        assertThat(emd.getGeometry().getPolygon()).isEqualTo("{\"type\":\"Polygon\"}");
+    }
+
+    @Test
+    @DisplayName("사고다발지점을 읽어도 지점 폴리곤은 처음 사용할 때까지 읽지 않는다")
+    void hotspot_LoadsGeometryLazily() {
+        // Given
+        entityManager.getEntityManager().createNativeQuery(
+                "INSERT INTO pedestrian_accident_hotspots "
+                        + "(id, accident_hotspot_fid, accident_hotspot_id, sido_code, point_code, sido_sigungu_name, hotspot_polygon) "
+                        + "VALUES (1, 10, 20, '1111010100', 'P1', '서울특별시 종로구', '{\"type\":\"Polygon\"}' FORMAT JSON)")
+                .executeUpdate();
+        entityManager.clear();
+
+        // When
+        PedestrianAccidentHotspotsEntity hotspot = pedestrianAccidentHotspotsJpaRepository.findById(1L).orElseThrow();
+
+        // Then
+        assertThat(hotspot.getPointCode()).isEqualTo("P1");
+        assertThat(Hibernate.isInitialized(hotspot.getGeometry())).isFalse();
+        assertThat(hotspot.getGeometry().getHotspotPolygon()).isEqualTo("{\"type\":\"Polygon\"}");
+    }
+
+    @Test
+    @DisplayName("같은 행을 공유하므로 자기 자신을 가리키는 외래키를 만들지 않는다")
+    void sharedPrimaryKey_CreatesNoForeignKey() {
+        // When
+        Number foreignKeys = (Number) entityManager.getEntityManager().createNativeQuery(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                        + "WHERE CONSTRAINT_TYPE = 'FOREIGN KEY' "
+                        + "AND TABLE_NAME IN ('EMD_DATA', 'PEDESTRIAN_ACCIDENT_HOTSPOTS')")
+                .getSingleResult();
+
+        // Then
+        assertThat(foreignKeys.longValue()).isZero();
+    }
+}
@@ -0,0 +1,102 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import yys.safewalk.entity.PedestrianAccidentHotspotsEntity;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(SpatialQuerySupport.class)
+@Tag("benchmark")
+class HotspotProjectionBenchmarkTest {
+
+    private static final String EMD_PREFIX = "11110101";
+
+    @Autowired
+    private PedestrianAccidentHotspotsJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("[benchmark] 엔티티 조회와 레코드 프로젝션 조회의 할당량과 지연 비교")
+    void benchmark_EntityVsProjection() {
+        // 한 법정동에 몰린 사고다발지점
+        for (int i = 0; i < 2_000; i++) {
+            entityManager.persist(hotspot(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, Supplier<List<?>>> queries = Map.of(
+                "entity", () -> entityManager.getEntityManager()
+                        .createQuery("SELECT p FROM PedestrianAccidentHotspotsEntity p WHERE p.emdPrefix = :emdPrefix",
+                                PedestrianAccidentHotspotsEntity.class)
+                        .setParameter("emdPrefix", EMD_PREFIX)
+                        .getResultList(),
+                "record", () -> repository.findByEmdPrefix(EMD_PREFIX)
+        );
+
+        Map<String, Long> allocations = new HashMap<>();
+        for (String name : List.of("entity", "record")) {
+            Supplier<List<?>> query = queries.get(name);
+            for (int i = 0; i < 20; i++) {
+                query.get();
+                entityManager.clear();
+            }
+            int rounds = 50;
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            int size = 0;
+            for (int i = 0; i < rounds; i++) {
+                size = query.get().size();
+                // 엔티티 조회는 트랜잭션이 끝날 때까지 영속성 컨텍스트에 남는다
+                entityManager.flush();
+                entityManager.clear();
+            }
+            double millis = (System.nanoTime() - start) / 1_000_000.0 / rounds;
+            long bytes = (allocatedBytes() - allocatedBefore) / rounds;
+            allocations.put(name, bytes);
+            System.out.printf("%-7s %6d rows %12d bytes/op %8.2f ms/op%n", name, size, bytes, millis);
+        }
+
+        assertThat(allocations.get("record")).isLessThan(allocations.get("entity"));
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private PedestrianAccidentHotspotsEntity hotspot(int i) {
+        return PedestrianAccidentHotspotsEntity.builder()
+                .accidentHotspotFid((long) i)
+                .accidentHotspotId((long) i)
+                .sidoCode(EMD_PREFIX + "00")
+                .pointCode("P" + i)
+                .sidoSigunguName("서울특별시 종로구")
+                .pointName("서울특별시 종로구 청운동(청운초교 앞 교차로 부근 " + i + ")")
+                .legalDong("청운동")
+                .accidentCount(i % 7)
+                .casualtyCount(i % 9)
+                .deathCount(0)
+                .seriousInjuryCount(i % 3)
+                .minorInjuryCount(i % 5)
+                .injuryReportCount(0)
+                .latitude(BigDecimal.valueOf(37.58 + i * 1e-5))
+                .longitude(BigDecimal.valueOf(126.96 + i * 1e-5))
+                .build();
+    }
+}
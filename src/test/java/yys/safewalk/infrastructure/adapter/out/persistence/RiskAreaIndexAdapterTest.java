@@ -0,0 +1,119 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.RiskArea;
+import yys.safewalk.entity.RiskAreas;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RiskAreaIndexAdapterTest {
+
+    @Mock
+    private RiskAreasJpaRepository repository;
+
+    @InjectMocks
+    private RiskAreaIndexAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        RiskAreas donut = RiskAreas.builder()
+                .id(1L)
+                .yearCode(2023)
+                .sigunguCode("47130")
+                .riskAreaName("도넛 구역")
+                .riskAreaCode("A1")
+                .riskAreaPolygon("POLYGON((129.20 35.80, 129.30 35.80, 129.30 35.90, 129.20 35.90, 129.20 35.80),"
+                        + "(129.24 35.84, 129.26 35.84, 129.26 35.86, 129.24 35.86, 129.24 35.84))")
+                .totalAccidentCount(3)
+                .build();
+
+        RiskAreas otherYear = RiskAreas.builder()
+                .id(2L)
+                .yearCode(2022)
+                .sigunguCode("47130")
+                .riskAreaName("작년 구역")
+                .riskAreaCode("A2")
+                .riskAreaPolygon("POLYGON((129.20 35.80, 129.30 35.80, 129.30 35.90, 129.20 35.80))")
+                .totalAccidentCount(10)
+                .build();
+
+        // 서울시청 주변 UTM-K 사각형 (약 200m x 200m)
+        RiskAreas utmk = RiskAreas.builder()
+                .id(3L)
+                .yearCode(2023)
+                .sigunguCode("11140")
+                .riskAreaName("시청 구역")
+                .riskAreaCode("B1")
+                .riskAreaPolygon("POLYGON((953798 1951944, 953998 1951944, 953998 1952144, 953798 1952144, 953798 1951944))")
+                .totalAccidentCount(7)
+                .build();
+
+        RiskAreas broken = RiskAreas.builder()
+                .id(4L)
+                .yearCode(2023)
+                .riskAreaName("파싱 불가")
+                .riskAreaCode("X")
+                .riskAreaPolygon("LINESTRING(1 1, 2 2)")
+                .build();
+
+        when(repository.findAllWithPolygon()).thenReturn(List.of(donut, otherYear, utmk, broken));
+        adapter.load();
+    }
+
+    @Test
+    @DisplayName("연도별 포함 판정 - 구멍 내부는 제외")
+    void findContaining_RespectsYearAndHoles() {
+        assertThat(adapter.findContaining(point(35.81, 129.21), 2023, 0))
+                .extracting(RiskArea::id).containsExactly(1L);
+        assertThat(adapter.findContaining(point(35.85, 129.25), 2023, 0)).isEmpty();
+        assertThat(adapter.findContaining(point(35.81, 129.29), null, 0))
+                .extracting(RiskArea::id).containsExactly(2L, 1L);
+        assertThat(adapter.findContaining(point(35.81, 129.21), 2019, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("buffer 이내 근접 위험지역 포함")
+    void findContaining_WithBuffer() {
+        // 동쪽 경계에서 약 90m 떨어진 지점
+        Coordinate nearEdge = point(35.85, 129.301);
+        assertThat(adapter.findContaining(nearEdge, 2023, 0)).isEmpty();
+        assertThat(adapter.findContaining(nearEdge, 2023, 150))
+                .extracting(RiskArea::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("UTM-K 폴리곤은 위경도로 변환되어 판정")
+    void findContaining_UtmkPolygon() {
+        List<RiskArea> result = adapter.findContaining(point(37.5666, 126.9780), 2023, 0);
+
+        assertThat(result).extracting(RiskArea::id).containsExactly(3L);
+        assertThat(result.get(0).center().latitude().doubleValue()).isCloseTo(37.5666, within(0.001));
+    }
+
+    @Test
+    @DisplayName("경로가 폴리곤을 가로지르면 꼭짓점이 밖에 있어도 포함")
+    void findAlongRoute_SegmentCrossing() {
+        List<Coordinate> route = List.of(point(35.85, 129.10), point(35.85, 129.40), point(35.95, 129.40));
+
+        assertThat(adapter.findAlongRoute(route, 2023, 0))
+                .extracting(RiskArea::id).containsExactly(1L);
+        assertThat(adapter.findAlongRoute(List.of(point(35.95, 129.10), point(35.95, 129.40)), 2023, 0))
+                .isEmpty();
+    }
+
+    private Coordinate point(double lat, double lng) {
+        return new Coordinate(BigDecimal.valueOf(lat), BigDecimal.valueOf(lng));
+    }
+}
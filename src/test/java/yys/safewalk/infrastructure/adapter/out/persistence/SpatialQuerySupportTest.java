@@ -0,0 +1,67 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SpatialQuerySupportTest {
+
+    @Test
+    @DisplayName("envelope 는 SRID 4326 축 순서(위도 경도)로 남서에서 시작해 닫힌 사각형을 만든다")
+    void envelope_LatFirstClosedRing() {
+        // When
+        String wkt = SpatialQuerySupport.envelope(
+                new BigDecimal("35.820"), new BigDecimal("129.200"),
+                new BigDecimal("35.850"), new BigDecimal("129.230"));
+
+        // Then
+        assertThat(wkt).isEqualTo("POLYGON((35.820 129.200, 35.820 129.230, 35.850 129.230, 35.850 129.200, 35.820 129.200))");
+    }
+
+    @Test
+    @DisplayName("point 는 위도 경도 순서이며 지수 표기를 쓰지 않는다")
+    void point_LatFirstPlainString() {
+        // When
+        String wkt = SpatialQuerySupport.point(new BigDecimal("37.5665"), new BigDecimal("1.269780E+2"));
+
+        // Then
+        assertThat(wkt).isEqualTo("POINT(37.5665 126.9780)");
+    }
+
+    @Test
+    @DisplayName("envelopeAround 는 적도에서 위도/경도 폭이 같고, 위도가 높을수록 경도 폭을 1/cos(위도) 만큼 넓힌다")
+    void envelopeAround_WidensLongitudeWithLatitude() {
+        // Given
+        double radius = 1_000.0;
+        double expectedLatDelta = radius / SpatialQuerySupport.METERS_PER_DEGREE;
+
+        // When
+        double[] equator = corners(SpatialQuerySupport.envelopeAround(BigDecimal.ZERO, new BigDecimal("127"), radius));
+        double[] north = corners(SpatialQuerySupport.envelopeAround(new BigDecimal("60"), new BigDecimal("127"), radius));
+
+        // Then: corners = {swLat, swLng, neLat, neLng}
+        assertThat((equator[2] - equator[0]) / 2).isCloseTo(expectedLatDelta, within(1e-12));
+        assertThat((equator[3] - equator[1]) / 2).isCloseTo(expectedLatDelta, within(1e-12));
+        assertThat((north[2] - north[0]) / 2).isCloseTo(expectedLatDelta, within(1e-12));
+        // cos(60°) = 0.5 이므로 경도 폭은 두 배
+        assertThat((north[3] - north[1]) / 2).isCloseTo(expectedLatDelta * 2, within(1e-9));
+        assertThat(north[0]).isLessThan(60).isGreaterThan(59.99);
+        assertThat(north[1]).isLessThan(127).isGreaterThan(126.97);
+    }
+
+    // 첫 꼭짓점(남서)과 세 번째 꼭짓점(북동)의 위도/경도
+    private static double[] corners(String wkt) {
+        assertThat(wkt).startsWith("POLYGON((").endsWith("))");
+        String[] vertices = wkt.substring("POLYGON((".length(), wkt.length() - 2).split(", ");
+        assertThat(vertices).hasSize(5);
+        assertThat(vertices[4]).isEqualTo(vertices[0]);
+        String[] sw = vertices[0].split(" ");
+        String[] ne = vertices[2].split(" ");
+        return new double[]{
+                Double.parseDouble(sw[0]), Double.parseDouble(sw[1]),
+                Double.parseDouble(ne[0]), Double.parseDouble(ne[1])};
+    }
+}
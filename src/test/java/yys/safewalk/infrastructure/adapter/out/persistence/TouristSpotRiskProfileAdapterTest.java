@@ -0,0 +1,132 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yys.safewalk.application.event.DatasetVersion;
+import yys.safewalk.application.port.out.LoadHotspotIndexPort;
+import yys.safewalk.application.port.out.LoadTouristSpotRiskPort;
+import yys.safewalk.domain.model.AccidentDetail;
+import yys.safewalk.domain.model.Casualties;
+import yys.safewalk.domain.model.Coordinate;
+import yys.safewalk.domain.model.TouristSpotRiskProfile;
+import yys.safewalk.domain.spatial.GeoUtils;
+import yys.safewalk.domain.spatial.HotspotIndex;
+import yys.safewalk.entity.TouristSpotEntity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TouristSpotRiskProfileAdapterTest {
+
+    @Mock
+    private TouristSpotJpaRepository touristSpotJpaRepository;
+
+    @Mock
+    private LoadHotspotIndexPort loadHotspotIndexPort;
+
+    @Mock
+    private DatasetVersion datasetVersion;
+
+    @Captor
+    private ArgumentCaptor<CompletableFuture<?>> rebuild;
+
+    @InjectMocks
+    private TouristSpotRiskProfileAdapter adapter;
+
+    @Test
+    @DisplayName("반경 1/3/5/10km 집계는 모든 사고다발지점을 전수 비교한 결과와 같다")
+    void findRiskProfile_MatchesBruteForce() {
+        // Given: 분할 작업 단위(64곳)를 넘는 관광지와 서울 주변에 흩어진 사고다발지점
+        Random random = new Random(33);
+        int spotCount = 300;
+        int hotspotCount = 4000;
+        double[] hotspotLats = new double[hotspotCount];
+        double[] hotspotLngs = new double[hotspotCount];
+        int[][] metrics = new int[hotspotCount][];
+        HotspotIndex.Builder builder = HotspotIndex.builder();
+        for (int i = 0; i < hotspotCount; i++) {
+            hotspotLats[i] = 37.3 + random.nextDouble() * 0.5;
+            hotspotLngs[i] = 126.7 + random.nextDouble() * 0.6;
+            metrics[i] = new int[]{1 + random.nextInt(10), random.nextInt(15), random.nextInt(2)};
+            builder.add(i % 2 == 0 ? HotspotIndex.Kind.PEDESTRIAN : HotspotIndex.Kind.ELDERLY,
+                    hotspot(i, hotspotLats[i], hotspotLngs[i], metrics[i][0], metrics[i][2]), metrics[i][1]);
+        }
+
+        double[] spotLats = new double[spotCount];
+        double[] spotLngs = new double[spotCount];
+        List<TouristSpotEntity> rows = new ArrayList<>();
+        for (int s = 0; s < spotCount; s++) {
+            spotLats[s] = 37.35 + random.nextDouble() * 0.4;
+            spotLngs[s] = 126.75 + random.nextDouble() * 0.5;
+            rows.add(spot("T" + s, spotLats[s], spotLngs[s]));
+        }
+        // 좌표 없는 관광지는 제외된다
+        rows.add(TouristSpotEntity.builder().touristSpotId("NO_COORD").spotName("좌표 없음").build());
+
+        when(loadHotspotIndexPort.currentIndex()).thenReturn(builder.build());
+        when(touristSpotJpaRepository.findAll()).thenReturn(rows);
+
+        // When
+        adapter.load();
+        verify(datasetVersion).deferUntil(rebuild.capture());
+        rebuild.getValue().join();
+
+        // Then
+        for (int s = 0; s < spotCount; s++) {
+            TouristSpotRiskProfile profile = adapter.findRiskProfile("T" + s).orElseThrow();
+            assertThat(profile.spotName()).isEqualTo("관광지 T" + s);
+            assertThat(profile.radii()).extracting(TouristSpotRiskProfile.RadiusRisk::radiusKm)
+                    .containsExactly(1, 3, 5, 10);
+
+            for (TouristSpotRiskProfile.RadiusRisk radius : profile.radii()) {
+                int[] expected = new int[4];
+                for (int i = 0; i < hotspotCount; i++) {
+                    double distance = GeoUtils.haversineMeters(spotLats[s], spotLngs[s], hotspotLats[i], hotspotLngs[i]);
+                    if (distance <= radius.radiusKm() * 1000.0) {
+                        expected[0]++;
+                        expected[1] += metrics[i][0];
+                        expected[2] += metrics[i][1];
+                        expected[3] += metrics[i][2];
+                    }
+                }
+                assertThat(new int[]{radius.hotspotCount(), radius.accidentCount(), radius.casualtyCount(),
+                        radius.deathCount()})
+                        .as("T%d %dkm", s, radius.radiusKm())
+                        .containsExactly(expected);
+                assertThat(adapter.accidentCount("T" + s, radius.radiusKm())).hasValue(expected[1]);
+            }
+        }
+        assertThat(adapter.findRiskProfile("NO_COORD")).isEmpty();
+        assertThat(adapter.accidentCount("T0", 2)).isEmpty();
+        assertThat(LoadTouristSpotRiskPort.RADII_KM).containsExactly(1, 3, 5, 10);
+    }
+
+    private static TouristSpotEntity spot(String id, double lat, double lng) {
+        return TouristSpotEntity.builder()
+                .touristSpotId(id)
+                .spotName("관광지 " + id)
+                .latitude(BigDecimal.valueOf(lat))
+                .longitude(BigDecimal.valueOf(lng))
+                .build();
+    }
+
+    private static AccidentDetail hotspot(int id, double lat, double lng, int accidentCount, int deathCount) {
+        return new AccidentDetail(String.valueOf(id), "지점" + id, accidentCount,
+                new Casualties(accidentCount, deathCount, 0, 0),
+                new Coordinate(BigDecimal.valueOf(lat), BigDecimal.valueOf(lng)));
+    }
+}
@@ -0,0 +1,73 @@
+package yys.safewalk.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import yys.safewalk.entity.PopularTouristSpotsEntity;
+import yys.safewalk.entity.TouristSpotEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({TouristSpotWriter.class, SpatialQuerySupport.class})
+class TouristSpotWriterTest {
+
+    @Autowired
+    private TouristSpotWriter touristSpotWriter;
+
+    @Autowired
+    private PopularTouristSpotsJPARepository popularTouristSpotsJPARepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("관광지 차원을 저장하면 같은 관광지의 모든 순위 행 사본이 한 번에 바뀐다")
+    void save_CopiesToEveryRankingRow() {
+        // Given: 모드별로 세 번 나오는 관광지와 다른 관광지 하나
+        TouristSpotEntity spot = entityManager.persist(TouristSpotEntity.builder()
+                .touristSpotId("T1").spotName("경복궁").sidoName("서울특별시").build());
+        for (String mode : List.of("전체", "가족", "친구")) {
+            entityManager.persist(ranking("T1", "경복궁", mode));
+        }
+        entityManager.persist(ranking("T2", "창덕궁", "전체"));
+        entityManager.flush();
+
+        // When
+        spot.setSigunguName("종로구");
+        spot.setLatitude(new BigDecimal("37.579617000"));
+        spot.setLongitude(new BigDecimal("126.977041000"));
+        touristSpotWriter.save(spot);
+        entityManager.clear();
+
+        // Then
+        List<PopularTouristSpotsEntity> rankings = popularTouristSpotsJPARepository.findAll();
+        assertThat(rankings).filteredOn(r -> r.getTouristSpotId().equals("T1"))
+                .hasSize(3)
+                .allSatisfy(r -> {
+                    assertThat(r.getSigunguName()).isEqualTo("종로구");
+                    assertThat(r.getLatitude()).isEqualByComparingTo("37.579617");
+                    assertThat(r.getLongitude()).isEqualByComparingTo("126.977041");
+                });
+        assertThat(rankings).filteredOn(r -> r.getTouristSpotId().equals("T2"))
+                .singleElement()
+                .satisfies(r -> assertThat(r.getLatitude()).isNull());
+    }
+
+    private PopularTouristSpotsEntity ranking(String touristSpotId, String spotName, String mode) {
+        return PopularTouristSpotsEntity.builder()
+                .touristSpotId(touristSpotId)
+                .spotName(spotName)
+                .sidoName("서울특별시")
+                .sidoCode("11")
+                .mode(mode)
+                .rank(1)
+                .build();
+    }
+}
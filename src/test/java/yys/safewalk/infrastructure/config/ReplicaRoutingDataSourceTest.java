@@ -0,0 +1,136 @@
+package yys.safewalk.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+
+        LinkedHashMap<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        replicas.put("replica-2", replica);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        routingDataSource.setAvailable("replica-1", true);
+        routingDataSource.setAvailable("replica-2", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본을 돌아가며, 그 밖에는 primary 를 쓴다")
+    void route_ReadOnlyToReplicas() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(meterRegistry.counter("safewalk.datasource.route", "target", "replica-1").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지연으로 빠진 복제본은 건너뛰고, 모두 빠지면 primary 로 보낸다")
+    void route_FallsBackToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routingDataSource.setAvailable("replica-1", false);
+
+        // When & Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+
+        routingDataSource.setAvailable("replica-2", false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(meterRegistry.counter("safewalk.datasource.route.fallback").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("primary 힌트가 열려 있는 동안은 읽기 전용이라도 primary 를 쓰고, 닫으면 이전 상태로 돌아간다")
+    void route_PrimaryHint() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        try (ReplicaRoutingDataSource.PrimaryHint outer = ReplicaRoutingDataSource.forcePrimary()) {
+            try (ReplicaRoutingDataSource.PrimaryHint inner = ReplicaRoutingDataSource.forcePrimary()) {
+                assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+            }
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        }
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(meterRegistry.counter("safewalk.datasource.route.fallback").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("데이터셋 재적재처럼 힌트 안에서 여는 읽기 전용 트랜잭션은 primary 커넥션을 가져온다")
+    void readOnlyTransaction_UsesPrimaryUnderHint() throws SQLException {
+        // Given
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(routingDataSource);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+
+        // When
+        try (ReplicaRoutingDataSource.PrimaryHint hint = ReplicaRoutingDataSource.forcePrimary()) {
+            readOnly.executeWithoutResult(status -> firstStatement(dataSource));
+        }
+
+        // Then
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+
+        // 힌트가 없으면 같은 트랜잭션이 복제본으로 간다
+        readOnly.executeWithoutResult(status -> firstStatement(dataSource));
+        verify(replica).getConnection();
+    }
+
+    // 지연 커넥션은 첫 SQL 실행 때 대상 DataSource 를 고른다
+    private static void firstStatement(DataSource dataSource) {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
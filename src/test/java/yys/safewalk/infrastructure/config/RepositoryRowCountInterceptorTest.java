@@ -0,0 +1,92 @@
+package yys.safewalk.infrastructure.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.jpa.repository.Modifying;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositoryRowCountInterceptorTest {
+
+    interface SampleRepository {
+        List<String> findAll();
+
+        @Modifying
+        List<String> markAllVisited();
+
+        void deleteAllVisited();
+    }
+
+    @Test
+    @DisplayName("메서드별로 반환 행 수를 repository/method 태그로 기록한다")
+    void invoke_RecordsRowsPerMethod() throws Throwable {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RepositoryRowCountInterceptor interceptor =
+                new RepositoryRowCountInterceptor(() -> meterRegistry, SampleRepository.class);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(SampleRepository.class.getMethod("findAll"));
+        when(invocation.proceed()).thenReturn(List.of("a", "b", "c"), List.of("d"));
+
+        // When
+        interceptor.invoke(invocation);
+        Object result = interceptor.invoke(invocation);
+
+        // Then
+        assertThat(result).isEqualTo(List.of("d"));
+        DistributionSummary rows = meterRegistry.get(RepositoryRowCountInterceptor.METRIC_NAME)
+                .tag("repository", "SampleRepository")
+                .tag("method", "findAll")
+                .summary();
+        assertThat(rows.count()).isEqualTo(2);
+        assertThat(rows.totalAmount()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("컬렉션, 페이지, Optional 은 행 수를 세고 Stream, 숫자, boolean 은 세지 않는다")
+    void rowCount_ByResultType() {
+        assertThat(RepositoryRowCountInterceptor.rowCount(List.of(1, 2))).isEqualTo(2);
+        assertThat(RepositoryRowCountInterceptor.rowCount(new PageImpl<>(List.of(1, 2, 3)))).isEqualTo(3);
+        assertThat(RepositoryRowCountInterceptor.rowCount(Optional.empty())).isZero();
+        assertThat(RepositoryRowCountInterceptor.rowCount(Optional.of(1))).isEqualTo(1);
+        assertThat(RepositoryRowCountInterceptor.rowCount(null)).isZero();
+        assertThat(RepositoryRowCountInterceptor.rowCount("entity")).isEqualTo(1);
+        assertThat(RepositoryRowCountInterceptor.rowCount(42L)).isEqualTo(-1);
+        assertThat(RepositoryRowCountInterceptor.rowCount(7)).isEqualTo(-1);
+        assertThat(RepositoryRowCountInterceptor.rowCount(true)).isEqualTo(-1);
+        assertThat(RepositoryRowCountInterceptor.rowCount(Stream.of(1))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("@Modifying 메서드와 void 메서드는 기록하지 않는다")
+    void invoke_SkipsModifyingAndVoid() throws Throwable {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RepositoryRowCountInterceptor interceptor =
+                new RepositoryRowCountInterceptor(() -> meterRegistry, SampleRepository.class);
+        MethodInvocation modifying = mock(MethodInvocation.class);
+        when(modifying.getMethod()).thenReturn(SampleRepository.class.getMethod("markAllVisited"));
+        when(modifying.proceed()).thenReturn(List.of("a", "b"));
+        MethodInvocation returnsVoid = mock(MethodInvocation.class);
+        when(returnsVoid.getMethod()).thenReturn(SampleRepository.class.getMethod("deleteAllVisited"));
+        when(returnsVoid.proceed()).thenReturn(null);
+
+        // When
+        Object result = interceptor.invoke(modifying);
+        interceptor.invoke(returnsVoid);
+
+        // Then
+        assertThat(result).isEqualTo(List.of("a", "b"));
+        assertThat(meterRegistry.find(RepositoryRowCountInterceptor.METRIC_NAME).summaries()).isEmpty();
+    }
+}